@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.api.uinotification;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationDo;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A connection of a client receiving {@link UiNotificationDo}s as server-sent events.
+ * <p>
+ * The stream is registered as {@link UiNotificationListener} for its topics. When notifications relevant for the user of
+ * the stream are put into the registry, a job is scheduled to write them to the client. The job runs in a copy of the
+ * {@link RunContext} which opened the stream. Notifications put while such a job is pending are written by the same
+ * job, so no thread is held while the client is waiting.
+ * <p>
+ * Heartbeats are written by a job of their own per stream (see {@link #requestHeartbeat()}), so a stalled client does not
+ * delay the heartbeats of other streams.
+ * <p>
+ * The id of each event is the encoded {@link UiNotificationCursor}. A reconnecting client sends it as
+ * <code>Last-Event-ID</code> header to resume the stream.
+ */
+public class UiNotificationStream implements UiNotificationListener, AsyncListener {
+  private static final Logger LOG = LoggerFactory.getLogger(UiNotificationStream.class);
+
+  public static final String EVENT_NAME = "notification";
+
+  private final UiNotificationRegistry m_registry;
+  private final AsyncContext m_asyncContext;
+  private final String m_userId;
+  private final UiNotificationCursor m_cursor;
+  private final List<String> m_topicNames;
+  private final RunContext m_runContext;
+  private final AtomicBoolean m_deliveryPending = new AtomicBoolean();
+  private final AtomicBoolean m_heartbeatPending = new AtomicBoolean();
+  private final ReentrantLock m_writeLock = new ReentrantLock();
+  private final AtomicBoolean m_closed = new AtomicBoolean();
+  private final List<Runnable> m_closeListeners = new ArrayList<>();
+
+  public UiNotificationStream(UiNotificationRegistry registry, AsyncContext asyncContext, String userId, UiNotificationCursor cursor) {
+    m_registry = registry;
+    m_asyncContext = asyncContext;
+    m_userId = userId;
+    m_cursor = cursor;
+    m_topicNames = new ArrayList<>(cursor.getTopicNames());
+    m_runContext = RunContexts.copyCurrent(true);
+  }
+
+  /**
+   * Starts listening for notifications and writes the notifications not yet known by the client.
+   *
+   * @param closeListener
+   *          called once the stream is closed
+   */
+  public void open(Runnable closeListener) {
+    m_closeListeners.add(closeListener);
+    m_asyncContext.addListener(this);
+    m_registry.addListeners(m_topicNames, this);
+    LOG.debug("Opened ui notification stream for topics {} and user {}", m_topicNames, m_userId);
+    deliver();
+  }
+
+  @Override
+  public void notificationAdded(UiNotificationAddedEvent event) {
+    if (m_closed.get() || !isRelevant(event)) {
+      return;
+    }
+    if (!m_deliveryPending.compareAndSet(false, true)) {
+      return; // the pending delivery will include this notification
+    }
+    scheduleDelivery();
+  }
+
+  protected void scheduleDelivery() {
+    Jobs.schedule(this::deliver, Jobs.newInput()
+        .withName("Delivering ui notifications for topics {}", m_topicNames)
+        .withRunContext(m_runContext.copy()));
+  }
+
+  /**
+   * @return <code>true</code> if the added notification is to be delivered to the user of this stream
+   */
+  protected boolean isRelevant(UiNotificationAddedEvent event) {
+    UiNotificationMessageDo message = event.getMessage();
+    return message == null || m_registry.isNotificationRelevantForUser(message, m_userId);
+  }
+
+  /**
+   * Writes all notifications after the current cursor position.
+   */
+  protected void deliver() {
+    m_deliveryPending.set(false);
+    m_writeLock.lock();
+    try {
+      if (m_closed.get()) {
+        return;
+      }
+      List<UiNotificationDo> notifications = m_registry.get(m_cursor.toTopics(), m_userId);
+      if (notifications.isEmpty()) {
+        return;
+      }
+      PrintWriter writer = m_asyncContext.getResponse().getWriter();
+      for (UiNotificationDo notification : notifications) {
+        m_cursor.update(notification);
+        writeEvent(writer, m_cursor.encode(), BEANS.get(IDataObjectMapper.class).writeValue(notification));
+      }
+      flush(writer);
+      LOG.debug("Delivered {} ui notifications for topics {} and user {}", notifications.size(), m_topicNames, m_userId);
+    }
+    catch (IOException | IllegalStateException e) {
+      // IllegalStateException: the container has completed the async context in the meantime (timeout or error)
+      LOG.debug("Could not deliver ui notifications, client probably has disconnected.", e);
+      close();
+    }
+    finally {
+      m_writeLock.unlock();
+    }
+  }
+
+  /**
+   * Schedules a {@link #heartbeat()} unless one is still pending for this stream.
+   */
+  public void requestHeartbeat() {
+    if (m_closed.get() || !m_heartbeatPending.compareAndSet(false, true)) {
+      return;
+    }
+    scheduleHeartbeat();
+  }
+
+  protected void scheduleHeartbeat() {
+    Jobs.schedule(this::heartbeat, Jobs.newInput()
+        .withName("Sending heartbeat to ui notification stream for topics {}", m_topicNames));
+  }
+
+  /**
+   * Writes a comment line which is ignored by the client. Keeps the connection open and detects disconnected clients.
+   * Skipped while notifications are written to the stream.
+   */
+  public void heartbeat() {
+    m_heartbeatPending.set(false);
+    if (!m_writeLock.tryLock()) {
+      return; // a delivery is writing to the client right now
+    }
+    try {
+      if (m_closed.get()) {
+        return;
+      }
+      PrintWriter writer = m_asyncContext.getResponse().getWriter();
+      writer.write(":\n\n");
+      flush(writer);
+    }
+    catch (IOException | IllegalStateException e) {
+      LOG.debug("Could not send heartbeat, client probably has disconnected.", e);
+      close();
+    }
+    finally {
+      m_writeLock.unlock();
+    }
+  }
+
+  protected void writeEvent(PrintWriter writer, String id, String data) {
+    writer.write("id: " + id + "\n");
+    writer.write("event: " + EVENT_NAME + "\n");
+    for (String line : data.split("\r\n|\r|\n", -1)) {
+      writer.write("data: " + line + "\n");
+    }
+    writer.write("\n");
+  }
+
+  protected void flush(PrintWriter writer) throws IOException {
+    writer.flush();
+    if (writer.checkError()) {
+      throw new IOException("Could not write to ui notification stream");
+    }
+  }
+
+  /**
+   * Stops listening for notifications and completes the response. The client will reconnect.
+   */
+  public void close() {
+    if (!m_closed.compareAndSet(false, true)) {
+      return;
+    }
+    m_registry.removeListeners(m_topicNames, m_userId, this);
+    m_closeListeners.forEach(Runnable::run);
+    try {
+      m_asyncContext.complete();
+    }
+    catch (IllegalStateException e) { // NOSONAR
+      // already completed by the container
+    }
+    LOG.debug("Closed ui notification stream for topics {} and user {}", m_topicNames, m_userId);
+  }
+
+  public boolean isClosed() {
+    return m_closed.get();
+  }
+
+  @Override
+  public void onComplete(AsyncEvent event) {
+    close();
+  }
+
+  @Override
+  public void onTimeout(AsyncEvent event) {
+    close();
+  }
+
+  @Override
+  public void onError(AsyncEvent event) {
+    close();
+  }
+
+  @Override
+  public void onStartAsync(AsyncEvent event) {
+    // nop
+  }
+}
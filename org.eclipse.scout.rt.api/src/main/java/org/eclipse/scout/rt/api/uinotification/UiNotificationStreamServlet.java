@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.api.uinotification;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.api.uinotification.UiNotificationConfigProperties.StreamHeartbeatIntervalProperty;
+import org.eclipse.scout.rt.api.uinotification.UiNotificationConfigProperties.StreamMaxConnectionTimeProperty;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.security.IAccessControlService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Streaming alternative to the long-polling {@link UiNotificationResource}: keeps one connection per client and pushes
+ * {@link org.eclipse.scout.rt.api.data.uinotification.UiNotificationDo}s as server-sent events
+ * (<code>text/event-stream</code>) as soon as they are put into the {@link UiNotificationRegistry}.
+ * <p>
+ * The topics are passed as (repeatable) query parameter <code>topic</code>. A reconnecting client resumes the stream
+ * with the <code>Last-Event-ID</code> header (sent automatically by the browser's <code>EventSource</code>). Open
+ * connections do not hold a thread, see {@link UiNotificationStream}.
+ * <p>
+ * The servlet and all filters in front of it must support asynchronous processing. The user is determined like in
+ * {@link UiNotificationResource}, so the servlet should be registered behind the same authentication and run context
+ * filters, e.g.:
+ *
+ * <pre>
+ * public static class UiNotificationStreamServletContributor implements IServletContributor {
+ *
+ *   &#064;Override
+ *   public void contribute(ServletContextHandler handler) {
+ *     ServletHolder servlet = handler.addServlet(UiNotificationStreamServlet.class, "/api/ui-notifications/stream");
+ *     servlet.setAsyncSupported(true);
+ *   }
+ * }
+ * </pre>
+ */
+public class UiNotificationStreamServlet extends HttpServlet {
+  private static final long serialVersionUID = 1L;
+  private static final Logger LOG = LoggerFactory.getLogger(UiNotificationStreamServlet.class);
+
+  public static final String PARAM_TOPIC = "topic";
+  public static final String LAST_EVENT_ID = "Last-Event-ID";
+  public static final String CONTENT_TYPE_EVENT_STREAM = "text/event-stream";
+
+  private final transient Set<UiNotificationStream> m_streams = ConcurrentHashMap.newKeySet();
+  private transient IFuture<Void> m_heartbeatJob;
+
+  @Override
+  public void init() throws ServletException {
+    super.init();
+    long heartbeatInterval = CONFIG.getPropertyValue(StreamHeartbeatIntervalProperty.class);
+    m_heartbeatJob = Jobs.schedule(this::sendHeartbeats, Jobs.newInput()
+        .withName("UI notification stream heartbeat")
+        .withExceptionHandling(new ExceptionHandler() {
+          @Override
+          public void handle(Throwable t) {
+            LOG.error("Exception while sending heartbeat to ui notification streams", t);
+          }
+        }, true)
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(heartbeatInterval, TimeUnit.SECONDS)
+            .withSchedule(FixedDelayScheduleBuilder.repeatForever(heartbeatInterval, TimeUnit.SECONDS))));
+  }
+
+  @Override
+  public void destroy() {
+    if (m_heartbeatJob != null) {
+      m_heartbeatJob.cancel(false);
+      m_heartbeatJob = null;
+    }
+    new ArrayList<>(m_streams).forEach(UiNotificationStream::close);
+    super.destroy();
+  }
+
+  @Override
+  protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
+    List<String> topics = getTopics(req);
+    if (topics.isEmpty()) {
+      resp.sendError(HttpServletResponse.SC_BAD_REQUEST, "Topics must not be empty");
+      return;
+    }
+    if (!req.isAsyncSupported()) {
+      LOG.warn("{} requires asynchronous processing to be supported by the servlet and all filters.", getClass().getSimpleName());
+      resp.sendError(HttpServletResponse.SC_NOT_IMPLEMENTED);
+      return;
+    }
+    String userId = getUserId();
+    UiNotificationCursor cursor = UiNotificationCursor.decode(topics, req.getHeader(LAST_EVENT_ID));
+
+    resp.setContentType(CONTENT_TYPE_EVENT_STREAM);
+    resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    resp.setHeader("Cache-Control", "no-cache");
+    resp.setHeader("X-Accel-Buffering", "no"); // disable buffering of reverse proxies (nginx)
+    resp.flushBuffer();
+
+    AsyncContext asyncContext = req.startAsync();
+    asyncContext.setTimeout(CONFIG.getPropertyValue(StreamMaxConnectionTimeProperty.class));
+    UiNotificationStream stream = createStream(asyncContext, userId, cursor);
+    m_streams.add(stream);
+    stream.open(() -> m_streams.remove(stream));
+  }
+
+  protected UiNotificationStream createStream(AsyncContext asyncContext, String userId, UiNotificationCursor cursor) {
+    return new UiNotificationStream(BEANS.get(UiNotificationRegistry.class), asyncContext, userId, cursor);
+  }
+
+  protected List<String> getTopics(HttpServletRequest req) {
+    String[] values = req.getParameterValues(PARAM_TOPIC);
+    if (values == null) {
+      return new ArrayList<>();
+    }
+    Set<String> topics = new LinkedHashSet<>();
+    Arrays.stream(values)
+        .filter(StringUtility::hasText)
+        .forEach(topics::add);
+    return new ArrayList<>(topics);
+  }
+
+  protected String getUserId() {
+    return BEANS.get(IAccessControlService.class).getUserIdOfCurrentSubject();
+  }
+
+  /**
+   * Only schedules a heartbeat per stream: writing to a stalled client must not delay the other streams.
+   */
+  protected void sendHeartbeats() {
+    for (UiNotificationStream stream : m_streams) {
+      stream.requestHeartbeat();
+    }
+  }
+
+  /**
+   * @return number of currently connected clients
+   */
+  public int getStreamCount() {
+    return m_streams.size();
+  }
+}
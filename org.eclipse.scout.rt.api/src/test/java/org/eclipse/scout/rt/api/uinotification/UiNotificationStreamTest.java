@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.api.uinotification;
+
+import static org.eclipse.scout.rt.api.uinotification.UiNotificationPutOptions.noTransaction;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class UiNotificationStreamTest {
+  private static final String TOPIC = "topic";
+  private static final String USER = "user";
+
+  private UiNotificationRegistry m_registry;
+  private AsyncContext m_asyncContext;
+  private StringWriter m_out;
+
+  @Before
+  public void before() throws IOException {
+    m_registry = new UiNotificationRegistry();
+    m_registry.setCleanupJobInterval(0);
+    m_out = new StringWriter();
+    m_asyncContext = mockAsyncContext(new PrintWriter(m_out));
+  }
+
+  @Test
+  public void testDeliverOnlyNotificationsOfUser() {
+    P_Stream stream = openStream(UiNotificationCursor.decode(Collections.singletonList(TOPIC), null));
+    assertEquals(1, countEvents()); // subscription start
+
+    m_registry.put(TOPIC, "otherUser", createMessage("theirs"), noTransaction());
+    assertEquals(0, stream.m_scheduledDeliveries.get());
+
+    m_registry.put(TOPIC, USER, createMessage("mine"), noTransaction());
+    m_registry.put(TOPIC, createMessage("all"), noTransaction());
+    assertEquals(1, stream.m_scheduledDeliveries.get());
+
+    stream.deliver();
+    assertEquals(3, countEvents());
+    assertTrue(m_out.toString().contains("mine"));
+    assertTrue(m_out.toString().contains("all"));
+    assertFalse(m_out.toString().contains("theirs"));
+  }
+
+  @Test
+  public void testCoalesceDeliveries() {
+    P_Stream stream = openStream(UiNotificationCursor.decode(Collections.singletonList(TOPIC), null));
+    for (int i = 0; i < 5; i++) {
+      m_registry.put(TOPIC, createMessage("value" + i), noTransaction());
+    }
+    assertEquals(1, stream.m_scheduledDeliveries.get());
+
+    stream.deliver();
+    assertEquals(6, countEvents());
+
+    m_registry.put(TOPIC, createMessage("next"), noTransaction());
+    assertEquals(2, stream.m_scheduledDeliveries.get());
+    stream.deliver();
+    stream.deliver(); // nothing new
+    assertEquals(7, countEvents());
+  }
+
+  @Test
+  public void testResumeFromLastEventId() throws Exception {
+    P_Stream stream = openStream(UiNotificationCursor.decode(Collections.singletonList(TOPIC), null));
+    m_registry.put(TOPIC, createMessage("before"), noTransaction());
+    stream.deliver();
+    stream.close();
+    String lastEventId = getLastEventId();
+    m_registry.put(TOPIC, createMessage("after"), noTransaction());
+
+    // reconnect
+    m_out = new StringWriter();
+    m_asyncContext = mockAsyncContext(new PrintWriter(m_out));
+    HttpServletRequest req = mock(HttpServletRequest.class);
+    when(req.getParameterValues(UiNotificationStreamServlet.PARAM_TOPIC)).thenReturn(new String[]{TOPIC});
+    when(req.getHeader(UiNotificationStreamServlet.LAST_EVENT_ID)).thenReturn(lastEventId);
+    when(req.isAsyncSupported()).thenReturn(true);
+    when(req.startAsync()).thenReturn(m_asyncContext);
+    HttpServletResponse resp = mock(HttpServletResponse.class);
+    P_Servlet servlet = new P_Servlet();
+    servlet.doGet(req, resp);
+
+    verify(resp).setContentType(UiNotificationStreamServlet.CONTENT_TYPE_EVENT_STREAM);
+    assertEquals(1, servlet.getStreamCount());
+    assertEquals(1, countEvents());
+    assertTrue(m_out.toString().contains("after"));
+    assertFalse(m_out.toString().contains("before"));
+  }
+
+  @Test
+  public void testCloseOnIOException() throws IOException {
+    Writer failingWriter = new Writer() {
+      @Override
+      public void write(char[] cbuf, int off, int len) throws IOException {
+        throw new IOException("broken pipe");
+      }
+
+      @Override
+      public void flush() throws IOException {
+        throw new IOException("broken pipe");
+      }
+
+      @Override
+      public void close() {
+        // nop
+      }
+    };
+    m_asyncContext = mockAsyncContext(new PrintWriter(failingWriter));
+    AtomicInteger closeCount = new AtomicInteger();
+    P_Stream stream = new P_Stream(m_registry, m_asyncContext, UiNotificationCursor.decode(Collections.singletonList(TOPIC), null));
+    stream.open(closeCount::incrementAndGet);
+
+    assertTrue(stream.isClosed());
+    assertEquals(1, closeCount.get());
+    assertEquals(0, m_registry.getListenerCount(TOPIC));
+    verify(m_asyncContext).complete();
+  }
+
+  @Test
+  public void testCloseOnTimeout() {
+    P_Stream stream = openStream(UiNotificationCursor.decode(Collections.singletonList(TOPIC), null));
+    assertEquals(1, m_registry.getListenerCount(TOPIC));
+
+    stream.onTimeout(null);
+    assertTrue(stream.isClosed());
+    assertEquals(0, m_registry.getListenerCount(TOPIC));
+    verify(m_asyncContext).complete();
+
+    m_registry.put(TOPIC, createMessage("late"), noTransaction());
+    assertEquals(0, stream.m_scheduledDeliveries.get());
+    stream.requestHeartbeat();
+    assertEquals(0, stream.m_scheduledHeartbeats.get());
+  }
+
+  @Test
+  public void testCloseWhenCompletedByContainer() {
+    P_Stream stream = openStream(UiNotificationCursor.decode(Collections.singletonList(TOPIC), null));
+    when(m_asyncContext.getResponse()).thenThrow(new IllegalStateException("completed"));
+
+    stream.heartbeat();
+    assertTrue(stream.isClosed());
+  }
+
+  @Test
+  public void testHeartbeat() {
+    P_Stream stream = openStream(UiNotificationCursor.decode(Collections.singletonList(TOPIC), null));
+    stream.requestHeartbeat();
+    stream.requestHeartbeat(); // still pending
+    assertEquals(1, stream.m_scheduledHeartbeats.get());
+
+    m_out.getBuffer().setLength(0);
+    stream.heartbeat();
+    assertEquals(":\n\n", m_out.toString());
+
+    stream.requestHeartbeat();
+    assertEquals(2, stream.m_scheduledHeartbeats.get());
+  }
+
+  protected P_Stream openStream(UiNotificationCursor cursor) {
+    P_Stream stream = new P_Stream(m_registry, m_asyncContext, cursor);
+    stream.open(() -> {
+    });
+    return stream;
+  }
+
+  protected AsyncContext mockAsyncContext(PrintWriter writer) throws IOException {
+    ServletResponse response = mock(ServletResponse.class);
+    when(response.getWriter()).thenReturn(writer);
+    AsyncContext asyncContext = mock(AsyncContext.class);
+    when(asyncContext.getResponse()).thenReturn(response);
+    return asyncContext;
+  }
+
+  protected int countEvents() {
+    String out = m_out.toString();
+    String eventLine = "event: " + UiNotificationStream.EVENT_NAME + "\n";
+    int count = 0;
+    for (int i = out.indexOf(eventLine); i >= 0; i = out.indexOf(eventLine, i + 1)) {
+      count++;
+    }
+    return count;
+  }
+
+  protected String getLastEventId() {
+    String out = m_out.toString();
+    int start = out.lastIndexOf("id: ") + 4;
+    return out.substring(start, out.indexOf('\n', start));
+  }
+
+  protected DoEntity createMessage(String value) {
+    DoEntity message = new DoEntity();
+    message.put("value", value);
+    return message;
+  }
+
+  /**
+   * Does not schedule jobs, the tests call {@link #deliver()} and {@link #heartbeat()} themselves.
+   */
+  protected static class P_Stream extends UiNotificationStream {
+    private final AtomicInteger m_scheduledDeliveries = new AtomicInteger();
+    private final AtomicInteger m_scheduledHeartbeats = new AtomicInteger();
+
+    public P_Stream(UiNotificationRegistry registry, AsyncContext asyncContext, UiNotificationCursor cursor) {
+      super(registry, asyncContext, USER, cursor);
+    }
+
+    @Override
+    protected void scheduleDelivery() {
+      m_scheduledDeliveries.incrementAndGet();
+    }
+
+    @Override
+    protected void scheduleHeartbeat() {
+      m_scheduledHeartbeats.incrementAndGet();
+    }
+  }
+
+  protected class P_Servlet extends UiNotificationStreamServlet {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected UiNotificationStream createStream(AsyncContext asyncContext, String userId, UiNotificationCursor cursor) {
+      return new P_Stream(m_registry, asyncContext, cursor);
+    }
+
+    @Override
+    protected String getUserId() {
+      return USER;
+    }
+  }
+}
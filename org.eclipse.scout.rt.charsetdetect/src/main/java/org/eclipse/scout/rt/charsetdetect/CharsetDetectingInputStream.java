@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.charsetdetect;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * {@link InputStream} detecting the {@link Charset} of the data passing through it.
+ * <p>
+ * The first bytes read (up to the limit given) are collected as sample for the {@link CharsetDetector}. The
+ * {@link Charset} is detected as soon as the sample is complete or the end of the stream has been reached. Data starting
+ * with a byte order mark is detected after the first four bytes already. Afterwards the sample is released and the
+ * stream just passes the data through.
+ * <p>
+ * Use {@link CharsetDetector#createDetectingInputStream(InputStream, int)} to create instances.
+ */
+public class CharsetDetectingInputStream extends FilterInputStream {
+
+  private static final int MAX_BOM_LENGTH = 4;
+  private static final int SKIP_BUFFER_SIZE = 8192;
+
+  private final CharsetDetector m_detector;
+  private byte[] m_sample;
+  private int m_sampleLength;
+  private Charset m_charset;
+
+  protected CharsetDetectingInputStream(InputStream in, CharsetDetector detector, int limit) {
+    super(in);
+    m_detector = detector;
+    m_sample = new byte[Math.max(limit, MAX_BOM_LENGTH)];
+  }
+
+  @Override
+  public int read() throws IOException {
+    int b = super.read();
+    if (b < 0) {
+      detectCharset();
+    }
+    else if (m_charset == null) {
+      m_sample[m_sampleLength++] = (byte) b;
+      onSampleChanged();
+    }
+    return b;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    int n = super.read(b, off, len);
+    if (n < 0) {
+      detectCharset();
+    }
+    else if (n > 0 && m_charset == null) {
+      int count = Math.min(n, m_sample.length - m_sampleLength);
+      System.arraycopy(b, off, m_sample, m_sampleLength, count);
+      m_sampleLength += count;
+      onSampleChanged();
+    }
+    return n;
+  }
+
+  /**
+   * Skipped bytes are read as long as the {@link Charset} is not detected yet.
+   */
+  @Override
+  public long skip(long n) throws IOException {
+    if (m_charset != null) {
+      return super.skip(n);
+    }
+    if (n <= 0) {
+      return 0;
+    }
+    int count = read(new byte[(int) Math.min(n, SKIP_BUFFER_SIZE)]);
+    return Math.max(count, 0);
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  @Override
+  public synchronized void mark(int readlimit) {
+    // not supported
+  }
+
+  @Override
+  public synchronized void reset() throws IOException {
+    throw new IOException("mark/reset not supported");
+  }
+
+  protected void onSampleChanged() {
+    if (m_sampleLength >= m_sample.length) {
+      detectCharset();
+    }
+    else if (m_sampleLength >= MAX_BOM_LENGTH) {
+      Charset bomCharset = m_detector.getBomCharset(m_sample, m_sampleLength);
+      if (bomCharset != null) {
+        setCharset(bomCharset);
+      }
+    }
+  }
+
+  protected void setCharset(Charset charset) {
+    m_charset = charset;
+    m_sample = null; // not required anymore
+  }
+
+  /**
+   * @return {@code true} if the {@link Charset} has already been detected.
+   */
+  public boolean isCharsetDetected() {
+    return m_charset != null;
+  }
+
+  /**
+   * @return The detected {@link Charset} or {@code null} if not enough data has been read yet to detect it.
+   */
+  public Charset getCharset() {
+    return m_charset;
+  }
+
+  /**
+   * Detects the {@link Charset} using the data read so far if it is not detected yet. No additional data is read.
+   *
+   * @return The detected {@link Charset}. Never returns {@code null}. If no {@link Charset} could be detected at all,
+   *         UTF-8 is returned.
+   */
+  public Charset detectCharset() {
+    if (m_charset == null) {
+      byte[] sample = m_sampleLength < m_sample.length ? Arrays.copyOf(m_sample, m_sampleLength) : m_sample;
+      setCharset(m_detector.guessCharset(sample, sample.length));
+    }
+    return m_charset;
+  }
+}
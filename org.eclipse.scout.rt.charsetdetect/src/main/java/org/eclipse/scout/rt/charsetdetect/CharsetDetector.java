@@ -140,8 +140,21 @@ public class CharsetDetector {
    *         UTF-8 is returned.
    */
   public Charset guessCharset(byte[] data, int limit) {
+    Charset bomCharset = getBomCharset(data, data.length);
+    if (bomCharset != null) {
+      return bomCharset;
+    }
+
+    int length = Math.min(data.length, limit);
+    if (isPlainAscii(data, length)) {
+      // every ASCII compatible charset decodes the sample the same way, no need to run the statistical detection
+      return StandardCharsets.UTF_8;
+    }
+
+    // the detector would analyze the whole array otherwise
+    byte[] sample = data.length > limit ? Arrays.copyOf(data, limit) : data;
     org.apache.tika.parser.txt.CharsetDetector detector = new org.apache.tika.parser.txt.CharsetDetector(limit);
-    detector.setText(data);
+    detector.setText(sample);
     return Arrays.stream(detector.detectAll())
         .map(CharsetMatch::getName)
         .filter(Charset::isSupported)
@@ -150,6 +163,81 @@ public class CharsetDetector {
         .orElse(StandardCharsets.UTF_8);
   }
 
+  /**
+   * Creates an {@link InputStream} detecting the {@link Charset} of the data while it is read. Unlike
+   * {@link #guessCharset(InputStream, boolean, int)} the stream needs not to support mark and reset, and the data is
+   * read only once.
+   *
+   * @param in
+   *          The {@link InputStream} to wrap. Must not be {@code null}.
+   * @return a {@link CharsetDetectingInputStream} using the {@link #DEFAULT_READ_LIMIT}.
+   */
+  public CharsetDetectingInputStream createDetectingInputStream(InputStream in) {
+    return createDetectingInputStream(in, DEFAULT_READ_LIMIT);
+  }
+
+  /**
+   * Creates an {@link InputStream} detecting the {@link Charset} of the data while it is read. Unlike
+   * {@link #guessCharset(InputStream, boolean, int)} the stream needs not to support mark and reset, and the data is
+   * read only once.
+   *
+   * @param in
+   *          The {@link InputStream} to wrap. Must not be {@code null}.
+   * @param limit
+   *          The number of bytes to use to detect the {@link Charset}. At most this number of bytes is buffered.
+   */
+  public CharsetDetectingInputStream createDetectingInputStream(InputStream in, int limit) {
+    return new CharsetDetectingInputStream(in, this, limit);
+  }
+
+  /**
+   * Detects the {@link Charset} by the byte order mark at the beginning of the given data.
+   *
+   * @param data
+   *          Must not be {@code null}.
+   * @param length
+   *          The number of valid bytes in the given array.
+   * @return The {@link Charset} specified by the byte order mark or {@code null} if the data does not start with a byte
+   *         order mark.
+   */
+  public Charset getBomCharset(byte[] data, int length) {
+    if (length >= 4) {
+      if (data[0] == 0x00 && data[1] == 0x00 && (data[2] & 0xFF) == 0xFE && (data[3] & 0xFF) == 0xFF) {
+        return Charset.forName("UTF-32BE");
+      }
+      if ((data[0] & 0xFF) == 0xFF && (data[1] & 0xFF) == 0xFE && data[2] == 0x00 && data[3] == 0x00) {
+        return Charset.forName("UTF-32LE");
+      }
+    }
+    if (length >= 3 && (data[0] & 0xFF) == 0xEF && (data[1] & 0xFF) == 0xBB && (data[2] & 0xFF) == 0xBF) {
+      return StandardCharsets.UTF_8;
+    }
+    if (length >= 2) {
+      if ((data[0] & 0xFF) == 0xFE && (data[1] & 0xFF) == 0xFF) {
+        return StandardCharsets.UTF_16BE;
+      }
+      if ((data[0] & 0xFF) == 0xFF && (data[1] & 0xFF) == 0xFE) {
+        return StandardCharsets.UTF_16LE;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return {@code true} if the first {@code length} bytes only consist of printable ASCII characters, tabs and line
+   *         breaks. Other control characters are excluded as they may indicate UTF-16 or UTF-32 without byte order mark
+   *         (null bytes) or 7-bit encodings using escape sequences like ISO-2022-JP.
+   */
+  protected boolean isPlainAscii(byte[] data, int length) {
+    for (int i = 0; i < length; i++) {
+      int b = data[i];
+      if ((b < 0x20 || b > 0x7E) && b != '\t' && b != '\n' && b != '\r' && b != '\f') {
+        return false;
+      }
+    }
+    return true;
+  }
+
   protected byte[] readNBytes(InputStream in, boolean resetStream, int readLimit) throws IOException {
     if (!resetStream) {
       return in.readNBytes(readLimit);
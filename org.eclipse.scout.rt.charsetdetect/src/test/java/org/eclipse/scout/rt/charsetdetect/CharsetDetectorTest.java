@@ -9,12 +9,14 @@
  */
 package org.eclipse.scout.rt.charsetdetect;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Map;
 
 import org.eclipse.scout.rt.platform.BEANS;
@@ -50,6 +52,71 @@ public class CharsetDetectorTest {
     assertEquals(StandardCharsets.UTF_16LE, BEANS.get(CharsetDetector.class).guessCharset(text.getBytes(StandardCharsets.UTF_16LE)));
   }
 
+  @Test
+  public void testWithAsciiArray() {
+    CharsetDetector detector = BEANS.get(CharsetDetector.class);
+    assertEquals(StandardCharsets.UTF_8, detector.guessCharset("Test text\r\n\twith line breaks".getBytes(StandardCharsets.US_ASCII)));
+    assertEquals(StandardCharsets.UTF_16LE, detector.guessCharset("Test text with some more words".getBytes(StandardCharsets.UTF_16LE)));
+    assertEquals(Charset.forName("ISO-2022-JP"), detector.guessCharset("テスト テキスト 日本語".getBytes(Charset.forName("ISO-2022-JP"))));
+  }
+
+  @Test
+  public void testWithLargeArray() {
+    byte[] ascii = "Test text ".repeat(CharsetDetector.DEFAULT_READ_LIMIT).getBytes(StandardCharsets.UTF_8);
+    byte[] data = Arrays.copyOf(ascii, ascii.length + 2);
+    data[data.length - 2] = (byte) 0xC3; // 'ä' in UTF-8 beyond the read limit
+    data[data.length - 1] = (byte) 0xA4;
+    assertEquals(BEANS.get(CharsetDetector.class).guessCharset(ascii), BEANS.get(CharsetDetector.class).guessCharset(data));
+  }
+
+  @Test
+  public void testWithDetectingStream() {
+    Map.of(
+        "iso88591.txt", "ISO-8859-1",
+        "iso88595.txt", "ISO-8859-5",
+        "utf8.txt", "UTF-8",
+        "utf16-be-bom.txt", "UTF-16BE",
+        "utf16-le-bom.txt", "UTF-16LE",
+        "win1252.txt", "windows-1252")
+        .forEach((fileName, expectedEncodingName) -> assertEquals(expectedEncodingName, guessWhileReading(fileName).name()));
+  }
+
+  @Test
+  public void testDetectingStreamWithBom() throws IOException {
+    byte[] data = "Test ¨$äü text".getBytes(StandardCharsets.UTF_16);
+    try (CharsetDetectingInputStream in = BEANS.get(CharsetDetector.class).createDetectingInputStream(new ByteArrayInputStream(data))) {
+      assertFalse(in.isCharsetDetected());
+      assertEquals(4, in.read(new byte[4]));
+      assertTrue(in.isCharsetDetected());
+      assertEquals(StandardCharsets.UTF_16BE, in.getCharset());
+      assertEquals(data.length - 4, in.readAllBytes().length);
+    }
+  }
+
+  @Test
+  public void testDetectingStreamBeforeEnd() throws IOException {
+    byte[] data = "Test ¨$äü text".getBytes(StandardCharsets.UTF_8);
+    try (CharsetDetectingInputStream in = BEANS.get(CharsetDetector.class).createDetectingInputStream(new ByteArrayInputStream(data))) {
+      assertEquals(data.length, in.read(new byte[data.length]));
+      assertNull(in.getCharset());
+      assertEquals(StandardCharsets.UTF_8, in.detectCharset());
+    }
+  }
+
+  protected Charset guessWhileReading(String fileName) {
+    try (CharsetDetectingInputStream in = BEANS.get(CharsetDetector.class).createDetectingInputStream(CharsetDetectorTest.class.getResourceAsStream(fileName))) {
+      byte[] buf = new byte[100];
+      while (in.read(buf) >= 0) {
+        // consume stream
+      }
+      assertTrue(in.isCharsetDetected());
+      return in.getCharset();
+    }
+    catch (IOException e) {
+      throw new PlatformException("Error reading '{}'.", fileName, e);
+    }
+  }
+
   protected Charset guess(String fileName) {
     try (InputStream in = CharsetDetectorTest.class.getResourceAsStream(fileName)) {
       return BEANS.get(CharsetDetector.class).guessCharset(in, fileName.length() % 2 == 0);
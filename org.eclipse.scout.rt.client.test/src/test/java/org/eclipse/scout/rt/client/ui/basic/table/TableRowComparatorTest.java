@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractBigDecimalColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractDateColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractLongColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that {@link TableRowComparator#sort(List)} sorts exactly like {@link TableRowComparator} used as plain
+ * {@link java.util.Comparator}.
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class TableRowComparatorTest {
+
+  private static final String[] STRINGS = {null, "", "a", "A", "b", "B", "ä", "Ä", "a b", "a-b", "a_b", "z", "10", "9"};
+
+  private P_Table m_table;
+
+  @Before
+  public void before() {
+    m_table = new P_Table();
+    m_table.init();
+    Random random = new Random(4711L);
+    Object[][] data = new Object[2000][];
+    for (int i = 0; i < data.length; i++) {
+      data[i] = new Object[]{
+          STRINGS[random.nextInt(STRINGS.length)],
+          random.nextInt(5) == 0 ? null : (long) random.nextInt(10),
+          random.nextInt(5) == 0 ? null : new Date(random.nextInt(10) * 1000L),
+          random.nextInt(5) == 0 ? null : BigDecimal.valueOf(random.nextInt(10), 1),
+          STRINGS[random.nextInt(STRINGS.length)]};
+    }
+    m_table.addRowsByMatrix(data);
+  }
+
+  @Test
+  public void testSortSingleColumn() {
+    assertSameOrder(m_table.getStringColumn());
+    assertSameOrder(m_table.getLongColumn());
+    assertSameOrder(m_table.getDateColumn());
+    assertSameOrder(m_table.getBigDecimalColumn());
+    assertSameOrder(m_table.getReverseColumn());
+  }
+
+  @Test
+  public void testSortMultipleColumns() {
+    assertSameOrder(m_table.getLongColumn(), m_table.getStringColumn());
+    assertSameOrder(m_table.getDateColumn(), m_table.getReverseColumn(), m_table.getLongColumn());
+    assertSameOrder(m_table.getBigDecimalColumn(), m_table.getDateColumn(), m_table.getStringColumn(), m_table.getLongColumn());
+  }
+
+  @Test
+  public void testSortDescending() {
+    m_table.getColumnSet().setSortColumn(m_table.getLongColumn(), false);
+    m_table.getColumnSet().addSortColumn(m_table.getStringColumn(), false);
+    assertSameOrder(m_table.getLongColumn(), m_table.getStringColumn(), m_table.getDateColumn());
+  }
+
+  @Test
+  public void testSortWithOverriddenCompare() {
+    TableRowComparator comparator = new TableRowComparator(Arrays.asList(m_table.getLongColumn(), m_table.getStringColumn())) {
+      @Override
+      public int compare(ITableRow row1, ITableRow row2) {
+        return -super.compare(row1, row2);
+      }
+    };
+    List<ITableRow> expected = new ArrayList<>(m_table.getRows());
+    Collections.shuffle(expected, new Random(42L));
+    List<ITableRow> actual = new ArrayList<>(expected);
+
+    expected.sort(comparator);
+    comparator.sort(actual);
+    assertEquals(expected, actual);
+  }
+
+  @Test
+  public void testSortTable() {
+    m_table.setSortEnabled(true);
+    m_table.getColumnSet().setSortColumn(m_table.getDateColumn(), false);
+    m_table.getColumnSet().addSortColumn(m_table.getStringColumn(), true);
+    // the sort is stable, rows equal in all columns (e.g. "b" and "B") keep the order they had before sorting
+    List<ITableRow> expected = new ArrayList<>(m_table.getRows());
+    m_table.sort();
+
+    List<IColumn<?>> sortColumns = new ArrayList<>(m_table.getColumnSet().getSortColumns());
+    for (IColumn<?> col : m_table.getColumnSet().getVisibleColumns()) {
+      if (!sortColumns.contains(col)) {
+        sortColumns.add(col);
+      }
+    }
+    expected.sort(new TableRowComparator(sortColumns));
+    assertEquals(toValues(expected), toValues(m_table.getRows()));
+  }
+
+  @Test
+  public void testIndexSortIsStable() {
+    Random random = new Random(4711L);
+    long[] keys = new long[50000];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = random.nextInt(100);
+    }
+    TableRowComparator.SortKeys sortKeys = new TableRowComparator.LongSortKeys(keys, new boolean[keys.length], false);
+    for (boolean parallel : new boolean[]{false, true}) {
+      int[] indices = new int[keys.length];
+      for (int i = 0; i < indices.length; i++) {
+        indices[i] = i;
+      }
+      TableRowComparator.IndexSortTask.sort(indices, sortKeys, parallel);
+      for (int i = 1; i < indices.length; i++) {
+        long k1 = keys[indices[i - 1]];
+        long k2 = keys[indices[i]];
+        assertTrue(k1 < k2 || (k1 == k2 && indices[i - 1] < indices[i]));
+      }
+    }
+  }
+
+  protected void assertSameOrder(IColumn<?>... columns) {
+    TableRowComparator comparator = new TableRowComparator(Arrays.asList(columns));
+    List<ITableRow> expected = new ArrayList<>(m_table.getRows());
+    Collections.shuffle(expected, new Random(42L));
+    List<ITableRow> actual = new ArrayList<>(expected);
+
+    expected.sort(comparator);
+    comparator.sort(actual);
+    assertEquals(expected, actual);
+  }
+
+  protected List<List<Object>> toValues(List<ITableRow> rows) {
+    List<List<Object>> values = new ArrayList<>();
+    for (ITableRow row : rows) {
+      List<Object> rowValues = new ArrayList<>();
+      for (int i = 0; i < row.getCellCount(); i++) {
+        rowValues.add(row.getCellValue(i));
+      }
+      values.add(rowValues);
+    }
+    return values;
+  }
+
+  public static class P_Table extends AbstractTable {
+
+    public StringColumn getStringColumn() {
+      return getColumnSet().getColumnByClass(StringColumn.class);
+    }
+
+    public LongColumn getLongColumn() {
+      return getColumnSet().getColumnByClass(LongColumn.class);
+    }
+
+    public DateColumn getDateColumn() {
+      return getColumnSet().getColumnByClass(DateColumn.class);
+    }
+
+    public BigDecimalColumn getBigDecimalColumn() {
+      return getColumnSet().getColumnByClass(BigDecimalColumn.class);
+    }
+
+    public ReverseColumn getReverseColumn() {
+      return getColumnSet().getColumnByClass(ReverseColumn.class);
+    }
+
+    @Order(10)
+    public class StringColumn extends AbstractStringColumn {
+    }
+
+    @Order(20)
+    public class LongColumn extends AbstractLongColumn {
+    }
+
+    @Order(30)
+    public class DateColumn extends AbstractDateColumn {
+    }
+
+    @Order(40)
+    public class BigDecimalColumn extends AbstractBigDecimalColumn {
+    }
+
+    /**
+     * Column with a custom comparison, sorted by the comparator fallback.
+     */
+    @Order(50)
+    public class ReverseColumn extends AbstractStringColumn {
+
+      @Override
+      public int compareTableRows(ITableRow r1, ITableRow r2) {
+        return super.compareTableRows(r2, r1);
+      }
+    }
+  }
+}
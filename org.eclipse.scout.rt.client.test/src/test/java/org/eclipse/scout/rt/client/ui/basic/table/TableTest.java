@@ -565,6 +565,38 @@ public class TableTest {
     assertEquals(1, table.getSelectedRowCount());
   }
 
+  @Test
+  public void testSetUserRowFilter() {
+    P_Table table = new P_Table();
+    table.init();
+    fillTable(table);
+    List<ITableRow> rows = table.getRows();
+    List<ITableRow> evaluatedRows = new ArrayList<>();
+    table.addRowFilter(row -> evaluatedRows.add(row));
+
+    evaluatedRows.clear();
+    table.setUserRowFilter(Arrays.asList(rows.get(0), rows.get(2), rows.get(4)));
+    assertEquals(Arrays.asList(rows.get(0), rows.get(2), rows.get(4)), table.getFilteredRows());
+    assertTrue(rows.get(1).isRejectedByUser());
+    assertEquals(rows, evaluatedRows);
+
+    // narrowing: only the rows accepted so far are re-evaluated
+    evaluatedRows.clear();
+    table.setUserRowFilter(Arrays.asList(rows.get(0), rows.get(4)));
+    assertEquals(Arrays.asList(rows.get(0), rows.get(4)), table.getFilteredRows());
+    assertTrue(rows.get(1).isRejectedByUser());
+    assertTrue(rows.get(2).isRejectedByUser());
+    assertEquals(CollectionUtility.hashSet(rows.get(0), rows.get(2), rows.get(4)), CollectionUtility.hashSet(evaluatedRows));
+    assertEquals(3, evaluatedRows.size());
+
+    // widening: all rows are re-evaluated
+    evaluatedRows.clear();
+    table.setUserRowFilter(rows);
+    assertEquals(rows, table.getFilteredRows());
+    assertFalse(rows.get(1).isRejectedByUser());
+    assertEquals(rows, evaluatedRows);
+  }
+
   @Test
   public void testSelectionAfterDelete() {
     P_Table table = new P_Table();
@@ -11,12 +11,16 @@ package org.eclipse.scout.rt.client.ui.basic.table.userfilter;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 
 import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
 import org.eclipse.scout.rt.client.ui.basic.table.AbstractTable;
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractLongColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
 import org.eclipse.scout.rt.client.ui.basic.userfilter.IUserFilterState;
@@ -108,6 +112,87 @@ public class TableUserFilterManagerTest {
     assertArrayEquals(expectedData, ufm.getSerializedData());
   }
 
+  @Test
+  public void testFindRowsByText() {
+    TestTable table = createTableWithRows();
+    TableUserFilterManager ufm = table.getUserFilterManager();
+    assertFindRowsByText(table, ufm);
+
+    ufm.setTextIndexEnabled(true);
+    assertTrue(ufm.isTextIndexEnabled());
+    assertFindRowsByText(table, ufm);
+  }
+
+  protected void assertFindRowsByText(TestTable table, TableUserFilterManager ufm) {
+    List<ITableRow> rows = table.getRows();
+    assertEquals(rows, ufm.findRowsByText(""));
+    assertEquals(rows, ufm.findRowsByText("ROW"));
+    assertEquals(Arrays.asList(rows.get(0), rows.get(2)), ufm.findRowsByText("ir"));
+    assertEquals(Arrays.asList(rows.get(2)), ufm.findRowsByText("third"));
+    assertEquals(Arrays.asList(rows.get(1)), ufm.findRowsByText("2"));
+    assertTrue(ufm.findRowsByText("fourth").isEmpty());
+  }
+
+  @Test
+  public void testFindRowsByTextIndexMaintained() {
+    TestTable table = createTableWithRows();
+    TableUserFilterManager ufm = table.getUserFilterManager();
+    ufm.setTextIndexEnabled(true);
+    assertEquals(3, ufm.findRowsByText("row").size());
+
+    ITableRow fourthRow = table.addRowByArray(new Object[]{4L, "fourth row"});
+    assertEquals(Arrays.asList(fourthRow), ufm.findRowsByText("fourth"));
+
+    ITableRow firstRow = table.getRow(0);
+    table.getNameColumn().setValue(firstRow, "renamed");
+    assertTrue(ufm.findRowsByText("first").isEmpty());
+    assertEquals(Arrays.asList(firstRow), ufm.findRowsByText("renamed"));
+
+    table.deleteRow(fourthRow);
+    assertTrue(ufm.findRowsByText("fourth").isEmpty());
+
+    table.deleteAllRows();
+    assertTrue(ufm.findRowsByText("row").isEmpty());
+
+    ufm.setTextIndexEnabled(false);
+    assertFalse(ufm.isTextIndexEnabled());
+  }
+
+  @Test
+  public void testApplyTextFilter() {
+    TestTable table = createTableWithRows();
+    TableUserFilterManager ufm = table.getUserFilterManager();
+    ufm.setTextIndexEnabled(true);
+    List<ITableRow> rows = table.getRows();
+
+    ufm.applyTextFilter(new TableTextUserFilterState("ir"));
+    assertEquals(Arrays.asList(rows.get(0), rows.get(2)), table.getFilteredRows());
+    assertTrue(rows.get(1).isRejectedByUser());
+
+    // narrowing
+    ufm.applyTextFilter(new TableTextUserFilterState("irs"));
+    assertEquals(Arrays.asList(rows.get(0)), table.getFilteredRows());
+    assertTrue(rows.get(1).isRejectedByUser());
+    assertTrue(rows.get(2).isRejectedByUser());
+
+    // widening
+    ufm.applyTextFilter(new TableTextUserFilterState("row"));
+    assertEquals(rows, table.getFilteredRows());
+
+    ufm.applyTextFilter(new TableTextUserFilterState(""));
+    assertEquals(rows, table.getFilteredRows());
+    assertEquals(1, ufm.getFilters().size());
+  }
+
+  protected TestTable createTableWithRows() {
+    TestTable table = createTable();
+    table.addRowsByMatrix(new Object[][]{
+        {1L, "first row"},
+        {2L, "second row"},
+        {3L, "third row"}});
+    return table;
+  }
+
   protected TestTable createTable() {
     TestTable table = new TestTable();
     table.init();
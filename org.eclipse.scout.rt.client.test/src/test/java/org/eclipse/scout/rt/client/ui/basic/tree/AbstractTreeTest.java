@@ -13,6 +13,7 @@ import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -495,6 +496,56 @@ public class AbstractTreeTest {
     assertTrue(d.isExpandedLazy());
   }
 
+  @Test
+  public void testFindNode() {
+    m_node1.setPrimaryKey("node1");
+    m_node2.setPrimaryKey("node2");
+    m_subNode1.setPrimaryKey("subNode1");
+    assertSame(m_node1, m_tree.findNode("node1"));
+    assertSame(m_subNode1, m_tree.findNode("subNode1"));
+    assertNull(m_tree.findNode("unknown"));
+    assertSame(m_tree.getRootNode(), m_tree.findNode(null));
+
+    // primary key changed
+    m_subNode1.setPrimaryKey("subNode1a");
+    assertNull(m_tree.findNode("subNode1"));
+    assertSame(m_subNode1, m_tree.findNode("subNode1a"));
+
+    // removed subtree
+    m_tree.removeNode(m_node2);
+    assertNull(m_tree.findNode("node2"));
+    assertNull(m_tree.findNode("subNode1a"));
+
+    // added subtree
+    P_TreeNode a = new P_TreeNode("A");
+    P_TreeNode b = new P_TreeNode("B");
+    a.setPrimaryKey("A");
+    b.setPrimaryKey("B");
+    a.addChildNodesInternal(0, CollectionUtility.arrayList(b), true);
+    assertNull(m_tree.findNode("B"));
+    m_tree.addChildNode(m_node1, a);
+    assertSame(a, m_tree.findNode("A"));
+    assertSame(b, m_tree.findNode("B"));
+  }
+
+  @Test
+  public void testFindNodes() {
+    m_node1.setPrimaryKey("node1");
+    m_node2.setPrimaryKey("node2");
+    m_subNode1.setPrimaryKey("subNode1");
+    assertEquals(Arrays.asList(m_node1, m_node2, m_subNode1), m_tree.findNodes(Arrays.asList("subNode1", "unknown", "node2", "node1")));
+    assertTrue(m_tree.findNodes(Collections.emptyList()).isEmpty());
+    assertEquals(Arrays.asList(m_tree.getRootNode(), m_node1), m_tree.findNodes(Arrays.asList("node1", null)));
+
+    // duplicate keys: first node in tree order wins
+    m_node1.setPrimaryKey("dup");
+    m_subNode1.setPrimaryKey("dup");
+    assertSame(m_node1, m_tree.findNode("dup"));
+    m_tree.removeNode(m_node1);
+    assertSame(m_subNode1, m_tree.findNode("dup"));
+    assertEquals(Arrays.asList(m_node2, m_subNode1), m_tree.findNodes(Arrays.asList("dup", "node2")));
+  }
+
   public static class P_Tree extends AbstractTree {
     ITreeNode m_currentDropNode;
     int m_execDropTargetChangedTimesCalled;
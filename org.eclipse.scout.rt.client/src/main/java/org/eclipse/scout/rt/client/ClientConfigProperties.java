@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.client;
 
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
@@ -76,4 +77,23 @@ public final class ClientConfigProperties {
       return 10L;
     }
   }
+
+  public static class TableParallelSortThresholdProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.client.tableParallelSortThreshold";
+    }
+
+    @Override
+    public String description() {
+      return "Minimal number of rows a table must contain to be sorted in parallel. Only tables whose sort columns use the default comparison are sorted in parallel.\n"
+          + "The default value is 10000.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 10000;
+    }
+  }
 }
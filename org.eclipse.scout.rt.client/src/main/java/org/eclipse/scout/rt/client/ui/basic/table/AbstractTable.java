@@ -1446,6 +1446,50 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     }
   }
 
+  @Override
+  public void setUserRowFilter(Collection<? extends ITableRow> rows) {
+    List<UserTableRowFilter> oldFilters = new ArrayList<>();
+    for (ITableRowFilter filter : m_rowFilters) {
+      if (filter instanceof UserTableRowFilter) {
+        oldFilters.add((UserTableRowFilter) filter);
+      }
+    }
+    // Remove existing filter first, so that only one UserTableRowFilter is active
+    removeUserRowFilters(false);
+
+    // Create and add a new filter
+    UserTableRowFilter newFilter = new UserTableRowFilter(rows);
+
+    // Do not use addRowFilter to prevent applyRowFilters
+    m_rowFilters.add(newFilter);
+    if (oldFilters.size() == 1 && newFilter.isNarrowing(oldFilters.get(0))) {
+      applyRowFiltersInternal(oldFilters.get(0).getRows());
+    }
+    else {
+      applyRowFilters();
+    }
+  }
+
+  /**
+   * Re-evaluates the row filters for the given rows only (rows not belonging to this table are ignored).
+   */
+  protected void applyRowFiltersInternal(Collection<? extends ITableRow> rows) {
+    boolean filterChanged = false;
+    for (ITableRow row : rows) {
+      if (row.getTable() != this) {
+        continue;
+      }
+      boolean wasFilterAccepted = row.isFilterAccepted();
+      applyRowFiltersInternal((InternalTableRow) row);
+      if (row.isFilterAccepted() != wasFilterAccepted) {
+        filterChanged = true;
+      }
+    }
+    if (filterChanged) {
+      fireRowFilterChanged();
+    }
+  }
+
   @Override
   public void applyRowFilters() {
     boolean filterChanged = applyRowFiltersInternal();
@@ -3771,18 +3815,31 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
 
     CollectingVisitor<ITableRow> collector = new CollectingVisitor<>();
     if (comparator != null) {
-      rootNodes.sort(comparator);
+      sortRowList(rootNodes, comparator);
     }
     rootNodes.forEach(root -> TreeTraversals.create(collector, node -> {
       List<ITableRow> childRows = parentToChildren.get(node);
       if (comparator != null && CollectionUtility.hasElements(childRows)) {
-        childRows.sort(comparator);
+        sortRowList(childRows, comparator);
       }
       return childRows;
     }).traverse(root));
     return collector.getCollection();
   }
 
+  /**
+   * Sorts the given rows in place. A {@link TableRowComparator} sorts by sort keys extracted once per row instead of
+   * comparing the cell values pairwise.
+   */
+  protected void sortRowList(List<ITableRow> rows, Comparator<ITableRow> comparator) {
+    if (comparator instanceof TableRowComparator) {
+      ((TableRowComparator) comparator).sort(rows);
+    }
+    else {
+      rows.sort(comparator);
+    }
+  }
+
   @Override
   public void sort(List<? extends ITableRow> rowsInNewOrder) {
     List<ITableRow> resolvedRows = resolveRows(rowsInNewOrder);
@@ -5060,15 +5117,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     public void setFilteredRowsFromUI(List<? extends ITableRow> rows) {
       try {
         pushUIProcessor();
-        // Remove existing filter first, so that only one UserTableRowFilter is active
-        removeUserRowFilters(false);
-
-        // Create and add a new filter
-        UserTableRowFilter filter = new UserTableRowFilter(rows);
-
-        // Do not use addRowFilter to prevent applyRowFilters
-        m_rowFilters.add(filter);
-        applyRowFilters();
+        setUserRowFilter(rows);
       }
       finally {
         popUIProcessor();
@@ -308,6 +308,14 @@ public interface ITable extends IWidget, IDNDSupport, IStyleable, IAppLinkCapabl
    */
   void applyRowFilters();
 
+  /**
+   * Replaces the user row filter of this table by a filter accepting the given rows and applies the row filters.
+   * <p>
+   * If the new filter is more restrictive than the current one (it accepts a subset of its rows), only the rows accepted
+   * by the current filter are re-evaluated, all other rows remain rejected.
+   */
+  void setUserRowFilter(Collection<? extends ITableRow> rows);
+
   Set<BinaryResource> getAttachments();
 
   BinaryResource getAttachment(String filename);
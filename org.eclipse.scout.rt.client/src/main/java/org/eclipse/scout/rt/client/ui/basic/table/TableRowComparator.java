@@ -9,16 +9,68 @@
  */
 package org.eclipse.scout.rt.client.ui.basic.table;
 
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
+import org.eclipse.scout.rt.client.ClientConfigProperties.TableParallelSortThresholdProperty;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.nls.CollatorProvider;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.util.StringUtility;
 
 /**
  * compares two TableRow objects based on 1 ore more columns
+ * <p>
+ * Besides the plain {@link Comparator} contract, {@link #sort(List)} sorts a whole list of rows by extracting the sort
+ * keys of a column once (primitive keys for number and date values, {@link CollationKey}s for string columns) instead
+ * of reading and comparing the cell values on every comparison. Columns overriding
+ * {@link IColumn#compareTableRows(ITableRow, ITableRow)} are still compared by this method.
  */
 @SuppressWarnings("squid:S2063")
 public class TableRowComparator implements Comparator<ITableRow> {
+
+  /**
+   * Class declaring the {@link IColumn#compareTableRows(ITableRow, ITableRow)} implementation used by a column class.
+   */
+  private static final ClassValue<Class<?>> COMPARE_TABLE_ROWS_DECLARING_CLASS = new ClassValue<Class<?>>() {
+    @Override
+    protected Class<?> computeValue(Class<?> type) {
+      try {
+        return type.getMethod("compareTableRows", ITableRow.class, ITableRow.class).getDeclaringClass();
+      }
+      catch (NoSuchMethodException e) { // NOSONAR
+        return type;
+      }
+    }
+  };
+
+  /**
+   * Class declaring the {@link #compare(ITableRow, ITableRow)} implementation used by a comparator class.
+   */
+  private static final ClassValue<Class<?>> COMPARE_DECLARING_CLASS = new ClassValue<Class<?>>() {
+    @Override
+    protected Class<?> computeValue(Class<?> type) {
+      try {
+        return type.getMethod("compare", ITableRow.class, ITableRow.class).getDeclaringClass();
+      }
+      catch (NoSuchMethodException e) { // NOSONAR
+        return type;
+      }
+    }
+  };
+
   private final Collection<IColumn<?>> m_columns;
 
   public TableRowComparator(Collection<IColumn<?>> columns) {
@@ -29,9 +81,7 @@ public class TableRowComparator implements Comparator<ITableRow> {
   public int compare(ITableRow row1, ITableRow row2) {
     for (IColumn col : m_columns) {
       int c = col.compareTableRows(row1, row2);
-      if (col.isSortActive() && !col.getHeaderCell().isSortAscending()) {
-        // only consider sortAscending flag when sort is active
-        // columns with !sortActive are always sorted ascending (sortAscending represents last state for those, thus not considered)
+      if (isSortDescending(col)) {
         c = -c;
       }
 
@@ -42,6 +92,183 @@ public class TableRowComparator implements Comparator<ITableRow> {
     return 0;
   }
 
+  /**
+   * only consider sortAscending flag when sort is active. Columns with !sortActive are always sorted ascending
+   * (sortAscending represents last state for those, thus not considered)
+   */
+  protected boolean isSortDescending(IColumn<?> col) {
+    return col.isSortActive() && !col.getHeaderCell().isSortAscending();
+  }
+
+  /**
+   * Sorts the given rows in place. The result is the same as {@code rows.sort(this)} (the sort is stable) but the sort
+   * keys of a column are extracted only once per row. The rows are sorted by the first column, the keys of each further
+   * column are only extracted for the rows which are equal in all previous columns. If the keys of a column are
+   * thread-safe and the number of rows reaches {@link TableParallelSortThresholdProperty}, they are sorted in parallel.
+   * <p>
+   * Columns overriding {@link IColumn#compareTableRows(ITableRow, ITableRow)} are compared by that method. If a subclass
+   * overrides {@link #compare(ITableRow, ITableRow)}, the rows are sorted using {@code rows.sort(this)}.
+   */
+  public void sort(List<ITableRow> rows) {
+    if (rows.size() < 2) {
+      return;
+    }
+    if (COMPARE_DECLARING_CLASS.get(getClass()) != TableRowComparator.class) {
+      rows.sort(this);
+      return;
+    }
+    ITableRow[] rowArray = rows.toArray(new ITableRow[0]);
+    List<IColumn<?>> columns = new ArrayList<>(m_columns);
+    sortRange(rowArray, 0, rowArray.length, columns, 0, createCollator(columns));
+    for (int i = 0; i < rowArray.length; i++) {
+      rows.set(i, rowArray[i]);
+    }
+  }
+
+  /**
+   * @return the collator used for all string columns of one sort, <code>null</code> if none of the given columns is
+   *         compared by collation keys
+   */
+  protected Collator createCollator(List<IColumn<?>> columns) {
+    for (IColumn<?> col : columns) {
+      if (COMPARE_TABLE_ROWS_DECLARING_CLASS.get(col.getClass()) == AbstractStringColumn.class) {
+        Collator collator = BEANS.get(CollatorProvider.class).getInstance(NlsLocale.get());
+        collator.setStrength(Collator.SECONDARY);
+        return collator;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Sorts the rows <code>[from, to)</code> by the column at <code>columnIndex</code> and then each group of equal rows
+   * by the next column.
+   */
+  protected void sortRange(ITableRow[] rows, int from, int to, List<IColumn<?>> columns, int columnIndex, Collator collator) {
+    if (columnIndex >= columns.size() || to - from < 2) {
+      return;
+    }
+    ITableRow[] range = Arrays.copyOfRange(rows, from, to);
+    SortKeys keys = createSortKeys(columns.get(columnIndex), range, collator);
+    int[] indices = new int[range.length];
+    for (int i = 0; i < range.length; i++) {
+      indices[i] = i;
+    }
+    boolean parallel = keys.isThreadSafe() && range.length >= CONFIG.getPropertyValue(TableParallelSortThresholdProperty.class);
+    IndexSortTask.sort(indices, keys, parallel);
+    for (int i = 0; i < range.length; i++) {
+      rows[from + i] = range[indices[i]];
+    }
+    int groupStart = 0;
+    for (int i = 1; i <= range.length; i++) {
+      if (i == range.length || keys.compare(indices[groupStart], indices[i]) != 0) {
+        sortRange(rows, from + groupStart, from + i, columns, columnIndex + 1, collator);
+        groupStart = i;
+      }
+    }
+  }
+
+  protected SortKeys createSortKeys(IColumn<?> col, ITableRow[] rows, Collator collator) {
+    boolean descending = isSortDescending(col);
+    Class<?> declaringClass = COMPARE_TABLE_ROWS_DECLARING_CLASS.get(col.getClass());
+    if (declaringClass == AbstractStringColumn.class) {
+      return createStringSortKeys(col, rows, descending, collator);
+    }
+    if (declaringClass == AbstractColumn.class) {
+      return createValueSortKeys(col, rows, descending);
+    }
+    return new ColumnSortKeys(col, rows, descending);
+  }
+
+  /**
+   * Same order as {@link StringUtility#compareIgnoreCase(String, String)}: empty strings are treated as
+   * <code>null</code> and sorted first.
+   */
+  protected SortKeys createStringSortKeys(IColumn<?> col, ITableRow[] rows, boolean descending, Collator collator) {
+    CollationKey[] keys = new CollationKey[rows.length];
+    for (int i = 0; i < rows.length; i++) {
+      Object value = col.getValue(rows[i]);
+      if (value != null) {
+        String s = value.toString();
+        keys[i] = s.isEmpty() ? null : collator.getCollationKey(s);
+      }
+    }
+    return new ComparableSortKeys(keys, descending, true);
+  }
+
+  /**
+   * Same order as {@link AbstractColumn#compareTableRows(ITableRow, ITableRow)}: <code>null</code> values are sorted
+   * first, {@link Comparable} values are compared naturally, anything else by its case-insensitive string
+   * representation.
+   */
+  @SuppressWarnings("squid:S3776")
+  protected SortKeys createValueSortKeys(IColumn<?> col, ITableRow[] rows, boolean descending) {
+    Object[] values = new Object[rows.length];
+    Class<?> valueType = null;
+    boolean homogeneous = true;
+    boolean comparable = true;
+    for (int i = 0; i < rows.length; i++) {
+      Object value = col.getValue(rows[i]);
+      values[i] = value;
+      if (value == null) {
+        continue;
+      }
+      comparable = comparable && value instanceof Comparable;
+      if (valueType == null) {
+        valueType = value.getClass();
+      }
+      else if (valueType != value.getClass()) {
+        homogeneous = false;
+      }
+    }
+    if (!homogeneous || !comparable) {
+      // mixed or non-comparable values: keep the exact semantics of AbstractColumn (locale dependent string compare)
+      return new ColumnSortKeys(col, rows, descending);
+    }
+    if (valueType == Long.class || valueType == Integer.class || valueType == Short.class || valueType == Byte.class) {
+      long[] keys = new long[rows.length];
+      boolean[] nulls = new boolean[rows.length];
+      for (int i = 0; i < rows.length; i++) {
+        if (values[i] == null) {
+          nulls[i] = true;
+        }
+        else {
+          keys[i] = ((Number) values[i]).longValue();
+        }
+      }
+      return new LongSortKeys(keys, nulls, descending);
+    }
+    if (valueType == Date.class) {
+      long[] keys = new long[rows.length];
+      boolean[] nulls = new boolean[rows.length];
+      for (int i = 0; i < rows.length; i++) {
+        if (values[i] == null) {
+          nulls[i] = true;
+        }
+        else {
+          keys[i] = ((Date) values[i]).getTime();
+        }
+      }
+      return new LongSortKeys(keys, nulls, descending);
+    }
+    if (valueType == Double.class || valueType == Float.class) {
+      double[] keys = new double[rows.length];
+      boolean[] nulls = new boolean[rows.length];
+      for (int i = 0; i < rows.length; i++) {
+        if (values[i] == null) {
+          nulls[i] = true;
+        }
+        else {
+          keys[i] = ((Number) values[i]).doubleValue();
+        }
+      }
+      return new DoubleSortKeys(keys, nulls, descending);
+    }
+    // only well-known immutable value types are compared concurrently
+    boolean threadSafe = valueType == null || valueType == String.class || Number.class.isAssignableFrom(valueType) || valueType == Boolean.class;
+    return new ComparableSortKeys(values, descending, threadSafe);
+  }
+
   @Override
   public boolean equals(Object obj) {
     return obj != null && obj.getClass() == this.getClass() && ((TableRowComparator) obj).m_columns == this.m_columns;
@@ -51,4 +278,226 @@ public class TableRowComparator implements Comparator<ITableRow> {
   public int hashCode() {
     return 0;
   }
+
+  /**
+   * Sort keys of one column, addressed by the index of the row in the list being sorted.
+   */
+  protected interface SortKeys {
+
+    /**
+     * @return the comparison result of the rows with the given indices, sort direction already applied
+     */
+    int compare(int i1, int i2);
+
+    /**
+     * @return <code>true</code> if {@link #compare(int, int)} may be called concurrently without a model context
+     */
+    boolean isThreadSafe();
+  }
+
+  /**
+   * Stable merge sort of row indices by their {@link SortKeys}. If requested, large ranges are sorted in parallel using
+   * the common {@link ForkJoinPool}.
+   */
+  protected static class IndexSortTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+    private static final int PARALLEL_GRANULARITY = 8192;
+
+    private final int[] m_indices;
+    private final int[] m_buffer;
+    private final int m_from;
+    private final int m_to;
+    private final transient SortKeys m_keys;
+    private final boolean m_parallel;
+
+    protected IndexSortTask(int[] indices, int[] buffer, int from, int to, SortKeys keys, boolean parallel) {
+      m_indices = indices;
+      m_buffer = buffer;
+      m_from = from;
+      m_to = to;
+      m_keys = keys;
+      m_parallel = parallel;
+    }
+
+    public static void sort(int[] indices, SortKeys keys, boolean parallel) {
+      IndexSortTask task = new IndexSortTask(indices, new int[indices.length], 0, indices.length, keys, parallel);
+      if (parallel && indices.length > PARALLEL_GRANULARITY) {
+        ForkJoinPool.commonPool().invoke(task);
+      }
+      else {
+        task.compute();
+      }
+    }
+
+    @Override
+    protected void compute() {
+      if (m_to - m_from <= INSERTION_SORT_THRESHOLD) {
+        insertionSort();
+        return;
+      }
+      int mid = (m_from + m_to) >>> 1;
+      IndexSortTask left = new IndexSortTask(m_indices, m_buffer, m_from, mid, m_keys, m_parallel);
+      IndexSortTask right = new IndexSortTask(m_indices, m_buffer, mid, m_to, m_keys, m_parallel);
+      if (m_parallel && m_to - m_from > PARALLEL_GRANULARITY) {
+        invokeAll(left, right);
+      }
+      else {
+        left.compute();
+        right.compute();
+      }
+      merge(mid);
+    }
+
+    protected void insertionSort() {
+      for (int i = m_from + 1; i < m_to; i++) {
+        int index = m_indices[i];
+        int j = i - 1;
+        while (j >= m_from && m_keys.compare(m_indices[j], index) > 0) {
+          m_indices[j + 1] = m_indices[j];
+          j--;
+        }
+        m_indices[j + 1] = index;
+      }
+    }
+
+    protected void merge(int mid) {
+      if (m_keys.compare(m_indices[mid - 1], m_indices[mid]) <= 0) {
+        return; // already in order
+      }
+      System.arraycopy(m_indices, m_from, m_buffer, m_from, m_to - m_from);
+      int i = m_from;
+      int j = mid;
+      for (int k = m_from; k < m_to; k++) {
+        if (j >= m_to || (i < mid && m_keys.compare(m_buffer[i], m_buffer[j]) <= 0)) {
+          m_indices[k] = m_buffer[i++];
+        }
+        else {
+          m_indices[k] = m_buffer[j++];
+        }
+      }
+    }
+  }
+
+  protected static class ColumnSortKeys implements SortKeys {
+    private final IColumn<?> m_column;
+    private final ITableRow[] m_rows;
+    private final boolean m_descending;
+
+    public ColumnSortKeys(IColumn<?> column, ITableRow[] rows, boolean descending) {
+      m_column = column;
+      m_rows = rows;
+      m_descending = descending;
+    }
+
+    @Override
+    public int compare(int i1, int i2) {
+      int c = m_column.compareTableRows(m_rows[i1], m_rows[i2]);
+      return m_descending ? -c : c;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+      return false;
+    }
+  }
+
+  protected static class ComparableSortKeys implements SortKeys {
+    private final Object[] m_keys;
+    private final boolean m_descending;
+    private final boolean m_threadSafe;
+
+    public ComparableSortKeys(Object[] keys, boolean descending, boolean threadSafe) {
+      m_keys = keys;
+      m_descending = descending;
+      m_threadSafe = threadSafe;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public int compare(int i1, int i2) {
+      Object k1 = m_keys[i1];
+      Object k2 = m_keys[i2];
+      int c;
+      if (k1 == null) {
+        c = k2 == null ? 0 : -1;
+      }
+      else if (k2 == null) {
+        c = 1;
+      }
+      else {
+        c = ((Comparable<Object>) k1).compareTo(k2);
+      }
+      return m_descending ? -c : c;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+      return m_threadSafe;
+    }
+  }
+
+  protected static class LongSortKeys implements SortKeys {
+    private final long[] m_keys;
+    private final boolean[] m_nulls;
+    private final boolean m_descending;
+
+    public LongSortKeys(long[] keys, boolean[] nulls, boolean descending) {
+      m_keys = keys;
+      m_nulls = nulls;
+      m_descending = descending;
+    }
+
+    @Override
+    public int compare(int i1, int i2) {
+      int c;
+      if (m_nulls[i1]) {
+        c = m_nulls[i2] ? 0 : -1;
+      }
+      else if (m_nulls[i2]) {
+        c = 1;
+      }
+      else {
+        c = Long.compare(m_keys[i1], m_keys[i2]);
+      }
+      return m_descending ? -c : c;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+      return true;
+    }
+  }
+
+  protected static class DoubleSortKeys implements SortKeys {
+    private final double[] m_keys;
+    private final boolean[] m_nulls;
+    private final boolean m_descending;
+
+    public DoubleSortKeys(double[] keys, boolean[] nulls, boolean descending) {
+      m_keys = keys;
+      m_nulls = nulls;
+      m_descending = descending;
+    }
+
+    @Override
+    public int compare(int i1, int i2) {
+      int c;
+      if (m_nulls[i1]) {
+        c = m_nulls[i2] ? 0 : -1;
+      }
+      else if (m_nulls[i2]) {
+        c = 1;
+      }
+      else {
+        c = Double.compare(m_keys[i1], m_keys[i2]);
+      }
+      return m_descending ? -c : c;
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+      return true;
+    }
+  }
 }
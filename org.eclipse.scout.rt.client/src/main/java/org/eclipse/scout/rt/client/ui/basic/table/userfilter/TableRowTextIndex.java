@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.userfilter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.scout.rt.client.ui.basic.table.ITable;
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+import org.eclipse.scout.rt.client.ui.basic.table.TableEvent;
+import org.eclipse.scout.rt.client.ui.basic.table.TableListener;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+
+/**
+ * Trigram index over the plain display texts of the visible columns of a table. Used by
+ * {@link TableUserFilterManager#findRowsByText(String)} to find the rows containing a text (case-insensitive) without
+ * reading the cells of all rows.
+ * <p>
+ * The index is built lazily on the first query and maintained incrementally by table events afterwards (rows inserted,
+ * updated and deleted). Column structure changes invalidate the whole index. The index must only be used in the model
+ * thread.
+ */
+public class TableRowTextIndex {
+
+  public static final int GRAM_LENGTH = 3;
+
+  /**
+   * Separates the texts of the cells of a row. Grams containing the separator are not indexed.
+   */
+  protected static final char CELL_SEPARATOR = '\n';
+
+  private final ITable m_table;
+  private final TableListener m_tableListener;
+  private final Map<ITableRow, String> m_rowTexts = new HashMap<>();
+  private final Map<String, Set<ITableRow>> m_gramIndex = new HashMap<>();
+  private boolean m_valid;
+
+  public TableRowTextIndex(ITable table) {
+    m_table = table;
+    m_tableListener = this::handleTableEvent;
+  }
+
+  public ITable getTable() {
+    return m_table;
+  }
+
+  /**
+   * Starts maintaining the index. The index itself is built on the first query.
+   */
+  public void install() {
+    m_table.addTableListener(m_tableListener,
+        TableEvent.TYPE_ROWS_INSERTED,
+        TableEvent.TYPE_ROWS_UPDATED,
+        TableEvent.TYPE_ROWS_DELETED,
+        TableEvent.TYPE_ALL_ROWS_DELETED,
+        TableEvent.TYPE_COLUMN_STRUCTURE_CHANGED);
+  }
+
+  public void uninstall() {
+    m_table.removeTableListener(m_tableListener);
+    invalidate();
+  }
+
+  public void invalidate() {
+    m_valid = false;
+    m_rowTexts.clear();
+    m_gramIndex.clear();
+  }
+
+  public boolean isValid() {
+    return m_valid;
+  }
+
+  /**
+   * @return the rows whose display text contains the given text (case-insensitive) in the order of the table. All rows
+   *         if the text is empty.
+   */
+  public List<ITableRow> findRows(String text) {
+    ensureValid();
+    String query = normalize(text);
+    if (query.isEmpty()) {
+      return m_table.getRows();
+    }
+    List<ITableRow> result = new ArrayList<>();
+    if (query.length() < GRAM_LENGTH || query.indexOf(CELL_SEPARATOR) >= 0) {
+      for (Entry<ITableRow, String> entry : m_rowTexts.entrySet()) {
+        if (entry.getValue().contains(query)) {
+          result.add(entry.getKey());
+        }
+      }
+    }
+    else {
+      for (ITableRow row : getCandidates(query)) {
+        if (m_rowTexts.get(row).contains(query)) {
+          result.add(row);
+        }
+      }
+    }
+    result.sort(Comparator.comparingInt(ITableRow::getRowIndex));
+    return result;
+  }
+
+  /**
+   * @return the rows containing all grams of the query (smallest posting list)
+   */
+  protected Collection<ITableRow> getCandidates(String query) {
+    Set<ITableRow> candidates = null;
+    for (int i = 0; i + GRAM_LENGTH <= query.length(); i++) {
+      Set<ITableRow> rows = m_gramIndex.get(query.substring(i, i + GRAM_LENGTH));
+      if (rows == null) {
+        return new ArrayList<>(0);
+      }
+      if (candidates == null || rows.size() < candidates.size()) {
+        candidates = rows;
+      }
+    }
+    return candidates;
+  }
+
+  protected void ensureValid() {
+    if (m_valid) {
+      return;
+    }
+    for (ITableRow row : m_table.getRows()) {
+      addRow(row);
+    }
+    m_valid = true;
+  }
+
+  protected void handleTableEvent(TableEvent e) {
+    if (!m_valid) {
+      return;
+    }
+    switch (e.getType()) {
+      case TableEvent.TYPE_ROWS_INSERTED:
+        e.getRows().forEach(this::addRow);
+        break;
+      case TableEvent.TYPE_ROWS_UPDATED:
+        for (ITableRow row : e.getRows()) {
+          removeRow(row);
+          addRow(row);
+        }
+        break;
+      case TableEvent.TYPE_ROWS_DELETED:
+        e.getRows().forEach(this::removeRow);
+        break;
+      default:
+        invalidate();
+        break;
+    }
+  }
+
+  protected void addRow(ITableRow row) {
+    String text = createRowText(row);
+    m_rowTexts.put(row, text);
+    for (String gram : getGrams(text)) {
+      m_gramIndex.computeIfAbsent(gram, k -> new HashSet<>()).add(row);
+    }
+  }
+
+  protected void removeRow(ITableRow row) {
+    String text = m_rowTexts.remove(row);
+    if (text == null) {
+      return;
+    }
+    for (String gram : getGrams(text)) {
+      Set<ITableRow> rows = m_gramIndex.get(gram);
+      if (rows != null && rows.remove(row) && rows.isEmpty()) {
+        m_gramIndex.remove(gram);
+      }
+    }
+  }
+
+  protected Set<String> getGrams(String text) {
+    Set<String> grams = new HashSet<>();
+    for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+      String gram = text.substring(i, i + GRAM_LENGTH);
+      if (gram.indexOf(CELL_SEPARATOR) < 0) {
+        grams.add(gram);
+      }
+    }
+    return grams;
+  }
+
+  /**
+   * @return the normalized plain texts of all visible cells of the given row, separated by {@link #CELL_SEPARATOR}
+   */
+  protected String createRowText(ITableRow row) {
+    StringBuilder sb = new StringBuilder();
+    for (IColumn<?> column : m_table.getColumnSet().getVisibleColumns()) {
+      String text = row.getCell(column).toPlainText();
+      if (StringUtility.hasText(text)) {
+        if (sb.length() > 0) {
+          sb.append(CELL_SEPARATOR);
+        }
+        sb.append(normalize(text));
+      }
+    }
+    return sb.toString();
+  }
+
+  protected String normalize(String text) {
+    return StringUtility.emptyIfNull(text).toLowerCase(Locale.ROOT);
+  }
+}
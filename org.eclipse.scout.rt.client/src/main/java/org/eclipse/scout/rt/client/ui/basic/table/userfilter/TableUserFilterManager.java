@@ -18,10 +18,12 @@ import java.util.List;
 import java.util.Map;
 
 import org.eclipse.scout.rt.client.ui.basic.table.AbstractTable;
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
 import org.eclipse.scout.rt.client.ui.basic.table.TableEvent;
 import org.eclipse.scout.rt.client.ui.basic.userfilter.IUserFilterState;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,11 +35,71 @@ public class TableUserFilterManager {
 
   private final Map<Object, IUserFilterState> m_filterMap = new HashMap<>();
   private final AbstractTable m_table;
+  private TableRowTextIndex m_textIndex;
 
   public TableUserFilterManager(AbstractTable table) {
     m_table = table;
   }
 
+  /**
+   * Enables or disables the {@link TableRowTextIndex} used by {@link #findRowsByText(String)}. The index speeds up text
+   * filtering of large tables at the cost of additional memory. Disabled by default.
+   */
+  public void setTextIndexEnabled(boolean enabled) {
+    if (enabled == isTextIndexEnabled()) {
+      return;
+    }
+    if (enabled) {
+      m_textIndex = createTextIndex();
+      m_textIndex.install();
+    }
+    else {
+      m_textIndex.uninstall();
+      m_textIndex = null;
+    }
+  }
+
+  public boolean isTextIndexEnabled() {
+    return m_textIndex != null;
+  }
+
+  protected TableRowTextIndex createTextIndex() {
+    return new TableRowTextIndex(m_table);
+  }
+
+  /**
+   * @return the rows whose visible cell texts contain the given text (case-insensitive) in the order of the table
+   */
+  public List<ITableRow> findRowsByText(String text) {
+    if (m_textIndex != null) {
+      return m_textIndex.findRows(text);
+    }
+    // same semantics as the index, without building it
+    TableRowTextIndex index = createTextIndex();
+    String query = index.normalize(text);
+    List<ITableRow> rows = new ArrayList<>();
+    for (ITableRow row : m_table.getRows()) {
+      if (index.createRowText(row).contains(query)) {
+        rows.add(row);
+      }
+    }
+    return rows;
+  }
+
+  /**
+   * Adds the given text filter and restricts the rows of the table to the rows containing its text (see
+   * {@link #findRowsByText(String)}). If the text is extended, only the rows accepted so far are re-evaluated.
+   */
+  public void applyTextFilter(TableTextUserFilterState filter) {
+    addFilter(filter);
+    if (StringUtility.isNullOrEmpty(filter.getText())) {
+      m_table.removeUserRowFilters();
+    }
+    else {
+      m_table.setUserRowFilter(findRowsByText(filter.getText()));
+    }
+  }
+
   public void addFilter(IUserFilterState filter) {
     m_filterMap.put(filter.createKey(), filter);
     fireFilterAdded(filter);
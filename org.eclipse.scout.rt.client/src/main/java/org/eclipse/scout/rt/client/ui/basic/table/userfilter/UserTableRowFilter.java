@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.client.ui.basic.table.userfilter;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -32,4 +33,24 @@ public class UserTableRowFilter implements ITableRowFilter, IUserFilter {
     return m_rows.contains(row);
   }
 
+  public Set<? extends ITableRow> getRows() {
+    return Collections.unmodifiableSet(m_rows);
+  }
+
+  /**
+   * @return <code>true</code> if this filter accepts a subset of the rows accepted by the given filter
+   */
+  public boolean isNarrowing(UserTableRowFilter filter) {
+    if (filter == null || m_rows.size() > filter.m_rows.size()) {
+      return false;
+    }
+    // one hash lookup per row of this filter
+    for (ITableRow row : m_rows) {
+      if (!filter.m_rows.contains(row)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
 }
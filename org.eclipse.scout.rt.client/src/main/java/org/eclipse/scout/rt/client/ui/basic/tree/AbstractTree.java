@@ -12,8 +12,10 @@ package org.eclipse.scout.rt.client.ui.basic.tree;
 import java.security.Permission;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -96,6 +98,11 @@ public abstract class AbstractTree extends AbstractWidget implements ITree, ICon
 
   private final Set<ITreeNode> m_checkedNodes;
   private final Map<Object, ITreeNode> m_deletedNodes;
+  /**
+   * Nodes attached to this tree by primary key. The value is either the {@link ITreeNode} or, if several nodes share
+   * the same primary key, an identity set of these nodes. Nodes without primary key are not indexed.
+   */
+  private final Map<Object, Object> m_nodesByPrimaryKey;
   private final List<ITreeNodeFilter> m_nodeFilters;
   private final ObjectExtensions<AbstractTree, ITreeExtension<? extends AbstractTree>> m_objectExtensions;
 
@@ -127,6 +134,7 @@ public abstract class AbstractTree extends AbstractWidget implements ITree, ICon
     super(false);
     m_checkedNodes = new HashSet<>();
     m_deletedNodes = new HashMap<>();
+    m_nodesByPrimaryKey = new HashMap<>();
     m_nodeFilters = new ArrayList<>(1);
     m_objectExtensions = new ObjectExtensions<>(this, false);
     if (callInitializer) {
@@ -1094,12 +1102,11 @@ public abstract class AbstractTree extends AbstractWidget implements ITree, ICon
 
   @Override
   public ITreeNode findNode(Object primaryKey) {
-    Collection<ITreeNode> a = findNodes(CollectionUtility.hashSet(primaryKey));
-    if (a != null && !a.isEmpty()) {
-      return CollectionUtility.firstElement(a);
+    if (primaryKey == null) {
+      return findFirstNodeWithoutPrimaryKey();
     }
-    else {
-      return null;
+    synchronized (m_nodesByPrimaryKey) {
+      return getFirstIndexedNode(m_nodesByPrimaryKey.get(primaryKey));
     }
   }
 
@@ -1109,25 +1116,108 @@ public abstract class AbstractTree extends AbstractWidget implements ITree, ICon
       return CollectionUtility.emptyArrayList();
     }
 
-    final Set<Object> keySet = new HashSet<>(primaryKeys);
+    List<ITreeNode> nodes = new ArrayList<>();
+    Set<Object> keySet = new HashSet<>(primaryKeys);
+    if (keySet.remove(null)) {
+      ITreeNode node = findFirstNodeWithoutPrimaryKey();
+      if (node != null) {
+        nodes.add(node);
+      }
+    }
+    synchronized (m_nodesByPrimaryKey) {
+      for (Object primaryKey : keySet) {
+        ITreeNode node = getFirstIndexedNode(m_nodesByPrimaryKey.get(primaryKey));
+        if (node != null) {
+          nodes.add(node);
+        }
+      }
+    }
+    // same order as a depth-first traversal of the tree
+    if (nodes.size() > 1) {
+      nodes.sort(TreeUtility::compareTreeOrder);
+    }
+    return nodes;
+  }
+
+  /**
+   * Nodes without primary key are not indexed (typically there are many of them), they are searched depth-first.
+   */
+  private ITreeNode findFirstNodeWithoutPrimaryKey() {
     CollectingVisitor<ITreeNode> v = new CollectingVisitor<>() {
 
       @Override
       public TreeVisitResult preVisit(ITreeNode element, int level, int index) {
         super.preVisit(element, level, index);
-        if (keySet.isEmpty()) {
-          return TreeVisitResult.TERMINATE;
-        }
-        return TreeVisitResult.CONTINUE;
+        return getCollection().isEmpty() ? TreeVisitResult.CONTINUE : TreeVisitResult.TERMINATE;
       }
 
       @Override
       protected boolean accept(ITreeNode node) {
-        return keySet.remove(node.getPrimaryKey());
+        return node.getPrimaryKey() == null;
       }
     };
     visitNode(getRootNode(), v);
-    return v.getCollection();
+    return CollectionUtility.firstElement(v.getCollection());
+  }
+
+  @SuppressWarnings("unchecked")
+  private ITreeNode getFirstIndexedNode(Object indexValue) {
+    if (indexValue instanceof ITreeNode) {
+      return (ITreeNode) indexValue;
+    }
+    if (indexValue == null) {
+      return null;
+    }
+    return Collections.min((Set<ITreeNode>) indexValue, TreeUtility::compareTreeOrder);
+  }
+
+  /**
+   * Adds the node to the primary key index. Called by {@link AbstractTreeNode} when it is attached to this tree.
+   */
+  @SuppressWarnings("unchecked")
+  void registerNodeInternal(ITreeNode node, Object primaryKey) {
+    if (primaryKey == null) {
+      return;
+    }
+    synchronized (m_nodesByPrimaryKey) {
+      Object indexValue = m_nodesByPrimaryKey.putIfAbsent(primaryKey, node);
+      if (indexValue == null || indexValue == node) {
+        return;
+      }
+      Set<ITreeNode> nodes;
+      if (indexValue instanceof ITreeNode) {
+        nodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        nodes.add((ITreeNode) indexValue);
+        m_nodesByPrimaryKey.put(primaryKey, nodes);
+      }
+      else {
+        nodes = (Set<ITreeNode>) indexValue;
+      }
+      nodes.add(node);
+    }
+  }
+
+  /**
+   * Removes the node from the primary key index. Called by {@link AbstractTreeNode} when it is detached from this tree.
+   */
+  @SuppressWarnings("unchecked")
+  void unregisterNodeInternal(ITreeNode node, Object primaryKey) {
+    if (primaryKey == null) {
+      return;
+    }
+    synchronized (m_nodesByPrimaryKey) {
+      Object indexValue = m_nodesByPrimaryKey.get(primaryKey);
+      if (indexValue == node) {
+        m_nodesByPrimaryKey.remove(primaryKey);
+      }
+      else if (indexValue instanceof Set) {
+        Set<ITreeNode> nodes = (Set<ITreeNode>) indexValue;
+        nodes.remove(node);
+        if (nodes.size() == 1) {
+          m_nodesByPrimaryKey.put(primaryKey, nodes.iterator().next());
+        }
+      }
+    }
   }
 
   @Override
@@ -32,6 +32,7 @@ import org.eclipse.scout.rt.platform.annotations.ConfigOperation;
 import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
 import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.platform.util.collection.OrderedCollection;
 import org.eclipse.scout.rt.platform.util.concurrent.OptimisticLock;
 import org.eclipse.scout.rt.security.ACCESS;
@@ -694,7 +695,12 @@ public abstract class AbstractTreeNode implements ITreeNode, ICellObserver, ICon
 
   @Override
   public void setPrimaryKey(Object key) {
+    Object oldKey = m_primaryKey;
     m_primaryKey = key;
+    if (m_tree instanceof AbstractTree && ObjectUtility.notEquals(oldKey, key)) {
+      ((AbstractTree) m_tree).unregisterNodeInternal(this, oldKey);
+      ((AbstractTree) m_tree).registerNodeInternal(this, key);
+    }
   }
 
   @Override
@@ -1059,7 +1065,17 @@ public abstract class AbstractTreeNode implements ITreeNode, ICellObserver, ICon
    */
   @Override
   public void setTreeInternal(ITree tree, boolean includeSubtree) {
+    ITree oldTree = m_tree;
     m_tree = tree;
+    if (oldTree != tree) {
+      // maintain primary key index used by ITree#findNode
+      if (oldTree instanceof AbstractTree) {
+        ((AbstractTree) oldTree).unregisterNodeInternal(this, m_primaryKey);
+      }
+      if (tree instanceof AbstractTree) {
+        ((AbstractTree) tree).registerNodeInternal(this, m_primaryKey);
+      }
+    }
     if (m_tree != null && isExpanded()) {
       m_tree.setNodeExpandedInternal(this, true, isLazyExpandingEnabled());
     }
@@ -120,6 +120,28 @@ public final class TreeUtility {
     return node;
   }
 
+  /**
+   * Compares two nodes of the same tree by their position in a depth-first (pre-order) traversal: an ancestor is
+   * ordered before its descendants, siblings are ordered by their child node index.
+   */
+  public static int compareTreeOrder(ITreeNode firstNode, ITreeNode secondNode) {
+    if (firstNode == secondNode) {
+      return 0;
+    }
+    int firstLevel = firstNode.getTreeLevel();
+    int secondLevel = secondNode.getTreeLevel();
+    ITreeNode a = findAncestorNodeAtLevel(firstNode, Math.min(firstLevel, secondLevel));
+    ITreeNode b = findAncestorNodeAtLevel(secondNode, Math.min(firstLevel, secondLevel));
+    if (a == b) {
+      return Integer.compare(firstLevel, secondLevel);
+    }
+    while (a.getParentNode() != b.getParentNode() && a.getParentNode() != null && b.getParentNode() != null) {
+      a = a.getParentNode();
+      b = b.getParentNode();
+    }
+    return Integer.compare(a.getChildNodeIndex(), b.getChildNodeIndex());
+  }
+
   public static TreeVisitResult visitNodes(Collection<ITreeNode> nodes, IDepthFirstTreeVisitor<ITreeNode> v) {
     return visitNodes(nodes, v, ITreeNode::getChildNodes);
   }
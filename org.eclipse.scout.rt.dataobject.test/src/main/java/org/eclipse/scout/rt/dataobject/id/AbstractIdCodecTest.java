@@ -12,8 +12,10 @@ package org.eclipse.scout.rt.dataobject.id;
 import static org.junit.Assert.*;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
@@ -379,6 +381,47 @@ public abstract class AbstractIdCodecTest {
     assertEquals(id1, id2);
   }
 
+  @Test
+  public void testFromQualifiedList() {
+    FixtureUuId id1 = IIds.create(FixtureUuId.class, TEST_UUID);
+    FixtureStringId id2 = FixtureStringId.of(TEST_STRING);
+    FixtureCompositeId id3 = IIds.create(FixtureCompositeId.class, TEST_STRING, TEST_UUID);
+    List<IId> ids = getCodec().fromQualifiedList(Arrays.asList(
+        "scout.FixtureUuId:" + TEST_UUID,
+        "scout.FixtureUuId:" + TEST_UUID,
+        null,
+        "scout.FixtureStringId:" + TEST_STRING,
+        "",
+        "scout.FixtureCompositeId:foobar;5833aae1-c813-4d7c-a342-56a53772a3ea",
+        "scout.FixtureUuId:" + TEST_UUID));
+    assertEquals(Arrays.asList(id1, id1, null, id2, null, id3, id1), ids);
+
+    assertEquals(List.of(), getCodec().fromQualifiedList(null));
+    assertEquals(List.of(), getCodec().fromQualifiedList(List.of()));
+  }
+
+  @Test
+  public void testFromQualifiedListUnknownType() {
+    assertThrows(IdCodecException.class, () -> getCodec().fromQualifiedList(Arrays.asList("scout.FixtureUuId:" + TEST_UUID, "DoesNotExist:" + TEST_UUID)));
+
+    List<IId> ids = getCodec().fromQualifiedList(Arrays.asList("scout.FixtureUuId:" + TEST_UUID, "DoesNotExist:" + TEST_UUID, "DoesNotExist:foo"), IdCodecFlag.LENIENT);
+    assertEquals(IIds.create(FixtureUuId.class, TEST_UUID), ids.get(0));
+    //noinspection deprecation
+    assertEquals(UnknownId.of("DoesNotExist", TEST_UUID.toString()), ids.get(1));
+    //noinspection deprecation
+    assertEquals(UnknownId.of("DoesNotExist", "foo"), ids.get(2));
+  }
+
+  @Test
+  public void testFromUnqualifiedList() {
+    List<FixtureLongId> ids = getCodec().fromUnqualifiedList(FixtureLongId.class, Arrays.asList("1", null, "3"));
+    assertEquals(Arrays.asList(FixtureLongId.of(1L), null, FixtureLongId.of(3L)), ids);
+
+    assertEquals(List.of(), getCodec().fromUnqualifiedList(FixtureLongId.class, null));
+    assertThrows(IdCodecException.class, () -> getCodec().fromUnqualifiedList(null, List.of("1")));
+    assertThrows(IdCodecException.class, () -> getCodec().fromUnqualifiedList(FixtureLongId.class, List.of("1", "a")));
+  }
+
   @Test
   public void testFromQualifiedNullValue() {
     assertNull(getCodec().fromQualified(null));
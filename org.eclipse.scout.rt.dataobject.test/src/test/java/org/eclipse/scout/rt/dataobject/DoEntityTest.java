@@ -746,6 +746,39 @@ public class DoEntityTest {
     assertEquals(entity1, entity2);
   }
 
+  @Test
+  public void testEqualsHashCode_emptyAttributes() {
+    DoEntity entity1 = BEANS.get(DoEntity.class);
+    DoEntity entity2 = BEANS.get(DoEntity.class);
+    entity2.put("attr1", "foo");
+    assertNotEquals(entity1, entity2);
+
+    entity2.remove("attr1");
+    assertTrue(entity2.allNodes().isEmpty());
+    assertEquals(entity1, entity2);
+    assertEquals(entity1.hashCode(), entity2.hashCode());
+  }
+
+  @Test
+  public void testTypedEntityAttributeNodes() {
+    EntityFixtureDo entity = BEANS.get(EntityFixtureDo.class);
+    assertTrue(entity.allNodes().isEmpty());
+    assertFalse(entity.remove("id"));
+    assertFalse(entity.removeIf(node -> true));
+
+    // accessing an attribute node does not add it to the entity
+    assertNull(entity.getId());
+    assertFalse(entity.has("id"));
+    assertTrue(entity.allNodes().isEmpty());
+
+    entity.withId("foo");
+    entity.put("dynamic", "bar");
+    entity.withOtherEntities(BEANS.get(OtherEntityFixtureDo.class).withId("other1"));
+    assertEquals(Arrays.asList("id", "dynamic", "otherEntities"), new ArrayList<>(entity.allNodes().keySet()));
+    assertSame(entity.id(), entity.getNode("id"));
+    assertSame(entity.otherEntities(), entity.getNode("otherEntities"));
+  }
+
   @Test
   public void testEqualsHashCodeFixtureEntity() {
     EntityFixtureDo entity1 = BEANS.get(EntityFixtureDo.class)
@@ -49,7 +49,7 @@ import org.eclipse.scout.rt.platform.util.StreamUtility;
  */
 public class DoEntity implements IDoEntity {
 
-  private final Map<String, DoNode<?>> m_attributes = new LinkedHashMap<>();
+  private Map<String, DoNode<?>> m_attributes; // lazy init, an entity without any attribute does not allocate a map
 
   private List<IDoEntityContribution> m_contributions; // lazy init, because contributions are used rarely
 
@@ -61,7 +61,7 @@ public class DoEntity implements IDoEntity {
    */
   @Override
   public DoNode<?> getNode(String attributeName) {
-    return m_attributes.get(attributeName);
+    return m_attributes == null ? null : m_attributes.get(attributeName);
   }
 
   /**
@@ -70,7 +70,7 @@ public class DoEntity implements IDoEntity {
    */
   @Override
   public boolean has(String attributeName) {
-    return m_attributes.containsKey(attributeName);
+    return m_attributes != null && m_attributes.containsKey(attributeName);
   }
 
   /**
@@ -79,7 +79,7 @@ public class DoEntity implements IDoEntity {
   @Override
   public void putNode(String attributeName, DoNode<?> attribute) {
     IDoEntity.super.putNode(attributeName, attribute);
-    m_attributes.put(attributeName, attribute);
+    attributes().put(attributeName, attribute);
   }
 
   /**
@@ -150,7 +150,7 @@ public class DoEntity implements IDoEntity {
    */
   @Override
   public boolean remove(String attributeName) {
-    return m_attributes.remove(attributeName) != null;
+    return m_attributes != null && m_attributes.remove(attributeName) != null;
   }
 
   /**
@@ -160,12 +160,12 @@ public class DoEntity implements IDoEntity {
    */
   @Override
   public boolean removeIf(Predicate<? super DoNode<?>> filter) {
-    return m_attributes.values().removeIf(filter);
+    return m_attributes != null && m_attributes.values().removeIf(filter);
   }
 
   @Override
   public Map<String, DoNode<?>> allNodes() {
-    return Collections.unmodifiableMap(m_attributes);
+    return m_attributes == null ? Collections.emptyMap() : Collections.unmodifiableMap(m_attributes);
   }
 
   @Override
@@ -197,7 +197,7 @@ public class DoEntity implements IDoEntity {
 
     DoEntity doEntity = (DoEntity) o;
 
-    if (!m_attributes.equals(doEntity.m_attributes)) {
+    if (!allNodes().equals(doEntity.allNodes())) { // handle null and empty attributes the same way (lazy init of m_attributes)
       return false;
     }
 
@@ -213,7 +213,7 @@ public class DoEntity implements IDoEntity {
 
   @Override
   public int hashCode() {
-    int result = m_attributes.hashCode();
+    int result = allNodes().hashCode();
     Collection<? extends IDoEntityContribution> contributions = hasContributions() ? m_contributions : null; // handle null and empty contributions the same way (lazy init of m_contributions)
     result = 31 * result + CollectionUtility.hashCodeCollection(contributions); // element order is not relevant
     return result;
@@ -231,8 +231,9 @@ public class DoEntity implements IDoEntity {
    * entity does not already contain a node for the given {@code attributeName}.
    */
   protected <V> DoValue<V> doValue(String attributeName) {
-    if (has(attributeName)) {
-      return getValueNode(attributeName);
+    DoNode<?> node = getNode(attributeName);
+    if (node != null) {
+      return castNode(node, DoValue.class);
     }
     else {
       return newValueNode(attributeName, null);
@@ -244,8 +245,9 @@ public class DoEntity implements IDoEntity {
    * entity does not already contain a node for the given {@code attributeName}.
    */
   protected <V> DoList<V> doList(String attributeName) {
-    if (has(attributeName)) {
-      return getListNode(attributeName);
+    DoNode<?> node = getNode(attributeName);
+    if (node != null) {
+      return castNode(node, DoList.class);
     }
     else {
       return newListNode(attributeName, null);
@@ -257,8 +259,9 @@ public class DoEntity implements IDoEntity {
    * entity does not already contain a node for the given {@code attributeName}.
    */
   protected <V> DoSet<V> doSet(String attributeName) {
-    if (has(attributeName)) {
-      return getSetNode(attributeName);
+    DoNode<?> node = getNode(attributeName);
+    if (node != null) {
+      return castNode(node, DoSet.class);
     }
     else {
       return newSetNode(attributeName, null);
@@ -270,8 +273,9 @@ public class DoEntity implements IDoEntity {
    * created, if this entity does not already contain a node for the given {@code attributeName}.
    */
   protected <V> DoCollection<V> doCollection(String attributeName) {
-    if (has(attributeName)) {
-      return getCollectionNode(attributeName);
+    DoNode<?> node = getNode(attributeName);
+    if (node != null) {
+      return castNode(node, DoCollection.class);
     }
     else {
       return newCollectionNode(attributeName, null);
@@ -295,12 +299,28 @@ public class DoEntity implements IDoEntity {
    */
   <V, NODE extends DoNode<V>> NODE getNode(String attributeName, Class<NODE> clazz) {
     assertNotNull(attributeName, "attribute name cannot be null");
-    DoNode<?> node = getNode(attributeName);
+    return castNode(getNode(attributeName), clazz);
+  }
+
+  /**
+   * @return given {@code node} cast to {@code clazz} type.
+   */
+  <V, NODE extends DoNode<V>> NODE castNode(DoNode<?> node, Class<? super NODE> clazz) {
     assertInstance(node, clazz, "Node {} is null or not of type {}", node, clazz);
     //noinspection unchecked
     return (NODE) node;
   }
 
+  /**
+   * @return attributes map, created on first access.
+   */
+  private Map<String, DoNode<?>> attributes() {
+    if (m_attributes == null) {
+      m_attributes = new LinkedHashMap<>();
+    }
+    return m_attributes;
+  }
+
   /**
    * @return DoValue for given {@code attributeName}.
    */
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+/**
+ * Interface to a data mapper that uses a binary format instead of textual JSON (e.g. for internal node-to-node
+ * communication).
+ * <p>
+ * The string based methods {@link #writeValue(Object)}, {@link #readValue(String, Class)} and
+ * {@link #readValueRaw(String)} use the Base64 encoded representation of the binary format.
+ *
+ * @see IDataObjectMapper
+ */
+public interface IBinaryDataObjectMapper extends IDataObjectMapper {
+
+  /**
+   * Deserialize a binary value into a data object.
+   */
+  <T> T readValue(byte[] value, Class<T> valueType);
+
+  /**
+   * Serializes a data object into its binary representation.
+   */
+  byte[] writeValueAsBytes(Object value);
+
+  /**
+   * @return Media type of the binary format (e.g. {@code application/x-jackson-smile}).
+   */
+  String getContentType();
+}
@@ -11,6 +11,8 @@ package org.eclipse.scout.rt.dataobject;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.platform.Bean;
 
@@ -55,4 +57,29 @@ public interface IDataObjectMapper {
    * Serializes a data object into its string representation.
    */
   String writeValue(Object value);
+
+  /**
+   * Serializes all values provided by the given iterator as a list into the given output stream. The values are
+   * serialized one by one while iterating, neither the whole list of values nor its serialized representation is held
+   * in memory.
+   */
+  void writeValues(OutputStream outputStream, Iterator<?> values);
+
+  /**
+   * Serializes all values of the given stream as a list into the given output stream.
+   *
+   * @see #writeValues(OutputStream, Iterator)
+   */
+  default void writeValues(OutputStream outputStream, Stream<?> values) {
+    writeValues(outputStream, values.iterator());
+  }
+
+  /**
+   * Deserialize a list of data objects from input stream. The elements are deserialized one by one while consuming the
+   * returned stream, the whole list is never held in memory.
+   * <p>
+   * The returned stream must be closed after usage (e.g. using a try-with-resources statement), which closes the
+   * underlying parser and the input stream.
+   */
+  <T> Stream<T> readValues(InputStream inputStream, Class<T> valueType);
 }
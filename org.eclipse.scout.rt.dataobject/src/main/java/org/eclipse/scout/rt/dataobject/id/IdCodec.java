@@ -17,7 +17,10 @@ import static org.eclipse.scout.rt.platform.util.ObjectUtility.isOneOf;
 import static org.eclipse.scout.rt.platform.util.StringUtility.isNullOrEmpty;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -26,6 +29,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -54,6 +58,7 @@ public class IdCodec {
 
   protected final Map<Class<?>, Function<String, Object>> m_rawTypeFromStringMapper = new HashMap<>();
   protected final Map<Class<?>, Function<Object, String>> m_rawTypeToStringMapper = new HashMap<>();
+  protected final Map<Class<? extends IId>, List<Function<String, Object>>> m_componentFromStringMappersByIdType = new ConcurrentHashMap<>();
 
   /**
    * Interface for flags used to parametrize conversion between {@link IId} instances and their qualified/unqualified
@@ -108,7 +113,7 @@ public class IdCodec {
    * </ul>
    */
   public String toQualified(IId id, IIdCodecFlag... flags) {
-    return toQualified(id, hashSet(flags));
+    return toQualified(id, toFlagSet(flags));
   }
 
   /**
@@ -140,7 +145,7 @@ public class IdCodec {
    * </ul>
    */
   public String toUnqualified(IId id, IIdCodecFlag... flags) {
-    return toUnqualified(id, hashSet(flags));
+    return toUnqualified(id, toFlagSet(flags));
   }
 
   /**
@@ -225,7 +230,7 @@ public class IdCodec {
    *           if the given string does not match the expected format or the referenced class is not found.
    */
   public IId fromQualified(String qualifiedId, IIdCodecFlag... flags) {
-    return fromQualified(qualifiedId, hashSet(flags));
+    return fromQualified(qualifiedId, toFlagSet(flags));
   }
 
   /**
@@ -235,6 +240,36 @@ public class IdCodec {
     return fromQualifiedInternal(qualifiedId, flags);
   }
 
+  /**
+   * Parses a collection of strings in the format {@code [type-name]:[raw-id;raw-id;...]}.
+   * <p>
+   * Compared to calling {@link #fromQualified(String, IIdCodecFlag...)} for each element, the flags are evaluated once
+   * and the id class of consecutive elements with the same type name is resolved only once.
+   *
+   * @return list of {@code IId}s parsed from {@code qualifiedIds} (same order and size, {@code null} for {@code null} or
+   *         empty elements)
+   * @throws PlatformException
+   *           if any given string does not match the expected format or the referenced class is not found.
+   */
+  public List<IId> fromQualifiedList(Collection<String> qualifiedIds, IIdCodecFlag... flags) {
+    return fromQualifiedList(qualifiedIds, toFlagSet(flags));
+  }
+
+  /**
+   * @see #fromQualifiedList(Collection, IIdCodecFlag...)
+   */
+  public List<IId> fromQualifiedList(Collection<String> qualifiedIds, Set<IIdCodecFlag> flags) {
+    if (qualifiedIds == null) {
+      return new ArrayList<>();
+    }
+    List<IId> ids = new ArrayList<>(qualifiedIds.size());
+    IdClassCache idClassCache = new IdClassCache();
+    for (String qualifiedId : qualifiedIds) {
+      ids.add(fromQualifiedInternal(qualifiedId, flags, idClassCache));
+    }
+    return ids;
+  }
+
   /**
    * Parses a string in the format {@code [raw-id;raw-id;...]}.
    *
@@ -243,7 +278,7 @@ public class IdCodec {
    *           if the given string does not match the expected format
    */
   public <ID extends IId> ID fromUnqualified(Class<ID> idClass, String unqualifiedId, IIdCodecFlag... flags) {
-    return fromUnqualified(idClass, unqualifiedId, hashSet(flags));
+    return fromUnqualified(idClass, unqualifiedId, toFlagSet(flags));
   }
 
   /**
@@ -259,6 +294,35 @@ public class IdCodec {
     return fromUnqualifiedUnchecked(idClass, unqualifiedId, flags);
   }
 
+  /**
+   * Parses a collection of strings in the format {@code [raw-id;raw-id;...]}, all of the same given {@code idClass}.
+   *
+   * @return list of {@code IId}s parsed from {@code unqualifiedIds} (same order and size, {@code null} for {@code null}
+   *         or empty elements)
+   * @throws PlatformException
+   *           if any given string does not match the expected format
+   */
+  public <ID extends IId> List<ID> fromUnqualifiedList(Class<ID> idClass, Collection<String> unqualifiedIds, IIdCodecFlag... flags) {
+    return fromUnqualifiedList(idClass, unqualifiedIds, toFlagSet(flags));
+  }
+
+  /**
+   * @see #fromUnqualifiedList(Class, Collection, IIdCodecFlag...)
+   */
+  public <ID extends IId> List<ID> fromUnqualifiedList(Class<ID> idClass, Collection<String> unqualifiedIds, Set<IIdCodecFlag> flags) {
+    if (idClass == null) {
+      throw new IdCodecException("Missing id class to parse unqualified ids");
+    }
+    if (unqualifiedIds == null) {
+      return new ArrayList<>();
+    }
+    List<ID> ids = new ArrayList<>(unqualifiedIds.size());
+    for (String unqualifiedId : unqualifiedIds) {
+      ids.add(isNullOrEmpty(unqualifiedId) ? null : fromUnqualifiedUnchecked(idClass, unqualifiedId, flags));
+    }
+    return ids;
+  }
+
   /**
    * Register type mapping between a string representation and the corresponding raw type.
    * <p>
@@ -274,6 +338,7 @@ public class IdCodec {
     //noinspection unchecked
     m_rawTypeToStringMapper.put(rawType, (Function<Object, String>) toStringMapper);
     m_rawTypeFromStringMapper.put(rawType, fromStringMapper);
+    m_componentFromStringMappersByIdType.clear();
   }
 
   /**
@@ -286,10 +351,21 @@ public class IdCodec {
   public void unregisterRawTypeMapper(Class<?> rawType) {
     m_rawTypeToStringMapper.remove(rawType);
     m_rawTypeFromStringMapper.remove(rawType);
+    m_componentFromStringMappersByIdType.clear();
   }
 
   // ---------------- helper methods ----------------
 
+  /**
+   * @return set of given flags, an immutable empty set if no flags are given
+   */
+  protected Set<IIdCodecFlag> toFlagSet(IIdCodecFlag... flags) {
+    if (flags == null || flags.length == 0) {
+      return Collections.emptySet();
+    }
+    return hashSet(flags);
+  }
+
   /**
    * Callback method to implement if the codec should be extended to handle qualification of unknown {@link IId} types.
    */
@@ -306,12 +382,21 @@ public class IdCodec {
    * @return {@code IId} parsed from {@code qualifiedId}
    */
   protected IId fromQualifiedInternal(String qualifiedId, Set<IIdCodecFlag> flags) {
+    return fromQualifiedInternal(qualifiedId, flags, null);
+  }
+
+  /**
+   * @param idClassCache
+   *          optional cache of the last resolved id class, used when parsing multiple qualified ids at once
+   * @see #fromQualifiedInternal(String, Set)
+   */
+  protected IId fromQualifiedInternal(String qualifiedId, Set<IIdCodecFlag> flags, IdClassCache idClassCache) {
     if (isNullOrEmpty(qualifiedId)) {
       return null;
     }
     boolean lenient = isOneOf(IdCodecFlag.LENIENT, flags);
-    String[] tmp = qualifiedId.split(ID_TYPENAME_DELIMITER, 2); // split into at most two parts
-    if (tmp.length < 2) { // no ":" found
+    int delimiterIndex = qualifiedId.indexOf(ID_TYPENAME_DELIMITER); // split into at most two parts
+    if (delimiterIndex < 0) { // no ":" found
       if (lenient) {
         //noinspection deprecation
         return UnknownId.of(null, qualifiedId);
@@ -320,12 +405,24 @@ public class IdCodec {
         throw new IdCodecException("Qualified id '{}' format is invalid", qualifiedId);
       }
     }
-    String typeName = tmp[0];
-    Class<? extends IId> idClass = idInventory().getIdClass(typeName);
+    String rawId = qualifiedId.substring(delimiterIndex + ID_TYPENAME_DELIMITER.length());
+    String typeName;
+    Class<? extends IId> idClass;
+    if (idClassCache != null && idClassCache.matches(qualifiedId, delimiterIndex)) {
+      typeName = idClassCache.getTypeName();
+      idClass = idClassCache.getIdClass();
+    }
+    else {
+      typeName = qualifiedId.substring(0, delimiterIndex);
+      idClass = idInventory().getIdClass(typeName);
+      if (idClassCache != null) {
+        idClassCache.put(typeName, idClass);
+      }
+    }
     if (idClass == null) {
       if (lenient) {
         //noinspection deprecation
-        return UnknownId.of(typeName, tmp[1]);
+        return UnknownId.of(typeName, rawId);
       }
       else {
         throw new IdCodecException("No class found for type name '{}'", typeName);
@@ -333,13 +430,13 @@ public class IdCodec {
     }
 
     try {
-      return fromUnqualified(idClass, tmp[1], flags);
+      return fromUnqualified(idClass, rawId, flags);
     }
     catch (Exception e) {
       // handle any deserialization issues in lenient mode by retaining the raw id as UnknownId instance
       if (lenient) {
         //noinspection deprecation
-        return UnknownId.of(typeName, tmp[1]);
+        return UnknownId.of(typeName, rawId);
       }
       throw e;
     }
@@ -355,7 +452,9 @@ public class IdCodec {
    */
   protected <ID extends IId> ID fromUnqualifiedUnchecked(Class<ID> idClass, String unqualifiedId, Set<IIdCodecFlag> flags) {
     unqualifiedId = removeSignature(idClass, unqualifiedId, flags);
-    String[] rawComponents = unqualifiedId.split(";", -1 /* force empty strings for empty components */);
+    String[] rawComponents = unqualifiedId.indexOf(';') < 0
+        ? new String[]{unqualifiedId} // root id, no split required
+        : unqualifiedId.split(";", -1 /* force empty strings for empty components */);
     Object[] components = parseComponents(idClass, rawComponents, flags);
     return idFactory().createInternal(idClass, components);
   }
@@ -406,6 +505,9 @@ public class IdCodec {
    * Split the given unqualifiedId into id and signature using the {@link #SIGNATURE_DELIMITER}.
    */
   protected String[] splitToSignatureParts(String unqualifiedId) {
+    if (!unqualifiedId.contains(SIGNATURE_DELIMITER)) {
+      return new String[]{unqualifiedId}; // unsigned id, avoid compiling the delimiter pattern
+    }
     return unqualifiedId.split(SIGNATURE_DELIMITER);
   }
 
@@ -413,18 +515,14 @@ public class IdCodec {
    * Parses given {@code rawComponents} based on the declared component types of given {@code idClass}.
    */
   protected Object[] parseComponents(Class<? extends IId> idClass, String[] rawComponents, Set<IIdCodecFlag> flags) {
-    List<Class<?>> componentTypes = idFactory().getRawTypes(idClass);
-    if (!(componentTypes.size() == rawComponents.length)) {
-      throw new IdCodecException("Wrong argument size, expected {} parameter, got {} raw components {}, idType={}", componentTypes.size(), rawComponents.length, Arrays.toString(rawComponents), idClass.getName());
+    List<Function<String, Object>> mappers = getComponentFromStringMappers(idClass);
+    if (!(mappers.size() == rawComponents.length)) {
+      throw new IdCodecException("Wrong argument size, expected {} parameter, got {} raw components {}, idType={}", mappers.size(), rawComponents.length, Arrays.toString(rawComponents), idClass.getName());
     }
 
     Object[] components = new Object[rawComponents.length];
     for (int i = 0; i < rawComponents.length; i++) {
-      Class<?> type = componentTypes.get(i);
-      Function<String, ?> mapper = m_rawTypeFromStringMapper.get(type);
-      if (mapper == null) {
-        throw new IdCodecException("Missing raw type mapper for wrapped type {}, id type {}", type, idClass);
-      }
+      Function<String, Object> mapper = mappers.get(i);
       try {
         String raw = rawComponents[i];
         if (isNullOrEmpty(raw)) {
@@ -435,12 +533,72 @@ public class IdCodec {
         }
       }
       catch (Exception e) {
-        throw new IdCodecException("Failed to parse component value={}, rawType={}, idType={}", rawComponents[i], type.getName(), idClass.getName(), e);
+        throw new IdCodecException("Failed to parse component value={}, rawType={}, idType={}", rawComponents[i], idFactory().getRawTypes(idClass).get(i).getName(), idClass.getName(), e);
       }
     }
     return components;
   }
 
+  /**
+   * @return raw type mappers of all components of the given {@code idClass} (resolved once per id class)
+   * @throws IdCodecException
+   *           if no raw type mapper is registered for a component type
+   */
+  protected List<Function<String, Object>> getComponentFromStringMappers(Class<? extends IId> idClass) {
+    List<Function<String, Object>> mappers = m_componentFromStringMappersByIdType.get(idClass);
+    if (mappers == null) {
+      mappers = resolveComponentFromStringMappers(idClass);
+      m_componentFromStringMappersByIdType.put(idClass, mappers);
+    }
+    return mappers;
+  }
+
+  protected List<Function<String, Object>> resolveComponentFromStringMappers(Class<? extends IId> idClass) {
+    List<Class<?>> componentTypes = idFactory().getRawTypes(idClass);
+    List<Function<String, Object>> mappers = new ArrayList<>(componentTypes.size());
+    for (Class<?> type : componentTypes) {
+      Function<String, Object> mapper = m_rawTypeFromStringMapper.get(type);
+      if (mapper == null) {
+        throw new IdCodecException("Missing raw type mapper for wrapped type {}, id type {}", type, idClass);
+      }
+      mappers.add(mapper);
+    }
+    return Collections.unmodifiableList(mappers);
+  }
+
+  /**
+   * Single-entry cache of the last resolved id class, used when parsing multiple qualified ids in a row (typically all
+   * of the same type).
+   */
+  protected static class IdClassCache {
+
+    private String m_typeName;
+    private Class<? extends IId> m_idClass;
+
+    /**
+     * @return {@code true} if the type name part (up to {@code delimiterIndex}) of the given {@code qualifiedId} is
+     *         equal to the cached type name
+     */
+    public boolean matches(String qualifiedId, int delimiterIndex) {
+      return m_typeName != null
+          && m_typeName.length() == delimiterIndex
+          && qualifiedId.startsWith(m_typeName);
+    }
+
+    public void put(String typeName, Class<? extends IId> idClass) {
+      m_typeName = typeName;
+      m_idClass = idClass;
+    }
+
+    public String getTypeName() {
+      return m_typeName;
+    }
+
+    public Class<? extends IId> getIdClass() {
+      return m_idClass;
+    }
+  }
+
   public static class IdSignaturePasswordProperty extends AbstractStringConfigProperty {
 
     @Override
@@ -18,7 +18,9 @@ import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
@@ -27,6 +29,7 @@ import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.dataobject.DataObjectHelper;
 import org.eclipse.scout.rt.dataobject.DoEntity;
@@ -129,6 +132,37 @@ public class JacksonDataObjectMapperTest {
     assertArrayEquals(expected.toByteArray(), actual.toByteArray());
   }
 
+  @Test
+  public void testReadWriteValuesWithStreams() {
+    List<IDoEntity> entities = IntStream.range(0, 1000)
+        .mapToObj(i -> BEANS.get(DoEntityBuilder.class).put("id", "id-" + i).put("name", "entity-" + i).build())
+        .collect(Collectors.toList());
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    m_mapper.writeValues(bos, entities.iterator());
+    assertArrayEquals(m_mapper.writeValue(entities).getBytes(StandardCharsets.UTF_8), bos.toByteArray());
+
+    try (Stream<DoEntity> stream = m_mapper.readValues(new ByteArrayInputStream(bos.toByteArray()), DoEntity.class)) {
+      assertEquals(entities, stream.collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  public void testReadWriteValuesEmpty() {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    m_mapper.writeValues(bos, Stream.empty());
+    assertEquals("[]", bos.toString(StandardCharsets.UTF_8));
+
+    try (Stream<DoEntity> stream = m_mapper.readValues(new ByteArrayInputStream(bos.toByteArray()), DoEntity.class)) {
+      assertEquals(0, stream.count());
+    }
+  }
+
+  @Test(expected = AssertionException.class)
+  public void testWriteValuesWithNullOutputStream() {
+    m_mapper.writeValues(null, Collections.emptyIterator());
+  }
+
   @Test(expected = PlatformException.class)
   public void testWriteValueException() {
     m_mapper.writeValue(new Object());
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import static org.eclipse.scout.rt.testing.platform.util.ScoutAssert.assertEqualsWithComparisonFailure;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.IBinaryDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestComplexEntityDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemDo;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link JacksonSmileDataObjectMapper}.
+ */
+public class JacksonSmileDataObjectMapperTest {
+
+  protected JacksonSmileDataObjectMapper m_mapper;
+
+  @Before
+  public void before() {
+    m_mapper = BEANS.get(JacksonSmileDataObjectMapper.class);
+  }
+
+  @Test
+  public void testBean() {
+    assertSame(m_mapper, BEANS.get(IBinaryDataObjectMapper.class));
+    assertEquals(JacksonDataObjectMapper.class, BEANS.get(JacksonDataObjectMapper.class).getClass());
+  }
+
+  @Test
+  public void testReadWriteValueAsBytes() {
+    assertNull(m_mapper.writeValueAsBytes(null));
+    assertNull(m_mapper.readValue((byte[]) null, Object.class));
+
+    TestComplexEntityDo testDo = createTestDo();
+    byte[] bytes = m_mapper.writeValueAsBytes(testDo);
+    assertEqualsWithComparisonFailure(testDo, m_mapper.readValue(bytes, TestComplexEntityDo.class));
+    assertEqualsWithComparisonFailure(testDo, m_mapper.readValue(bytes, IDataObject.class));
+
+    // binary representation is smaller than JSON representation
+    String json = BEANS.get(JacksonDataObjectMapper.class).writeValue(testDo);
+    assertTrue(bytes.length < json.getBytes(StandardCharsets.UTF_8).length);
+  }
+
+  @Test
+  public void testReadWriteValueAsString() {
+    assertNull(m_mapper.writeValue(null));
+    assertNull(m_mapper.readValue((String) null, Object.class));
+
+    TestComplexEntityDo testDo = createTestDo();
+    String base64 = m_mapper.writeValue(testDo);
+    assertEqualsWithComparisonFailure(testDo, m_mapper.readValue(base64, TestComplexEntityDo.class));
+  }
+
+  @Test
+  public void testReadValueRaw() {
+    TestComplexEntityDo testDo = createTestDo();
+    IDataObject raw = m_mapper.readValueRaw(m_mapper.writeValue(testDo));
+    assertEquals(DoEntity.class, raw.getClass());
+    assertEquals("foo", ((DoEntity) raw).get("stringAttribute"));
+  }
+
+  @Test
+  public void testReadWriteValues() {
+    List<TestItemDo> items = IntStream.range(0, 100)
+        .mapToObj(i -> BEANS.get(TestItemDo.class).withId("id-" + i).withStringAttribute("item-" + i))
+        .collect(Collectors.toList());
+
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    m_mapper.writeValues(bos, items.iterator());
+    try (Stream<TestItemDo> stream = m_mapper.readValues(new ByteArrayInputStream(bos.toByteArray()), TestItemDo.class)) {
+      assertEquals(items, stream.collect(Collectors.toList()));
+    }
+  }
+
+  protected TestComplexEntityDo createTestDo() {
+    TestComplexEntityDo testDo = BEANS.get(TestComplexEntityDo.class);
+    testDo.id().set("4d2abc01-afc0-49f2-9eee-a99878d49728");
+    testDo.stringAttribute().set("foo");
+    testDo.integerAttribute().set(42);
+    testDo.longAttribute().set(123L);
+    testDo.doubleAttribute().set(56.78);
+    testDo.bigDecimalAttribute().set(new BigDecimal("1.23456789"));
+    testDo.dateAttribute().set(new Date(123456789));
+    testDo.withUuidAttribute(UUID.fromString("298d64f9-821d-49fe-91fb-6fb9860d4950"));
+    testDo.withLocaleAttribute(Locale.forLanguageTag("de-CH"));
+    return testDo;
+  }
+}
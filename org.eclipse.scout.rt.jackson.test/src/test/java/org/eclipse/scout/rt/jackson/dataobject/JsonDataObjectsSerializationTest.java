@@ -1284,6 +1284,26 @@ public class JsonDataObjectsSerializationTest {
     assertJsonEquals("TestMyCustomTypeEmptyDo.json", json); // is written with type information
   }
 
+  @Test
+  public void testSerialize_DeclaredAttributesOrder() {
+    TestItemDo testDo = BEANS.get(TestItemDo.class)
+        .withStringAttribute("foo")
+        .withId("1");
+    String json = BEANS.get(JacksonDataObjectMapper.class).writeValue(testDo);
+    assertEquals("{\"_type\":\"TestItem\",\"id\":\"1\",\"stringAttribute\":\"foo\"}", json);
+  }
+
+  @Test
+  public void testSerialize_DeclaredAndDynamicAttributesOrder() {
+    TestItemDo testDo = BEANS.get(TestItemDo.class)
+        .withStringAttribute("foo")
+        .withId("1");
+    testDo.put("zDynamic", "z");
+    testDo.put("aDynamic", "a");
+    String json = BEANS.get(JacksonDataObjectMapper.class).writeValue(testDo);
+    assertEquals("{\"_type\":\"TestItem\",\"aDynamic\":\"a\",\"id\":\"1\",\"stringAttribute\":\"foo\",\"zDynamic\":\"z\"}", json);
+  }
+
   // ------------------------------------ DoEntity with list test cases ------------------------------------
 
   @Test
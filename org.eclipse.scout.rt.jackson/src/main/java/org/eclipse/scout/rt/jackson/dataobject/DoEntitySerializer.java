@@ -12,12 +12,15 @@ package org.eclipse.scout.rt.jackson.dataobject;
 import static org.eclipse.scout.rt.platform.util.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.scout.rt.dataobject.DataObjectInventory;
 import org.eclipse.scout.rt.dataobject.DoEntity;
@@ -50,6 +53,11 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
 
   protected final ScoutDataObjectModuleContext m_context;
 
+  /**
+   * Sorted attribute names declared by an entity class (cache, computed on first serialization of an entity class).
+   */
+  protected final Map<Class<? extends IDoEntity>, List<String>> m_sortedDeclaredAttributeNames = new ConcurrentHashMap<>();
+
   public DoEntitySerializer(ScoutDataObjectModuleContext context, JavaType type) {
     super(type);
     m_context = context;
@@ -74,15 +82,60 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
    */
   protected void serializeAttributes(IDoEntity entity, JsonGenerator gen, SerializerProvider provider) throws IOException {
     serializeTypeVersion(gen, entity);
-    TreeMap<String, DoNode<?>> sortedMap = new TreeMap<>(m_context.getComparator());
-    sortedMap.putAll(entity.allNodes());
-    for (Map.Entry<String, DoNode<?>> e : sortedMap.entrySet()) {
-      gen.setCurrentValue(entity);
-      serializeAttribute(e.getKey(), e.getValue(), gen, provider);
+    Map<String, DoNode<?>> nodes = entity.allNodes();
+    List<String> sortedDeclaredAttributeNames = getSortedDeclaredAttributeNames(entity.getClass());
+    if (containsDeclaredAttributesOnly(nodes, sortedDeclaredAttributeNames)) {
+      // fast path: iterate over precomputed attribute order, no sorting required
+      for (String attributeName : sortedDeclaredAttributeNames) {
+        DoNode<?> node = nodes.get(attributeName);
+        if (node != null) {
+          gen.setCurrentValue(entity);
+          serializeAttribute(attributeName, node, gen, provider);
+        }
+      }
+    }
+    else {
+      // entity contains dynamic attributes (e.g. raw entity or attributes not declared by an accessor method)
+      TreeMap<String, DoNode<?>> sortedMap = new TreeMap<>(m_context.getComparator());
+      sortedMap.putAll(nodes);
+      for (Map.Entry<String, DoNode<?>> e : sortedMap.entrySet()) {
+        gen.setCurrentValue(entity);
+        serializeAttribute(e.getKey(), e.getValue(), gen, provider);
+      }
     }
     serializeContributions(gen, entity, provider);
   }
 
+  /**
+   * @return {@code true} if all attributes of {@code nodes} are part of {@code sortedDeclaredAttributeNames}
+   */
+  protected boolean containsDeclaredAttributesOnly(Map<String, DoNode<?>> nodes, List<String> sortedDeclaredAttributeNames) {
+    if (nodes.size() > sortedDeclaredAttributeNames.size()) {
+      return false;
+    }
+    int declaredNodeCount = 0;
+    for (String attributeName : sortedDeclaredAttributeNames) {
+      if (nodes.containsKey(attributeName)) {
+        declaredNodeCount++;
+      }
+    }
+    return declaredNodeCount == nodes.size();
+  }
+
+  /**
+   * @return Attribute names declared by {@code entityClass} (see {@link DataObjectInventory#getAttributesDescription}),
+   *         sorted using the comparator of {@link ScoutDataObjectModuleContext#getComparator()}.
+   */
+  protected List<String> getSortedDeclaredAttributeNames(Class<? extends IDoEntity> entityClass) {
+    return m_sortedDeclaredAttributeNames.computeIfAbsent(entityClass, this::createSortedDeclaredAttributeNames);
+  }
+
+  protected List<String> createSortedDeclaredAttributeNames(Class<? extends IDoEntity> entityClass) {
+    List<String> attributeNames = new ArrayList<>(m_dataObjectInventory.get().getAttributesDescription(entityClass).keySet());
+    attributeNames.sort(m_context.getComparator());
+    return attributeNames;
+  }
+
   protected void serializeTypeVersion(JsonGenerator gen, IDoEntity entity) throws IOException {
     NamespaceVersion typeVersion = m_dataObjectInventory.get().getTypeVersion(entity.getClass());
     if (typeVersion != null) {
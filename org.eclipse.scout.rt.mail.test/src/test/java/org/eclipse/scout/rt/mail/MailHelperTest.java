@@ -14,13 +14,16 @@ import static org.junit.Assert.*;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -39,6 +42,7 @@ import jakarta.mail.internet.MimeMultipart;
 import jakarta.mail.internet.MimeUtility;
 import jakarta.mail.util.ByteArrayDataSource;
 
+import org.eclipse.scout.rt.mail.MailHelper.FileMimeMessage;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
@@ -739,6 +743,40 @@ public class MailHelperTest {
     assertEquals(message.getContent(), message2.getContent());
   }
 
+  @Test
+  public void testWriteAndCreateMessageFromFile() throws Exception {
+    MailHelper helper = BEANS.get(MailHelper.class);
+    final String plainText = "plain text";
+    final String html = "<html><body><p>plain text</p></html>";
+    MimeMessage message = helper.createMimeMessage(new MailMessage().withBodyPlainText(plainText).withBodyHtml(html));
+
+    final byte[] sampleData = new byte[]{0x0, 0xA, 0xB, 0xC, 0xD, 0xE, 0xF};
+    File attachment = IOUtility.createTempFile("sample1.dat", sampleData);
+    File messageFile = IOUtility.createTempFile("message.eml", null);
+    try {
+      DataSource ds = helper.createFileDataSource(attachment);
+      assertEquals("sample1.dat", ds.getName());
+      helper.addDataSourcesAsAttachments(message, Arrays.asList(ds));
+      verifyMimeMessage(message, plainText, html, "sample1.dat");
+
+      try (OutputStream out = new FileOutputStream(messageFile)) {
+        helper.writeMessage(message, out);
+      }
+      try (FileMimeMessage message2 = helper.createMessageFromFile(messageFile, null)) {
+        verifyMimeMessage(message2, plainText, html, "sample1.dat");
+
+        Part attachmentPart = helper.getAttachmentParts(message2).get(0);
+        try (InputStream in = attachmentPart.getInputStream()) {
+          assertArrayEquals(sampleData, IOUtility.readBytes(in));
+        }
+      }
+    }
+    finally {
+      IOUtility.deleteFile(attachment);
+      IOUtility.deleteFile(messageFile);
+    }
+  }
+
   protected void verifyAddPrefixToSubject(String messageSubject, String subjectPrefix, String expectedSubject) throws MessagingException {
     MailMessage mailMessage = BEANS.get(MailMessage.class)
         .withSubject(messageSubject)
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mail.smtp;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import jakarta.mail.internet.MimeMessage;
+
+import org.eclipse.scout.rt.mail.MailHelper;
+import org.eclipse.scout.rt.mail.MailMessage;
+import org.eclipse.scout.rt.mail.MailParticipant;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.testing.platform.mock.RegisterBeanTestRule;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class SmtpMailQueueTest {
+
+  protected SmtpHelper m_mockSmtpHelper;
+  protected SmtpMailQueue m_queue;
+  protected Path m_spoolDirectory;
+
+  @Rule
+  public final RegisterBeanTestRule<SmtpHelper> m_smtpHelperBeanTestRule = new RegisterBeanTestRule<SmtpHelper>(SmtpHelper.class, () -> m_mockSmtpHelper = mock(SmtpHelper.class));
+
+  @Before
+  public void before() throws IOException {
+    m_spoolDirectory = Files.createTempDirectory("smtp-mail-queue");
+    m_queue = new SmtpMailQueue() {
+      @Override
+      protected long getRetryDelay(int attempts) {
+        return 0; // retry immediately during tests
+      }
+    };
+    m_queue.init();
+    m_queue.m_maxAttempts = 3;
+  }
+
+  @After
+  public void after() {
+    m_queue.destroy();
+    IOUtility.deleteDirectory(m_spoolDirectory.toFile());
+  }
+
+  @Test(timeout = 15000)
+  public void testDeliver() throws Exception {
+    SmtpServerConfig config = BEANS.get(SmtpServerConfig.class);
+    List<SmtpMailQueueEntry> entries = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      entries.add(m_queue.enqueue(config, createMessage()));
+    }
+    for (SmtpMailQueueEntry entry : entries) {
+      await(entry);
+      assertEquals(1, entry.getAttempts());
+    }
+
+    verify(m_mockSmtpHelper, times(10)).sendMessage(any(SmtpServerConfig.class), any(MimeMessage.class));
+    assertEquals(10, m_queue.getEnqueuedCount());
+    assertEquals(10, m_queue.getDeliveredCount());
+    assertEquals(0, m_queue.getPendingCount());
+    assertEquals(0, m_queue.getFailedCount());
+  }
+
+  @Test(timeout = 15000)
+  public void testRetry() throws Exception {
+    doThrow(new ProcessingException("connection refused"))
+        .doNothing()
+        .when(m_mockSmtpHelper).sendMessage(any(SmtpServerConfig.class), any(MimeMessage.class));
+
+    SmtpMailQueueEntry entry = m_queue.enqueue(BEANS.get(SmtpServerConfig.class), createMessage());
+    await(entry);
+
+    assertEquals(2, entry.getAttempts());
+    assertNotNull(entry.getLastError());
+    assertEquals(1, m_queue.getRetryCount());
+    assertEquals(1, m_queue.getDeliveredCount());
+  }
+
+  @Test(timeout = 15000)
+  public void testFailPermanently() throws Exception {
+    m_queue.m_spoolDirectory = m_spoolDirectory;
+    doThrow(new ProcessingException("connection refused"))
+        .when(m_mockSmtpHelper).sendMessage(any(SmtpServerConfig.class), any(MimeMessage.class));
+
+    SmtpMailQueueEntry entry = m_queue.enqueue(BEANS.get(SmtpServerConfig.class), createMessage());
+    assertThrows(ExecutionException.class, () -> await(entry));
+
+    assertEquals(3, entry.getAttempts());
+    assertEquals(2, m_queue.getRetryCount());
+    assertEquals(1, m_queue.getFailedCount());
+    assertEquals(0, m_queue.getPendingCount());
+    assertFalse(Files.exists(entry.getSpoolFile()));
+    assertTrue(Files.exists(m_spoolDirectory.resolve(entry.getId() + SmtpMailQueue.FAILED_FILE_EXTENSION)));
+  }
+
+  @Test(timeout = 15000)
+  public void testSpool() throws Exception {
+    m_queue.m_spoolDirectory = m_spoolDirectory;
+
+    SmtpMailQueueEntry entry = m_queue.enqueue(BEANS.get(SmtpServerConfig.class), createMessage());
+    assertNotNull(entry.getSpoolFile());
+    await(entry);
+    assertFalse(Files.exists(entry.getSpoolFile()));
+
+    // messages left over by a previous run
+    Path file = m_spoolDirectory.resolve("left-over" + SmtpMailQueue.SPOOL_FILE_EXTENSION);
+    Files.write(file, BEANS.get(MailHelper.class).getMessageAsBytes(createMessage()));
+
+    List<SmtpMailQueueEntry> recovered = m_queue.recoverSpool(BEANS.get(SmtpServerConfig.class));
+    assertEquals(1, recovered.size());
+    assertEquals("left-over", recovered.get(0).getId());
+    await(recovered.get(0));
+    assertFalse(Files.exists(file));
+    assertEquals(2, m_queue.getDeliveredCount());
+  }
+
+  @Test(timeout = 15000)
+  public void testRecoverSpoolSkipsQueuedMessages() throws Exception {
+    m_queue.m_spoolDirectory = m_spoolDirectory;
+    CountDownLatch sendLatch = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      sendLatch.await();
+      return null;
+    }).when(m_mockSmtpHelper).sendMessage(any(SmtpServerConfig.class), any(MimeMessage.class));
+
+    SmtpMailQueueEntry entry = m_queue.enqueue(BEANS.get(SmtpServerConfig.class), createMessage());
+    assertTrue(Files.exists(entry.getSpoolFile()));
+    assertTrue(m_queue.recoverSpool(BEANS.get(SmtpServerConfig.class)).isEmpty());
+
+    sendLatch.countDown();
+    await(entry);
+    verify(m_mockSmtpHelper, times(1)).sendMessage(any(SmtpServerConfig.class), any(MimeMessage.class));
+    assertEquals(1, m_queue.getEnqueuedCount());
+  }
+
+  protected void await(SmtpMailQueueEntry entry) throws InterruptedException, ExecutionException, TimeoutException {
+    entry.getCompletion().get(10, TimeUnit.SECONDS);
+  }
+
+  protected MimeMessage createMessage() {
+    MailMessage mailMessage = BEANS.get(MailMessage.class)
+        .withSubject("lorem")
+        .withBodyPlainText("ipsum")
+        .withSender(BEANS.get(MailParticipant.class).withEmail("sender@example.org"))
+        .addToRecipient(BEANS.get(MailParticipant.class).withEmail("dolor@example.org"));
+    return BEANS.get(MailHelper.class).createMimeMessage(mailMessage);
+  }
+}
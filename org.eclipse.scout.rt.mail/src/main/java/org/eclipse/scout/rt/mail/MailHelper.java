@@ -10,13 +10,14 @@
 package org.eclipse.scout.rt.mail;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
@@ -26,7 +27,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import jakarta.activation.DataHandler;
 import jakarta.activation.DataSource;
@@ -49,6 +52,8 @@ import jakarta.mail.internet.MimePart;
 import jakarta.mail.internet.MimeUtility;
 import jakarta.mail.internet.ParseException;
 import jakarta.mail.util.ByteArrayDataSource;
+import jakarta.mail.util.SharedByteArrayInputStream;
+import jakarta.mail.util.SharedFileInputStream;
 
 import org.eclipse.scout.rt.charsetdetect.CharsetDetector;
 import org.eclipse.scout.rt.platform.ApplicationScoped;
@@ -147,13 +152,15 @@ public class MailHelper {
       }
       else {
         Object content = null;
-        try { // NOSONAR
-          // getContent might throw a MessagingException for legitimate parts (e.g. some images end up in a javax.imageio.IIOException for example).
-          content = getPartContent(part);
-        }
-        catch (MessagingException | IOException e) {
-          Exception exceptionForLog = LOG.isDebugEnabled() ? e : null;
-          LOG.info("Unable to get mime part content due to {}: {}", e.getClass().getSimpleName(), e.getMessage(), exceptionForLog);
+        if (isContentRequiredToCollect(part)) {
+          try { // NOSONAR
+            // getContent might throw a MessagingException for legitimate parts (e.g. some images end up in a javax.imageio.IIOException for example).
+            content = getPartContent(part);
+          }
+          catch (MessagingException | IOException e) {
+            Exception exceptionForLog = LOG.isDebugEnabled() ? e : null;
+            LOG.info("Unable to get mime part content due to {}: {}", e.getClass().getSimpleName(), e.getMessage(), exceptionForLog);
+          }
         }
 
         if (content instanceof Multipart) {
@@ -213,6 +220,33 @@ public class MailHelper {
     }
   }
 
+  /**
+   * Only multiparts and attached messages need to be decoded to collect the mail parts. The content of all other parts
+   * (e.g. large attachments) is not decoded until it is actually read.
+   * <p>
+   * The content type header of a part built in memory may be missing or outdated until {@link MimeMessage#saveChanges()}
+   * is called, therefore the content is decoded as well if there is no such header or if the content type of the data
+   * handler (which is the one of the content object set) denotes a multipart or message.
+   */
+  protected boolean isContentRequiredToCollect(Part part) throws MessagingException {
+    if (part.getHeader(CONTENT_TYPE_ID) == null) {
+      return true;
+    }
+    if (isMultipartOrMessage(part.getContentType())) {
+      return true;
+    }
+    DataHandler dataHandler = part.getDataHandler();
+    return dataHandler != null && isMultipartOrMessage(dataHandler.getContentType());
+  }
+
+  protected boolean isMultipartOrMessage(String contentType) {
+    if (contentType == null) {
+      return false;
+    }
+    String baseType = contentType.trim().toLowerCase(Locale.ROOT);
+    return baseType.startsWith(CONTENT_TYPE_MULTIPART_PREFIX) || baseType.startsWith(CONTENT_TYPE_MESSAGE_RFC822);
+  }
+
   protected String getDispositionSafely(Part part) {
     try {
       return part.getDisposition();
@@ -415,6 +449,22 @@ public class MailHelper {
     }
   }
 
+  /**
+   * Creates a data source which reads the content from the file whenever it is needed instead of holding it in memory.
+   * The file must therefore exist as long as the data source is used (e.g. until the message has been sent).
+   */
+  public DataSource createFileDataSource(File file) {
+    Assertions.assertNotNull(file, "File must be set");
+    String contentType = getContentTypeForExtension(FileUtility.getFileExtension(file.getName()));
+    String mimeType = contentType == null ? "application/octet-stream" : contentType;
+    return new FileDataSource(file) {
+      @Override
+      public String getContentType() {
+        return mimeType;
+      }
+    };
+  }
+
   /**
    * @param fileName
    *          e.g. "file.txt"
@@ -616,11 +666,12 @@ public class MailHelper {
   }
 
   /**
-   * @return {@link MimeMessage} created out of given {@code byte[]}
+   * @return {@link MimeMessage} created out of given {@code byte[]}. The content of the message and its parts is not
+   *         copied but references the given array.
    */
   public MimeMessage createMessageFromBytes(byte[] bytes, Session session) {
     try {
-      ByteArrayInputStream st = new ByteArrayInputStream(bytes);
+      SharedByteArrayInputStream st = new SharedByteArrayInputStream(bytes);
       return new MimeMessage(session, st);
     }
     catch (Exception e) {
@@ -628,14 +679,65 @@ public class MailHelper {
     }
   }
 
+  /**
+   * @return {@link MimeMessage} read from the given stream. The stream is not closed.
+   * @see #createMessageFromFile(File, Session) to read large messages without loading their content into memory
+   */
+  public MimeMessage createMessageFromStream(InputStream in, Session session) {
+    try {
+      return new MimeMessage(session, in);
+    }
+    catch (MessagingException e) {
+      throw new ProcessingException("Unexpected: ", e);
+    }
+  }
+
+  /**
+   * Creates a {@link MimeMessage} out of a file formatted according to RFC 822.
+   * <p>
+   * Only the headers are parsed. The content of the message and its parts is read from the file whenever it is
+   * accessed, so the memory used does not depend on the size of the message (or its attachments). Hence the file must
+   * not be modified or deleted as long as the message is used.
+   * <p>
+   * The returned message keeps the file open. The caller owns it and must {@link FileMimeMessage#close() close} it
+   * once the message is no longer used, e.g. using a try-with-resources statement.
+   */
+  public FileMimeMessage createMessageFromFile(File file, Session session) {
+    SharedFileInputStream in = null;
+    try {
+      in = new SharedFileInputStream(file);
+      return new FileMimeMessage(session, in);
+    }
+    catch (MessagingException | IOException e) {
+      if (in != null) {
+        try {
+          in.close();
+        }
+        catch (IOException closeException) {
+          e.addSuppressed(closeException);
+        }
+      }
+      throw new ProcessingException("Unable to read message from file {}", file, e);
+    }
+  }
+
   /**
    * @return The given {@link MimeMessage} as byte[] formatted according to RFC 822.
+   * @see #writeMessage(MimeMessage, OutputStream) to write large messages without holding them in memory
    */
   public byte[] getMessageAsBytes(MimeMessage mimeMessage) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writeMessage(mimeMessage, out);
+    return out.toByteArray();
+  }
+
+  /**
+   * Writes the given {@link MimeMessage} formatted according to RFC 822 to the stream. The content of the parts (e.g.
+   * attachments) is streamed from their data sources. The stream is not closed.
+   */
+  public void writeMessage(MimeMessage mimeMessage, OutputStream out) {
     try {
-      ByteArrayOutputStream out = new ByteArrayOutputStream();
       mimeMessage.writeTo(out);
-      return out.toByteArray();
     }
     catch (MessagingException | IOException e) {
       throw new ProcessingException("Unexpected: ", e);
@@ -657,22 +759,9 @@ public class MailHelper {
     if (CollectionUtility.isEmpty(attachments)) {
       return;
     }
-
-    try {
-      Multipart multiPart = prepareMessageForAttachments(msg);
-      String charset = getPartCharsetSafely(msg).name();
-
-      for (File attachment : attachments) {
-        MimeBodyPart bodyPart = new MimeBodyPart();
-        bodyPart.setDataHandler(new DataHandler(new FileDataSource(attachment)));
-        bodyPart.setFileName(encodeAttachmentFilename(attachment.getName(), charset));
-        multiPart.addBodyPart(bodyPart);
-      }
-      msg.saveChanges();
-    }
-    catch (MessagingException | IOException e) {
-      throw new ProcessingException("Failed to add attachment to existing mime message", e);
-    }
+    addDataSourcesAsAttachments(msg, attachments.stream()
+        .map(FileDataSource::new)
+        .collect(Collectors.toList()));
   }
 
   /**
@@ -690,15 +779,33 @@ public class MailHelper {
     if (CollectionUtility.isEmpty(attachments)) {
       return;
     }
+    addDataSourcesAsAttachments(msg, attachments.stream()
+        .map(BinaryResourceDataSource::new)
+        .collect(Collectors.toList()));
+  }
+
+  /**
+   * Adds the provided attachments to the existing mime message. The content of the data sources is only read when the
+   * message is written, use file backed data sources (e.g. {@link #createFileDataSource(File)}) for large attachments.
+   *
+   * @param msg
+   *          Mime message to attach files to
+   * @param attachments
+   *          List of attachments (data sources). The name of the data source is used as file name.
+   */
+  public void addDataSourcesAsAttachments(MimeMessage msg, List<? extends DataSource> attachments) {
+    if (CollectionUtility.isEmpty(attachments)) {
+      return;
+    }
 
     try {
       Multipart multiPart = prepareMessageForAttachments(msg);
       String charset = getPartCharsetSafely(msg).name();
 
-      for (BinaryResource attachment : attachments) {
+      for (DataSource attachment : attachments) {
         MimeBodyPart bodyPart = new MimeBodyPart();
-        bodyPart.setDataHandler(new DataHandler(new BinaryResourceDataSource(attachment)));
-        bodyPart.setFileName(encodeAttachmentFilename(attachment.getFilename(), charset));
+        bodyPart.setDataHandler(new DataHandler(attachment));
+        bodyPart.setFileName(encodeAttachmentFilename(attachment.getName(), charset));
         multiPart.addBodyPart(bodyPart);
       }
       msg.saveChanges();
@@ -1207,4 +1314,23 @@ public class MailHelper {
     MimeType mimeType = MimeType.convertToMimeType(baseType);
     return mimeType == null ? null : mimeType.getFileExtension();
   }
+
+  /**
+   * A {@link MimeMessage} whose content is read from a file whenever it is accessed, see
+   * {@link MailHelper#createMessageFromFile(File, Session)}. The file is held open until the message is closed, the
+   * content cannot be accessed afterwards.
+   */
+  public static class FileMimeMessage extends MimeMessage implements Closeable {
+    private final SharedFileInputStream m_in;
+
+    protected FileMimeMessage(Session session, SharedFileInputStream in) throws MessagingException {
+      super(session, in);
+      m_in = in;
+    }
+
+    @Override
+    public void close() throws IOException {
+      m_in.close();
+    }
+  }
 }
@@ -0,0 +1,419 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mail.smtp;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.MimeMessage;
+
+import org.eclipse.scout.rt.mail.MailHelper;
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongUpDownCounter;
+
+/**
+ * Outbound queue for messages which are sent asynchronously.
+ * <p>
+ * {@link #enqueue(SmtpServerConfig, MimeMessage)} returns immediately. The message is delivered by a background job
+ * using {@link SmtpHelper#sendMessage(SmtpServerConfig, MimeMessage)}, hence connections are reused through the
+ * {@link SmtpConnectionPool} if the {@link SmtpServerConfig#getPoolSize()} is greater than 0. At most
+ * {@link SmtpQueueWorkerCountProperty} messages are delivered in parallel.
+ * <p>
+ * If a delivery fails, it is retried with an exponential backoff starting at {@link SmtpQueueRetryDelayProperty} until
+ * {@link SmtpQueueMaxAttemptsProperty} attempts have been made. Messages rejected because of invalid addresses are not
+ * retried.
+ * <p>
+ * If {@link SmtpQueueSpoolDirectoryProperty} is set, every queued message is additionally written to this directory
+ * and removed after the delivery. Messages which could not be delivered are kept with the extension
+ * {@value #FAILED_FILE_EXTENSION}. Messages left over by a previous run (e.g. because of a shutdown) can be delivered
+ * again using {@link #recoverSpool(SmtpServerConfig)}. Spooled messages are claimed by the queue while they are queued,
+ * hence recovering the spool never delivers a message queued by this queue a second time. A spool directory must
+ * therefore not be shared by several queues.
+ */
+@ApplicationScoped
+public class SmtpMailQueue {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SmtpMailQueue.class);
+
+  protected static final String JOB_NAME_DELIVER_MESSAGE = "smtp-mail-queue-deliver";
+  public static final String SPOOL_FILE_EXTENSION = ".eml";
+  public static final String FAILED_FILE_EXTENSION = ".failed";
+
+  protected final String m_jobExecutionHint = "smtp-mail-queue." + UUID.randomUUID();
+  protected final AtomicInteger m_pendingCount = new AtomicInteger();
+  protected final AtomicLong m_enqueuedCount = new AtomicLong();
+  protected final AtomicLong m_deliveredCount = new AtomicLong();
+  protected final AtomicLong m_retryCount = new AtomicLong();
+  protected final AtomicLong m_failedCount = new AtomicLong();
+  protected final Set<String> m_claimedSpoolIds = ConcurrentHashMap.newKeySet();
+
+  protected IExecutionSemaphore m_semaphore;
+  protected int m_maxAttempts;
+  protected long m_retryDelay;
+  protected Path m_spoolDirectory;
+
+  protected LongCounter m_deliveredCounter;
+  protected LongCounter m_retryCounter;
+  protected LongCounter m_failedCounter;
+  protected ObservableLongUpDownCounter m_pendingGauge;
+
+  @PostConstruct
+  protected void init() {
+    m_semaphore = Jobs.newExecutionSemaphore(CONFIG.getPropertyValue(SmtpQueueWorkerCountProperty.class));
+    m_maxAttempts = CONFIG.getPropertyValue(SmtpQueueMaxAttemptsProperty.class);
+    m_retryDelay = CONFIG.getPropertyValue(SmtpQueueRetryDelayProperty.class) * 1000L;
+    String spoolDirectory = CONFIG.getPropertyValue(SmtpQueueSpoolDirectoryProperty.class);
+    if (StringUtility.hasText(spoolDirectory)) {
+      m_spoolDirectory = Paths.get(spoolDirectory);
+    }
+    initMetrics();
+  }
+
+  protected void initMetrics() {
+    Meter meter = GlobalOpenTelemetry.get().getMeter("scout.SmtpMailQueue");
+    m_deliveredCounter = meter.counterBuilder("scout.smtp.queue.delivered")
+        .setDescription("The number of messages delivered by the SMTP mail queue.")
+        .setUnit("{message}")
+        .build();
+    m_retryCounter = meter.counterBuilder("scout.smtp.queue.retries")
+        .setDescription("The number of failed delivery attempts which are retried.")
+        .setUnit("{message}")
+        .build();
+    m_failedCounter = meter.counterBuilder("scout.smtp.queue.failed")
+        .setDescription("The number of messages which could not be delivered.")
+        .setUnit("{message}")
+        .build();
+    m_pendingGauge = meter.upDownCounterBuilder("scout.smtp.queue.pending")
+        .setDescription("The number of messages waiting for delivery.")
+        .setUnit("{message}")
+        .buildWithCallback(measurement -> measurement.record(m_pendingCount.get()));
+  }
+
+  /**
+   * Queues the message for asynchronous delivery over the provided SMTP server.
+   *
+   * @param config
+   *          SMTP server configuration.
+   * @param message
+   *          Message to send.
+   * @return the queue entry which allows to observe the delivery.
+   */
+  public SmtpMailQueueEntry enqueue(SmtpServerConfig config, MimeMessage message) {
+    Assertions.assertNotNull(config, "SMTP server config must be set");
+    Assertions.assertNotNull(message, "Message must be set");
+
+    String id = UUID.randomUUID().toString();
+    m_claimedSpoolIds.add(id);
+    SmtpMailQueueEntry entry = BEANS.get(SmtpMailQueueEntry.class)
+        .withId(id)
+        .withSmtpServerConfig(config)
+        .withMessage(message)
+        .withSpoolFile(writeSpoolFile(id, message));
+    return enqueue(entry);
+  }
+
+  protected SmtpMailQueueEntry enqueue(SmtpMailQueueEntry entry) {
+    m_enqueuedCount.incrementAndGet();
+    m_pendingCount.incrementAndGet();
+    LOG.debug("Queued message {}", entry);
+    scheduleDelivery(entry, 0);
+    return entry;
+  }
+
+  /**
+   * Queues all messages left in the spool directory (e.g. by a previous shutdown) for delivery over the provided SMTP
+   * server.
+   *
+   * @return the queue entries of the recovered messages, an empty list if spooling is disabled.
+   */
+  public List<SmtpMailQueueEntry> recoverSpool(SmtpServerConfig config) {
+    Assertions.assertNotNull(config, "SMTP server config must be set");
+    List<SmtpMailQueueEntry> entries = new ArrayList<>();
+    if (m_spoolDirectory == null || !Files.isDirectory(m_spoolDirectory)) {
+      return entries;
+    }
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(m_spoolDirectory, "*" + SPOOL_FILE_EXTENSION)) {
+      for (Path file : stream) {
+        String fileName = file.getFileName().toString();
+        String id = fileName.substring(0, fileName.length() - SPOOL_FILE_EXTENSION.length());
+        if (!m_claimedSpoolIds.add(id)) {
+          continue; // already queued
+        }
+        MimeMessage message;
+        try {
+          message = BEANS.get(MailHelper.class).createMessageFromBytes(Files.readAllBytes(file));
+        }
+        catch (IOException | RuntimeException e) {
+          m_claimedSpoolIds.remove(id);
+          throw e;
+        }
+        entries.add(BEANS.get(SmtpMailQueueEntry.class)
+            .withId(id)
+            .withSmtpServerConfig(config)
+            .withMessage(message)
+            .withSpoolFile(file));
+      }
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Cannot read SMTP mail queue spool directory {}", m_spoolDirectory, e);
+    }
+    LOG.info("Recovered {} messages from spool directory {}", entries.size(), m_spoolDirectory);
+    entries.forEach(this::enqueue);
+    return entries;
+  }
+
+  protected void scheduleDelivery(SmtpMailQueueEntry entry, long delayMillis) {
+    Jobs.schedule(() -> deliver(entry), Jobs.newInput()
+        .withName(JOB_NAME_DELIVER_MESSAGE)
+        .withExecutionHint(m_jobExecutionHint)
+        .withExecutionSemaphore(m_semaphore)
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(delayMillis, TimeUnit.MILLISECONDS)));
+  }
+
+  protected void deliver(SmtpMailQueueEntry entry) {
+    entry.m_attempts++;
+    try {
+      BEANS.get(SmtpHelper.class).sendMessage(entry.getSmtpServerConfig(), entry.getMessage());
+    }
+    catch (RuntimeException e) {
+      entry.m_lastError = e;
+      if (entry.getAttempts() < m_maxAttempts && isRetryable(e)) {
+        long delay = getRetryDelay(entry.getAttempts());
+        LOG.info("Delivery of message {} failed, retrying in {}ms", entry, delay, e);
+        m_retryCount.incrementAndGet();
+        m_retryCounter.add(1);
+        scheduleDelivery(entry, delay);
+      }
+      else {
+        onDeliveryFailed(entry, e);
+      }
+      return;
+    }
+    onDelivered(entry);
+  }
+
+  protected void onDelivered(SmtpMailQueueEntry entry) {
+    LOG.debug("Delivered message {}", entry);
+    deleteSpoolFile(entry);
+    m_claimedSpoolIds.remove(entry.getId());
+    m_pendingCount.decrementAndGet();
+    m_deliveredCount.incrementAndGet();
+    m_deliveredCounter.add(1);
+    entry.getCompletion().complete(null);
+  }
+
+  protected void onDeliveryFailed(SmtpMailQueueEntry entry, RuntimeException e) {
+    LOG.error("Delivery of message {} failed permanently", entry, e);
+    markSpoolFileFailed(entry);
+    m_claimedSpoolIds.remove(entry.getId());
+    m_pendingCount.decrementAndGet();
+    m_failedCount.incrementAndGet();
+    m_failedCounter.add(1);
+    entry.getCompletion().completeExceptionally(e);
+  }
+
+  /**
+   * @return <code>false</code> if a retry cannot succeed (e.g. invalid recipient addresses)
+   */
+  protected boolean isRetryable(RuntimeException e) {
+    if (e instanceof AssertionException) {
+      return false;
+    }
+    for (Throwable t = e; t != null; t = t.getCause()) {
+      if (t instanceof SendFailedException && ((SendFailedException) t).getInvalidAddresses() != null) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the delay before the next attempt; the retry delay is doubled with each failed attempt
+   */
+  protected long getRetryDelay(int attempts) {
+    return m_retryDelay << Math.min(attempts - 1, 16);
+  }
+
+  protected Path writeSpoolFile(String id, MimeMessage message) {
+    if (m_spoolDirectory == null) {
+      return null;
+    }
+    try {
+      Files.createDirectories(m_spoolDirectory);
+      Path file = m_spoolDirectory.resolve(id + SPOOL_FILE_EXTENSION);
+      try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+        BEANS.get(MailHelper.class).writeMessage(message, out);
+      }
+      return file;
+    }
+    catch (IOException e) {
+      throw new ProcessingException("Cannot write message to SMTP mail queue spool directory {}", m_spoolDirectory, e);
+    }
+  }
+
+  protected void deleteSpoolFile(SmtpMailQueueEntry entry) {
+    if (entry.getSpoolFile() == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(entry.getSpoolFile());
+    }
+    catch (IOException e) {
+      LOG.warn("Could not delete spool file {}", entry.getSpoolFile(), e);
+    }
+  }
+
+  protected void markSpoolFileFailed(SmtpMailQueueEntry entry) {
+    if (entry.getSpoolFile() == null) {
+      return;
+    }
+    try {
+      Path file = entry.getSpoolFile();
+      Files.move(file, file.resolveSibling(entry.getId() + FAILED_FILE_EXTENSION), StandardCopyOption.REPLACE_EXISTING);
+    }
+    catch (IOException e) {
+      LOG.warn("Could not mark spool file {} as failed", entry.getSpoolFile(), e);
+    }
+  }
+
+  /**
+   * @return number of messages which are queued and neither delivered nor failed permanently
+   */
+  public int getPendingCount() {
+    return m_pendingCount.get();
+  }
+
+  public long getEnqueuedCount() {
+    return m_enqueuedCount.get();
+  }
+
+  public long getDeliveredCount() {
+    return m_deliveredCount.get();
+  }
+
+  public long getRetryCount() {
+    return m_retryCount.get();
+  }
+
+  public long getFailedCount() {
+    return m_failedCount.get();
+  }
+
+  /**
+   * Cancels all pending deliveries. Spooled messages are kept and may be recovered after the next start.
+   */
+  @PreDestroy
+  protected void destroy() {
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_jobExecutionHint)
+        .toFilter(), true);
+    if (m_pendingGauge != null) {
+      m_pendingGauge.close();
+      m_pendingGauge = null;
+    }
+  }
+
+  public static class SmtpQueueWorkerCountProperty extends AbstractPositiveIntegerConfigProperty {
+    @Override
+    public Integer getDefaultValue() {
+      return 4;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.smtp.queue.workerCount";
+    }
+
+    @Override
+    public String description() {
+      return "Max. number of messages delivered in parallel by the SMTP mail queue.";
+    }
+  }
+
+  public static class SmtpQueueMaxAttemptsProperty extends AbstractPositiveIntegerConfigProperty {
+    @Override
+    public Integer getDefaultValue() {
+      return 5;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.smtp.queue.maxAttempts";
+    }
+
+    @Override
+    public String description() {
+      return "Max. number of delivery attempts per message of the SMTP mail queue.";
+    }
+  }
+
+  public static class SmtpQueueRetryDelayProperty extends AbstractPositiveIntegerConfigProperty {
+    @Override
+    public Integer getDefaultValue() {
+      return 30;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.smtp.queue.retryDelay";
+    }
+
+    @Override
+    public String description() {
+      return "Delay in seconds before the first retry of a failed delivery of the SMTP mail queue. The delay is doubled for every further retry.";
+    }
+  }
+
+  public static class SmtpQueueSpoolDirectoryProperty extends AbstractStringConfigProperty {
+    @Override
+    public String getKey() {
+      return "scout.smtp.queue.spoolDirectory";
+    }
+
+    @Override
+    public String description() {
+      return "Directory where messages of the SMTP mail queue are stored until they are delivered. If not set, queued messages are only held in memory.";
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mail.smtp;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+import jakarta.mail.internet.MimeMessage;
+
+import org.eclipse.scout.rt.platform.Bean;
+
+/**
+ * This class models a message managed by the {@link SmtpMailQueue}.<br>
+ * <br>
+ * The properties {@link #m_id}, {@link #m_smtpServerConfig}, {@link #m_message} and {@link #m_spoolFile} are never
+ * changed after the entry has been enqueued. The {@link #m_attempts} and {@link #m_lastError} properties are changed by
+ * the delivery jobs of the {@link SmtpMailQueue}.<br>
+ * The {@link #getCompletion()} future completes normally as soon as the message has been delivered and exceptionally if
+ * the delivery failed permanently (no retries left).
+ */
+@Bean
+public class SmtpMailQueueEntry {
+
+  protected String m_id;
+  protected SmtpServerConfig m_smtpServerConfig;
+  protected MimeMessage m_message;
+  protected Path m_spoolFile;
+  protected volatile int m_attempts;
+  protected volatile RuntimeException m_lastError;
+  protected final CompletableFuture<Void> m_completion = new CompletableFuture<>();
+
+  public SmtpMailQueueEntry withId(String id) {
+    m_id = id;
+    return this;
+  }
+
+  public SmtpMailQueueEntry withSmtpServerConfig(SmtpServerConfig smtpServerConfig) {
+    m_smtpServerConfig = smtpServerConfig;
+    return this;
+  }
+
+  public SmtpMailQueueEntry withMessage(MimeMessage message) {
+    m_message = message;
+    return this;
+  }
+
+  public SmtpMailQueueEntry withSpoolFile(Path spoolFile) {
+    m_spoolFile = spoolFile;
+    return this;
+  }
+
+  public String getId() {
+    return m_id;
+  }
+
+  public SmtpServerConfig getSmtpServerConfig() {
+    return m_smtpServerConfig;
+  }
+
+  public MimeMessage getMessage() {
+    return m_message;
+  }
+
+  /**
+   * @return file containing the message while it is queued or <code>null</code> if spooling is disabled.
+   */
+  public Path getSpoolFile() {
+    return m_spoolFile;
+  }
+
+  /**
+   * @return number of delivery attempts made so far
+   */
+  public int getAttempts() {
+    return m_attempts;
+  }
+
+  /**
+   * @return exception of the last failed delivery attempt or <code>null</code>
+   */
+  public RuntimeException getLastError() {
+    return m_lastError;
+  }
+
+  public CompletableFuture<Void> getCompletion() {
+    return m_completion;
+  }
+
+  public boolean isDone() {
+    return m_completion.isDone();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[id=" + m_id + ", attempts=" + m_attempts + "]";
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api.marshaller;
+
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsInstanceOf.instanceOf;
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoEntityBuilder;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.mom.api.marshaller.JsonDataObjectMarshallerTest.JsonMarshallerTestEntity;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.hamcrest.MatcherAssert;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class BinaryDataObjectMarshallerTest {
+
+  @Test
+  public void test() {
+    Map<String, String> context = new HashMap<>();
+
+    IDoEntity data = BEANS.get(DoEntityBuilder.class).put("key", "value").build();
+    assertEquals(data, marshallAndUnmarshallAsDataObject(data, context));
+
+    context = new HashMap<>();
+    JsonMarshallerTestEntity testee = new JsonMarshallerTestEntity().withField1("foo").withField2(42);
+    Object result = marshallAndUnmarshallAsDataObject(testee, context);
+    MatcherAssert.assertThat(result, instanceOf(JsonMarshallerTestEntity.class));
+    MatcherAssert.assertThat(result, is(equalTo(testee)));
+  }
+
+  @Test
+  public void testEmpty() {
+    Map<String, String> context = new HashMap<>();
+
+    Object bytes = BEANS.get(BinaryDataObjectMarshaller.class).marshall(BEANS.get(DoEntity.class), context);
+    assertTrue(bytes instanceof byte[]);
+    assertEquals(BEANS.get(DoEntity.class), BEANS.get(BinaryDataObjectMarshaller.class).unmarshall(bytes, context));
+  }
+
+  @Test
+  public void testNull() {
+    Map<String, String> context = new HashMap<>();
+
+    Object bytes = BEANS.get(BinaryDataObjectMarshaller.class).marshall(null, context);
+    assertNull(BEANS.get(BinaryDataObjectMarshaller.class).unmarshall(bytes, context));
+  }
+
+  @Test
+  public void testNonDataObject() {
+    Assert.assertThrows(AssertionException.class, () -> BEANS.get(BinaryDataObjectMarshaller.class).marshall("foo", null));
+  }
+
+  @Test
+  public void testMessageType() {
+    assertEquals(IMarshaller.MESSAGE_TYPE_BYTES, BEANS.get(BinaryDataObjectMarshaller.class).getMessageType());
+  }
+
+  private static Object marshallAndUnmarshallAsDataObject(Object object, Map<String, String> context) {
+    BinaryDataObjectMarshaller marshaller = BEANS.get(BinaryDataObjectMarshaller.class);
+    return marshaller.unmarshall(marshaller.marshall(object, context), context);
+  }
+}
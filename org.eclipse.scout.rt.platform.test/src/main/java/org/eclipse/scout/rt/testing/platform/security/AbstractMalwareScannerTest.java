@@ -9,7 +9,13 @@
  */
 package org.eclipse.scout.rt.testing.platform.security;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.resource.FileBinaryContentProvider;
 import org.eclipse.scout.rt.platform.security.MalwareScanner;
 import org.eclipse.scout.rt.platform.security.UnsafeResourceException;
 import org.junit.Assert;
@@ -51,6 +57,22 @@ public abstract class AbstractMalwareScannerTest {
     newMalwareScanner().scan(res);
   }
 
+  @Test
+  public void testSafeContentProvider() throws IOException {
+    Path file = Files.createTempFile("safe-test", ".txt");
+    try {
+      Files.write(file, SAFE_CONTENT.getBytes());
+      BinaryResource res = BinaryResources.create()
+          .withFilename("safe-test.txt")
+          .withContentProvider(new FileBinaryContentProvider(file))
+          .build();
+      newMalwareScanner().scan(res);
+    }
+    finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
   @Test
   public void testEicarVirus() {
     BinaryResource res = new BinaryResource("virus-test.txt", EICAR_TEST_VIRUS.getBytes());
@@ -9,10 +9,19 @@
  */
 package org.eclipse.scout.rt.platform.resource;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.date.IDateProvider;
 import org.junit.Assert;
 import org.junit.Test;
@@ -130,4 +139,72 @@ public class BinaryResourceTest {
     Assert.assertEquals("help", aliasedResource3.getFilename());
     Assert.assertArrayEquals(content, aliasedResource3.getContent());
   }
+
+  @Test
+  public void testFileBackedContent() throws IOException {
+    byte[] content = "Lorem ipsum dolor sit amet".getBytes(StandardCharsets.UTF_8);
+    Path file = Files.createTempFile("binary-resource", ".txt");
+    try {
+      Files.write(file, content);
+      BinaryResource res = BinaryResources.create().withFile(file).build();
+      Assert.assertEquals(file.getFileName().toString(), res.getFilename());
+      Assert.assertEquals(MimeType.TXT.getType(), res.getContentType());
+      Assert.assertEquals(Files.getLastModifiedTime(file).toMillis(), res.getLastModified());
+      Assert.assertEquals(content.length, res.getContentLengthLong());
+      Assert.assertEquals(content.length, res.getContentLength());
+      Assert.assertNotEquals(-1, res.getFingerprint());
+      Assert.assertArrayEquals(content, res.getContent());
+      Assert.assertArrayEquals("Lorem".getBytes(StandardCharsets.UTF_8), res.getContentHeader(5));
+      try (InputStream in = res.openContentStream()) {
+        Assert.assertArrayEquals(content, IOUtility.readBytes(in));
+      }
+
+      // aliases share the provider
+      BinaryResource alias = res.createAlias("alias.txt");
+      Assert.assertSame(res.getContentProvider(), alias.getContentProvider());
+      Assert.assertEquals(res.getFingerprint(), alias.getFingerprint());
+
+      // content is read into memory when serialized
+      BinaryResource copy = serializeAndDeserialize(res);
+      Assert.assertNull(copy.getContentProvider());
+      Assert.assertEquals(res.getFilename(), copy.getFilename());
+      Assert.assertArrayEquals(content, copy.getContent());
+    }
+    finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  @Test
+  public void testDeleteTemporaryFile() throws IOException {
+    Path file = Files.createTempFile("binary-resource", ".txt");
+    try {
+      FileBinaryContentProvider provider = new FileBinaryContentProvider(file);
+      Assert.assertFalse(provider.isTemporary());
+      provider.deleteTemporaryFile();
+      Assert.assertTrue(Files.exists(file));
+
+      FileBinaryContentProvider temporary = FileBinaryContentProvider.temporary(file);
+      Assert.assertTrue(temporary.isTemporary());
+      temporary.deleteTemporaryFile();
+      Assert.assertFalse(Files.exists(file));
+      temporary.deleteTemporaryFile();
+    }
+    finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+  protected BinaryResource serializeAndDeserialize(BinaryResource res) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(res);
+    }
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      return (BinaryResource) in.readObject();
+    }
+    catch (ClassNotFoundException e) {
+      throw new IOException(e);
+    }
+  }
 }
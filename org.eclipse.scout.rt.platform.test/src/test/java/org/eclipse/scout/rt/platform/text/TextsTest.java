@@ -12,11 +12,17 @@ package org.eclipse.scout.rt.platform.text;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.nls.DefaultTextPostProcessor;
+import org.eclipse.scout.rt.platform.nls.NlsUtility;
+import org.eclipse.scout.rt.platform.text.ScoutTexts.TextEntry;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -46,6 +52,56 @@ public class TextsTest {
     assertEquals("value DEF", TEXTS.getWithFallback("anyKey", TEXTS.getWithFallback("key6", "fallback", "DEF"), "ABC"));
   }
 
+  @Test
+  public void testTextTable() {
+    ScoutTexts scoutTexts = BEANS.get(ScoutTexts.class);
+    scoutTexts.reloadTextProviders();
+    assertTrue(scoutTexts.isTextTableSupported(scoutTexts.getTextProviders()));
+    for (Locale locale : new Locale[]{Locale.ENGLISH, Locale.GERMAN, new Locale("de", "CH")}) {
+      Map<String, String> textMap = scoutTexts.getTextMap(locale);
+      assertEquals(textMap.size(), scoutTexts.createTextTable(locale).size());
+      for (String key : textMap.keySet()) {
+        assertEquals(getTextFromProviders(scoutTexts, locale, key), scoutTexts.getText(locale, key));
+        assertEquals(getTextFromProviders(scoutTexts, locale, key, "A", "B"), scoutTexts.getText(locale, key, "A", "B"));
+      }
+    }
+  }
+
+  @Test
+  public void testTextTableSharedByLocalesWithoutOwnTexts() {
+    ScoutTexts scoutTexts = BEANS.get(ScoutTexts.class);
+    scoutTexts.reloadTextProviders();
+    assertSame(scoutTexts.getTextTable(new Locale("xx", "AA")), scoutTexts.getTextTable(new Locale("xx", "BB")));
+    assertSame(scoutTexts.getTextTable(new Locale("xx", "AA")), scoutTexts.getTextTable(new Locale("yy")));
+  }
+
+  protected String getTextFromProviders(ScoutTexts scoutTexts, Locale locale, String key, String... messageArguments) {
+    for (ITextProviderService provider : scoutTexts.getTextProviders()) {
+      String text = provider.getText(locale, key, messageArguments);
+      if (text != null) {
+        return text;
+      }
+    }
+    return null;
+  }
+
+  @Test
+  public void testTextEntry() {
+    String[] texts = {"", "plain", "{0}", "a {0} b {1} c", "{1}{0}", "{01}", "{2} missing", "{x} {} {", "{99999999999} {0}", "Straße {0}"};
+    String[][] argumentLists = {null, {}, {"A"}, {"A", null}, {"A", "B", "C"}};
+    Locale deCh = new Locale("de", "CH");
+    for (String text : texts) {
+      TextEntry entry = new TextEntry(text, Collections.singletonList(new DefaultTextPostProcessor()));
+      for (String[] args : argumentLists) {
+        if ("{99999999999} {0}".equals(text) && args != null && args.length > 0) {
+          continue; // NlsUtility fails to parse the index
+        }
+        String expected = NlsUtility.postProcessText(deCh, "key", NlsUtility.bindText(text, args), Collections.singletonList(new DefaultTextPostProcessor()), args);
+        assertEquals(expected, entry.getText(deCh, "key", args));
+      }
+    }
+  }
+
   @Test
   public void testGetTextMap() {
     Map<String, String> textMap = BEANS.get(ScoutTexts.class).getTextMap(Locale.ENGLISH);
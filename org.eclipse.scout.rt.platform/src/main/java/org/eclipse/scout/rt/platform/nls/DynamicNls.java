@@ -171,6 +171,21 @@ public class DynamicNls {
     return null;
   }
 
+  /**
+   * @return the resource bundles (or <code>null</code> if none exists) used to resolve the texts of the given locale,
+   *         in lookup order. Locales without own texts files share the bundles of their parent locale.
+   */
+  public List<NlsResourceBundle> getResourceBundles(Locale locale) {
+    if (locale == null) {
+      locale = getDefaultLocale();
+    }
+    List<NlsResourceBundle> bundles = new ArrayList<>(m_resourceBundles.size());
+    for (NlsResourceBundleCache c : m_resourceBundles) {
+      bundles.add(c.getResourceBundle(locale));
+    }
+    return bundles;
+  }
+
   /**
    * get all key/texts defined or redefined by the wrapper class for that locale
    */
@@ -9,8 +9,14 @@
  */
 package org.eclipse.scout.rt.platform.resource;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -26,6 +32,10 @@ import org.eclipse.scout.rt.platform.util.StringUtility;
  * <p>
  * All properties are final, thus the binary resource is somehow immutable with the exception of the content where the
  * array could be directly manipulated. Due to performance considerations the content is not duplicated when retrieved.
+ * <p>
+ * Large content may be provided by an {@link IBinaryContentProvider} (e.g. a file) instead of a <code>byte[]</code>,
+ * see {@link BinaryResources#withContentProvider(IBinaryContentProvider)}. Such content should be consumed using
+ * {@link #openContentStream()}. When serialized, the content of a provider is read into memory.
  *
  * @since 5.0
  */
@@ -40,6 +50,7 @@ public final class BinaryResource implements Serializable {
    */
   private final String m_charset;
   private final byte[] m_content;
+  private final transient IBinaryContentProvider m_contentProvider;
   private final long m_lastModified;
   private final long m_fingerprint;
   private final boolean m_cachingAllowed;
@@ -68,13 +79,29 @@ public final class BinaryResource implements Serializable {
    *          default 0
    */
   // explicitly package private, only called by BinaryResources and second constructor
-  @SuppressWarnings("findbugs:RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
   BinaryResource(String filename, String contentType, String charset, byte[] content, long lastModified, boolean cachingAllowed, int cacheMaxAge) {
+    this(filename, contentType, charset, content, null, lastModified, cachingAllowed, cacheMaxAge);
+  }
+
+  /**
+   * @param contentProvider
+   *          Provides the content if <i>content</i> is <code>null</code>. The fingerprint is calculated using the
+   *          length of the content and <i>lastModified</i> only, the content itself is not read.
+   */
+  // explicitly package private, only called by BinaryResources and the constructor above
+  @SuppressWarnings("findbugs:RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
+  BinaryResource(String filename, String contentType, String charset, byte[] content, IBinaryContentProvider contentProvider, long lastModified, boolean cachingAllowed, int cacheMaxAge) {
     m_filename = filename;
+    if (content != null) {
+      contentProvider = null;
+    }
     if (contentType == null) {
       if (filename != null) {
         contentType = FileUtility.getMimeType(filename);
       }
+      else if (contentProvider != null && contentProvider.getPath() != null) {
+        contentType = FileUtility.getMimeType(contentProvider.getPath());
+      }
       else if (content != null && content.length > 0) {
         File f = IOUtility.createTempFile(null, content);
         contentType = FileUtility.getMimeType(f.toPath());
@@ -87,12 +114,18 @@ public final class BinaryResource implements Serializable {
     m_contentType = contentType;
     m_charset = charset;
     m_content = content;
+    m_contentProvider = contentProvider;
     m_lastModified = lastModified;
     if (content != null) {
       Adler32 a = new Adler32();
       a.update(content);
       m_fingerprint = a.getValue();
     }
+    else if (contentProvider != null) {
+      Adler32 a = new Adler32();
+      a.update(ByteBuffer.allocate(2 * Long.BYTES).putLong(contentProvider.getLength()).putLong(lastModified).flip());
+      m_fingerprint = a.getValue();
+    }
     else {
       m_fingerprint = -1;
     }
@@ -143,13 +176,58 @@ public final class BinaryResource implements Serializable {
   /**
    * Do not modify the returned array, the binary resource is assumed to be immutable (returned content is not cloned
    * due to performance considerations).
+   * <p>
+   * If the content is provided by an {@link IBinaryContentProvider}, it is read into memory on every call. Use
+   * {@link #openContentStream()} instead.
    *
    * @return the raw binary content, as passed to the constructor
    */
   public byte[] getContent() {
+    if (m_content == null && m_contentProvider != null) {
+      try (InputStream in = m_contentProvider.openStream()) {
+        return IOUtility.readBytes(in);
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
     return m_content;
   }
 
+  /**
+   * @return a new {@link InputStream} on the content (the caller is responsible to close it) or <code>null</code> if
+   *         there is no content.
+   */
+  public InputStream openContentStream() throws IOException {
+    if (m_contentProvider != null) {
+      return m_contentProvider.openStream();
+    }
+    return m_content != null ? new ByteArrayInputStream(m_content) : null;
+  }
+
+  /**
+   * @return the first <i>maxLength</i> bytes of the content (less if the content is shorter) or <code>null</code> if
+   *         there is no content. Only the requested bytes are read from an {@link IBinaryContentProvider}.
+   */
+  public byte[] getContentHeader(int maxLength) {
+    if (m_contentProvider == null) {
+      return m_content == null ? null : Arrays.copyOf(m_content, Math.min(maxLength, m_content.length));
+    }
+    try (InputStream in = m_contentProvider.openStream()) {
+      return IOUtility.readBytes(in, (int) Math.min(maxLength, m_contentProvider.getLength()));
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * @return the {@link IBinaryContentProvider} or <code>null</code> if the content is held in memory
+   */
+  public IBinaryContentProvider getContentProvider() {
+    return m_contentProvider;
+  }
+
   /**
    * @return the {@link String} content (using defined {@link Charset} or UTF-8 as default) for this resource
    */
@@ -158,14 +236,27 @@ public final class BinaryResource implements Serializable {
     if (getCharset() != null) {
       charset = Charset.forName(getCharset());
     }
-    return new String(m_content, charset);
+    return new String(getContent(), charset);
   }
 
   /**
    * Convenience method to get the length of the byte array returend by {@link #getContent()}. If the content is
-   * <code>null</code>, this method returns <code>-1</code>.
+   * <code>null</code> or too large for an <code>int</code>, this method returns <code>-1</code>.
+   *
+   * @see #getContentLengthLong()
    */
   public int getContentLength() {
+    long length = getContentLengthLong();
+    return length <= Integer.MAX_VALUE ? (int) length : -1;
+  }
+
+  /**
+   * @return the length of the content in bytes or <code>-1</code> if the content is <code>null</code>
+   */
+  public long getContentLengthLong() {
+    if (m_contentProvider != null) {
+      return m_contentProvider.getLength();
+    }
     return m_content != null ? m_content.length : -1;
   }
 
@@ -224,7 +315,7 @@ public final class BinaryResource implements Serializable {
     int result = 1;
     result = prime * result + (int) m_lastModified;
     // Note: Arrays.hashCode(m_content) is not used here due to performance considerations.
-    result = prime * result + ((m_content == null) ? 0 : m_content.length);
+    result = prime * result + (int) getContentLengthLong();
     result = prime * result + ((m_filename == null) ? 0 : m_filename.hashCode());
     result = prime * result + ((m_contentType == null) ? 0 : m_contentType.hashCode());
     return result;
@@ -245,14 +336,28 @@ public final class BinaryResource implements Serializable {
     return this.m_lastModified == other.m_lastModified
         && ObjectUtility.equals(this.m_filename, other.m_filename)
         && ObjectUtility.equals(this.m_contentType, other.m_contentType)
-        && Arrays.equals(m_content, other.m_content);
+        && Arrays.equals(m_content, other.m_content)
+        && ObjectUtility.equals(m_contentProvider, other.m_contentProvider);
+  }
+
+  /**
+   * Content of a provider is not serialized by reference, it is read into memory instead.
+   */
+  private Object writeReplace() throws ObjectStreamException {
+    if (m_contentProvider == null) {
+      return this;
+    }
+    return new BinaryResource(m_filename, m_contentType, m_charset, getContent(), m_lastModified, m_cachingAllowed, m_cacheMaxAge);
   }
 
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder(getClass().getSimpleName());
     sb.append(", content: ");
-    if (m_content == null) {
+    if (m_contentProvider != null) {
+      sb.append(m_contentProvider);
+    }
+    else if (m_content == null) {
       sb.append("null");
     }
     else {
@@ -9,8 +9,12 @@
  */
 package org.eclipse.scout.rt.platform.resource;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.util.FileUtility;
@@ -27,6 +31,7 @@ public final class BinaryResources {
   private String m_contentType;
   private String m_charset;
   private byte[] m_content;
+  private IBinaryContentProvider m_contentProvider;
   private long m_lastModified = -1; // default
   private boolean m_cachingAllowed = false; // default
   private int m_cacheMaxAge = 0; // default
@@ -46,7 +51,8 @@ public final class BinaryResources {
         .withFilename(resource.getFilename())
         .withContentType(resource.getContentType())
         .withCharset(resource.getCharset())
-        .withContent(resource.getContent())
+        .withContent(resource.getContentProvider() == null ? resource.getContent() : null)
+        .withContentProvider(resource.getContentProvider())
         .withLastModified(resource.getLastModified())
         .withCachingAllowed(resource.isCachingAllowed())
         .withCacheMaxAge(resource.getCacheMaxAge());
@@ -104,6 +110,35 @@ public final class BinaryResources {
     return this;
   }
 
+  /**
+   * @param contentProvider
+   *          Provides the resource's content if no content is set with {@link #withContent(byte[])}. The content is
+   *          not read to calculate the fingerprint, which is based on the length and the last modified timestamp.
+   */
+  public BinaryResources withContentProvider(IBinaryContentProvider contentProvider) {
+    m_contentProvider = contentProvider;
+    return this;
+  }
+
+  /**
+   * Convenience method for a resource backed by the given file. The filename and last modified timestamp are taken
+   * from the file (if not set yet). The content is not read into memory.
+   */
+  public BinaryResources withFile(Path file) {
+    if (m_filename == null) {
+      m_filename = file.getFileName().toString();
+    }
+    if (m_lastModified == -1) {
+      try {
+        m_lastModified = Files.getLastModifiedTime(file).toMillis();
+      }
+      catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return withContentProvider(new FileBinaryContentProvider(file));
+  }
+
   /**
    * {@link StandardCharsets#UTF_8} encoding is used.
    *
@@ -170,6 +205,6 @@ public final class BinaryResources {
    * @return Built binary resource
    */
   public BinaryResource build() {
-    return new BinaryResource(m_filename, m_contentType, m_charset, m_content, m_lastModified, m_cachingAllowed, m_cacheMaxAge);
+    return new BinaryResource(m_filename, m_contentType, m_charset, m_content, m_contentProvider, m_lastModified, m_cachingAllowed, m_cacheMaxAge);
   }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.lang.ref.Cleaner.Cleanable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link IBinaryContentProvider} backed by a file.
+ * <p>
+ * Use {@link #temporary(Path)} for temporary files (e.g. spooled uploads): such a file should be deleted explicitly
+ * using {@link #deleteTemporaryFile()} once it is not used anymore. If this is not done, it is deleted at the latest
+ * when the provider is not referenced anymore.
+ */
+public class FileBinaryContentProvider implements IBinaryContentProvider {
+  private static final Logger LOG = LoggerFactory.getLogger(FileBinaryContentProvider.class);
+  private static final Cleaner CLEANER = Cleaner.create();
+
+  private final Path m_path;
+  private final long m_length;
+  private final Cleanable m_cleanable;
+
+  /**
+   * @param path
+   *          existing file, its length is read once
+   */
+  public FileBinaryContentProvider(Path path) {
+    this(path, false);
+  }
+
+  protected FileBinaryContentProvider(Path path, boolean temporary) {
+    m_path = path;
+    try {
+      m_length = Files.size(path);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    m_cleanable = temporary ? CLEANER.register(this, () -> deleteQuietly(path)) : null;
+  }
+
+  /**
+   * Creates a provider for a temporary file which is deleted by {@link #deleteTemporaryFile()} or at the latest as soon
+   * as the provider becomes unreachable.
+   */
+  public static FileBinaryContentProvider temporary(Path path) {
+    return new FileBinaryContentProvider(path, true);
+  }
+
+  /**
+   * @return <code>true</code> if the file is deleted by this provider, see {@link #temporary(Path)}
+   */
+  public boolean isTemporary() {
+    return m_cleanable != null;
+  }
+
+  /**
+   * Deletes the file of a {@link #temporary(Path) temporary} provider immediately. The content cannot be read
+   * afterwards. Calling this method multiple times or for a provider which is not temporary has no effect.
+   */
+  public void deleteTemporaryFile() {
+    if (m_cleanable != null) {
+      m_cleanable.clean(); // runs the deletion at most once
+    }
+  }
+
+  protected static void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    }
+    catch (IOException e) {
+      LOG.warn("Could not delete temporary file {}", path, e);
+    }
+  }
+
+  @Override
+  public InputStream openStream() throws IOException {
+    return Files.newInputStream(m_path);
+  }
+
+  @Override
+  public long getLength() {
+    return m_length;
+  }
+
+  @Override
+  public Path getPath() {
+    return m_path;
+  }
+
+  @Override
+  public int hashCode() {
+    return m_path.hashCode();
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    FileBinaryContentProvider other = (FileBinaryContentProvider) obj;
+    return m_path.equals(other.m_path) && m_length == other.m_length;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + m_path + ", " + m_length + " bytes]";
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Provides the content of a {@link BinaryResource} which is not held in memory (e.g. a file).
+ * <p>
+ * The content must not change as long as a {@link BinaryResource} references the provider and it must be possible to
+ * open the stream multiple times.
+ *
+ * @see BinaryResources#withContentProvider(IBinaryContentProvider)
+ * @see FileBinaryContentProvider
+ */
+public interface IBinaryContentProvider {
+
+  /**
+   * @return a new {@link InputStream} on the content. The caller is responsible to close it.
+   */
+  InputStream openStream() throws IOException;
+
+  /**
+   * @return length of the content in bytes
+   */
+  long getLength();
+
+  /**
+   * @return the file holding the content or <code>null</code> if the content is not backed by a file. Used to transfer
+   *         the content without copying it through the heap if possible.
+   */
+  default Path getPath() {
+    return null;
+  }
+}
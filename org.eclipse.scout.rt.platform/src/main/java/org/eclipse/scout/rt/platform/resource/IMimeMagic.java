@@ -49,11 +49,15 @@ public interface IMimeMagic {
 
   static IMimeMagic createMagic(int pos, String... hexMagics) {
     byte[][] magics = new byte[hexMagics.length][];
+    int maxLength = 0;
     for (int i = 0; i < hexMagics.length; i++) {
       magics[i] = HexUtility.decode(hexMagics[i]);
+      maxLength = Math.max(maxLength, pos + magics[i].length);
     }
+    int headerLength = maxLength;
     return res -> {
-      byte[] content = res.getContent();
+      // do not read the whole content of resources which are not held in memory
+      byte[] content = res.getContentProvider() == null ? res.getContent() : res.getContentHeader(headerLength);
       if (content == null) {
         return false;
       }
@@ -11,6 +11,8 @@ package org.eclipse.scout.rt.platform.security;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
@@ -26,6 +28,7 @@ import org.slf4j.LoggerFactory;
 public class FileSystemMalwareScannerImplementor implements IMalwareScannerImplementor {
 
   private static final Logger LOG = LoggerFactory.getLogger(FileSystemMalwareScannerImplementor.class);
+  private static final int COMPARE_BUFFER_SIZE = 8192;
 
   @Override
   public void scan(BinaryResource res) {
@@ -39,6 +42,18 @@ public class FileSystemMalwareScannerImplementor implements IMalwareScannerImple
     }
     File f = null;
     try {
+      if (res.getContentProvider() != null) {
+        // content is not held in memory (e.g. a spooled upload), compare the streams
+        if (res.getContentLengthLong() > 0) {
+          f = IOUtility.createTempFile(res.openContentStream(), "malware-scan", ".tmp", directory);
+          int delay = CONFIG.getPropertyValue(MalwareScannerDelayProperty.class);
+          SleepUtil.sleepElseThrow(delay, TimeUnit.MILLISECONDS);
+          if (!contentEquals(res, f)) {
+            throwUnsafeResource(res);
+          }
+        }
+        return;
+      }
       byte[] expected = res.getContent();
       if (expected != null && expected.length > 0) {
         f = IOUtility.createTempFile("malware-scan", ".tmp", directory, expected);
@@ -69,6 +84,23 @@ public class FileSystemMalwareScannerImplementor implements IMalwareScannerImple
     }
   }
 
+  protected boolean contentEquals(BinaryResource res, File f) throws IOException {
+    byte[] expectedBuffer = new byte[COMPARE_BUFFER_SIZE];
+    byte[] actualBuffer = new byte[COMPARE_BUFFER_SIZE];
+    try (InputStream expected = res.openContentStream(); InputStream actual = new FileInputStream(f)) {
+      while (true) {
+        int expectedLength = expected.readNBytes(expectedBuffer, 0, COMPARE_BUFFER_SIZE);
+        int actualLength = actual.readNBytes(actualBuffer, 0, COMPARE_BUFFER_SIZE);
+        if (!Arrays.equals(expectedBuffer, 0, expectedLength, actualBuffer, 0, actualLength)) {
+          return false;
+        }
+        if (expectedLength < COMPARE_BUFFER_SIZE) {
+          return true;
+        }
+      }
+    }
+  }
+
   protected void throwUnsafeResource(BinaryResource res) {
     LOG.info("detected unsafe resource '{}'", res.getFilename());
     throw new UnsafeResourceException("Resource '{}' is not safe", res.getFilename());
@@ -9,13 +9,25 @@
  */
 package org.eclipse.scout.rt.platform.text;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.nls.DynamicNls;
+import org.eclipse.scout.rt.platform.nls.ITextPostProcessor;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.nls.NlsResourceBundle;
+import org.eclipse.scout.rt.platform.nls.NlsUtility;
 
 /**
  * ScoutTexts provides support for text translations.
@@ -27,6 +39,11 @@ import org.eclipse.scout.rt.platform.BEANS;
  * This implementation caches all available {@link ITextProviderService}s for better performance (otherwise 2/3 of a
  * {@link #getText(String, String...)} invocation would be spend for collecting {@link ITextProviderService}s). Invoke
  * {@link #reloadTextProviders()} after modifying the set of text provider services.
+ * <p>
+ * If all text providers are plain {@link AbstractDynamicNlsTextProviderService}s, the texts of a locale are merged
+ * into an immutable {@link TextTable} on first access. A text lookup then is a single map lookup, message arguments are
+ * bound using pre-parsed segments. The tables are discarded by {@link #reloadTextProviders()} and
+ * {@link #invalidateTextTables()} (e.g. when the texts files are modified in development mode).
  *
  * @see TEXTS
  * @see ITextProviderService
@@ -38,13 +55,38 @@ public class ScoutTexts {
    * Cached list of ordered {@link ITextProviderService}s
    */
   private volatile List<? extends ITextProviderService> m_textProviders;
+  /**
+   * {@code true} if the texts of all {@link #m_textProviders} can be merged into {@link TextTable}s
+   */
+  private volatile boolean m_textTablesSupported;
+  /**
+   * Text tables by the resource bundles they are merged from. Locales without own texts files (e.g. <code>de-CH</code>
+   * if there is only a <code>de</code> file) share the table of their parent locale.
+   */
+  private final ConcurrentMap<List<NlsResourceBundle>, TextTable> m_textTables = new ConcurrentHashMap<>();
+  /**
+   * Shortcut from the requested locale to its table in {@link #m_textTables}. Like the bundle cache of
+   * {@link DynamicNls} it only holds references, the texts are not copied per locale.
+   */
+  private final ConcurrentMap<Locale, TextTable> m_textTablesByLocale = new ConcurrentHashMap<>();
 
   public ScoutTexts() {
     reloadTextProviders();
   }
 
   public void reloadTextProviders() {
-    m_textProviders = BEANS.all(ITextProviderService.class);
+    List<? extends ITextProviderService> textProviders = BEANS.all(ITextProviderService.class);
+    m_textTablesSupported = isTextTableSupported(textProviders);
+    m_textProviders = textProviders;
+    invalidateTextTables();
+  }
+
+  /**
+   * Discards the merged per-locale text tables. They are rebuilt on the next text access.
+   */
+  public void invalidateTextTables() {
+    m_textTablesByLocale.clear();
+    m_textTables.clear();
   }
 
   public final String getText(@NlsKey String key, String... messageArguments) {
@@ -69,6 +111,15 @@ public class ScoutTexts {
   }
 
   protected String getTextInternal(Locale locale, @NlsKey String key, String fallback, String... messageArguments) {
+    if (key != null && m_textTablesSupported) {
+      Locale textLocale = locale != null ? locale : NlsLocale.get();
+      TextTable textTable = getTextTable(textLocale);
+      String result = textTable.getText(textLocale, key, messageArguments);
+      if (result != null) {
+        return result;
+      }
+      // unknown key: text post processors might still provide a text, ask the providers
+    }
     for (ITextProviderService provider : getTextProviders()) {
       String result = provider.getText(locale, key, messageArguments);
       if (result != null) {
@@ -78,6 +129,79 @@ public class ScoutTexts {
     return fallback;
   }
 
+  protected TextTable getTextTable(Locale locale) {
+    TextTable textTable = m_textTablesByLocale.get(locale);
+    if (textTable == null) {
+      textTable = m_textTables.computeIfAbsent(getResourceBundles(locale), bundles -> createTextTable(locale));
+      m_textTablesByLocale.put(locale, textTable);
+    }
+    return textTable;
+  }
+
+  /**
+   * @return the resource bundles of all text providers used for the given locale, see
+   *         {@link DynamicNls#getResourceBundles(Locale)}
+   */
+  protected List<NlsResourceBundle> getResourceBundles(Locale locale) {
+    List<NlsResourceBundle> bundles = new ArrayList<>();
+    for (ITextProviderService provider : getTextProviders()) {
+      bundles.addAll(((AbstractDynamicNlsTextProviderService) provider).getDynamicNls().getResourceBundles(locale));
+    }
+    return bundles;
+  }
+
+  /**
+   * Merges the texts of all text providers for the given locale, the first provider defining a key wins.
+   */
+  protected TextTable createTextTable(Locale locale) {
+    Map<String, TextEntry> entries = new HashMap<>();
+    List<? extends ITextProviderService> providers = getTextProviders();
+    for (int i = providers.size() - 1; i >= 0; i--) {
+      DynamicNls nls = ((AbstractDynamicNlsTextProviderService) providers.get(i)).getDynamicNls();
+      Collection<ITextPostProcessor> postProcessors = nls.getTextPostProcessors();
+      for (Entry<String, String> text : nls.getTextMap(locale).entrySet()) {
+        entries.put(text.getKey(), new TextEntry(text.getValue(), postProcessors));
+      }
+    }
+    return new TextTable(entries);
+  }
+
+  /**
+   * @return {@code true} if the texts of the given providers can be merged into a {@link TextTable} without changing
+   *         their results, i.e. all of them are {@link AbstractDynamicNlsTextProviderService}s not overriding the text
+   *         lookup.
+   */
+  protected boolean isTextTableSupported(List<? extends ITextProviderService> providers) {
+    for (ITextProviderService provider : providers) {
+      if (!(provider instanceof AbstractDynamicNlsTextProviderService)
+          || overridesMethod(provider.getClass(), AbstractDynamicNlsTextProviderService.class, "getText", Locale.class, String.class, String[].class)
+          || overridesMethod(provider.getClass(), AbstractDynamicNlsTextProviderService.class, "getTextMap", Locale.class)) {
+        return false;
+      }
+      DynamicNls nls = ((AbstractDynamicNlsTextProviderService) provider).getDynamicNls();
+      if (nls == null
+          || overridesMethod(nls.getClass(), DynamicNls.class, "getText", Locale.class, String.class, String[].class)
+          || overridesMethod(nls.getClass(), DynamicNls.class, "getTextInternal", Locale.class, String.class)
+          || overridesMethod(nls.getClass(), DynamicNls.class, "getTextMap", Locale.class)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean overridesMethod(Class<?> type, Class<?> baseType, String name, Class<?>... parameterTypes) {
+    for (Class<?> c = type; c != null && c != baseType; c = c.getSuperclass()) {
+      try {
+        c.getDeclaredMethod(name, parameterTypes);
+        return true;
+      }
+      catch (NoSuchMethodException e) { // NOSONAR
+        // not declared by this class
+      }
+    }
+    return false;
+  }
+
   protected String getDefaultFallback(String key) {
     return "{undefined text " + key + "}";
   }
@@ -85,4 +209,111 @@ public class ScoutTexts {
   public String getTextWithFallback(Locale locale, @NlsKey String key, String fallback, String... messageArguments) {
     return getTextInternal(locale, key, fallback, messageArguments);
   }
+
+  /**
+   * Immutable merged texts of all text providers for one locale.
+   */
+  protected static final class TextTable {
+    private final Map<String, TextEntry> m_entries;
+
+    TextTable(Map<String, TextEntry> entries) {
+      m_entries = entries;
+    }
+
+    /**
+     * @return the bound and post processed text or {@code null} if the key is unknown
+     */
+    public String getText(Locale locale, String key, String... messageArguments) {
+      TextEntry entry = m_entries.get(key);
+      if (entry == null) {
+        return null;
+      }
+      return entry.getText(locale, key, messageArguments);
+    }
+
+    public int size() {
+      return m_entries.size();
+    }
+  }
+
+  /**
+   * A text with its message argument placeholders (<code>{0}</code>, <code>{1}</code>, ...) parsed into segments. Same
+   * result as {@link NlsUtility#bindText(String, String...)} followed by
+   * {@link NlsUtility#postProcessText(Locale, String, String, Collection, String...)}.
+   */
+  protected static final class TextEntry {
+    private static final Pattern MESSAGE_ARGUMENT_PATTERN = Pattern.compile("\\{([0-9]+)}");
+
+    private final String m_text;
+    private final Collection<ITextPostProcessor> m_postProcessors;
+    /**
+     * Alternating literal text ({@link String}) and argument index ({@link Integer}) segments, {@code null} if the text
+     * contains no placeholders.
+     */
+    private final Object[] m_segments;
+
+    TextEntry(String text, Collection<ITextPostProcessor> postProcessors) {
+      m_text = text;
+      m_postProcessors = postProcessors;
+      m_segments = parseSegments(text);
+    }
+
+    private static Object[] parseSegments(String text) {
+      if (text.indexOf('{') < 0) {
+        return null;
+      }
+      Matcher m = MESSAGE_ARGUMENT_PATTERN.matcher(text);
+      List<Object> segments = new ArrayList<>();
+      int start = 0;
+      while (m.find(start)) {
+        try {
+          Integer index = Integer.valueOf(m.group(1));
+          segments.add(text.substring(start, m.start()));
+          segments.add(index);
+        }
+        catch (NumberFormatException e) { // NOSONAR
+          // not a valid argument index, keep as literal text
+          segments.add(text.substring(start, m.end()));
+        }
+        start = m.end();
+      }
+      if (segments.isEmpty()) {
+        return null;
+      }
+      segments.add(text.substring(start));
+      return segments.toArray();
+    }
+
+    public String getText(Locale locale, String key, String... messageArguments) {
+      String text = m_text;
+      if (m_segments != null && messageArguments != null && messageArguments.length > 0) {
+        text = bind(messageArguments);
+      }
+      if (m_postProcessors.isEmpty()) {
+        return text;
+      }
+      return NlsUtility.postProcessText(locale, key, text, m_postProcessors, messageArguments);
+    }
+
+    private String bind(String... messageArguments) {
+      StringBuilder b = new StringBuilder(m_text.length() + 16 * messageArguments.length);
+      for (Object segment : m_segments) {
+        if (segment instanceof String) {
+          b.append((String) segment);
+        }
+        else {
+          int index = (Integer) segment;
+          if (index < messageArguments.length) {
+            if (messageArguments[index] != null) {
+              b.append(messageArguments[index]);
+            }
+          }
+          else {
+            b.append('{').append(index).append('}');
+          }
+        }
+      }
+      return b.toString();
+    }
+  }
 }
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util;
+
+import java.io.FilterInputStream;
+import java.io.InputStream;
+
+/**
+ * Input stream which does not close the underlying stream.
+ * <p>
+ * Useful to pass a stream owned by the caller (e.g. a servlet or entity stream) to an API which closes the streams it
+ * reads from.
+ *
+ * @see NonClosingOutputStream
+ */
+public class NonClosingInputStream extends FilterInputStream {
+
+  public NonClosingInputStream(InputStream in) {
+    super(in);
+  }
+
+  @Override
+  public void close() {
+    // the underlying stream is closed by its owner
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Output stream which flushes instead of closing the underlying stream.
+ * <p>
+ * Useful to pass a stream owned by the caller (e.g. a servlet or entity stream) to an API which closes the streams it
+ * writes to.
+ *
+ * @see NonClosingInputStream
+ */
+public class NonClosingOutputStream extends FilterOutputStream {
+
+  public NonClosingOutputStream(OutputStream out) {
+    super(out);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    out.write(b, off, len);
+  }
+
+  @Override
+  public void close() throws IOException {
+    flush();
+  }
+}
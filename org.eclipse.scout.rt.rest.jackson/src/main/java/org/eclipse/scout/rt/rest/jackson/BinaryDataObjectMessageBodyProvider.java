@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.rest.jackson;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Set;
+
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import org.eclipse.scout.rt.dataobject.IBinaryDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.jackson.dataobject.JacksonSmileDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.NonClosingInputStream;
+import org.eclipse.scout.rt.platform.util.NonClosingOutputStream;
+import org.eclipse.scout.rt.rest.RestApplication;
+import org.eclipse.scout.rt.rest.RestApplication.IRestApplicationClassesContributor;
+import org.eclipse.scout.rt.rest.client.IGlobalRestClientConfigurator;
+
+/**
+ * {@link MessageBodyReader} and {@link MessageBodyWriter} for {@link IDataObject}s using the binary data format of
+ * {@link IBinaryDataObjectMapper} (media type {@value JacksonSmileDataObjectMapper#CONTENT_TYPE}).
+ * <p>
+ * The binary format is selected by content negotiation: a client requesting (header {@code Accept}) or sending (header
+ * {@code Content-Type}) the binary media type is served by this provider, all other requests still use JSON.
+ *
+ * @see RestApplication
+ */
+@Produces(JacksonSmileDataObjectMapper.CONTENT_TYPE)
+@Consumes(JacksonSmileDataObjectMapper.CONTENT_TYPE)
+public class BinaryDataObjectMessageBodyProvider implements MessageBodyReader<IDataObject>, MessageBodyWriter<IDataObject> {
+
+  public static final MediaType MEDIA_TYPE = MediaType.valueOf(JacksonSmileDataObjectMapper.CONTENT_TYPE);
+
+  @Override
+  public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return IDataObject.class.isAssignableFrom(type) && mediaType.isCompatible(MEDIA_TYPE);
+  }
+
+  @Override
+  public IDataObject readFrom(Class<IDataObject> type, Type genericType, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, String> httpHeaders, InputStream entityStream) {
+    // entity stream is owned by the container and must not be closed by the mapper
+    return getDataObjectMapper().readValue(new NonClosingInputStream(entityStream), type);
+  }
+
+  @Override
+  public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return IDataObject.class.isAssignableFrom(type) && mediaType.isCompatible(MEDIA_TYPE);
+  }
+
+  @Override
+  public void writeTo(IDataObject t, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) {
+    // entity stream is owned by the container and must not be closed by the mapper
+    getDataObjectMapper().writeValue(new NonClosingOutputStream(entityStream), t);
+  }
+
+  protected IBinaryDataObjectMapper getDataObjectMapper() {
+    return BEANS.get(IBinaryDataObjectMapper.class);
+  }
+
+  /**
+   * {@link IRestApplicationClassesContributor} registering {@link BinaryDataObjectMessageBodyProvider} on the server
+   * side.
+   */
+  public static class BinaryDataObjectMessageBodyProviderContributor implements IRestApplicationClassesContributor {
+
+    @Override
+    public Set<Class<?>> contribute() {
+      return Set.of(BinaryDataObjectMessageBodyProvider.class);
+    }
+  }
+
+  /**
+   * {@link IGlobalRestClientConfigurator} registering {@link BinaryDataObjectMessageBodyProvider} on the client side.
+   */
+  public static class BinaryDataObjectMessageBodyProviderClientConfigurator implements IGlobalRestClientConfigurator {
+
+    @Override
+    public void configure(ClientBuilder clientBuilder) {
+      clientBuilder.register(BinaryDataObjectMessageBodyProvider.class);
+    }
+  }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.rest.jackson;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.rest.jersey.RestClientTestEchoDo;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for {@link BinaryDataObjectMessageBodyProvider}.
+ */
+@RunWith(PlatformTestRunner.class)
+public class BinaryDataObjectMessageBodyProviderTest {
+
+  @Test
+  public void testWriteAndReadDoNotCloseEntityStream() throws Exception {
+    BinaryDataObjectMessageBodyProvider provider = new BinaryDataObjectMessageBodyProvider();
+    RestClientTestEchoDo echo = new RestClientTestEchoDo().withInfo("info").withCode(42);
+
+    P_TrackingOutputStream out = new P_TrackingOutputStream();
+    provider.writeTo(echo, RestClientTestEchoDo.class, null, null, BinaryDataObjectMessageBodyProvider.MEDIA_TYPE, null, out);
+    assertFalse(out.isClosed());
+
+    P_TrackingInputStream in = new P_TrackingInputStream(out.toByteArray());
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    IDataObject result = provider.readFrom((Class) RestClientTestEchoDo.class, null, null, BinaryDataObjectMessageBodyProvider.MEDIA_TYPE, null, in);
+    assertFalse(in.isClosed());
+    assertEquals(echo, result);
+  }
+
+  static class P_TrackingOutputStream extends ByteArrayOutputStream {
+    private boolean m_closed;
+
+    @Override
+    public void close() {
+      m_closed = true;
+    }
+
+    boolean isClosed() {
+      return m_closed;
+    }
+  }
+
+  static class P_TrackingInputStream extends ByteArrayInputStream {
+    private boolean m_closed;
+
+    P_TrackingInputStream(byte[] buf) {
+      super(buf);
+    }
+
+    @Override
+    public void close() {
+      m_closed = true;
+    }
+
+    boolean isClosed() {
+      return m_closed;
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.rest.dataobject;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.assertNotNull;
+
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.core.StreamingOutput;
+
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+
+/**
+ * {@link StreamingOutput} writing a (potentially large) list of data objects directly to the response output stream
+ * using {@link IDataObjectMapper#writeValues(OutputStream, Iterator)}. Neither the whole list nor its serialized
+ * representation is held in memory.
+ * <p>
+ * Example usage within a REST resource:
+ *
+ * <pre>
+ * &#64;GET
+ * &#64;Produces(MediaType.APPLICATION_JSON)
+ * public Response list() {
+ *   return Response.ok(new DataObjectStreamingOutput(loadItems())).build();
+ * }
+ * </pre>
+ */
+public class DataObjectStreamingOutput implements StreamingOutput {
+
+  private final Iterator<?> m_values;
+  private final Runnable m_closeHandler;
+  private IDataObjectMapper m_dataObjectMapper;
+
+  public DataObjectStreamingOutput(Iterator<?> values) {
+    m_values = assertNotNull(values, "values must not be null");
+    m_closeHandler = null;
+  }
+
+  /**
+   * The given stream is closed after all values are written.
+   */
+  public DataObjectStreamingOutput(Stream<?> values) {
+    assertNotNull(values, "values must not be null");
+    m_values = values.iterator();
+    m_closeHandler = values::close;
+  }
+
+  /**
+   * @param dataObjectMapper
+   *          mapper to use, if not set {@code BEANS.get(IDataObjectMapper.class)} is used.
+   */
+  public DataObjectStreamingOutput withDataObjectMapper(IDataObjectMapper dataObjectMapper) {
+    m_dataObjectMapper = dataObjectMapper;
+    return this;
+  }
+
+  public IDataObjectMapper getDataObjectMapper() {
+    return m_dataObjectMapper != null ? m_dataObjectMapper : BEANS.get(IDataObjectMapper.class);
+  }
+
+  @Override
+  public void write(OutputStream output) {
+    try {
+      getDataObjectMapper().writeValues(output, m_values);
+    }
+    finally {
+      if (m_closeHandler != null) {
+        m_closeHandler.run();
+      }
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.commons.servlet.cache;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpRangeControl.ByteRange;
+import org.junit.Test;
+
+/**
+ * JUnit tests for {@link HttpRangeControl}
+ */
+public class HttpRangeControlTest {
+
+  private static final long LAST_MODIFIED = 1700000000000L;
+  private static final String LAST_MODIFIED_HTTP_DATE = "Tue, 14 Nov 2023 22:13:20 GMT";
+
+  private final HttpRangeControl m_rangeControl = new HttpRangeControl();
+  private final HttpCacheObject m_obj = new HttpCacheObject(new HttpCacheKey("/test.bin"),
+      BinaryResources.create()
+          .withFilename("test.bin")
+          .withContent(new byte[100])
+          .withLastModified(LAST_MODIFIED)
+          .build());
+
+  @Test
+  public void testNoRange() {
+    assertNull(resolve(null, null));
+    assertNull(resolve("items=0-1", null));
+    assertNull(resolve("bytes=0-1,5-6", null));
+    assertNull(resolve("bytes=5-1", null));
+    assertNull(resolve("bytes=-", null));
+  }
+
+  @Test
+  public void testRange() {
+    assertRange(0, 9, resolve("bytes=0-9", null));
+    assertRange(90, 99, resolve("bytes=90-", null));
+    assertRange(90, 99, resolve("bytes=90-500", null));
+    assertRange(80, 99, resolve("bytes=-20", null));
+    assertRange(0, 99, resolve("bytes=-200", null));
+  }
+
+  @Test
+  public void testUnsatisfiableRange() {
+    assertFalse(resolve("bytes=100-", null).isSatisfiable());
+    assertFalse(resolve("bytes=-0", null).isSatisfiable());
+
+    HttpServletResponse resp = mock(HttpServletResponse.class);
+    m_rangeControl.setRangeHeaders(resp, resolve("bytes=200-300", null));
+    verify(resp).setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+    verify(resp).setHeader(HttpRangeControl.CONTENT_RANGE, "bytes */100");
+  }
+
+  @Test
+  public void testRangeHeaders() {
+    HttpServletResponse resp = mock(HttpServletResponse.class);
+    m_rangeControl.setRangeHeaders(resp, resolve("bytes=10-19", null));
+    verify(resp).setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+    verify(resp).setHeader(HttpRangeControl.CONTENT_RANGE, "bytes 10-19/100");
+    verify(resp).setContentLengthLong(10);
+  }
+
+  @Test
+  public void testIfRange() {
+    assertRange(0, 9, resolve("bytes=0-9", LAST_MODIFIED_HTTP_DATE));
+    assertNull(resolve("bytes=0-9", "Wed, 15 Nov 2023 22:13:20 GMT"));
+    assertNull(resolve("bytes=0-9", "invalid date"));
+    // weak entity tags must not be used with If-Range
+    assertNull(resolve("bytes=0-9", m_obj.createETag()));
+    assertNull(resolve("bytes=0-9", "\"other\""));
+  }
+
+  protected ByteRange resolve(String range, String ifRange) {
+    HttpServletRequest req = mock(HttpServletRequest.class);
+    when(req.getMethod()).thenReturn("GET");
+    when(req.getHeader(HttpRangeControl.RANGE)).thenReturn(range);
+    when(req.getHeader(HttpRangeControl.IF_RANGE)).thenReturn(ifRange);
+    return m_rangeControl.resolveRange(req, m_obj);
+  }
+
+  protected void assertRange(long start, long end, ByteRange range) {
+    assertNotNull(range);
+    assertTrue(range.isSatisfiable());
+    assertEquals(start, range.getStart());
+    assertEquals(end, range.getEnd());
+    assertEquals(end - start + 1, range.getLength());
+    assertEquals(100, range.getTotalLength());
+  }
+}
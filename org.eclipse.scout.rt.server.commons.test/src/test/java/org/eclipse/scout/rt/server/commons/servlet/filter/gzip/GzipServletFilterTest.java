@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.commons.servlet.filter.gzip;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.BufferedServletOutputStream;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpRangeControl;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit tests for {@link GzipServletFilter}
+ */
+@RunWith(PlatformTestRunner.class)
+public class GzipServletFilterTest {
+
+  private static final byte[] CONTENT = StringUtility.repeat("{\"key\":\"value\"}", 100).getBytes(StandardCharsets.UTF_8);
+
+  private GzipServletFilter m_filter;
+  private HttpServletRequest m_req;
+  private HttpServletResponse m_resp;
+  private BufferedServletOutputStream m_out;
+
+  @Before
+  public void before() throws Exception {
+    m_filter = new GzipServletFilter();
+    m_filter.init(mock(FilterConfig.class));
+
+    m_req = mock(HttpServletRequest.class);
+    when(m_req.getMethod()).thenReturn("GET");
+    when(m_req.getHeader(GzipServletFilter.ACCEPT_ENCODING)).thenReturn(GzipServletFilter.GZIP);
+
+    m_out = new BufferedServletOutputStream();
+    m_resp = mock(HttpServletResponse.class);
+    when(m_resp.getOutputStream()).thenReturn(m_out);
+    when(m_resp.getContentType()).thenReturn("application/json");
+    when(m_resp.getStatus()).thenReturn(HttpServletResponse.SC_OK);
+  }
+
+  @Test
+  public void testCompressedResponseHasNoUncompressedContentLength() throws Exception {
+    FilterChain chain = (req, resp) -> {
+      HttpServletResponse httpResp = (HttpServletResponse) resp;
+      httpResp.setContentLengthLong(CONTENT.length);
+      httpResp.setContentLength(CONTENT.length);
+      httpResp.setHeader("Content-Length", String.valueOf(CONTENT.length));
+      resp.getOutputStream().write(CONTENT);
+    };
+    m_filter.doFilter(m_req, m_resp, chain);
+
+    verify(m_resp).addHeader(GzipServletFilter.CONTENT_ENCODING, GzipServletFilter.GZIP);
+    verify(m_resp, never()).setContentLengthLong(anyLong());
+    verify(m_resp, never()).setContentLength(anyInt());
+    verify(m_resp, never()).setHeader(eq("Content-Length"), anyString());
+    assertArrayEquals(CONTENT, IOUtility.uncompressGzip(m_out.getContent()));
+  }
+
+  @Test
+  public void testPartialContentIsNotCompressed() throws Exception {
+    when(m_resp.getStatus()).thenReturn(HttpServletResponse.SC_PARTIAL_CONTENT);
+    FilterChain chain = (req, resp) -> {
+      HttpServletResponse httpResp = (HttpServletResponse) resp;
+      httpResp.setHeader(HttpRangeControl.CONTENT_RANGE, "bytes 0-" + (CONTENT.length - 1) + "/" + (CONTENT.length * 2));
+      httpResp.setContentLengthLong(CONTENT.length);
+      resp.getOutputStream().write(CONTENT);
+    };
+    m_filter.doFilter(m_req, m_resp, chain);
+
+    verify(m_resp, never()).addHeader(eq(GzipServletFilter.CONTENT_ENCODING), anyString());
+    verify(m_resp).setContentLengthLong(CONTENT.length);
+    assertArrayEquals(CONTENT, m_out.getContent());
+  }
+}
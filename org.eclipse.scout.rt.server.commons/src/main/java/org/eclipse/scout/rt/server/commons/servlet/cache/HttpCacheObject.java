@@ -57,12 +57,12 @@ public class HttpCacheObject implements Serializable {
   }
 
   /**
-   * @return an ETAG if the resource's {@link BinaryResource#getContentLength()} and
+   * @return an ETAG if the resource's {@link BinaryResource#getContentLengthLong()} and
    *         {@link BinaryResource#getFingerprint()} are both not -1
    */
   public String createETag() {
-    if (m_resource.getFingerprint() != -1L && m_resource.getContentLength() != -1L) {
-      return "W/\"" + m_resource.getContentLength() + "-" + m_resource.getFingerprint() + "\"";
+    if (m_resource.getFingerprint() != -1L && m_resource.getContentLengthLong() != -1L) {
+      return "W/\"" + m_resource.getContentLengthLong() + "-" + m_resource.getFingerprint() + "\"";
     }
     return null;
   }
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.commons.servlet.cache;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+
+/**
+ * Support for HTTP range requests (<code>Range</code> and <code>If-Range</code> headers, see RFC 7233).
+ * <p>
+ * Only a single byte range is supported. Requests for multiple ranges are answered with the complete resource, which is
+ * allowed by the specification.
+ */
+@ApplicationScoped
+public class HttpRangeControl {
+
+  public static final String ACCEPT_RANGES = "Accept-Ranges"; //$NON-NLS-1$
+  public static final String RANGE = "Range"; //$NON-NLS-1$
+  public static final String IF_RANGE = "If-Range"; //$NON-NLS-1$
+  public static final String CONTENT_RANGE = "Content-Range"; //$NON-NLS-1$
+  public static final String BYTES = "bytes"; //$NON-NLS-1$
+
+  private static final Pattern SINGLE_BYTE_RANGE = Pattern.compile("^\\s*bytes\\s*=\\s*(\\d*)\\s*-\\s*(\\d*)\\s*$");
+
+  /**
+   * Announces the support of byte ranges.
+   */
+  public void setAcceptRangesHeader(HttpServletResponse resp) {
+    resp.setHeader(ACCEPT_RANGES, BYTES);
+  }
+
+  /**
+   * @return the byte range requested for the given object or <code>null</code> if the complete object is to be sent.
+   *         The returned range may not be satisfiable, see {@link ByteRange#isSatisfiable()}.
+   */
+  public ByteRange resolveRange(HttpServletRequest req, HttpCacheObject obj) {
+    String range = req.getHeader(RANGE);
+    if (range == null || !"GET".equals(req.getMethod())) {
+      return null;
+    }
+    long length = obj.getResource().getContentLengthLong();
+    if (length < 0) {
+      return null;
+    }
+    if (!isIfRangeSatisfied(req.getHeader(IF_RANGE), obj)) {
+      return null;
+    }
+    return parseRange(range, length);
+  }
+
+  /**
+   * Sets status and headers of a partial response (206) or of an unsatisfiable range (416).
+   */
+  public void setRangeHeaders(HttpServletResponse resp, ByteRange range) {
+    if (range.isSatisfiable()) {
+      resp.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+      resp.setHeader(CONTENT_RANGE, BYTES + " " + range.getStart() + "-" + range.getEnd() + "/" + range.getTotalLength());
+      resp.setContentLengthLong(range.getLength());
+    }
+    else {
+      resp.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+      resp.setHeader(CONTENT_RANGE, BYTES + " */" + range.getTotalLength());
+      resp.setContentLengthLong(0);
+    }
+  }
+
+  /**
+   * A range request is only valid if the object has not changed since the client received the validator sent with
+   * <code>If-Range</code>. Weak entity tags must not be used for range requests.
+   */
+  protected boolean isIfRangeSatisfied(String ifRange, HttpCacheObject obj) {
+    if (ifRange == null) {
+      return true;
+    }
+    ifRange = ifRange.trim();
+    if (ifRange.startsWith("W/")) {
+      return false;
+    }
+    if (ifRange.startsWith("\"")) {
+      String etag = obj.createETag();
+      return etag != null && !etag.startsWith("W/") && etag.equals(ifRange);
+    }
+    long lastModified = obj.getResource().getLastModified();
+    long date = parseHttpDate(ifRange);
+    return date > 0 && lastModified > 0 && lastModified / 1000 == date / 1000;
+  }
+
+  protected long parseHttpDate(String value) {
+    try {
+      return ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+    }
+    catch (DateTimeParseException e) { // NOSONAR
+      return -1;
+    }
+  }
+
+  /**
+   * @return the requested range or <code>null</code> if the header is invalid or requests multiple ranges
+   */
+  protected ByteRange parseRange(String range, long length) {
+    Matcher matcher = SINGLE_BYTE_RANGE.matcher(range);
+    if (!matcher.matches()) {
+      return null;
+    }
+    String first = matcher.group(1);
+    String last = matcher.group(2);
+    try {
+      if (first.isEmpty()) {
+        if (last.isEmpty()) {
+          return null;
+        }
+        // suffix range: the last n bytes
+        long suffixLength = Long.parseLong(last);
+        if (suffixLength == 0 || length == 0) {
+          return new ByteRange(-1, -1, length);
+        }
+        return new ByteRange(Math.max(0, length - suffixLength), length - 1, length);
+      }
+      long start = Long.parseLong(first);
+      if (!last.isEmpty() && Long.parseLong(last) < start) {
+        // syntactically invalid, the header is ignored
+        return null;
+      }
+      if (start >= length) {
+        return new ByteRange(-1, -1, length);
+      }
+      long end = last.isEmpty() ? length - 1 : Long.parseLong(last);
+      return new ByteRange(start, Math.min(end, length - 1), length);
+    }
+    catch (NumberFormatException e) { // NOSONAR
+      return null;
+    }
+  }
+
+  /**
+   * A resolved byte range of a resource.
+   */
+  public static class ByteRange {
+    private final long m_start;
+    private final long m_end;
+    private final long m_totalLength;
+
+    public ByteRange(long start, long end, long totalLength) {
+      m_start = start;
+      m_end = end;
+      m_totalLength = totalLength;
+    }
+
+    /**
+     * @return offset of the first byte or <code>-1</code> if not satisfiable
+     */
+    public long getStart() {
+      return m_start;
+    }
+
+    /**
+     * @return offset of the last byte (inclusive) or <code>-1</code> if not satisfiable
+     */
+    public long getEnd() {
+      return m_end;
+    }
+
+    /**
+     * @return number of bytes in this range
+     */
+    public long getLength() {
+      return isSatisfiable() ? m_end - m_start + 1 : 0;
+    }
+
+    /**
+     * @return length of the complete resource
+     */
+    public long getTotalLength() {
+      return m_totalLength;
+    }
+
+    public boolean isSatisfiable() {
+      return m_start >= 0;
+    }
+
+    @Override
+    public String toString() {
+      return getClass().getSimpleName() + "[" + m_start + "-" + m_end + "/" + m_totalLength + "]";
+    }
+  }
+}
@@ -90,12 +90,23 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
   @Override
   public void setContentLength(int len) {
-    // ignored: content length zipped content != content length unzipped content
+    if (isPartialContent()) {
+      super.setContentLength(len);
+    }
+    // otherwise ignored: content length zipped content != content length unzipped content
+  }
+
+  @Override
+  public void setContentLengthLong(long len) {
+    if (isPartialContent()) {
+      super.setContentLengthLong(len);
+    }
+    // otherwise ignored: see setContentLength
   }
 
   @Override
   public void setHeader(String name, String value) {
-    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !isPartialContent()) {
       // see setContentLength
       return;
     }
@@ -104,13 +115,20 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
   @Override
   public void addHeader(String name, String value) {
-    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !isPartialContent()) {
       // see setContentLength
       return;
     }
     super.addHeader(name, value);
   }
 
+  /**
+   * A partial response (206) is never compressed: its <code>Content-Range</code> header describes the identity bytes.
+   */
+  protected boolean isPartialContent() {
+    return getStatus() == HttpServletResponse.SC_PARTIAL_CONTENT;
+  }
+
   @Override
   public void flushBuffer() throws IOException {
     if (m_writer != null) {
@@ -138,6 +156,9 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     if (!UrlHints.isCompressHint(m_request)) {
       return false;
     }
+    if (isPartialContent()) {
+      return false;
+    }
     if (m_request.isAsyncStarted()) {
       // GzipServletOutputStream does not work with async responses unfortunately
       return false;
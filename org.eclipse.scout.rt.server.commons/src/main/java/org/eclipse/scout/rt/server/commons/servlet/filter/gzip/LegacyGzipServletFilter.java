@@ -114,6 +114,10 @@ public class LegacyGzipServletFilter implements Filter {
     if (!UrlHints.isCompressHint(req)) {
       return false;
     }
+    if (resp.getStatus() == HttpServletResponse.SC_PARTIAL_CONTENT) {
+      // the Content-Range header describes the identity bytes
+      return false;
+    }
     String contentType = resp.getContentType();
     if (contentType == null) {
       return false;
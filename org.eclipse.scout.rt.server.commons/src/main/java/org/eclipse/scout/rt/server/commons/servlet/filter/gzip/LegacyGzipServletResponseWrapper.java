@@ -81,6 +81,11 @@ public class LegacyGzipServletResponseWrapper extends HttpServletResponseWrapper
     // ignored
   }
 
+  @Override
+  public void setContentLengthLong(long len) {
+    // ignored
+  }
+
   @Override
   public void flushBuffer() throws IOException {
     if (m_writer != null) {
@@ -70,6 +70,15 @@ public class SelectIntoArrayTest {
     }
   }
 
+  @Test
+  public void testSelectResolvesMetaDataOnce() {
+    SqlServiceMock sql = createSqlServiceMock(DATA);
+    sql.clearProtocol();
+    sql.select("SELECT A,B,C FROM T WHERE D=0");
+    String protocol = sql.getProtocol().toString();
+    assertEquals(1, protocol.split("ResultSet\\.getMetaData\\(", -1).length - 1);
+  }
+
   @Test
   public void testSelectIntoBeanArray() {
     SqlServiceMock sql = createSqlServiceMock(DATA);
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.csv;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.server.csv.CsvSettings;
+import org.eclipse.scout.rt.server.jdbc.ISelectStreamHandler;
+import org.eclipse.scout.rt.server.jdbc.ISqlService;
+import org.eclipse.scout.rt.server.jdbc.SqlBind;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit tests for {@link CsvSqlAdapter}
+ */
+@RunWith(PlatformTestRunner.class)
+public class CsvSqlAdapterTest {
+
+  private static final String EXPECTED_CSV = ""
+      + "ID,NAME\n"
+      + "1,lorem\n"
+      + "2,\"ipsum, dolor\"\n"
+      + "3,\n";
+
+  @Test
+  public void testExportDataToStream() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new CsvSqlAdapter(createSqlService()).exportData(createSettings(), out);
+    assertEquals(EXPECTED_CSV, new String(out.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testExportDataToGzipStream() throws IOException {
+    CsvSettings settings = createSettings();
+    settings.setGzipCompressed(true);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new CsvSqlAdapter(createSqlService()).exportData(settings, out);
+
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+      assertEquals(EXPECTED_CSV, new String(IOUtility.readBytes(in), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void testImportDataWithBatch() throws IOException {
+    File file = File.createTempFile("csv-import", ".csv");
+    try {
+      Files.write(file.toPath(), "1,lorem\n2,\"ipsum, dolor\"\n3,sit\n".getBytes(StandardCharsets.UTF_8));
+      CsvSettings settings = createSettings();
+      settings.setFile(file);
+      settings.setBatchSize(2);
+      SqlServiceMock sqlService = new SqlServiceMock();
+      new CsvSqlAdapter(sqlService).importData(settings);
+
+      assertEquals(""
+          + "Connection.prepareStatement(INSERT INTO PERSON(GROUP_ID,ID,NAME) VALUES (?,?,?))\n"
+          + "PreparedStatement.setObject(1, 7, -5)\n"
+          + "PreparedStatement.setObject(2, 1, 12)\n"
+          + "PreparedStatement.setObject(3, lorem, 12)\n"
+          + "PreparedStatement.addBatch()\n"
+          + "PreparedStatement.setObject(1, 7, -5)\n"
+          + "PreparedStatement.setObject(2, 2, 12)\n"
+          + "PreparedStatement.setObject(3, ipsum, dolor, 12)\n"
+          + "PreparedStatement.addBatch()\n"
+          + "PreparedStatement.executeBatch()\n"
+          + "PreparedStatement.setObject(1, 7, -5)\n"
+          + "PreparedStatement.setObject(2, 3, 12)\n"
+          + "PreparedStatement.setObject(3, sit, 12)\n"
+          + "PreparedStatement.addBatch()\n"
+          + "PreparedStatement.executeBatch()\n", sqlService.getProtocol().toString());
+    }
+    finally {
+      Files.deleteIfExists(file.toPath());
+    }
+  }
+
+  protected CsvSettings createSettings() {
+    CsvSettings settings = new CsvSettings();
+    settings.setEncoding(StandardCharsets.UTF_8.name());
+    settings.setContentLocale(Locale.US);
+    settings.setColSeparator(',');
+    settings.setTextDelimiter('"');
+    settings.setTableName("PERSON");
+    settings.setGroupKeyColumnName("GROUP_ID");
+    settings.setGroupKeyValue(7L);
+    settings.setCsvColumnNames(Arrays.asList("ID", "NAME"));
+    settings.setWriteColumnNames(true);
+    return settings;
+  }
+
+  protected ISqlService createSqlService() {
+    ISqlService sqlService = mock(ISqlService.class);
+    doAnswer(invocation -> {
+      assertEquals("SELECT ID,NAME FROM PERSON WHERE GROUP_ID=:groupKeyColumnValue", invocation.getArgument(0));
+      ISelectStreamHandler handler = invocation.getArgument(1);
+      Object[][] rows = new Object[][]{{1L, "lorem"}, {2L, "ipsum, dolor"}, {3L, null}};
+      for (int i = 0; i < rows.length; i++) {
+        handler.handleRow(null, null, null, i, Arrays.asList(
+            new SqlBind(Types.BIGINT, rows[i][0]),
+            new SqlBind(Types.VARCHAR, rows[i][1])));
+      }
+      handler.finished(null, null, null, rows.length);
+      return null;
+    }).when(sqlService).selectStreaming(anyString(), any(ISelectStreamHandler.class), any());
+    return sqlService;
+  }
+}
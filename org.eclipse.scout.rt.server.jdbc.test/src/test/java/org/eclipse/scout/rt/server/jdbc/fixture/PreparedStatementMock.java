@@ -37,7 +37,7 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
     String mname = method.getName();
-    if ("executeQuery".equals(mname) || "getResultSet".equals(mname) || mname.matches("set[a-zA-Z0-9]+")) {
+    if ("executeQuery".equals(mname) || "getResultSet".equals(mname) || "addBatch".equals(mname) || "executeBatch".equals(mname) || mname.matches("set[a-zA-Z0-9]+")) {
       log(PreparedStatement.class, mname, args);
     }
     //generic setter
@@ -81,4 +81,11 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
   public int executeUpdate() {
     return 0;
   }
+
+  public void addBatch() {
+  }
+
+  public int[] executeBatch() {
+    return new int[0];
+  }
 }
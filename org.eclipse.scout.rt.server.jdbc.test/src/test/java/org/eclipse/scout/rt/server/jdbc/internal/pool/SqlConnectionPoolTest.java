@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+
+import java.sql.Connection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit tests for {@link SqlConnectionPool}
+ */
+@RunWith(PlatformTestRunner.class)
+public class SqlConnectionPoolTest {
+
+  private final AbstractSqlService m_service = mock(AbstractSqlService.class);
+  private final AtomicInteger m_createCount = new AtomicInteger();
+  private volatile CountDownLatch m_createStarted;
+  private volatile CountDownLatch m_createLatch;
+  private SqlConnectionPool m_pool;
+
+  @After
+  public void after() {
+    if (m_pool != null) {
+      m_pool.destroy();
+    }
+  }
+
+  @Test
+  public void testReuseConnection() throws Exception {
+    createPool(2, 0);
+    Connection conn = m_pool.leaseConnection(m_service);
+    m_pool.releaseConnection(conn);
+    assertSame(conn, m_pool.leaseConnection(m_service));
+    assertEquals(1, m_createCount.get());
+  }
+
+  @Test(expected = TimedOutError.class)
+  public void testLeaseTimeout() throws Exception {
+    createPool(1, 100);
+    m_pool.leaseConnection(m_service);
+    m_pool.leaseConnection(m_service);
+  }
+
+  @Test
+  public void testHandoverToWaitingThread() throws Exception {
+    createPool(1, 0);
+    Connection conn = m_pool.leaseConnection(m_service);
+    IFuture<Connection> future = Jobs.schedule(() -> m_pool.leaseConnection(m_service), Jobs.newInput());
+    JobTestUtil.waitForCondition(() -> m_pool.getWaitingThreadCount() == 1);
+    assertFalse(future.isDone());
+
+    // the released connection is handed over to the waiting thread directly
+    m_pool.releaseConnection(conn);
+    assertSame(conn, future.awaitDoneAndGet(10, TimeUnit.SECONDS));
+    assertEquals(0, m_pool.getWaitingThreadCount());
+    assertEquals(1, m_createCount.get());
+  }
+
+  @Test
+  public void testCreateConnectionWithoutBlockingPool() throws Exception {
+    createPool(2, 0);
+    Connection conn = m_pool.leaseConnection(m_service);
+
+    // the second connection is created slowly
+    m_createStarted = new CountDownLatch(1);
+    m_createLatch = new CountDownLatch(1);
+    IFuture<Connection> future = Jobs.schedule(() -> m_pool.leaseConnection(m_service), Jobs.newInput());
+    // the job has reserved the free slot and is creating the connection
+    assertTrue(m_createStarted.await(10, TimeUnit.SECONDS));
+
+    // releasing and leasing the idle connection is not blocked by the creation
+    m_pool.releaseConnection(conn);
+    assertSame(conn, m_pool.leaseConnection(m_service));
+    assertFalse(future.isDone());
+
+    m_createLatch.countDown();
+    Connection conn2 = future.awaitDoneAndGet(10, TimeUnit.SECONDS);
+    assertNotSame(conn, conn2);
+    assertEquals(2, m_createCount.get());
+  }
+
+  protected void createPool(int poolSize, long leaseTimeout) {
+    m_pool = new SqlConnectionPool() {
+      @Override
+      protected Connection createJdbcConnection(AbstractSqlService service) {
+        CountDownLatch started = m_createStarted;
+        if (started != null) {
+          started.countDown();
+        }
+        CountDownLatch latch = m_createLatch;
+        if (latch != null) {
+          try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+          }
+          catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(e);
+          }
+        }
+        m_createCount.incrementAndGet();
+        return mock(Connection.class);
+      }
+    };
+    m_pool.initialize(getClass().getSimpleName(), poolSize, 300000L, 21600000L, leaseTimeout);
+  }
+}
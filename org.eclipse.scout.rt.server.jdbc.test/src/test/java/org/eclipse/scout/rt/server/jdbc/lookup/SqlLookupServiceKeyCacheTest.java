@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.lookup;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.util.TriState;
+import org.eclipse.scout.rt.shared.ISession;
+import org.eclipse.scout.rt.shared.data.basic.FontSpec;
+import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit tests for the key cache of {@link AbstractSqlLookupService}
+ */
+@RunWith(PlatformTestRunner.class)
+public class SqlLookupServiceKeyCacheTest {
+
+  @Test
+  public void testCacheDisabled() {
+    P_LookupService service = new P_LookupService(false);
+    service.getDataByKey(createCall(1L, null));
+    service.getDataByKey(createCall(1L, null));
+    assertEquals(2, service.m_loadCount.get());
+    assertEquals(0, service.getKeyCacheHitCount());
+  }
+
+  @Test
+  public void testCacheHit() {
+    P_LookupService service = new P_LookupService(true);
+    List<ILookupRow<Long>> rows = service.getDataByKey(createCall(1L, null));
+    assertEquals(1, rows.size());
+    assertEquals("Text 1", rows.get(0).getText());
+
+    rows = service.getDataByKey(createCall(1L, null));
+    assertEquals(1, rows.size());
+    assertEquals("Text 1", rows.get(0).getText());
+    rows.clear(); // returned list is a copy
+
+    assertEquals(1, service.getDataByKey(createCall(1L, null)).size());
+    assertEquals(1, service.m_loadCount.get());
+    assertEquals(2, service.getKeyCacheHitCount());
+    assertEquals(1, service.getKeyCacheMissCount());
+  }
+
+  @Test
+  public void testCacheRespectsKeyAndMaster() {
+    P_LookupService service = new P_LookupService(true);
+    service.getDataByKey(createCall(1L, null));
+    service.getDataByKey(createCall(2L, null));
+    service.getDataByKey(createCall(1L, "master"));
+    service.getDataByKey(createCall(1L, "master"));
+    assertEquals(3, service.m_loadCount.get());
+    assertEquals(1, service.getKeyCacheHitCount());
+  }
+
+  @Test
+  public void testInvalidate() {
+    P_LookupService service = new P_LookupService(true);
+    service.getDataByKey(createCall(1L, null));
+    service.getDataByKey(createCall(2L, null));
+
+    service.invalidateKeyCache(Collections.singleton(1L));
+    service.getDataByKey(createCall(1L, null));
+    service.getDataByKey(createCall(2L, null));
+    assertEquals(3, service.m_loadCount.get());
+
+    service.invalidateKeyCache();
+    service.getDataByKey(createCall(2L, null));
+    assertEquals(4, service.m_loadCount.get());
+  }
+
+  @Test
+  public void testCacheReturnsCopies() {
+    P_LookupService service = new P_LookupService(true);
+    service.getDataByKey(createCall(1L, null)).get(0).withText("changed");
+    assertEquals("Text 1", service.getDataByKey(createCall(1L, null)).get(0).getText());
+    assertEquals(1, service.m_loadCount.get());
+  }
+
+  @Test
+  public void testCacheCopiesRowProperties() {
+    P_LookupService service = new P_LookupService(true);
+    ILookupRow<Long> loaded = service.getDataByKey(createCall(1L, null)).get(0);
+    ILookupRow<Long> cached = service.getDataByKey(createCall(1L, null)).get(0);
+    assertNotSame(loaded, cached);
+    assertEquals("Text 1", cached.getText());
+    assertEquals("icon", cached.getIconId());
+    assertEquals(Long.valueOf(0L), cached.getParentKey());
+    assertEquals(FontSpec.parse("bold"), cached.getFont());
+    assertFalse(cached.isEnabled());
+    assertNotSame(loaded.getAdditionalTableRowData(), cached.getAdditionalTableRowData());
+    assertEquals("value", ((P_TableRowData) cached.getAdditionalTableRowData()).getCustomValue("key"));
+  }
+
+  @Test
+  public void testCacheRespectsUser() {
+    P_LookupService service = new P_LookupService(true);
+    runWithUser("alice", () -> service.getDataByKey(createCall(1L, null)));
+    runWithUser("bob", () -> service.getDataByKey(createCall(1L, null)));
+    runWithUser("alice", () -> service.getDataByKey(createCall(1L, null)));
+    assertEquals(2, service.m_loadCount.get());
+    assertEquals(1, service.getKeyCacheHitCount());
+  }
+
+  @Test
+  public void testCacheRespectsCallProperties() {
+    P_LookupService service = new P_LookupService(true);
+    service.getDataByKey(createCompanyCall(1L, 10L));
+    service.getDataByKey(createCompanyCall(1L, 20L));
+    service.getDataByKey(createCompanyCall(1L, 10L));
+    assertEquals(2, service.m_loadCount.get());
+    assertEquals(1, service.getKeyCacheHitCount());
+  }
+
+  protected void runWithUser(String userId, Runnable runnable) {
+    ISession session = mock(ISession.class);
+    when(session.getUserId()).thenReturn(userId);
+    ISession.CURRENT.set(session);
+    try {
+      runnable.run();
+    }
+    finally {
+      ISession.CURRENT.remove();
+    }
+  }
+
+  protected ILookupCall<Long> createCompanyCall(Long key, Long companyId) {
+    P_CompanyLookupCall call = new P_CompanyLookupCall();
+    call.setKey(key);
+    call.setCompanyId(companyId);
+    return call;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected ILookupCall<Long> createCall(Long key, Object master) {
+    ILookupCall<Long> call = mock(ILookupCall.class);
+    when(call.getKey()).thenReturn(key);
+    when(call.getMaster()).thenReturn(master);
+    when(call.getActive()).thenReturn(TriState.UNDEFINED);
+    return call;
+  }
+
+  public static class P_CompanyLookupCall extends LookupCall<Long> {
+    private static final long serialVersionUID = 1L;
+
+    private Long m_companyId;
+
+    public Long getCompanyId() {
+      return m_companyId;
+    }
+
+    public void setCompanyId(Long companyId) {
+      m_companyId = companyId;
+    }
+  }
+
+  private static class P_LookupService extends AbstractSqlLookupService<Long> {
+    private final boolean m_keyCacheEnabled;
+    private final AtomicInteger m_loadCount = new AtomicInteger();
+
+    P_LookupService(boolean keyCacheEnabled) {
+      m_keyCacheEnabled = keyCacheEnabled;
+    }
+
+    @Override
+    protected boolean getConfiguredKeyCacheEnabled() {
+      return m_keyCacheEnabled;
+    }
+
+    @Override
+    protected String getConfiguredSqlSelect() {
+      return "SELECT ID, TEXT FROM ITEM WHERE 1=1 <key>AND ID = :key</key>";
+    }
+
+    @Override
+    protected List<ILookupRow<Long>> execLoadLookupRows(String originalSql, String preprocessedSql, ILookupCall<Long> call) {
+      m_loadCount.incrementAndGet();
+      P_TableRowData tableRowData = new P_TableRowData();
+      tableRowData.setCustomValue("key", "value");
+      return Collections.singletonList(new LookupRow<>(call.getKey(), "Text " + call.getKey())
+          .withIconId("icon")
+          .withParentKey(0L)
+          .withFont(FontSpec.parse("bold"))
+          .withEnabled(false)
+          .withAdditionalTableRowData(tableRowData));
+    }
+  }
+
+  private static class P_TableRowData extends AbstractTableRowData {
+    private static final long serialVersionUID = 1L;
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.postgresql;
+
+import static org.junit.Assert.*;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.eclipse.scout.rt.server.jdbc.SqlBind;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * JUnit tests for the in list handling of {@link PostgreSqlStyle}
+ */
+public class PostgreSqlStyleTest {
+
+  private final PostgreSqlStyle m_style = new P_ArrayBindPostgreSqlStyle();
+
+  @Test
+  public void testArrayBindDisabledByDefault() {
+    PostgreSqlStyle style = new PostgreSqlStyle();
+    Long[] values = new Long[]{1L, 2L};
+    assertFalse(style.isCreatingInListGeneratingBind(values));
+    assertEquals("((ID IN (1,2)))", style.createInList("ID", false, values));
+    assertEquals("((ID NOT IN (1,2)))", style.createNotInList("ID", false, values));
+  }
+
+  @Test
+  public void testInListWithoutBindAsLiterals() {
+    Long[] values = new Long[]{1L, 2L};
+    assertEquals("((ID IN (1,2)))", m_style.createInList("ID", values));
+    assertEquals("((ID NOT IN (1,2)))", m_style.createNotInList("ID", values));
+  }
+
+  @Test
+  public void testInListAsArrayBind() {
+    Long[] values = new Long[]{1L, 2L, 3L};
+    assertTrue(m_style.isCreatingInListGeneratingBind(values));
+    assertEquals("ID=ANY(?)", m_style.createInList("ID", false, values));
+    assertEquals("ID<>ALL(?)", m_style.createNotInList("ID", false, values));
+    assertTrue(m_style.isCreatingInListGeneratingBind(new Object[]{"a", null, "b"}));
+    assertTrue(m_style.isCreatingInListGeneratingBind(new int[]{1, 2}));
+  }
+
+  @Test
+  public void testInListAsLiterals() {
+    assertEquals("((ID IN (1,2)))", m_style.createInList("ID", true, new Long[]{1L, 2L}));
+    assertFalse(m_style.isCreatingInListGeneratingBind(new Object[]{1L, "a"}));
+    assertFalse(m_style.isCreatingInListGeneratingBind(new Object[]{null}));
+    assertFalse(m_style.isCreatingInListGeneratingBind(new Long[0]));
+    assertFalse(m_style.isCreatingInListGeneratingBind(new Boolean[]{true}));
+    assertEquals("ID is null", m_style.createInList("ID", false, new Long[0]));
+  }
+
+  @Test
+  public void testWriteArrayBind() throws SQLException {
+    PreparedStatement ps = Mockito.mock(PreparedStatement.class);
+    Connection conn = Mockito.mock(Connection.class);
+    Array array = Mockito.mock(Array.class);
+    Mockito.when(ps.getConnection()).thenReturn(conn);
+    Mockito.when(conn.createArrayOf("int8", new Object[]{1L, 2L})).thenReturn(array);
+
+    SqlBind bind = m_style.buildBindFor(new Long[]{1L, 2L}, null);
+    assertEquals(Types.ARRAY, bind.getSqlType());
+    m_style.writeBind(ps, 1, bind);
+    Mockito.verify(ps).setArray(1, array);
+  }
+
+  private static class P_ArrayBindPostgreSqlStyle extends PostgreSqlStyle {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean isArrayBindEnabled() {
+      return true;
+    }
+  }
+}
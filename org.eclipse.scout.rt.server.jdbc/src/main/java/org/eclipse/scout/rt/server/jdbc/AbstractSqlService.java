@@ -49,6 +49,7 @@ import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverNamePro
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcMappingNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionBusyTimeoutProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionLifetimeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolLeaseTimeoutProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPropertiesProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcStatementCacheSizeProperty;
@@ -87,6 +88,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private final int m_jdbcPoolSize;
   private final long m_jdbcPoolConnectionLifetime;
   private final long m_jdbcPoolConnectionBusyTimeout;
+  private final long m_jdbcPoolLeaseTimeout;
   private final String m_defaultUser;
   private final String m_defaultPass;
   private final int m_queryCacheSize;
@@ -119,6 +121,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     m_jdbcPoolSize = getPropertyValue(SqlJdbcPoolSizeProperty.class, getConfiguredJdbcPoolSize());
     m_jdbcPoolConnectionBusyTimeout = getPropertyValue(SqlJdbcPoolConnectionBusyTimeoutProperty.class, getConfiguredJdbcPoolConnectionBusyTimeout());
     m_jdbcPoolConnectionLifetime = getPropertyValue(SqlJdbcPoolConnectionLifetimeProperty.class, getConfiguredJdbcPoolConnectionLifetime());
+    m_jdbcPoolLeaseTimeout = getPropertyValue(SqlJdbcPoolLeaseTimeoutProperty.class, getConfiguredJdbcPoolLeaseTimeout());
     m_maxFetchMemorySize = DEFAULT_MEMORY_PREFETCH_SIZE;
 
     // load sql style
@@ -247,6 +250,12 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return 21600000L;
   }
 
+  @ConfigProperty(ConfigProperty.LONG)
+  @Order(155)
+  protected long getConfiguredJdbcPoolLeaseTimeout() {
+    return 0L;
+  }
+
   @ConfigProperty(ConfigProperty.INTEGER)
   @Order(160)
   protected int getConfiguredJdbcStatementCacheSize() {
@@ -484,6 +493,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_jdbcPoolConnectionBusyTimeout;
   }
 
+  public long getJdbcPoolLeaseTimeout() {
+    return m_jdbcPoolLeaseTimeout;
+  }
+
   public int getMaxFetchMemorySize() {
     return m_maxFetchMemorySize;
   }
@@ -552,7 +565,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
     if (m_pool == null) {
       m_pool = BEANS.get(SqlConnectionPool.class);
-      m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
+      m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout(), getJdbcPoolLeaseTimeout());
     }
     return m_pool;
   }
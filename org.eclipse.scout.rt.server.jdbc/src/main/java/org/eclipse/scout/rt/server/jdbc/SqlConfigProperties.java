@@ -191,6 +191,19 @@ public final class SqlConfigProperties {
     }
   }
 
+  public static class SqlJdbcPoolLeaseTimeoutProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.leaseTimeout";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum time in milliseconds to wait for a connection if all connections of the pool are in use. 0 waits without timeout. The default value is 0.";
+    }
+  }
+
   public static class SqlJdbcStatementCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
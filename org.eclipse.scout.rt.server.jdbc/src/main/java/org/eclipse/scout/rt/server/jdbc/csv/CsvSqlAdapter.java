@@ -9,10 +9,12 @@
  */
 package org.eclipse.scout.rt.server.jdbc.csv;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.Writer;
@@ -20,24 +22,30 @@ import java.nio.charset.StandardCharsets;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
 
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.holders.NVPair;
 import org.eclipse.scout.rt.platform.util.BomInputStreamReader;
+import org.eclipse.scout.rt.platform.util.NonClosingOutputStream;
 import org.eclipse.scout.rt.server.csv.CsvSettings;
 import org.eclipse.scout.rt.server.jdbc.ISelectStreamHandler;
 import org.eclipse.scout.rt.server.jdbc.ISqlService;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 import org.eclipse.scout.rt.shared.csv.CsvHelper;
 import org.eclipse.scout.rt.shared.csv.IDataConsumer;
 
 public class CsvSqlAdapter {
 
+  private static final int EXPORT_BUFFER_SIZE = 1 << 16;
+
   private final ISqlService m_sqlService;
 
   public CsvSqlAdapter(ISqlService service) {
@@ -162,6 +170,25 @@ public class CsvSqlAdapter {
    * @param params
    */
   public void exportData(CsvSettings params) {
+    try (OutputStream out = new FileOutputStream(params.getFile())) {
+      exportData(params, out);
+    }
+    catch (IOException e) {
+      throw new ProcessingException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Export sql data into an output stream, e.g. the response of a CSV download.
+   * <p>
+   * The rows are written while they are fetched from the database, hence the memory consumption does not depend on the
+   * number of exported rows. The data is compressed if {@link CsvSettings#getGzipCompressed()} is set. The stream is
+   * flushed but not closed.
+   *
+   * @param params
+   *          {@link CsvSettings#getFile()} is ignored
+   */
+  public void exportData(CsvSettings params, OutputStream out) {
     final CsvHelper h = new CsvHelper(params.getContentLocale(), params.getColSeparator(), params.getTextDelimiter(), "\n");
     if (params.getCsvColumnTypes() != null) {
       h.setColumnTypes(params.getCsvColumnTypes());
@@ -206,16 +233,23 @@ public class CsvSqlAdapter {
       }
     }
 
-    try (FileOutputStream out = new FileOutputStream(params.getFile()); Writer w = new OutputStreamWriter(out, params.getEncoding())) {
+    // closing the writer finishes the compression, but must not close the stream of the caller
+    OutputStream target = new NonClosingOutputStream(out);
+    try (Writer w = new BufferedWriter(new OutputStreamWriter(params.getGzipCompressed() ? new GZIPOutputStream(target, EXPORT_BUFFER_SIZE) : target, params.getEncoding()), EXPORT_BUFFER_SIZE)) {
       h.exportHeaderRows(w, params.getWriteColumnNames(), params.getWriteColumnTypes());
       ISelectStreamHandler handler = new ISelectStreamHandler() {
+        private Object[] m_row;
+
         @Override
         public void handleRow(Connection con, PreparedStatement stm, ResultSet rs, int rowIndex, List<SqlBind> values) {
-          Object[] row = new Object[values.size()];
-          for (int i = 0; i < row.length; i++) {
-            row[i] = values.get(i).getValue();
+          // the row is written before the next one is fetched, hence the array can be reused
+          if (m_row == null || m_row.length != values.size()) {
+            m_row = new Object[values.size()];
           }
-          h.exportDataRow(row, w, false);
+          for (int i = 0; i < m_row.length; i++) {
+            m_row[i] = values.get(i).getValue();
+          }
+          h.exportDataRow(m_row, w, false);
         }
 
         @Override
@@ -288,7 +322,7 @@ public class CsvSqlAdapter {
     int i = 0;
     for (String colName : cols) {
       if (!CsvHelper.IGNORED_COLUMN_NAME.equals(colName)) {
-        buf.append(":v").append(i);
+        buf.append(params.getBatchSize() > 0 ? "?" : ":v" + i);
         buf.append(",");
         i++;
       }
@@ -298,8 +332,16 @@ public class CsvSqlAdapter {
     String stm = buf.toString();
 
     try (FileInputStream in = new FileInputStream(params.getFile()); Reader reader = new BomInputStreamReader(in, params.getEncoding())) {
-      SqlInsertDataConsumer cons = new SqlInsertDataConsumer(stm, params.getGroupKeyValue(), params.getLineNumberColumnName() != null);
-      h.importData(cons, reader, false, false, params.getHeaderRowCount(), -1, params.getAllowVariableColumnCount());
+      if (params.getBatchSize() > 0) {
+        try (SqlBatchInsertDataConsumer cons = new SqlBatchInsertDataConsumer(stm, params.getGroupKeyValue(), params.getLineNumberColumnName() != null, params.getBatchSize())) {
+          h.importData(cons, reader, false, false, params.getHeaderRowCount(), -1, params.getAllowVariableColumnCount());
+          cons.finish();
+        }
+      }
+      else {
+        SqlInsertDataConsumer cons = new SqlInsertDataConsumer(stm, params.getGroupKeyValue(), params.getLineNumberColumnName() != null);
+        h.importData(cons, reader, false, false, params.getHeaderRowCount(), -1, params.getAllowVariableColumnCount());
+      }
     }
     catch (IOException e) {
       throw new ProcessingException(e.getMessage(), e);
@@ -343,4 +385,90 @@ public class CsvSqlAdapter {
       }
     }
   }
+
+  /**
+   * Inserts the rows using a single {@link PreparedStatement} of the transaction's connection and executes it in
+   * batches of the given size.
+   */
+  private class SqlBatchInsertDataConsumer implements IDataConsumer, AutoCloseable {
+    private final Object m_groupKey;
+    private final boolean m_useLineNumberColumnName;
+    private final int m_batchSize;
+    private final ISqlStyle m_sqlStyle;
+    private final PreparedStatement m_ps;
+    private int m_pendingRowCount;
+
+    public SqlBatchInsertDataConsumer(String stm, Object groupKey, boolean useLineNumberColumnName, int batchSize) {
+      m_groupKey = groupKey;
+      m_useLineNumberColumnName = useLineNumberColumnName;
+      m_batchSize = batchSize;
+      m_sqlStyle = m_sqlService.getSqlStyle();
+      try {
+        m_ps = m_sqlService.getConnection().prepareStatement(stm);
+      }
+      catch (SQLException e) {
+        throw new ProcessingException(e.getMessage(), e)
+            .withContextInfo("statement", stm);
+      }
+    }
+
+    @Override
+    public void processRow(int lineNr, List<Object> row) {
+      try {
+        int jdbcBindIndex = 1;
+        if (m_groupKey != null) {
+          writeBind(jdbcBindIndex++, m_groupKey);
+        }
+        if (m_useLineNumberColumnName) {
+          writeBind(jdbcBindIndex++, lineNr);
+        }
+        for (Object value : row) {
+          writeBind(jdbcBindIndex++, value);
+        }
+        m_ps.addBatch();
+        m_pendingRowCount++;
+        if (m_pendingRowCount >= m_batchSize) {
+          executeBatch();
+        }
+      }
+      catch (SQLException | RuntimeException e) {
+        throw new ProcessingException(e.getMessage(), e)
+            .withContextInfo("lineNr", lineNr)
+            .withContextInfo("row", row);
+      }
+    }
+
+    protected void writeBind(int jdbcBindIndex, Object value) throws SQLException {
+      m_sqlStyle.writeBind(m_ps, jdbcBindIndex, m_sqlStyle.buildBindFor(value, null));
+    }
+
+    protected void executeBatch() throws SQLException {
+      if (m_pendingRowCount > 0) {
+        m_ps.executeBatch();
+        m_pendingRowCount = 0;
+      }
+    }
+
+    /**
+     * Executes the remaining rows. Must be called after the last row has been processed.
+     */
+    public void finish() {
+      try {
+        executeBatch();
+      }
+      catch (SQLException e) {
+        throw new ProcessingException(e.getMessage(), e);
+      }
+    }
+
+    @Override
+    public void close() {
+      try {
+        m_ps.close();
+      }
+      catch (SQLException e) {
+        throw new ProcessingException(e.getMessage(), e);
+      }
+    }
+  }
 }
@@ -200,22 +200,35 @@ public class StatementProcessor implements IStatementProcessor {
     return m_callerService;
   }
 
-  protected Object[] processResultRow(ResultSet rs) throws SQLException {
+  /**
+   * Reads the current row using the metadata resolved once for the whole result set.
+   *
+   * @param columnTypes
+   *          see {@link #getColumnTypes(ResultSetMetaData)}
+   */
+  protected Object[] processResultRow(ResultSet rs, ResultSetMetaData meta, int[] columnTypes) throws SQLException {
     ISqlStyle sqlStyle = m_callerService.getSqlStyle();
-    ResultSetMetaData meta = rs.getMetaData();
-    int colCount = meta.getColumnCount();
-    Object[] row = new Object[colCount];
-    for (int i = 0; i < colCount; i++) {
-      int type = meta.getColumnType(i + 1);
-      row[i] = sqlStyle.readBind(rs, meta, type, i + 1);
+    Object[] row = new Object[columnTypes.length];
+    for (int i = 0; i < columnTypes.length; i++) {
+      row[i] = sqlStyle.readBind(rs, meta, columnTypes[i], i + 1);
     }
     return row;
   }
 
-  private int getMaxFetchSize(ResultSet rs) throws SQLException {
+  /**
+   * @return the JDBC types (see {@link java.sql.Types}) of all columns
+   */
+  protected int[] getColumnTypes(ResultSetMetaData meta) throws SQLException {
+    int[] columnTypes = new int[meta.getColumnCount()];
+    for (int i = 0; i < columnTypes.length; i++) {
+      columnTypes[i] = meta.getColumnType(i + 1);
+    }
+    return columnTypes;
+  }
+
+  private int getMaxFetchSize(ResultSetMetaData meta) throws SQLException {
     if (m_maxFetchSize == -1) {
       int memoryUsagePerRow = 32; // reference to array
-      ResultSetMetaData meta = rs.getMetaData();
       for (int i = 1; i <= meta.getColumnCount(); i++) {
         memoryUsagePerRow += meta.getColumnDisplaySize(i);
       }
@@ -236,12 +249,19 @@ public class StatementProcessor implements IStatementProcessor {
       dynamicFetchSize = initialFetchSize;
     }
     List<Object[]> rows = new ArrayList<>();
+    // resolve the metadata once instead of per row
+    ResultSetMetaData meta = null;
+    int[] columnTypes = null;
     while (rs.next()) {
-      if (isDynamicPrefetch && ++rowCount % dynamicFetchSize == 0 && dynamicFetchSize < getMaxFetchSize(rs)) {
-        dynamicFetchSize = Math.min(Math.max(initialFetchSize, rowCount / 2), getMaxFetchSize(rs));
+      if (columnTypes == null) {
+        meta = rs.getMetaData();
+        columnTypes = getColumnTypes(meta);
+      }
+      if (isDynamicPrefetch && ++rowCount % dynamicFetchSize == 0 && dynamicFetchSize < getMaxFetchSize(meta)) {
+        dynamicFetchSize = Math.min(Math.max(initialFetchSize, rowCount / 2), getMaxFetchSize(meta));
         rs.setFetchSize(dynamicFetchSize);
       }
-      Object[] row = processResultRow(rs);
+      Object[] row = processResultRow(rs, meta, columnTypes);
       rows.add(row);
       if (maxRowCount > 0 && rows.size() >= maxRowCount) {
         break;
@@ -378,11 +398,11 @@ public class StatementProcessor implements IStatementProcessor {
           rs = ps.executeQuery();
 
           ResultSetMetaData meta = rs.getMetaData();
-          int colCount = meta.getColumnCount();
+          int[] columnTypes = getColumnTypes(meta);
           while (rs.next()) {
-            List<SqlBind> row = new ArrayList<>(colCount);
-            for (int i = 0; i < colCount; i++) {
-              int type = meta.getColumnType(i + 1);
+            List<SqlBind> row = new ArrayList<>(columnTypes.length);
+            for (int i = 0; i < columnTypes.length; i++) {
+              int type = columnTypes[i];
               Object value = sqlStyle.readBind(rs, meta, type, i + 1);
               row.add(new SqlBind(type, value));
             }
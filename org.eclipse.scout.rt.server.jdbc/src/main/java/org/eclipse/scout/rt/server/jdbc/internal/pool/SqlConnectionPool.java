@@ -9,10 +9,13 @@
  */
 package org.eclipse.scout.rt.server.jdbc.internal.pool;
 
+import java.lang.ref.WeakReference;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
 import java.util.Date;
+import java.util.Deque;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -28,6 +31,7 @@ import org.eclipse.scout.rt.platform.opentelemetry.IHistogramViewHintProvider;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.TimingUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
 import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -41,8 +45,12 @@ import io.opentelemetry.api.metrics.ObservableLongMeasurement;
 
 /**
  * System-wide connection pool for pooling connections There is one pool for every ISqlService sub class type If
- * possible, every scout Session is provided with always the same connection it had in the last request this class is
+ * possible, every thread is provided with always the same connection it had in the last request this class is
  * thread-safe
+ * <p>
+ * The pool lock only guards the bookkeeping of the pool. Connections are created and tested without holding it, so a
+ * slow database does not block threads leasing or releasing other connections. Threads waiting for a connection are
+ * served in FIFO order.
  */
 @Bean
 @SuppressWarnings("squid:S1166")
@@ -62,10 +70,17 @@ public class SqlConnectionPool {
   private final Object m_poolLock = new Object();
   private final Set<PoolEntry> m_idleEntries = new HashSet<>();
   private final Set<PoolEntry> m_busyEntries = new HashSet<>();
+  private final Deque<Waiter> m_waiters = new ArrayDeque<>();
+  /**
+   * Entry last leased by a thread. Weakly referenced, so that closed entries are not kept alive by (pooled) threads.
+   */
+  private final ThreadLocal<WeakReference<PoolEntry>> m_lastLeasedEntry = new ThreadLocal<>();
+  private int m_creatingCount;
   private volatile String m_name;
   private volatile int m_poolSize;
   private volatile long m_connectionLifetime;
   private volatile long m_connectionBusyTimeout;
+  private volatile long m_leaseTimeout;
   private final AtomicBoolean m_initialized = new AtomicBoolean(false);
   /*
    * OpenTelemetry
@@ -74,11 +89,21 @@ public class SqlConnectionPool {
   private Attributes m_defaultAttributes;
 
   public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
+    initialize(name, poolSize, connectionLifetime, connectionBusyTimeout, 0);
+  }
+
+  /**
+   * @param leaseTimeout
+   *          maximum time in milliseconds to wait for a connection if all connections are in use, 0 to wait without
+   *          timeout.
+   */
+  public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout, long leaseTimeout) {
     Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
     m_name = name;
     m_poolSize = poolSize;
     m_connectionLifetime = connectionLifetime;
     m_connectionBusyTimeout = connectionBusyTimeout;
+    m_leaseTimeout = leaseTimeout;
     startManagePool();
     initMetrics();
   }
@@ -132,131 +157,284 @@ public class SqlConnectionPool {
   public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
     final long startTime = System.nanoTime();
     managePool();
+    PoolEntry candidate = null;
+    while (candidate == null) {
+      candidate = reserveEntry();
+      if (candidate == null) {
+        // a free slot was reserved: create new connection
+        candidate = createEntry(service);
+      }
+      // test candidate connection (outside the lock as it may take some time)
+      try {
+        service.callbackTestConnection(candidate.conn);
+      }
+      catch (Exception e) {
+        // remove candidate from pool and close it
+        LOG.warn("closing dirty connection: {}", candidate.conn, e);
+        discardEntry(candidate);
+        closeConnection(candidate.conn);
+        candidate = null;
+      }
+    }
+    candidate.leaseCount++;
+    m_lastLeasedEntry.set(new WeakReference<>(candidate));
+    LOG.debug("lease   {}", candidate.conn);
+    double elapsedAcquired = TimingUtility.msElapsed(startTime);
+    m_connectionWaitTime.record(elapsedAcquired, m_defaultAttributes);
+    return candidate.conn;
+  }
+
+  /**
+   * Moves an idle connection to the busy pool. The connection last leased by the current thread is preferred. If there
+   * is no idle connection and the pool is not full, a slot for a new connection is reserved. Otherwise the current
+   * thread waits (in FIFO order with other waiting threads) for a released connection or a free slot.
+   *
+   * @return the reserved entry or <code>null</code> if a new connection must be created by the caller
+   */
+  private PoolEntry reserveEntry() {
     synchronized (m_poolLock) {
       Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
 
-      PoolEntry candidate = null;
-      while (candidate == null) {
-        // get next available conn
-        for (PoolEntry m_idleEntry : m_idleEntries) {
-          candidate = m_idleEntry;
-          break;
-        }
-        if (candidate == null && m_idleEntries.size() + m_busyEntries.size() < m_poolSize) {
-          // create new connection
-          PoolEntry test = new PoolEntry();
-          test.conn = new SqlConnectionBuilder().createJdbcConnection(service);
-          LOG.info("created jdbc connection {}", test.conn);
-          service.callbackAfterConnectionCreated(test.conn);
-          test.createTime = System.currentTimeMillis();
-          m_idleEntries.add(test);
-          candidate = test;
-        }
-        if (candidate == null) {
-          // wait
-          try {
-            m_poolLock.wait();
-          }
-          catch (InterruptedException ie) {
-            Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
-            throw new ThreadInterruptedError("Interrupted while leasing database connection");
-          }
+      PoolEntry candidate = pollIdleEntry();
+      if (candidate == null) {
+        if (m_idleEntries.size() + m_busyEntries.size() + m_creatingCount < m_poolSize) {
+          m_creatingCount++;
+          return null;
         }
-        // test candidate connection
-        if (candidate != null) {
-          try {
-            service.callbackTestConnection(candidate.conn);
-          }
-          catch (Exception e) {
-            // remove candidate from idle pool and close it
-            m_idleEntries.remove(candidate);
-            LOG.warn("closing dirty connection: {}", candidate.conn, e);
-            try {
-              candidate.conn.close();
-            }
-            catch (Exception fatal) {
-              LOG.warn("could not close candidate connection", fatal);
-            }
-            candidate = null;
-          }
+        Waiter waiter = awaitHandoff();
+        if (waiter.m_entry == null) {
+          return null; // slot handed over
         }
-      }// end while
-       // move to busy pool
-      m_idleEntries.remove(candidate);
+        candidate = waiter.m_entry;
+      }
       candidate.leaseBegin = System.currentTimeMillis();
-      candidate.leaseCount++;
       m_busyEntries.add(candidate);
-      LOG.debug("lease   {}", candidate.conn);
-      double elapsedAcquired = TimingUtility.msElapsed(startTime);
-      m_connectionWaitTime.record(elapsedAcquired, m_defaultAttributes);
-      return candidate.conn;
+      return candidate;
+    }
+  }
+
+  private PoolEntry pollIdleEntry() {
+    WeakReference<PoolEntry> lastLeasedRef = m_lastLeasedEntry.get();
+    if (lastLeasedRef != null) {
+      PoolEntry lastLeased = lastLeasedRef.get();
+      if (lastLeased != null && m_idleEntries.remove(lastLeased)) {
+        return lastLeased;
+      }
+      // the entry is busy or was closed meanwhile
+      m_lastLeasedEntry.remove();
+    }
+    Iterator<PoolEntry> it = m_idleEntries.iterator();
+    if (!it.hasNext()) {
+      return null;
+    }
+    PoolEntry candidate = it.next();
+    it.remove();
+    return candidate;
+  }
+
+  /**
+   * Must be called while holding {@link #m_poolLock}.
+   *
+   * @return the waiter with either a handed over idle entry or a reserved slot for a new connection
+   */
+  private Waiter awaitHandoff() {
+    Waiter waiter = new Waiter();
+    m_waiters.addLast(waiter);
+    long leaseTimeout = m_leaseTimeout;
+    long deadline = System.currentTimeMillis() + leaseTimeout;
+    try {
+      while (!waiter.m_done) {
+        Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+        if (leaseTimeout <= 0) {
+          m_poolLock.wait();
+          continue;
+        }
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+          throw new TimedOutError("Timed out while leasing database connection [pool={}, timeout={}ms]", m_name, leaseTimeout);
+        }
+        m_poolLock.wait(remaining);
+      }
+      return waiter;
+    }
+    catch (InterruptedException ie) {
+      cancelWaiter(waiter);
+      Thread.currentThread().interrupt(); // Restore the thread's interrupted status because cleared by catching {@link java.lang.InterruptedException}.
+      throw new ThreadInterruptedError("Interrupted while leasing database connection");
+    }
+    catch (RuntimeException e) {
+      cancelWaiter(waiter);
+      throw e;
+    }
+  }
+
+  /**
+   * Must be called while holding {@link #m_poolLock}. Passes an entry or slot already handed over to the waiter on.
+   */
+  private void cancelWaiter(Waiter waiter) {
+    if (!waiter.m_done) {
+      m_waiters.remove(waiter);
+    }
+    else if (waiter.m_entry != null) {
+      offerIdleEntry(waiter.m_entry);
+    }
+    else {
+      m_creatingCount--;
+      offerFreeSlot();
+    }
+  }
+
+  /**
+   * Must be called while holding {@link #m_poolLock}. Hands the entry over to the first waiting thread or moves it to
+   * the idle pool.
+   */
+  private void offerIdleEntry(PoolEntry entry) {
+    Waiter waiter = m_waiters.pollFirst();
+    if (waiter == null) {
+      m_idleEntries.add(entry);
+      return;
+    }
+    waiter.m_entry = entry;
+    waiter.m_done = true;
+    m_poolLock.notifyAll();
+  }
+
+  /**
+   * Must be called while holding {@link #m_poolLock} whenever a connection was removed from the pool. Hands the free
+   * slot over to the first waiting thread, which then creates a new connection.
+   */
+  private void offerFreeSlot() {
+    Waiter waiter = m_waiters.pollFirst();
+    if (waiter == null) {
+      return;
+    }
+    m_creatingCount++;
+    waiter.m_done = true;
+    m_poolLock.notifyAll();
+  }
+
+  /**
+   * Creates a new connection for a reserved slot. Called without holding {@link #m_poolLock}, hence other threads may
+   * lease and release connections meanwhile.
+   */
+  private PoolEntry createEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    PoolEntry entry = new PoolEntry();
+    try {
+      entry.conn = createJdbcConnection(service);
+      LOG.info("created jdbc connection {}", entry.conn);
+      service.callbackAfterConnectionCreated(entry.conn);
+    }
+    catch (ClassNotFoundException | SQLException | RuntimeException e) {
+      synchronized (m_poolLock) {
+        m_creatingCount--;
+        offerFreeSlot();
+      }
+      if (entry.conn != null) {
+        closeConnection(entry.conn);
+      }
+      throw e;
+    }
+
+    synchronized (m_poolLock) {
+      m_creatingCount--;
+      if (isDestroyed()) {
+        closeConnectionAsync(entry.conn, "destroying SQL connection pool");
+        Assertions.fail("{} not available because destroyed.", getClass().getSimpleName());
+      }
+      entry.createTime = System.currentTimeMillis();
+      entry.leaseBegin = entry.createTime;
+      m_busyEntries.add(entry);
+    }
+    return entry;
+  }
+
+  protected Connection createJdbcConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    return new SqlConnectionBuilder().createJdbcConnection(service);
+  }
+
+  /**
+   * Removes a busy entry from the pool (e.g. because its connection is dirty).
+   */
+  private void discardEntry(PoolEntry entry) {
+    synchronized (m_poolLock) {
+      if (m_busyEntries.remove(entry)) {
+        offerFreeSlot();
+      }
+    }
+  }
+
+  private void closeConnection(Connection conn) {
+    try {
+      conn.close();
+    }
+    catch (Exception e) {
+      LOG.warn("could not close connection", e);
     }
   }
 
   public void releaseConnection(Connection conn) {
     LOG.debug("release {}", conn);
+    PoolEntry candidate = null;
     synchronized (m_poolLock) {
       Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
 
-      PoolEntry candidate = null;
-      for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-        PoolEntry e = (PoolEntry) it.next();
+      for (PoolEntry e : m_busyEntries) {
         if (e.conn == conn) {
           candidate = e;
-          it.remove();
           break;
         }
       }
-      // check close status of connection
-      if (candidate != null) {
-        try {
-          if (candidate.conn.isClosed()) {
-            candidate = null;
-          }
+    }
+    // check close and error status of connection (outside the lock as it may take some time)
+    boolean dirty = candidate == null || !isReusable(conn);
+    synchronized (m_poolLock) {
+      // the entry could have been removed meanwhile (busy timeout or destroyed pool)
+      if (candidate != null && m_busyEntries.remove(candidate)) {
+        if (dirty) {
+          offerFreeSlot();
         }
-        catch (Exception e) {
-          // ignore
-          candidate = null;
+        else {
+          // move to idle pool
+          candidate.leaseBegin = 0;
+          offerIdleEntry(candidate);
         }
       }
-      // check error status of connection
-      if (candidate != null) {
-        try {
-          if (candidate.conn.getWarnings() != null) {
-            /*
-             * connection is normally valid again after clearing the warnings.
-             * Since oracle is not supporting warnings, the subsequent call has no effect!
-             */
-            candidate.conn.clearWarnings();
-          }
-        }
-        catch (Exception e) {
-          // ignore
-          candidate = null;
-        }
+      else {
+        dirty = true;
       }
-      // all checks passed, candidate is either non-null or null, in the latter
-      // case conn is a dirty connection
-      // back to idle pool
-      if (candidate != null) {
-        // move to idle pool
-        candidate.leaseBegin = 0;
-        m_idleEntries.add(candidate);
+    }
+    if (dirty) {
+      LOG.warn("closing dirty connection: {}", conn);
+      try {
+        conn.close();
       }
-      else {
-        LOG.warn("closing dirty connection: {}", conn);
-        try {
-          conn.close();
-        }
-        catch (SQLException e) {
-          // ignored
-        }
+      catch (SQLException e) {
+        // ignored
       }
-      m_poolLock.notifyAll();
     }
     managePool();
   }
 
+  private boolean isReusable(Connection conn) {
+    try {
+      if (conn.isClosed()) {
+        return false;
+      }
+      if (conn.getWarnings() != null) {
+        /*
+         * connection is normally valid again after clearing the warnings.
+         * Since oracle is not supporting warnings, the subsequent call has no effect!
+         */
+        conn.clearWarnings();
+      }
+      return true;
+    }
+    catch (Exception e) {
+      // ignore
+      return false;
+    }
+  }
+
   public String getInventory() {
     StringBuilder buf = new StringBuilder();
     SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
@@ -291,21 +469,23 @@ public class SqlConnectionPool {
         }
 
         // close old idle connections
-        for (Iterator it = m_idleEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
+        for (Iterator<PoolEntry> it = m_idleEntries.iterator(); it.hasNext();) {
+          PoolEntry e = it.next();
           if (System.currentTimeMillis() - e.createTime > m_connectionLifetime) {
             closeConnectionAsync(e.conn, "expired idle connection");
             e.conn = null;
             it.remove();
+            offerFreeSlot();
           }
         }
         // close timed out busy connections
-        for (Iterator it = m_busyEntries.iterator(); it.hasNext();) {
-          PoolEntry e = (PoolEntry) it.next();
+        for (Iterator<PoolEntry> it = m_busyEntries.iterator(); it.hasNext();) {
+          PoolEntry e = it.next();
           if (System.currentTimeMillis() - e.leaseBegin > m_connectionBusyTimeout) {
             closeConnectionAsync(e.conn, "timed out busy connection");
             e.conn = null;
             it.remove();
+            offerFreeSlot();
           }
         }
       }
@@ -350,6 +530,10 @@ public class SqlConnectionPool {
         closeConnectionAsync(busyEntry.conn, "destroying SQL connection pool");
       }
       m_busyEntries.clear();
+
+      // waiting threads fail as the pool is destroyed
+      m_waiters.clear();
+      m_poolLock.notifyAll();
     }
   }
 
@@ -367,6 +551,26 @@ public class SqlConnectionPool {
         .withExecutionHint(m_identity));
   }
 
+  /**
+   * @return number of threads waiting for a connection
+   */
+  int getWaitingThreadCount() {
+    synchronized (m_poolLock) {
+      return m_waiters.size();
+    }
+  }
+
+  /**
+   * A thread waiting for a connection. Guarded by {@link SqlConnectionPool#m_poolLock}.
+   */
+  private static final class Waiter {
+    private boolean m_done;
+    /**
+     * The handed over idle entry or <code>null</code> if a slot for a new connection was handed over.
+     */
+    private PoolEntry m_entry;
+  }
+
   /**
    * Custom histogramm buckets for <code>db.client.connections.wait_time</code> (time unit: milliseconds).
    *
@@ -9,7 +9,20 @@
  */
 package org.eclipse.scout.rt.server.jdbc.lookup;
 
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -17,22 +30,37 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.annotations.ConfigOperation;
 import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
+import org.eclipse.scout.rt.platform.cache.AllCacheEntryFilter;
+import org.eclipse.scout.rt.platform.cache.ICache;
+import org.eclipse.scout.rt.platform.cache.ICacheBuilder;
+import org.eclipse.scout.rt.platform.cache.ICacheEntryFilter;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.exception.VetoException;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
 import org.eclipse.scout.rt.platform.text.TEXTS;
+import org.eclipse.scout.rt.platform.util.BeanUtility;
+import org.eclipse.scout.rt.platform.util.CloneUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.platform.util.TriState;
 import org.eclipse.scout.rt.platform.util.TypeCastUtility;
 import org.eclipse.scout.rt.server.jdbc.ISqlService;
 import org.eclipse.scout.rt.server.jdbc.SQL;
 import org.eclipse.scout.rt.server.services.lookup.AbstractLookupService;
+import org.eclipse.scout.rt.shared.ISession;
+import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+
 /**
  * Sql SELECT statement for getting {@link LookupRow}s.<br>
  * <p>
@@ -52,6 +80,8 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Valid bind names are: Object key, String text, String all, Object rec, {@link TriState} active<br>
  * Valid xml tags are: &lt;key&gt;, &lt;text&gt;, &lt;all&gt;, &lt;rec&gt;
+ * <p>
+ * Lookups by key may be cached across requests, see {@link #getConfiguredKeyCacheEnabled()}.
  */
 public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<T> {
 
@@ -60,6 +90,17 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
 
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlLookupService.class);
 
+  private static final AttributeKey<String> LOOKUP_SERVICE = AttributeKey.stringKey("lookup.service");
+  private static final AttributeKey<String> CACHE_RESULT = AttributeKey.stringKey("result");
+
+  private final Object m_keyCacheLock = new Object();
+  private volatile ICache<KeyCacheKey, List<ILookupRow<T>>> m_keyCache;
+  private final AtomicLong m_keyCacheHitCount = new AtomicLong();
+  private final AtomicLong m_keyCacheMissCount = new AtomicLong();
+  private LongCounter m_keyCacheRequests;
+  private Attributes m_keyCacheHitAttributes;
+  private Attributes m_keyCacheMissAttributes;
+
   /**
    * Sql SELECT statement
    */
@@ -78,6 +119,50 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
     return 1;
   }
 
+  /**
+   * Enables a cache for lookups by key shared by all sessions. The rows of a key are loaded once and then served from
+   * the cache until the time to live expires or the cache is invalidated (see {@link #invalidateKeyCache()}).
+   * <p>
+   * Rows are cached per key, master, active state, locale, lookup call class, the properties declared by subclasses of
+   * {@link LookupCall} and the user of the current session, see {@link #createKeyCacheKey(ILookupCall)}. Only enable
+   * the cache if the SQL statement does not depend on other inputs (e.g. session properties which differ for the same
+   * user), or override {@link #createKeyCacheKey(ILookupCall)} accordingly.
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(30)
+  protected boolean getConfiguredKeyCacheEnabled() {
+    return false;
+  }
+
+  /**
+   * If <code>true</code> the cached rows of a key are shared by all users. Only enable this if the SQL statement does
+   * not use binds of the session (such as <code>:userId</code>). Default is <code>false</code>, see
+   * {@link #getConfiguredKeyCacheEnabled()}.
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(35)
+  protected boolean getConfiguredKeyCacheSharedBetweenUsers() {
+    return false;
+  }
+
+  /**
+   * Approximate maximum number of cached keys, see {@link #getConfiguredKeyCacheEnabled()}.
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(40)
+  protected int getConfiguredKeyCacheSize() {
+    return 10000;
+  }
+
+  /**
+   * Time to live of cached keys in milliseconds, see {@link #getConfiguredKeyCacheEnabled()}.
+   */
+  @ConfigProperty(ConfigProperty.LONG)
+  @Order(50)
+  protected long getConfiguredKeyCacheTimeToLive() {
+    return TimeUnit.MINUTES.toMillis(5);
+  }
+
   /**
    * This method is called on server side to load lookup rows.
    */
@@ -110,10 +195,182 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
 
   @Override
   public List<ILookupRow<T>> getDataByKey(ILookupCall<T> call) {
+    if (!isKeyCacheEnabled(call)) {
+      return loadDataByKey(call);
+    }
+
+    KeyCacheKey cacheKey = createKeyCacheKey(call);
+    ICache<KeyCacheKey, List<ILookupRow<T>>> cache = getKeyCache();
+    List<ILookupRow<T>> rows = cache.getCachedValue(cacheKey);
+    if (rows != null) {
+      m_keyCacheHitCount.incrementAndGet();
+      m_keyCacheRequests.add(1, m_keyCacheHitAttributes);
+    }
+    else {
+      rows = cache.get(cacheKey);
+      m_keyCacheMissCount.incrementAndGet();
+      m_keyCacheRequests.add(1, m_keyCacheMissAttributes);
+    }
+    return rows == null ? new ArrayList<>() : copyKeyCacheRows(rows);
+  }
+
+  /**
+   * Lookup rows are mutable, therefore callers get a copy of the cached rows. {@link LookupRow}s are copied property by
+   * property, only their additional table row data is copied by serialization. Other {@link ILookupRow}
+   * implementations are deep copied by serialization.
+   */
+  protected List<ILookupRow<T>> copyKeyCacheRows(List<ILookupRow<T>> rows) {
+    List<ILookupRow<T>> copy = new ArrayList<>(rows.size());
+    for (ILookupRow<T> row : rows) {
+      copy.add(copyKeyCacheRow(row));
+    }
+    return copy;
+  }
+
+  protected ILookupRow<T> copyKeyCacheRow(ILookupRow<T> row) {
+    try {
+      if (row.getClass() != LookupRow.class) {
+        return CloneUtility.createDeepCopyBySerializing(row);
+      }
+      AbstractTableRowData additionalTableRowData = row.getAdditionalTableRowData();
+      return new LookupRow<>(row.getKey(), row.getText())
+          .withIconId(row.getIconId())
+          .withTooltipText(row.getTooltipText())
+          .withBackgroundColor(row.getBackgroundColor())
+          .withForegroundColor(row.getForegroundColor())
+          .withFont(row.getFont())
+          .withCssClass(row.getCssClass())
+          .withEnabled(row.isEnabled())
+          .withParentKey(row.getParentKey())
+          .withActive(row.isActive())
+          .withAdditionalTableRowData(additionalTableRowData == null ? null : CloneUtility.createDeepCopyBySerializing(additionalTableRowData));
+    }
+    catch (IOException | ClassNotFoundException e) {
+      throw new ProcessingException("Unable to copy cached lookup rows of lookup service '" + getClass().getName() + "'.", e);
+    }
+  }
+
+  protected List<ILookupRow<T>> loadDataByKey(ILookupCall<T> call) {
     String sql = getConfiguredSqlSelect();
     return execLoadLookupRows(sql, filterSqlByKey(sql), call);
   }
 
+  protected boolean isKeyCacheEnabled(ILookupCall<T> call) {
+    return getConfiguredKeyCacheEnabled() && call.getKey() != null;
+  }
+
+  /**
+   * Creates the key of the lookup by key cache. Override to add further inputs the SQL statement depends on.
+   */
+  protected KeyCacheKey createKeyCacheKey(ILookupCall<T> call) {
+    return new KeyCacheKey(call, call.getKey(), call.getMaster(), call.getActive(), NlsLocale.get(), call.getClass().getName(),
+        getKeyCacheUserId(), getKeyCacheCallProperties(call));
+  }
+
+  /**
+   * @return the user of the current session or <code>null</code> if the cached rows are shared by all users, see
+   *         {@link #getConfiguredKeyCacheSharedBetweenUsers()}
+   */
+  protected String getKeyCacheUserId() {
+    if (getConfiguredKeyCacheSharedBetweenUsers()) {
+      return null;
+    }
+    ISession session = ISession.CURRENT.get();
+    return session != null ? session.getUserId() : null;
+  }
+
+  /**
+   * The lookup call is a bind base of the SQL statement. Therefore, the properties declared by subclasses of
+   * {@link LookupCall} are part of the cache key. Their values must be serializable.
+   */
+  protected Map<String, Object> getKeyCacheCallProperties(ILookupCall<T> call) {
+    if (!(call instanceof LookupCall)) {
+      return Collections.emptyMap();
+    }
+    return new TreeMap<>(BeanUtility.getProperties(call, LookupCall.class, null));
+  }
+
+  protected ICache<KeyCacheKey, List<ILookupRow<T>>> getKeyCache() {
+    ICache<KeyCacheKey, List<ILookupRow<T>>> cache = m_keyCache;
+    if (cache == null) {
+      synchronized (m_keyCacheLock) {
+        cache = m_keyCache;
+        if (cache == null) {
+          initKeyCacheMetrics();
+          cache = createKeyCacheBuilder().build();
+          m_keyCache = cache;
+        }
+      }
+    }
+    return cache;
+  }
+
+  /**
+   * Can be overridden to customize the lookup by key cache.
+   */
+  protected ICacheBuilder<KeyCacheKey, List<ILookupRow<T>>> createKeyCacheBuilder() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<KeyCacheKey, List<ILookupRow<T>>> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    return cacheBuilder.withCacheId(getClass().getName() + ".keyCache")
+        .withValueResolver(this::resolveKeyCacheValue)
+        .withReplaceIfExists(true)
+        .withClusterEnabled(true)
+        .withSizeBound(getConfiguredKeyCacheSize())
+        .withTimeToLive(getConfiguredKeyCacheTimeToLive(), TimeUnit.MILLISECONDS, false);
+  }
+
+  @SuppressWarnings("unchecked")
+  protected List<ILookupRow<T>> resolveKeyCacheValue(KeyCacheKey cacheKey) {
+    ILookupCall<T> call = (ILookupCall<T>) cacheKey.m_call;
+    cacheKey.m_call = null; // do not keep the call referenced by the cache
+    return Collections.unmodifiableList(new ArrayList<>(loadDataByKey(call)));
+  }
+
+  private void initKeyCacheMetrics() {
+    m_keyCacheRequests = GlobalOpenTelemetry.get().getMeter("scout.AbstractSqlLookupService")
+        .counterBuilder("scout.lookup.key_cache.requests")
+        .setDescription("The number of lookups by key served by the key cache (hit) or by the database (miss).")
+        .setUnit("{request}")
+        .build();
+    Attributes attributes = Attributes.of(LOOKUP_SERVICE, getClass().getName());
+    m_keyCacheHitAttributes = attributes.toBuilder().put(CACHE_RESULT, "hit").build();
+    m_keyCacheMissAttributes = attributes.toBuilder().put(CACHE_RESULT, "miss").build();
+  }
+
+  /**
+   * @return number of lookups by key served by the cache, i.e. saved database roundtrips
+   */
+  public long getKeyCacheHitCount() {
+    return m_keyCacheHitCount.get();
+  }
+
+  /**
+   * @return number of lookups by key which had to be loaded from the database although the cache is enabled
+   */
+  public long getKeyCacheMissCount() {
+    return m_keyCacheMissCount.get();
+  }
+
+  /**
+   * Invalidates all cached lookups by key (in the whole cluster).
+   */
+  public void invalidateKeyCache() {
+    ICache<KeyCacheKey, List<ILookupRow<T>>> cache = m_keyCache;
+    if (cache != null) {
+      cache.invalidate(new AllCacheEntryFilter<>(), true);
+    }
+  }
+
+  /**
+   * Invalidates the cached lookups of the given keys (in the whole cluster).
+   */
+  public void invalidateKeyCache(Collection<? extends T> keys) {
+    ICache<KeyCacheKey, List<ILookupRow<T>>> cache = m_keyCache;
+    if (cache != null) {
+      cache.invalidate(new LookupKeyCacheEntryFilter<>(keys), true);
+    }
+  }
+
   @Override
   public List<ILookupRow<T>> getDataByText(ILookupCall<T> call) {
     // change wildcards in text to db specific wildcards
@@ -183,4 +440,95 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
     return StringUtility.removeTagBounds(StringUtility.removeTags(sqlSelect, new String[]{"key", "text", "all"}), "rec");
   }
 
+  /**
+   * Key of the lookup by key cache. The lookup call is only referenced until the value has been resolved.
+   */
+  protected static class KeyCacheKey implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Object m_key;
+    private final Object m_master;
+    private final TriState m_active;
+    private final Locale m_locale;
+    private final String m_callClassName;
+    private final String m_userId;
+    private final Map<String, Object> m_callProperties;
+    private transient ILookupCall<?> m_call;
+
+    public KeyCacheKey(ILookupCall<?> call, Object key, Object master, TriState active, Locale locale, String callClassName, String userId, Map<String, Object> callProperties) {
+      m_call = call;
+      m_key = key;
+      m_master = master;
+      m_active = active;
+      m_locale = locale;
+      m_callClassName = callClassName;
+      m_userId = userId;
+      m_callProperties = callProperties;
+    }
+
+    public Object getKey() {
+      return m_key;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(m_key, m_master, m_active, m_locale, m_callClassName, m_userId, m_callProperties);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      KeyCacheKey other = (KeyCacheKey) obj;
+      return Objects.equals(m_key, other.m_key)
+          && Objects.equals(m_master, other.m_master)
+          && Objects.equals(m_active, other.m_active)
+          && Objects.equals(m_locale, other.m_locale)
+          && Objects.equals(m_callClassName, other.m_callClassName)
+          && Objects.equals(m_userId, other.m_userId)
+          && Objects.equals(m_callProperties, other.m_callProperties);
+    }
+
+    @Override
+    public String toString() {
+      return "KeyCacheKey [key=" + m_key + ", master=" + m_master + ", active=" + m_active + ", locale=" + m_locale + ", call=" + m_callClassName + ", userId=" + m_userId + ", callProperties=" + m_callProperties + "]";
+    }
+  }
+
+  /**
+   * Accepts all cache entries of the given lookup keys regardless of the other inputs.
+   */
+  protected static class LookupKeyCacheEntryFilter<V> implements ICacheEntryFilter<KeyCacheKey, V> {
+    private static final long serialVersionUID = 1L;
+
+    private final Set<Object> m_keys;
+
+    public LookupKeyCacheEntryFilter(Collection<?> keys) {
+      m_keys = new HashSet<>(keys);
+    }
+
+    @Override
+    public boolean accept(KeyCacheKey key, V value) {
+      return m_keys.contains(key.getKey());
+    }
+
+    @Override
+    public ICacheEntryFilter<KeyCacheKey, V> coalesce(ICacheEntryFilter<KeyCacheKey, V> other) {
+      if (other instanceof LookupKeyCacheEntryFilter) {
+        LookupKeyCacheEntryFilter<V> merged = new LookupKeyCacheEntryFilter<>(m_keys);
+        merged.m_keys.addAll(((LookupKeyCacheEntryFilter<V>) other).m_keys);
+        return merged;
+      }
+      return null;
+    }
+
+    @Override
+    public String toString() {
+      return "LookupKeyCacheEntryFilter [m_keys=" + m_keys + "]";
+    }
+  }
 }
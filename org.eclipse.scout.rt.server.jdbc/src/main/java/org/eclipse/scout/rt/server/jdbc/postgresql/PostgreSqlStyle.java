@@ -9,6 +9,7 @@
  */
 package org.eclipse.scout.rt.server.jdbc.postgresql;
 
+import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -88,4 +89,35 @@ public class PostgreSqlStyle extends AbstractSqlStyle {
   protected int getMaxListSize() {
     return MAX_LIST_SIZE;
   }
+
+  /**
+   * Element types of in lists of numbers, strings and UUIDs. They are only bound as array if a subclass enables
+   * {@link #isArrayBindEnabled()}.
+   * <p>
+   * Note that a typed array changes how PostgreSQL resolves the comparison, e.g. <code>int4_col=ANY(int8[])</code>
+   * compares as <code>int8</code> and may not use an index on <code>int4_col</code> the same way as a literal list.
+   * Override this method if the column types differ from these defaults.
+   */
+  @Override
+  protected String getArrayBindTypeName(Class<?> elementType) {
+    if (Long.class == elementType) {
+      return "int8";
+    }
+    if (Integer.class == elementType) {
+      return "int4";
+    }
+    if (Short.class == elementType) {
+      return "int2";
+    }
+    if (BigDecimal.class == elementType) {
+      return "numeric";
+    }
+    if (String.class == elementType) {
+      return "varchar";
+    }
+    if (UUID.class == elementType) {
+      return "uuid";
+    }
+    return null;
+  }
 }
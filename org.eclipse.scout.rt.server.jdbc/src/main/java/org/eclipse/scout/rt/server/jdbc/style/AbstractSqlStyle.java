@@ -397,6 +397,16 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
         }
         break;
       }
+      case Types.ARRAY: {
+        String typeName = isArrayBindEnabled() ? getArrayBindTypeName(bind.getValue()) : null;
+        if (typeName != null) {
+          ps.setArray(jdbcBindIndex, ps.getConnection().createArrayOf(typeName, toArray(bind.getValue())));
+        }
+        else {
+          writeDefaultBind(ps, jdbcBindIndex, bind);
+        }
+        break;
+      }
       case Types.DECIMAL:
       case Types.NUMERIC: {
         if (bind.getValue() instanceof BigDecimal) {
@@ -942,11 +952,15 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
 
   @Override
   public String createInList(String attribute, Object array) {
-    return createInList(attribute, false, array);
+    // no bind is attached by the caller, therefore the values are always rendered as literals
+    return createInList(attribute, true, array);
   }
 
   @Override
   public String createInList(String attribute, boolean plain, Object array) {
+    if (!plain && isCreatingInListGeneratingBind(array)) {
+      return attribute + "=ANY(?)";
+    }
     Object[] values = toArray(array);
     if (values.length == 0) {
       return createNull(attribute);
@@ -977,11 +991,15 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
 
   @Override
   public String createNotInList(String attribute, Object array) {
-    return createNotInList(attribute, false, array);
+    // no bind is attached by the caller, therefore the values are always rendered as literals
+    return createNotInList(attribute, true, array);
   }
 
   @Override
   public String createNotInList(String attribute, boolean plain, Object array) {
+    if (!plain && isCreatingInListGeneratingBind(array)) {
+      return attribute + "<>ALL(?)";
+    }
     Object[] values = toArray(array);
     if (values.length == 0) {
       return createNotNull(attribute);
@@ -1010,11 +1028,76 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
     return buf.toString();
   }
 
+  /**
+   * In lists are rendered as list of literals by default. Therefore each distinct list results in a distinct SQL
+   * statement. If {@link #isArrayBindEnabled()} is <code>true</code> and {@link #getArrayBindTypeName(Class)} knows the
+   * type of the values, the list is bound as a single {@link java.sql.Array} instead (<code>attribute=ANY(?)</code>), so
+   * the statement text does not depend on the values. This only applies to in lists created by the statement processor
+   * with <code>plain=false</code>, {@link #createInList(String, Object)} and {@link #createNotInList(String, Object)}
+   * always render literals.
+   */
   @Override
   public boolean isCreatingInListGeneratingBind(Object array) {
+    return isArrayBindEnabled() && getArrayBindTypeName(array) != null;
+  }
+
+  /**
+   * @return <code>true</code> if in lists may be bound as {@link java.sql.Array}, see
+   *         {@link #isCreatingInListGeneratingBind(Object)}. The database and its JDBC driver must support
+   *         {@link java.sql.Connection#createArrayOf(String, Object[])} and the <code>=ANY(array)</code> and
+   *         <code>&lt;&gt;ALL(array)</code> operators. Default is <code>false</code>, a style (or a project specific
+   *         subclass of it) has to opt in.
+   */
+  protected boolean isArrayBindEnabled() {
     return false;
   }
 
+  /**
+   * @return the SQL type name of the array elements passed to
+   *         {@link java.sql.Connection#createArrayOf(String, Object[])} or <code>null</code> if arrays of this type are
+   *         not bound as {@link java.sql.Array}
+   */
+  protected String getArrayBindTypeName(Class<?> elementType) {
+    return null;
+  }
+
+  /**
+   * @return the SQL type name for the elements of the given array or <code>null</code> if the array is empty, its
+   *         values are of different types or the type is not supported by {@link #getArrayBindTypeName(Class)}
+   */
+  protected String getArrayBindTypeName(Object array) {
+    if (array == null || !array.getClass().isArray()) {
+      return null;
+    }
+    int len = Array.getLength(array);
+    if (len == 0) {
+      return null;
+    }
+    Class<?> elementType = array.getClass().getComponentType();
+    if (elementType.isPrimitive()) {
+      elementType = Array.get(array, 0).getClass();
+    }
+    else if (elementType == Object.class) {
+      elementType = null;
+      for (int i = 0; i < len; i++) {
+        Object value = Array.get(array, i);
+        if (value == null) {
+          continue;
+        }
+        if (elementType == null) {
+          elementType = value.getClass();
+        }
+        else if (elementType != value.getClass()) {
+          return null;
+        }
+      }
+      if (elementType == null) {
+        return null;
+      }
+    }
+    return getArrayBindTypeName(elementType);
+  }
+
   @Override
   public String getSysdateToken() {
     return "SYSDATE";
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.common.file;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.server.services.common.file.RemoteFileService.CompressedContentCacheWrapper;
+import org.eclipse.scout.rt.shared.services.common.file.IRemoteFileService;
+import org.eclipse.scout.rt.shared.services.common.file.RemoteFile;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit tests for the content handling of {@link RemoteFileService}
+ */
+@RunWith(PlatformTestRunner.class)
+public class RemoteFileServiceContentTest {
+
+  private static final String CONTENT = "0123456789";
+
+  private File m_rootDir;
+  private File m_file;
+  private final AtomicInteger m_readCount = new AtomicInteger();
+  private RemoteFileService m_service;
+
+  @Before
+  public void before() throws IOException {
+    m_rootDir = Files.createTempDirectory("remote-files").toFile();
+    m_file = new File(m_rootDir, "test.txt");
+    Files.write(m_file.toPath(), CONTENT.getBytes(StandardCharsets.UTF_8));
+    m_service = new RemoteFileService(m_rootDir.getAbsolutePath()) {
+      @Override
+      protected RemoteFile readCompressedContent(File file, long startPosition, long maxBlockSize) {
+        m_readCount.incrementAndGet();
+        return super.readCompressedContent(file, startPosition, maxBlockSize);
+      }
+    };
+  }
+
+  @After
+  public void after() {
+    IOUtility.deleteDirectory(m_rootDir);
+  }
+
+  @Test
+  public void testStreamRemoteFile() {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    m_service.streamRemoteFile(new RemoteFile(null, "test.txt", -1), out);
+    assertEquals(CONTENT, new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+    out = new ByteArrayOutputStream();
+    m_service.streamRemoteFile(new RemoteFile(null, "test.txt", -1), out, 2, 4);
+    assertEquals("2345", new String(out.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testDefaultStreamRemoteFilePart() {
+    IRemoteFileService service = mock(IRemoteFileService.class, CALLS_REAL_METHODS);
+    doAnswer(invocation -> {
+      OutputStream out = invocation.getArgument(1);
+      byte[] content = CONTENT.getBytes(StandardCharsets.UTF_8);
+      out.write(content, 0, 3);
+      out.write(content, 3, 7);
+      return null;
+    }).when(service).streamRemoteFile(any(RemoteFile.class), any(OutputStream.class));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    service.streamRemoteFile(new RemoteFile(null, "test.txt", -1), out, 2, 4);
+    assertEquals("2345", new String(out.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testCompressedContentIsShared() throws IOException {
+    RemoteFile file1 = m_service.getRemoteFile(new RemoteFile(null, "test.txt", -1));
+    RemoteFile file2 = m_service.getRemoteFile(new RemoteFile(null, "test.txt", -1));
+    assertEquals(1, m_readCount.get());
+    assertEquals(CONTENT, new String(file1.extractData(), StandardCharsets.UTF_8));
+    assertEquals(CONTENT, new String(file2.extractData(), StandardCharsets.UTF_8));
+    assertEquals(file1.getCRC(), file2.getCRC());
+
+    // modified files are read again
+    Files.write(m_file.toPath(), "modified".getBytes(StandardCharsets.UTF_8));
+    assertTrue(m_file.setLastModified(m_file.lastModified() + 10000));
+    RemoteFile file3 = m_service.getRemoteFile(new RemoteFile(null, "test.txt", -1));
+    assertEquals(2, m_readCount.get());
+    assertEquals("modified", new String(file3.extractData(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testCompressedContentCacheBoundedByTotalSize() throws IOException {
+    File otherFile = new File(m_rootDir, "other.txt");
+    Files.write(otherFile.toPath(), CONTENT.getBytes(StandardCharsets.UTF_8));
+    RemoteFileService service = new RemoteFileService(m_rootDir.getAbsolutePath()) {
+      @Override
+      protected RemoteFile readCompressedContent(File file, long startPosition, long maxBlockSize) {
+        m_readCount.incrementAndGet();
+        return super.readCompressedContent(file, startPosition, maxBlockSize);
+      }
+
+      @Override
+      protected long getCompressedContentCacheMaxTotalSize() {
+        return 2 * CONTENT.length() - 1;
+      }
+    };
+
+    service.getRemoteFile(new RemoteFile(null, "test.txt", -1));
+    service.getRemoteFile(new RemoteFile(null, "test.txt", -1));
+    assertEquals(1, m_readCount.get());
+
+    // both files do not fit into the cache, the least recently used one is removed
+    service.getRemoteFile(new RemoteFile(null, "other.txt", -1));
+    assertEquals(2, m_readCount.get());
+    assertEquals(CONTENT.length(), ((CompressedContentCacheWrapper) service.getCompressedContentCache()).getTotalSize());
+    RemoteFile file = service.getRemoteFile(new RemoteFile(null, "test.txt", -1));
+    assertEquals(3, m_readCount.get());
+    assertEquals(CONTENT, new String(file.extractData(), StandardCharsets.UTF_8));
+  }
+}
@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.server;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
@@ -21,12 +22,17 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.resource.IBinaryContentProvider;
 import org.eclipse.scout.rt.platform.util.ConnectionErrorDetector;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.commons.servlet.HttpServletControl;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpRangeControl;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpRangeControl.ByteRange;
 import org.eclipse.scout.rt.shared.services.common.file.IRemoteFileService;
 import org.eclipse.scout.rt.shared.services.common.file.RemoteFile;
 import org.slf4j.Logger;
@@ -35,6 +41,9 @@ import org.slf4j.LoggerFactory;
 /**
  * Servlet facade to provide remote files in web context<br>
  * <p>
+ * Files are streamed from the {@link IRemoteFileService} without reading them into memory. Conditional requests (based
+ * on the last modified timestamp and the length of the file) and single byte range requests are supported.
+ * <p>
  * Init parameters:<br>
  * folder: folder inside external file location
  */
@@ -151,17 +160,73 @@ public class RemoteFileServlet extends HttpServlet {
   private boolean writeResource(final HttpServletRequest req, final HttpServletResponse resp, final String resourcePath) throws IOException {
     IRemoteFileService rfs = BEANS.get(getConfiguredRemoteFileServiceClass());
     RemoteFile spec = new RemoteFile((resourcePath == null) ? null : StringUtility.join("", m_folder, resourcePath), -1);
-    RemoteFile remoteFile = rfs.getRemoteFile(spec);
+    RemoteFile remoteFile = rfs.getRemoteFileHeader(spec);
     if (!remoteFile.exists()) {
       return false;
     }
 
-    HttpCacheObject obj = new HttpCacheObject(new HttpCacheKey(resourcePath), remoteFile.toBinaryResource());
+    HttpCacheObject obj = new HttpCacheObject(new HttpCacheKey(resourcePath), createBinaryResource(rfs, remoteFile));
     if (BEANS.get(HttpCacheControl.class).checkAndSetCacheHeaders(req, resp, obj)) {
       return true;
     }
-    rfs.streamRemoteFile(remoteFile, resp.getOutputStream());
+
+    HttpRangeControl rangeControl = BEANS.get(HttpRangeControl.class);
+    BinaryResource resource = obj.getResource();
+    if (resource.getContentType() != null) {
+      resp.setContentType(resource.getContentType());
+    }
+    resp.setContentLengthLong(resource.getContentLengthLong());
+    rangeControl.setAcceptRangesHeader(resp);
+
+    ByteRange range = rangeControl.resolveRange(req, obj);
+    if (range == null) {
+      rfs.streamRemoteFile(remoteFile, resp.getOutputStream());
+      return true;
+    }
+    rangeControl.setRangeHeaders(resp, range);
+    if (range.isSatisfiable()) {
+      rfs.streamRemoteFile(remoteFile, resp.getOutputStream(), range.getStart(), range.getLength());
+    }
     return true;
   }
 
+  /**
+   * Creates the resource used for the HTTP cache headers (ETag based on the last modified timestamp and the length of
+   * the file). The content is not read, the file is streamed with
+   * {@link IRemoteFileService#streamRemoteFile(RemoteFile, java.io.OutputStream)}.
+   */
+  protected BinaryResource createBinaryResource(IRemoteFileService rfs, RemoteFile remoteFile) {
+    return BinaryResources.create()
+        .withFilename(remoteFile.getName())
+        .withContentType(remoteFile.getContentType())
+        .withLastModified(remoteFile.getLastModified())
+        .withContentProvider(new P_RemoteFileContentProvider(rfs, remoteFile))
+        .withCachingAllowed(true)
+        .withCacheMaxAge(HttpCacheControl.MAX_AGE_NONE)
+        .build();
+  }
+
+  /**
+   * Provides the length of a remote file without reading it. The content is only read if explicitly requested.
+   */
+  private static class P_RemoteFileContentProvider implements IBinaryContentProvider {
+    private final IRemoteFileService m_remoteFileService;
+    private final RemoteFile m_remoteFile;
+
+    P_RemoteFileContentProvider(IRemoteFileService remoteFileService, RemoteFile remoteFile) {
+      m_remoteFileService = remoteFileService;
+      m_remoteFile = remoteFile;
+    }
+
+    @Override
+    public InputStream openStream() throws IOException {
+      return m_remoteFileService.getRemoteFile(new RemoteFile(m_remoteFile.getDirectory(), m_remoteFile.getName(), -1)).getDecompressedInputStream();
+    }
+
+    @Override
+    public long getLength() {
+      return m_remoteFile.getContentLength();
+    }
+  }
+
 }
@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.server;
 
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.scout.rt.platform.config.AbstractLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.server.services.common.file.RemoteFileService;
@@ -70,4 +71,42 @@ public final class ServerConfigProperties {
       return String.format("Absolute path to the root directory of the '%s'. The default value is null.", RemoteFileService.class.getSimpleName());
     }
   }
+
+  public static class RemoteFilesCompressedCacheMaxFileSizeProperty extends AbstractLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 10L * 1024L * 1024L;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.remotefileCompressedCacheMaxFileSize";
+    }
+
+    @Override
+    public String description() {
+      return String.format("The '%s' keeps the compressed content of files up to this number of bytes in memory and shares it across requests "
+          + "until the file is modified. The default value is 10 MB. A value of 0 disables the cache.", RemoteFileService.class.getSimpleName());
+    }
+  }
+
+  public static class RemoteFilesCompressedCacheMaxTotalSizeProperty extends AbstractLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 100L * 1024L * 1024L;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.remotefileCompressedCacheMaxTotalSize";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Maximum number of content bytes the '%s' keeps in its cache of compressed file contents. If exceeded, the least recently "
+          + "used files are removed from the cache. The default value is 100 MB.", RemoteFileService.class.getSimpleName());
+    }
+  }
 }
@@ -33,6 +33,8 @@ public class CsvSettings implements Serializable {
   private boolean m_writeColumnNames;
   private boolean m_writeColumnTypes;
   private boolean m_allowVariableColumnCount;
+  private int m_batchSize;
+  private boolean m_gzipCompressed;
 
   public File getFile() {
     return m_file;
@@ -175,4 +177,27 @@ public class CsvSettings implements Serializable {
   public Object[] getBindBase() {
     return m_bindBase;
   }
+
+  /**
+   * Number of rows inserted with one JDBC batch when importing data. If the value is 0 (default), every row is inserted
+   * with a separate statement.
+   */
+  public void setBatchSize(int batchSize) {
+    m_batchSize = batchSize;
+  }
+
+  public int getBatchSize() {
+    return m_batchSize;
+  }
+
+  /**
+   * Whether exported data is written gzip-compressed. The default is <code>false</code>.
+   */
+  public void setGzipCompressed(boolean gzipCompressed) {
+    m_gzipCompressed = gzipCompressed;
+  }
+
+  public boolean getGzipCompressed() {
+    return m_gzipCompressed;
+  }
 }
@@ -9,7 +9,6 @@
  */
 package org.eclipse.scout.rt.server.services.common.file;
 
-import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -17,19 +16,37 @@ import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.Serializable;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.cache.AbstractCacheWrapper;
+import org.eclipse.scout.rt.platform.cache.ICache;
+import org.eclipse.scout.rt.platform.cache.ICacheBuilder;
+import org.eclipse.scout.rt.platform.cache.ICacheEntryFilter;
+import org.eclipse.scout.rt.platform.cache.KeyCacheEntryFilter;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.ServerConfigProperties.RemoteFilesCompressedCacheMaxFileSizeProperty;
+import org.eclipse.scout.rt.server.ServerConfigProperties.RemoteFilesCompressedCacheMaxTotalSizeProperty;
 import org.eclipse.scout.rt.server.ServerConfigProperties.RemoteFilesRootDirProperty;
 import org.eclipse.scout.rt.shared.services.common.file.IRemoteFileService;
 import org.eclipse.scout.rt.shared.services.common.file.RemoteFile;
@@ -43,6 +60,8 @@ public class RemoteFileService implements IRemoteFileService {
   private static final Pattern LOCALE_SECURITY_PATTERN = Pattern.compile("[-a-z0-9_#]+", Pattern.CASE_INSENSITIVE);
 
   private String m_rootPath;
+  private final Object m_compressedContentCacheLock = new Object();
+  private volatile ICache<CompressedContentKey, RemoteFile> m_compressedContentCache;
 
   public RemoteFileService() {
     this(CONFIG.getPropertyValue(RemoteFilesRootDirProperty.class));
@@ -116,17 +135,72 @@ public class RemoteFileService implements IRemoteFileService {
         // no content change, keep null
       }
       else {
-        try (InputStream in = new FileInputStream(file)) {
-          result.readData(in, startPosition, maxBlockSize);
-        }
-        catch (IOException e) {
-          throw new ProcessingException("error reading file: " + file.getAbsolutePath(), e);
-        }
+        result.shareContentOf(getCompressedContent(file, startPosition, maxBlockSize));
       }
     }
     return result;
   }
 
+  /**
+   * @return a {@link RemoteFile} holding the compressed content of the given part of the file. Small files are served
+   *         from a cache shared by all requests until the file is modified, see
+   *         {@link RemoteFilesCompressedCacheMaxFileSizeProperty} and {@link RemoteFilesCompressedCacheMaxTotalSizeProperty}.
+   */
+  protected RemoteFile getCompressedContent(File file, long startPosition, long maxBlockSize) {
+    long length = file.length();
+    if (length > Math.min(getCompressedContentCacheMaxFileSize(), getCompressedContentCacheMaxTotalSize())) {
+      return readCompressedContent(file, startPosition, maxBlockSize);
+    }
+    return getCompressedContentCache().get(new CompressedContentKey(file.getAbsolutePath(), file.lastModified(), length, startPosition, maxBlockSize));
+  }
+
+  protected RemoteFile readCompressedContent(File file, long startPosition, long maxBlockSize) {
+    RemoteFile content = new RemoteFile(file.getName(), file.lastModified());
+    try (InputStream in = new FileInputStream(file)) {
+      content.readData(in, startPosition, maxBlockSize);
+    }
+    catch (IOException e) {
+      throw new ProcessingException("error reading file: " + file.getAbsolutePath(), e);
+    }
+    return content;
+  }
+
+  protected long getCompressedContentCacheMaxFileSize() {
+    return CONFIG.getPropertyValue(RemoteFilesCompressedCacheMaxFileSizeProperty.class);
+  }
+
+  protected long getCompressedContentCacheMaxTotalSize() {
+    return CONFIG.getPropertyValue(RemoteFilesCompressedCacheMaxTotalSizeProperty.class);
+  }
+
+  protected ICache<CompressedContentKey, RemoteFile> getCompressedContentCache() {
+    ICache<CompressedContentKey, RemoteFile> cache = m_compressedContentCache;
+    if (cache == null) {
+      synchronized (m_compressedContentCacheLock) {
+        cache = m_compressedContentCache;
+        if (cache == null) {
+          cache = createCompressedContentCacheBuilder().build();
+          m_compressedContentCache = cache;
+        }
+      }
+    }
+    return cache;
+  }
+
+  /**
+   * Can be overridden to customize the cache of compressed file contents. Entries are never invalidated explicitly
+   * since the key contains the last modified timestamp and the length of the file. The cache is bounded by the total
+   * size of the cached contents, see {@link CompressedContentCacheWrapper}.
+   */
+  protected ICacheBuilder<CompressedContentKey, RemoteFile> createCompressedContentCacheBuilder() {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<CompressedContentKey, RemoteFile> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    return cacheBuilder.withCacheId(getClass().getName() + ".compressedContent")
+        .withValueResolver(key -> readCompressedContent(new File(key.getPath()), key.getStartPosition(), key.getMaxBlockSize()))
+        .withReplaceIfExists(true)
+        .withAdditionalCustomWrapper(CompressedContentCacheWrapper.class, getCompressedContentCacheMaxTotalSize());
+  }
+
   private String[][] getFiles(String folderBase, FilenameFilter filter) {
     File root = new File(getRootPath());
     File path = null;
@@ -319,19 +393,176 @@ public class RemoteFileService implements IRemoteFileService {
     if (!file.exists()) {
       throw new ProcessingException("remote file does not exist: " + spec.getPath());
     }
-    int len = (int) file.length();
-    byte[] buf = new byte[Math.min(102400, len)];
-    int written = 0;
-    int delta = 0;
-    try (BufferedInputStream in = new BufferedInputStream(new FileInputStream(file))) {
-      while (written < len) {
-        delta = in.read(buf);
-        out.write(buf, 0, delta);
-        written += delta;
+    streamFile(file, out, 0, file.length());
+  }
+
+  @Override
+  public void streamRemoteFile(RemoteFile spec, OutputStream out, long offset, long length) {
+    File file = getFileInternal(spec);
+    if (!file.exists()) {
+      throw new ProcessingException("remote file does not exist: " + spec.getPath());
+    }
+    streamFile(file, out, offset, length);
+  }
+
+  /**
+   * Transfers the given part of the file using {@link FileChannel#transferTo(long, long, WritableByteChannel)}, the
+   * file is never held in memory.
+   */
+  protected void streamFile(File file, OutputStream out, long offset, long length) {
+    try (FileChannel in = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+      WritableByteChannel channel = Channels.newChannel(out);
+      long position = offset;
+      long end = Math.min(offset + length, in.size());
+      while (position < end) {
+        long count = in.transferTo(position, end - position, channel);
+        if (count <= 0) {
+          break;
+        }
+        position += count;
       }
     }
     catch (IOException e) {
       throw new ProcessingException("error streaming file: " + file.getAbsolutePath(), e);
     }
   }
+
+  /**
+   * Key of the cache of compressed file contents.
+   */
+  protected static class CompressedContentKey implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String m_path;
+    private final long m_lastModified;
+    private final long m_length;
+    private final long m_startPosition;
+    private final long m_maxBlockSize;
+
+    public CompressedContentKey(String path, long lastModified, long length, long startPosition, long maxBlockSize) {
+      m_path = path;
+      m_lastModified = lastModified;
+      m_length = length;
+      m_startPosition = startPosition;
+      m_maxBlockSize = maxBlockSize;
+    }
+
+    public String getPath() {
+      return m_path;
+    }
+
+    public long getStartPosition() {
+      return m_startPosition;
+    }
+
+    public long getMaxBlockSize() {
+      return m_maxBlockSize;
+    }
+
+    /**
+     * @return number of file bytes read for this key. This is an upper bound of the size of the compressed content.
+     */
+    public long getContentSize() {
+      long remaining = Math.max(0L, m_length - m_startPosition);
+      return m_maxBlockSize < 0 ? remaining : Math.min(remaining, m_maxBlockSize);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(m_path, m_lastModified, m_length, m_startPosition, m_maxBlockSize);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      CompressedContentKey other = (CompressedContentKey) obj;
+      return m_lastModified == other.m_lastModified
+          && m_length == other.m_length
+          && m_startPosition == other.m_startPosition
+          && m_maxBlockSize == other.m_maxBlockSize
+          && Objects.equals(m_path, other.m_path);
+    }
+  }
+
+  /**
+   * Bounds the cache of compressed file contents by the total size of its contents instead of the number of entries.
+   * If the total size exceeds the bound, the least recently used contents are removed from the cache.
+   */
+  public static class CompressedContentCacheWrapper extends AbstractCacheWrapper<CompressedContentKey, RemoteFile> {
+    private final long m_maxTotalSize;
+    private final Map<CompressedContentKey, Long> m_contentSizes = new LinkedHashMap<>(16, 0.75f, true);
+    private long m_totalSize;
+
+    public CompressedContentCacheWrapper(ICache<CompressedContentKey, RemoteFile> delegate, Long maxTotalSize) {
+      super(delegate);
+      m_maxTotalSize = maxTotalSize;
+    }
+
+    @Override
+    public RemoteFile get(CompressedContentKey key) {
+      RemoteFile value = super.get(key);
+      if (value != null) {
+        touch(key);
+      }
+      return value;
+    }
+
+    @Override
+    public Map<CompressedContentKey, RemoteFile> getAll(Collection<? extends CompressedContentKey> keys) {
+      Map<CompressedContentKey, RemoteFile> values = super.getAll(keys);
+      for (CompressedContentKey key : values.keySet()) {
+        touch(key);
+      }
+      return values;
+    }
+
+    @Override
+    public void invalidate(ICacheEntryFilter<CompressedContentKey, RemoteFile> filter, boolean propagate) {
+      super.invalidate(filter, propagate);
+      synchronized (m_contentSizes) {
+        Map<CompressedContentKey, RemoteFile> cacheMap = getCacheMap();
+        for (Iterator<Entry<CompressedContentKey, Long>> it = m_contentSizes.entrySet().iterator(); it.hasNext();) {
+          Entry<CompressedContentKey, Long> entry = it.next();
+          if (!cacheMap.containsKey(entry.getKey())) {
+            m_totalSize -= entry.getValue();
+            it.remove();
+          }
+        }
+      }
+    }
+
+    /**
+     * @return total size of the contents currently held by this cache
+     */
+    public long getTotalSize() {
+      synchronized (m_contentSizes) {
+        return m_totalSize;
+      }
+    }
+
+    protected void touch(CompressedContentKey key) {
+      List<CompressedContentKey> evictedKeys = new ArrayList<>();
+      synchronized (m_contentSizes) {
+        if (m_contentSizes.get(key) == null) {
+          long size = key.getContentSize();
+          m_contentSizes.put(key, size);
+          m_totalSize += size;
+        }
+        for (Iterator<Entry<CompressedContentKey, Long>> it = m_contentSizes.entrySet().iterator(); m_totalSize > m_maxTotalSize && it.hasNext();) {
+          Entry<CompressedContentKey, Long> entry = it.next();
+          m_totalSize -= entry.getValue();
+          evictedKeys.add(entry.getKey());
+          it.remove();
+        }
+      }
+      if (!evictedKeys.isEmpty()) {
+        getDelegate().invalidate(new KeyCacheEntryFilter<>(evictedKeys), false);
+      }
+    }
+  }
 }
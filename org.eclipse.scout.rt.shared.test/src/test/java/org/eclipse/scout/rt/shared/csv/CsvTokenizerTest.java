@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.csv;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * JUnit tests for {@link CsvTokenizer}
+ */
+public class CsvTokenizerTest {
+
+  private static final String CSV = ""
+      + "a,b,c\n"
+      + "\"x,y\",\"say \"\"hi\"\"\",\n"
+      + "\r\n"
+      + "\"multi\nline\",,last\r\n"
+      + "\"\",single";
+
+  private static final List<List<String>> EXPECTED_ROWS = Arrays.asList(
+      Arrays.asList("a", "b", "c"),
+      Arrays.asList("x,y", "say \"hi\"", null),
+      Arrays.asList("multi\nline", null, "last"),
+      Arrays.asList(null, "single"));
+
+  @Test
+  public void testReadRows() throws IOException {
+    assertEquals(EXPECTED_ROWS, readAll(CsvTokenizer.DEFAULT_BUFFER_SIZE));
+  }
+
+  @Test
+  public void testReadRowsWithSmallBuffers() throws IOException {
+    for (int bufferSize = 1; bufferSize < 8; bufferSize++) {
+      assertEquals("bufferSize=" + bufferSize, EXPECTED_ROWS, readAll(bufferSize));
+    }
+  }
+
+  @Test
+  public void testImportRowDoesNotReadAhead() throws IOException {
+    StringReader reader = new StringReader("a,b\nc,d\n");
+    CsvHelper helper = new CsvHelper();
+    assertEquals(Arrays.asList("a", "b"), helper.importRow(reader));
+    assertEquals(Arrays.asList("c", "d"), helper.importRow(reader));
+    assertNull(helper.importRow(reader));
+  }
+
+  @Test
+  public void testExportImportRoundTrip() throws IOException {
+    CsvHelper helper = new CsvHelper();
+    Object[][] data = new Object[][]{
+        {"plain", "with,separator", "with \"delimiter\""},
+        {"", "a\"b", "end"}
+    };
+    StringWriter writer = new StringWriter();
+    for (Object[] row : data) {
+      helper.exportDataRow(row, writer, false);
+    }
+
+    Object[][] result = helper.importData(new StringReader(writer.toString()), 0, null, -1);
+    assertEquals(2, result.length);
+    assertArrayEquals(data[0], result[0]);
+    assertArrayEquals(new Object[]{null, "a\"b", "end"}, result[1]);
+  }
+
+  protected List<List<String>> readAll(int bufferSize) throws IOException {
+    CsvHelper helper = new CsvHelper();
+    CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(CSV), helper.getSeparatorChar(), helper.getTextDelimiterChar(), helper::decodeText, bufferSize);
+    List<List<String>> rows = new ArrayList<>();
+    List<String> cells = new ArrayList<>();
+    while (tokenizer.readRow(cells)) {
+      rows.add(new ArrayList<>(cells));
+    }
+    return rows;
+  }
+}
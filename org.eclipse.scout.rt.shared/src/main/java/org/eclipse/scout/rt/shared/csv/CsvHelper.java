@@ -250,31 +250,32 @@ public class CsvHelper {
       rowCount = Integer.MAX_VALUE;
     }
     try {
+      CsvTokenizer tokenizer = createTokenizer(reader);
+      List<String> cellList = new ArrayList<>(Math.max(getColCount(), 2));
       if (readNameHeader) {
-        List<String> list = importRow(reader);
-        if (list != null) {
-          setColumnNames(list);
+        if (tokenizer.readRow(cellList)) {
+          setColumnNames(cellList);
         }
         headerRowCount--;
       }
       if (readTypeHeader) {
-        List<String> list = importRow(reader);
-        if (list != null) {
-          setColumnTypes(list);
+        if (tokenizer.readRow(cellList)) {
+          setColumnTypes(cellList);
         }
         headerRowCount--;
       }
       while (headerRowCount > 0) {
-        importRow(reader);
+        tokenizer.readRow(cellList);
         headerRowCount--;
       }
       // data
-      List<String> cellList;
+      int colNameCount = m_colNames == null ? 0 : m_colNames.size();
+      Format[] formats = getColumnFormats(colNameCount);
       lineNr = 1;
-      while (lineNr <= rowCount && (cellList = importRow(reader)) != null) {
+      while (lineNr <= rowCount && tokenizer.readRow(cellList)) {
         // fill up with empty row if allowed
-        while (allowVariableColumnCount && (cellList.size() < getColumnNames().size())) {
-          cellList.add(cellList.size(), null);
+        while (allowVariableColumnCount && (cellList.size() < colNameCount)) {
+          cellList.add(null);
         }
         // convert data types
         List<Object> objList = new ArrayList<>(cellList.size());
@@ -282,7 +283,7 @@ public class CsvHelper {
           if (m_ignoredColumns == null || m_ignoredColumns.length == 0 || m_ignoredColumns.length < colIndex || !m_ignoredColumns[colIndex]) {
             cell = cellList.get(colIndex);
             try { // NOSONAR
-              objList.add(importCell(cell, getColumnFormat(colIndex)));
+              objList.add(importCell(cell, colIndex < formats.length ? formats[colIndex] : getColumnFormat(colIndex)));
             }
             catch (RuntimeException e) {
               throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
@@ -302,6 +303,14 @@ public class CsvHelper {
     }
   }
 
+  /**
+   * @return a tokenizer reading the rows of the given reader based on this helpers context. The reader should not be
+   *         accessed by anyone else afterwards because the tokenizer reads ahead.
+   */
+  public CsvTokenizer createTokenizer(Reader reader) {
+    return new CsvTokenizer(reader, getSeparatorChar(), getTextDelimiterChar(), this::decodeText);
+  }
+
   public void exportData(Object[][] data, File f, String encoding, List<String> columnNames, boolean writeColumnNames, List<String> columnTypes, boolean writeColumnTypes) {
     if (encoding == null) {
       encoding = StandardCharsets.UTF_8.name();
@@ -381,19 +390,16 @@ public class CsvHelper {
    *          true->will close the writer
    */
   public void exportDataRow(Object[] row, Writer writer, boolean closeWriter) {
-    String line = null;
-    Object val = null;
-    String cell = null;
     try {
-      List<String> rowStrings = new ArrayList<>();
+      StringBuilder buf = new StringBuilder(32 * row.length + 2);
       for (int i = 0; i < row.length; i++) {
-        val = row[i];
-        cell = exportCell(val, getColumnFormat(i));
-        rowStrings.add(cell);
+        if (i > 0 && getSeparatorChar() != 0x00) {
+          buf.append(getSeparatorChar());
+        }
+        appendCell(buf, row[i], getColumnFormat(i));
       }
-      line = exportRow(rowStrings);
-      writer.write(line);
-      writer.write(getLineSeparator());
+      buf.append(getLineSeparator());
+      writer.append(buf);
     }
     catch (IOException e) {
       throw new ProcessingException("line=" + Arrays.asList(row), e);
@@ -410,6 +416,17 @@ public class CsvHelper {
     }
   }
 
+  /**
+   * @return the formats of the first <code>count</code> columns (at least all columns with a column type)
+   */
+  protected Format[] getColumnFormats(int count) {
+    Format[] formats = new Format[Math.max(count, m_colFormat.size())];
+    for (int i = 0; i < formats.length; i++) {
+      formats[i] = getColumnFormat(i);
+    }
+    return formats;
+  }
+
   protected Format getColumnFormat(int colIndex) {
     if (colIndex < m_colFormat.size()) {
       return m_colFormat.get(colIndex);
@@ -419,72 +436,16 @@ public class CsvHelper {
     }
   }
 
+  /**
+   * Reads the next row of the reader. No characters beyond the end of the row are consumed, hence the reader may be
+   * used for other purposes afterwards. Use {@link #createTokenizer(Reader)} to read many rows.
+   *
+   * @return cells of the row or <code>null</code> if the end of the data has been reached
+   */
   protected List<String> importRow(Reader reader) throws IOException {
     List<String> cellList = new ArrayList<>(Math.max(getColCount(), 2));
-    boolean inString = false;
-    StringBuilder curBuf = new StringBuilder();
-    String token;
-    int ch = reader.read();
-
-    while (ch == '\n' || ch == '\r') {
-      ch = reader.read();
-    }
-    if (ch < 0) {
-      return null;
-    }
-    while (true) {
-      if (ch >= 0 && inString) {
-        if (ch == getTextDelimiterChar()) {
-          inString = false;
-        }
-        else {
-          // still in string
-        }
-        curBuf.append((char) ch);
-      }
-      else {// ch<0 or out of string or end of line
-        if (ch == getSeparatorChar() || ch < 0 || ch == '\n' || ch == '\r') {
-          // consume token
-          token = curBuf.toString();
-          curBuf.setLength(0);
-          int tokenLen = token.length();
-          if (tokenLen > 0) {
-            // remove delimiters
-            if (token.charAt(0) == getTextDelimiterChar() && token.charAt(tokenLen - 1) == getTextDelimiterChar()) {
-              token = token.substring(1, tokenLen - 1);
-            }
-            if (token.isEmpty()) {
-              token = null;
-            }
-          }
-          else {
-            token = null;
-          }
-          // decode and add token
-          token = decodeText(token);
-          cellList.add(token);
-          // check if end of current line
-          if (ch < 0 || ch == '\n' || ch == '\r') {
-            break;
-          }
-        }
-        else if (ch == getTextDelimiterChar()) {
-          inString = true;
-          curBuf.append((char) ch);
-        }
-        else {
-          // normal character
-          curBuf.append((char) ch);
-        }
-      }
-      // next character
-      ch = reader.read();
-    }
-    // end of file?
-    if (cellList.isEmpty() && ch < 0) {
-      cellList = null;
-    }
-    return cellList;
+    CsvTokenizer tokenizer = new CsvTokenizer(reader, getSeparatorChar(), getTextDelimiterChar(), this::decodeText, 1);
+    return tokenizer.readRow(cellList) ? cellList : null;
   }
 
   protected String exportRow(Collection<String> strings) {
@@ -526,6 +487,49 @@ public class CsvHelper {
     }
   }
 
+  /**
+   * Appends the encoded text of a cell to the row buffer. Equivalent to
+   * <code>buf.append(encodeText(exportCell(o, f)))</code>, but cells without a format containing <code>null</code>, a
+   * {@link String} or an integral number are appended without creating intermediate strings.
+   */
+  protected void appendCell(StringBuilder buf, Object o, Format f) {
+    if (f == null) {
+      if (o == null) {
+        return;
+      }
+      if (o instanceof String) {
+        String text = (String) o;
+        if (isEncodingRequired(text)) {
+          buf.append(encodeText(text));
+        }
+        else {
+          buf.append(text);
+        }
+        return;
+      }
+      if ((o instanceof Integer || o instanceof Long || o instanceof Short || o instanceof Byte) && !isIntegralTextChar(getSeparatorChar()) && !isIntegralTextChar(getTextDelimiterChar())) {
+        buf.append(((Number) o).longValue());
+        return;
+      }
+    }
+    String text = encodeText(exportCell(o, f));
+    if (text != null) {
+      buf.append(text);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if {@link #encodeText(String)} would change the given text
+   */
+  protected boolean isEncodingRequired(String text) {
+    return getTextDelimiterChar() != 0x00
+        && (text.indexOf(getTextDelimiterChar()) >= 0 || text.indexOf(getSeparatorChar()) >= 0 || (isEncodeLineSeparator() && text.contains(getLineSeparator())));
+  }
+
+  private static boolean isIntegralTextChar(char c) {
+    return (c >= '0' && c <= '9') || c == '-';
+  }
+
   protected String encodeText(String text) {
     if (getTextDelimiterChar() != 0x00 && text != null) {
       text = stringReplace(text, "" + getTextDelimiterChar(), "" + getTextDelimiterChar() + getTextDelimiterChar());
@@ -551,17 +555,20 @@ public class CsvHelper {
     if (s == null || sOld == null) {
       return s;
     }
-    StringBuilder buf = new StringBuilder();
+    int i = s.indexOf(sOld);
+    if (i < 0) {
+      return s;
+    }
+    StringBuilder buf = new StringBuilder(s.length() + 16);
     int oldLen = sOld.length();
     int pos = 0;
-    int i = s.indexOf(sOld);
     while (i >= 0) {
-      buf.append(s.substring(pos, i));
+      buf.append(s, pos, i);
       buf.append(sNew);
       pos = i + oldLen;
       i = s.indexOf(sOld, pos);
     }
-    buf.append(s.substring(pos));
+    buf.append(s, pos, s.length());
     return buf.toString();
   }
 
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.csv;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Splits CSV data read from a {@link Reader} into rows of cell texts.
+ * <p>
+ * The tokenizer reads blocks of characters into its own buffer and scans runs of ordinary characters at once, so no
+ * additional {@link java.io.BufferedReader} is required. Because of this read-ahead, the reader must not be used by
+ * anyone else while the tokenizer is in use.
+ * <p>
+ * Rows are separated by <code>\n</code> or <code>\r</code> (empty lines are skipped), cells by the separator char. Text
+ * delimiters enclose cells containing separators or line breaks. The surrounding text delimiters of a cell are removed
+ * and the remaining text is passed to the cell decoder (see {@link CsvHelper#decodeText(String)}). Empty cells are
+ * <code>null</code>.
+ */
+public class CsvTokenizer {
+
+  public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+  private final Reader m_reader;
+  private final char m_separatorChar;
+  private final char m_textDelimiterChar;
+  private final UnaryOperator<String> m_cellDecoder;
+  private final char[] m_buffer;
+  private final StringBuilder m_token = new StringBuilder();
+  private int m_pos;
+  private int m_limit;
+
+  public CsvTokenizer(Reader reader, char separatorChar, char textDelimiterChar, UnaryOperator<String> cellDecoder) {
+    this(reader, separatorChar, textDelimiterChar, cellDecoder, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * @param bufferSize
+   *          number of characters read at once. Use 1 to never read beyond the end of the current row.
+   */
+  public CsvTokenizer(Reader reader, char separatorChar, char textDelimiterChar, UnaryOperator<String> cellDecoder, int bufferSize) {
+    m_reader = reader;
+    m_separatorChar = separatorChar;
+    m_textDelimiterChar = textDelimiterChar;
+    m_cellDecoder = cellDecoder == null ? UnaryOperator.identity() : cellDecoder;
+    m_buffer = new char[Math.max(bufferSize, 1)];
+  }
+
+  /**
+   * Reads the next row.
+   *
+   * @param cells
+   *          is cleared and filled with the cells of the row. The list may be reused for all rows.
+   * @return <code>false</code> if the end of the data has been reached (cells is not changed in this case)
+   */
+  public boolean readRow(List<String> cells) throws IOException {
+    int ch = read();
+    while (ch == '\n' || ch == '\r') {
+      ch = read();
+    }
+    if (ch < 0) {
+      return false;
+    }
+
+    cells.clear();
+    m_token.setLength(0);
+    boolean inString = false;
+    while (true) {
+      if (ch >= 0 && inString) {
+        if (ch == m_textDelimiterChar) {
+          inString = false;
+        }
+        m_token.append((char) ch);
+        if (inString) {
+          appendRun(true);
+        }
+      }
+      else if (ch == m_separatorChar || ch < 0 || ch == '\n' || ch == '\r') {
+        cells.add(m_cellDecoder.apply(consumeToken()));
+        if (ch < 0 || ch == '\n' || ch == '\r') {
+          return true;
+        }
+      }
+      else if (ch == m_textDelimiterChar) {
+        inString = true;
+        m_token.append((char) ch);
+        appendRun(true);
+      }
+      else {
+        m_token.append((char) ch);
+        appendRun(false);
+      }
+      ch = read();
+    }
+  }
+
+  /**
+   * @return the current token without its surrounding text delimiters or <code>null</code> if it is empty
+   */
+  protected String consumeToken() {
+    int len = m_token.length();
+    String token = null;
+    if (len > 1 && m_token.charAt(0) == m_textDelimiterChar && m_token.charAt(len - 1) == m_textDelimiterChar) {
+      if (len > 2) {
+        token = m_token.substring(1, len - 1);
+      }
+    }
+    else if (len > 0) {
+      token = m_token.toString();
+    }
+    m_token.setLength(0);
+    return token;
+  }
+
+  /**
+   * Appends all characters of the buffer up to the next character which needs to be handled by
+   * {@link #readRow(List)}.
+   */
+  protected void appendRun(boolean inString) {
+    char[] buf = m_buffer;
+    int start = m_pos;
+    int i = start;
+    int limit = m_limit;
+    if (inString) {
+      while (i < limit && buf[i] != m_textDelimiterChar) {
+        i++;
+      }
+    }
+    else {
+      while (i < limit) {
+        char c = buf[i];
+        if (c == m_separatorChar || c == m_textDelimiterChar || c == '\n' || c == '\r') {
+          break;
+        }
+        i++;
+      }
+    }
+    if (i > start) {
+      m_token.append(buf, start, i - start);
+      m_pos = i;
+    }
+  }
+
+  protected int read() throws IOException {
+    if (m_pos >= m_limit) {
+      int n;
+      do {
+        n = m_reader.read(m_buffer, 0, m_buffer.length);
+      }
+      while (n == 0);
+      if (n < 0) {
+        return -1;
+      }
+      m_pos = 0;
+      m_limit = n;
+    }
+    return m_buffer[m_pos++];
+  }
+}
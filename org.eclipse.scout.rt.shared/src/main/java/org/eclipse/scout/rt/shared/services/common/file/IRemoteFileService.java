@@ -63,4 +63,19 @@ public interface IRemoteFileService extends IService {
    */
   void streamRemoteFile(RemoteFile spec, OutputStream out);
 
+  /**
+   * Same as {@link #streamRemoteFile(RemoteFile, OutputStream)} but only the given range of the file is streamed.
+   * <p>
+   * The default implementation streams the whole file and discards the bytes outside the range. Implementations should
+   * override this method to read the requested range only.
+   *
+   * @param offset
+   *          position of the first byte to stream
+   * @param length
+   *          number of bytes to stream
+   */
+  default void streamRemoteFile(RemoteFile spec, OutputStream out, long offset, long length) {
+    streamRemoteFile(spec, new PartialOutputStream(out, offset, length));
+  }
+
 }
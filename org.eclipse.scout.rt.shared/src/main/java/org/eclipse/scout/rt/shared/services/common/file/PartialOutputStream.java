@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.services.common.file;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Passes only the bytes within the given range to the underlying stream, all other bytes are discarded. The underlying
+ * stream is not closed.
+ */
+class PartialOutputStream extends FilterOutputStream {
+  private final long m_start;
+  private final long m_end;
+  private long m_position;
+
+  PartialOutputStream(OutputStream out, long offset, long length) {
+    super(out);
+    m_start = offset;
+    m_end = offset + length;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    if (m_position >= m_start && m_position < m_end) {
+      out.write(b);
+    }
+    m_position++;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    long from = Math.max(m_position, m_start);
+    long to = Math.min(m_position + len, m_end);
+    if (from < to) {
+      out.write(b, off + (int) (from - m_position), (int) (to - from));
+    }
+    m_position += len;
+  }
+
+  @Override
+  public void close() throws IOException {
+    flush();
+  }
+}
@@ -274,6 +274,16 @@ public class RemoteFile implements Serializable {
     m_crc = crc;
   }
 
+  /**
+   * Uses the compressed content of the given file (including its CRC and part start position) for this file. The
+   * compressed data is shared, not copied. This allows to keep a compressed representation of a file once and to hand
+   * it out to many callers.
+   */
+  public void shareContentOf(RemoteFile source) {
+    setCompressedData(source.getCompressedData(), source.getCRC());
+    setPartStartPosition(source.getPartStartPosition());
+  }
+
   public String getContentType() {
     return m_contentType;
   }
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.servlet.http.HttpSession;
+
+import org.eclipse.scout.rt.client.IClientSession;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.json.testing.JsonTestUtility;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit tests for {@link SessionStore}
+ */
+@RunWith(PlatformTestRunner.class)
+public class SessionStoreTest {
+
+  private static final int CLIENT_SESSIONS = 8;
+  private static final int ITERATIONS = 500;
+
+  private ISessionStore m_store;
+
+  @Before
+  public void before() {
+    HttpSession httpSession = JsonTestUtility.createHttpSession(new Object());
+    m_store = BEANS.get(HttpSessionHelper.class).getSessionStore(httpSession);
+  }
+
+  @Test
+  public void testRegisterAndUnregister() {
+    IClientSession clientSession = mockClientSession("c1");
+    IUiSession uiSession = mockUiSession("u1", "c1", clientSession);
+
+    assertNull(m_store.preregisterUiSession(uiSession, "c1"));
+    m_store.registerUiSession(uiSession);
+    assertSame(uiSession, m_store.getUiSession("u1"));
+    assertSame(clientSession, m_store.preregisterUiSession(mockUiSession("u2", "c1", clientSession), "c1"));
+    assertEquals(1, m_store.countUiSessions());
+    assertEquals(1, m_store.countClientSessions());
+    assertTrue(m_store.getUiSessions().contains(uiSession));
+    assertTrue(m_store.getClientSessions().contains(clientSession));
+
+    m_store.unregisterUiSession(uiSession);
+    assertNull(m_store.getUiSession("u1"));
+    assertEquals(0, m_store.countUiSessions());
+    assertEquals(1, m_store.countClientSessions());
+  }
+
+  /**
+   * Subclasses may still use the deprecated write lock to exclude all modifications.
+   */
+  @Test
+  @SuppressWarnings("deprecation")
+  public void testWriteLockExcludesModifications() throws Exception {
+    IClientSession clientSession = mockClientSession("c1");
+    IUiSession uiSession = mockUiSession("u1", "c1", clientSession);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    SessionStore store = (SessionStore) m_store;
+    store.m_writeLock.lock();
+    try {
+      Future<?> future = executor.submit(() -> m_store.registerUiSession(uiSession));
+      try {
+        future.get(200, TimeUnit.MILLISECONDS);
+        fail("registration must wait for the write lock");
+      }
+      catch (TimeoutException e) { // NOSONAR
+        // expected
+      }
+      store.m_writeLock.unlock();
+      future.get(10, TimeUnit.SECONDS);
+      assertSame(uiSession, m_store.getUiSession("u1"));
+    }
+    finally {
+      if (store.m_writeLock.isHeldByCurrentThread()) {
+        store.m_writeLock.unlock();
+      }
+      executor.shutdownNow();
+    }
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testUiSessionsUnmodifiable() {
+    m_store.getUiSessions().clear();
+  }
+
+  /**
+   * Registers and unregisters UI sessions of multiple client sessions concurrently while other threads read the store.
+   */
+  @Test
+  public void testConcurrentAccess() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(CLIENT_SESSIONS + 1);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      AtomicBoolean running = new AtomicBoolean(true);
+      List<Future<?>> writers = new ArrayList<>();
+      for (int i = 0; i < CLIENT_SESSIONS; i++) {
+        String clientSessionId = "c" + i;
+        IClientSession clientSession = mockClientSession(clientSessionId);
+        writers.add(executor.submit(() -> {
+          start.await();
+          for (int j = 0; j < ITERATIONS; j++) {
+            IUiSession uiSession = mockUiSession(clientSessionId + "-u" + j, clientSessionId, clientSession);
+            m_store.preregisterUiSession(uiSession, clientSessionId);
+            m_store.registerUiSession(uiSession);
+            assertSame(uiSession, m_store.getUiSession(uiSession.getUiSessionId()));
+            m_store.unregisterUiSession(uiSession);
+            assertNull(m_store.getUiSession(uiSession.getUiSessionId()));
+          }
+          return null;
+        }));
+      }
+      Future<?> reader = executor.submit(() -> {
+        start.await();
+        while (running.get()) {
+          for (IUiSession uiSession : m_store.getUiSessions()) {
+            assertNotNull(uiSession.getClientSession());
+          }
+          m_store.getUiSessionsByClientSession();
+        }
+        return null;
+      });
+
+      start.countDown();
+      for (Future<?> writer : writers) {
+        writer.get(1, TimeUnit.MINUTES);
+      }
+      running.set(false);
+      reader.get(1, TimeUnit.MINUTES);
+    }
+    finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(0, m_store.countUiSessions());
+    assertEquals(CLIENT_SESSIONS, m_store.countClientSessions());
+    assertTrue(m_store.getUiSessionsByClientSession().isEmpty());
+  }
+
+  protected IClientSession mockClientSession(String id) {
+    IClientSession clientSession = mock(IClientSession.class);
+    when(clientSession.getId()).thenReturn(id);
+    when(clientSession.isActive()).thenReturn(true);
+    when(clientSession.isStopping()).thenReturn(false);
+    return clientSession;
+  }
+
+  /**
+   * Persistent UI sessions do not start a housekeeping job when they are unregistered.
+   */
+  protected IUiSession mockUiSession(String id, String clientSessionId, IClientSession clientSession) {
+    IUiSession uiSession = mock(IUiSession.class);
+    when(uiSession.getUiSessionId()).thenReturn(id);
+    when(uiSession.getClientSession()).thenReturn(clientSession);
+    when(uiSession.getClientSessionId()).thenReturn(clientSessionId);
+    when(uiSession.isPersistent()).thenReturn(true);
+    return uiSession;
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.IAsyncPoller;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+/**
+ * JUnit tests for {@link AsyncPollDispatcher}
+ */
+@RunWith(PlatformTestRunner.class)
+public class AsyncPollDispatcherTest {
+
+  private final AsyncPollDispatcher m_dispatcher = new AsyncPollDispatcher() {
+    @Override
+    public boolean isEnabled() {
+      return true;
+    }
+  };
+
+  @Test
+  public void testDisabledOrNotSupported() {
+    HttpServletRequest req = mock(HttpServletRequest.class);
+    assertFalse(new AsyncPollDispatcher().dispatch(req, mock(IUiSession.class), createPollRequest(), 3, () -> fail()));
+    assertFalse(m_dispatcher.dispatch(req, mock(IUiSession.class), createPollRequest(), 3, () -> fail()));
+    verify(req, never()).startAsync();
+  }
+
+  @Test
+  public void testTimeout() throws Exception {
+    AsyncContext asyncContext = mock(AsyncContext.class);
+    P_UiSession uiSession = new P_UiSession(true);
+    CountDownLatch completed = new CountDownLatch(1);
+
+    assertTrue(m_dispatcher.dispatch(mockAsyncRequest(asyncContext), uiSession.m_mock, createPollRequest(), 1, completed::countDown));
+    assertNotNull(uiSession.m_poller.get());
+    assertTrue(completed.await(10, TimeUnit.SECONDS));
+    verify(asyncContext, timeout(5000)).complete();
+    verify(uiSession.m_mock).unregisterAsyncPoller(uiSession.m_poller.get());
+  }
+
+  @Test
+  public void testSignalsAreCoalesced() throws Exception {
+    AsyncContext asyncContext = mock(AsyncContext.class);
+    P_UiSession uiSession = new P_UiSession(false);
+    AtomicInteger completionCount = new AtomicInteger();
+    CountDownLatch completed = new CountDownLatch(1);
+
+    m_dispatcher.dispatch(mockAsyncRequest(asyncContext), uiSession.m_mock, createPollRequest(), 60, () -> {
+      completionCount.incrementAndGet();
+      completed.countDown();
+    });
+    for (int i = 0; i < 100; i++) {
+      uiSession.m_poller.get().signal();
+    }
+    assertTrue(completed.await(10, TimeUnit.SECONDS));
+    verify(asyncContext, timeout(5000)).complete();
+    uiSession.m_poller.get().signal();
+    Thread.sleep(300);
+    assertEquals(1, completionCount.get());
+  }
+
+  @Test
+  public void testSignalWithoutData() throws Exception {
+    AsyncContext asyncContext = mock(AsyncContext.class);
+    P_UiSession uiSession = new P_UiSession(true);
+    AtomicInteger completionCount = new AtomicInteger();
+    int suspendedCount = m_dispatcher.getSuspendedCount();
+
+    m_dispatcher.dispatch(mockAsyncRequest(asyncContext), uiSession.m_mock, createPollRequest(), 60, completionCount::incrementAndGet);
+    uiSession.m_poller.get().signal();
+    Thread.sleep(300);
+    assertEquals(0, completionCount.get());
+    assertEquals(suspendedCount + 1, m_dispatcher.getSuspendedCount());
+
+    // replaced by another poll request
+    uiSession.m_poller.get().cancel();
+    verify(asyncContext).complete();
+    assertEquals(0, completionCount.get());
+    assertEquals(suspendedCount, m_dispatcher.getSuspendedCount());
+  }
+
+  @Test
+  public void testFailureResponse() throws Exception {
+    AsyncContext asyncContext = mock(AsyncContext.class);
+    ServletResponse resp = mock(ServletResponse.class);
+    ServletOutputStream out = mock(ServletOutputStream.class);
+    when(asyncContext.getResponse()).thenReturn(resp);
+    when(resp.getOutputStream()).thenReturn(out);
+    P_UiSession uiSession = new P_UiSession(true);
+
+    m_dispatcher.dispatch(mockAsyncRequest(asyncContext), uiSession.m_mock, createPollRequest(), 1, () -> {
+      throw new IllegalStateException("expected JUnit test exception");
+    });
+    verify(asyncContext, timeout(10000)).complete();
+
+    ArgumentCaptor<byte[]> data = ArgumentCaptor.forClass(byte[].class);
+    InOrder inOrder = inOrder(out, asyncContext);
+    inOrder.verify(out).write(data.capture());
+    inOrder.verify(asyncContext).complete();
+    JSONObject json = new JSONObject(new String(data.getValue(), StandardCharsets.UTF_8));
+    assertEquals(JsonResponse.ERR_UI_PROCESSING, json.getJSONObject(JsonResponse.PROP_ERROR).getInt(JsonResponse.PROP_ERROR_CODE));
+  }
+
+  /**
+   * Many suspended poll requests do not hold a thread each.
+   */
+  @Test
+  public void testManySuspendedPolls() throws Exception {
+    final int sessions = 2000;
+    int threadCount = Thread.activeCount();
+    CountDownLatch completed = new CountDownLatch(sessions);
+    List<P_UiSession> uiSessions = new ArrayList<>();
+    for (int i = 0; i < sessions; i++) {
+      P_UiSession uiSession = new P_UiSession(false);
+      uiSessions.add(uiSession);
+      m_dispatcher.dispatch(mockAsyncRequest(mock(AsyncContext.class)), uiSession.m_mock, createPollRequest(), 60, completed::countDown);
+    }
+    assertTrue(m_dispatcher.getSuspendedCount() >= sessions);
+    assertTrue("threads: " + Thread.activeCount(), Thread.activeCount() < threadCount + sessions / 10);
+
+    for (P_UiSession uiSession : uiSessions) {
+      uiSession.m_poller.get().signal();
+    }
+    assertTrue(completed.await(30, TimeUnit.SECONDS));
+  }
+
+  protected HttpServletRequest mockAsyncRequest(AsyncContext asyncContext) {
+    HttpServletRequest req = mock(HttpServletRequest.class);
+    when(req.isAsyncSupported()).thenReturn(true);
+    when(req.startAsync()).thenReturn(asyncContext);
+    return req;
+  }
+
+  protected JsonRequest createPollRequest() {
+    JSONObject json = new JSONObject();
+    json.put(JsonRequest.PROP_UI_SESSION_ID, "uiSession");
+    json.put(JsonRequest.PROP_POLL, true);
+    return new JsonRequest(json);
+  }
+
+  private static final class P_UiSession {
+    private final IUiSession m_mock = mock(IUiSession.class);
+    private final AtomicReference<IAsyncPoller> m_poller = new AtomicReference<>();
+
+    private P_UiSession(boolean emptyResponse) {
+      JsonResponse response = mock(JsonResponse.class);
+      when(response.isEmpty()).thenReturn(emptyResponse);
+      when(m_mock.getUiSessionId()).thenReturn("uiSession");
+      when(m_mock.currentJsonResponse()).thenReturn(response);
+      when(m_mock.registerAsyncPoller(any(), any())).thenAnswer(invocation -> {
+        m_poller.set(invocation.getArgument(1));
+        return true;
+      });
+    }
+  }
+}
@@ -10,10 +10,13 @@
 package org.eclipse.scout.rt.ui.html.json;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -31,22 +34,28 @@ import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.Part;
 
+import org.eclipse.scout.rt.client.IClientSession;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.resource.FileBinaryContentProvider;
 import org.eclipse.scout.rt.platform.security.MalwareScanner;
 import org.eclipse.scout.rt.platform.security.RejectedResourceException;
 import org.eclipse.scout.rt.platform.util.HexUtility;
 import org.eclipse.scout.rt.server.commons.BufferedServletInputStream;
+import org.eclipse.scout.rt.shared.session.ISessionListener;
+import org.eclipse.scout.rt.shared.session.SessionEvent;
 import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.IUiSession;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties;
 import org.eclipse.scout.rt.ui.html.res.IUploadable;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 @RunWith(PlatformTestRunner.class)
@@ -201,6 +210,44 @@ public class UploadRequestHandlerTest {
     return part;
   }
 
+  @Test
+  public void testSpooledFilesDeletedOnSessionStop() throws IOException {
+    Map<String, Object> sessionData = new HashMap<>();
+    IClientSession clientSession = mock(IClientSession.class);
+    doAnswer(invocation -> sessionData.put(invocation.getArgument(0), invocation.getArgument(1))).when(clientSession).setData(anyString(), any());
+    doAnswer(invocation -> sessionData.get(invocation.<String> getArgument(0))).when(clientSession).getData(anyString());
+    IUiSession uiSession = mock(IUiSession.class);
+    doReturn(clientSession).when(uiSession).getClientSession();
+
+    UploadRequestHandler handler = new UploadRequestHandler();
+    List<BinaryResource> upload1 = Arrays.asList(createSpooledResource(), createSpooledResource());
+    List<BinaryResource> upload2 = Arrays.asList(createSpooledResource());
+    handler.deleteSpooledFilesOnSessionStop(uiSession, upload1);
+    handler.deleteSpooledFilesOnSessionStop(uiSession, upload2);
+    handler.deleteSpooledFiles(uiSession, upload2);
+
+    ArgumentCaptor<ISessionListener> listener = ArgumentCaptor.forClass(ISessionListener.class);
+    verify(clientSession, times(1)).addListener(listener.capture());
+    assertEquals(2, handler.getSpooledUploadFiles(uiSession, false).size());
+    assertFalse(Files.exists(upload2.get(0).getContentProvider().getPath()));
+    assertTrue(Files.exists(upload1.get(0).getContentProvider().getPath()));
+
+    listener.getValue().sessionChanged(new SessionEvent(clientSession, SessionEvent.TYPE_STOPPED));
+    assertEquals(0, handler.getSpooledUploadFiles(uiSession, false).size());
+    for (BinaryResource res : upload1) {
+      assertFalse(Files.exists(res.getContentProvider().getPath()));
+    }
+  }
+
+  private static BinaryResource createSpooledResource() throws IOException {
+    Path file = Files.createTempFile("upload", ".tmp");
+    Files.write(file, new byte[]{1, 2, 3});
+    return BinaryResources.create()
+        .withFilename("file.bin")
+        .withContentProvider(FileBinaryContentProvider.temporary(file))
+        .build();
+  }
+
   @Test
   public void testIsMultipartContent() {
     UploadRequestHandler handler = new UploadRequestHandler();
@@ -58,4 +58,30 @@ public class TextsLoaderTest {
     Assert.assertEquals(Locale.forLanguageTag("de-CH"), locales.get(3));
     Assert.assertEquals(Locale.forLanguageTag("de-DE"), locales.get(4));
   }
+
+  @Test
+  public void testGetLanguageTag() {
+    TextsLoader loader = new TextsLoader();
+    Assert.assertNull(loader.getLanguageTag("/texts.json"));
+    Assert.assertNull(loader.getLanguageTag("/res/texts.json"));
+    Assert.assertEquals("de-CH", loader.getLanguageTag("/texts-de-CH.json"));
+    Assert.assertEquals("default", loader.getLanguageTag("/res/texts-default.json"));
+  }
+
+  @Test
+  public void testGetLanguageLocalesByPath() {
+    TextsLoader loader = new TextsLoader() {
+      @Override
+      protected List<Locale> getLanguageLocales() {
+        return processLanguageTags(Arrays.asList("en", "de-CH", "de-DE"));
+      }
+    };
+
+    Assert.assertEquals(5, loader.getLanguageLocales("/texts.json").size());
+    Assert.assertEquals(Arrays.asList(Locale.ROOT, Locale.forLanguageTag("de"), Locale.forLanguageTag("de-CH")), loader.getLanguageLocales("/texts-de-CH.json"));
+    Assert.assertEquals(Arrays.asList(Locale.ROOT, Locale.forLanguageTag("de")), loader.getLanguageLocales("/texts-de.json"));
+    Assert.assertEquals(Arrays.asList(Locale.ROOT, Locale.forLanguageTag("en")), loader.getLanguageLocales("/texts-en.json"));
+    Assert.assertEquals(Arrays.asList(Locale.ROOT), loader.getLanguageLocales("/texts-default.json"));
+    Assert.assertNull(loader.getLanguageLocales("/texts-fr.json"));
+  }
 }
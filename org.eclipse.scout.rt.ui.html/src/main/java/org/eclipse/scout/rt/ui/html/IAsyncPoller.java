@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html;
+
+import org.eclipse.scout.rt.ui.html.json.JsonRequest;
+
+/**
+ * A suspended poll request waiting for background jobs without blocking a thread.
+ *
+ * @see IUiSession#registerAsyncPoller(JsonRequest, IAsyncPoller)
+ */
+public interface IAsyncPoller {
+
+  /**
+   * Called when UI data is possibly available (e.g. a model job has terminated) or the UI session was disposed.
+   * <p>
+   * This method is called by the thread that completed the model job and must therefore never block. It may be called
+   * multiple times.
+   */
+  void signal();
+
+  /**
+   * Called when the poller was replaced by another poll request of the same UI session. The request should be finished
+   * without sending a response.
+   */
+  void cancel();
+}
@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.ui.html;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
@@ -56,6 +57,21 @@ public interface ISessionStore {
    */
   Map<IClientSession, Set<IUiSession>> getUiSessionsByClientSession();
 
+  /**
+   * @return an unmodifiable view of the registered client sessions. Unlike {@link #getClientSessionMap()}, no copy is
+   *         created.
+   */
+  default Collection<IClientSession> getClientSessions() {
+    return getClientSessionMap().values();
+  }
+
+  /**
+   * @return an unmodifiable view of the registered UI sessions. Unlike {@link #getUiSessionMap()}, no copy is created.
+   */
+  default Collection<IUiSession> getUiSessions() {
+    return getUiSessionMap().values();
+  }
+
   int countUiSessions();
 
   int countClientSessions();
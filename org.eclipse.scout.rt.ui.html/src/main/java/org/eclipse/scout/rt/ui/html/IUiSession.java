@@ -215,6 +215,20 @@ public interface IUiSession {
    */
   void waitForBackgroundJobs(JsonRequest jsonRequest, int pollWaitSeconds) throws InterruptedException;
 
+  /**
+   * Non-blocking variant of {@link #waitForBackgroundJobs(JsonRequest, int)}: the given poller is signaled whenever a
+   * model job started by a background job has terminated. A previously registered poller (or a waiting thread) is
+   * cancelled.
+   *
+   * @return <code>false</code> if the request was already processed and the poller was therefore not registered.
+   */
+  boolean registerAsyncPoller(JsonRequest jsonRequest, IAsyncPoller poller);
+
+  /**
+   * Removes the given poller if it is still registered.
+   */
+  void unregisterAsyncPoller(IAsyncPoller poller);
+
   /**
    * Sends a "localeChanged" event to the UI. All locale-relevant data (number formats, texts map etc.) is sent along.
    */
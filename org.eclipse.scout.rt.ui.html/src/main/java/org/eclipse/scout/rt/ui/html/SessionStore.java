@@ -10,13 +10,18 @@
 package org.eclipse.scout.rt.ui.html;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
@@ -46,6 +51,10 @@ import org.slf4j.LoggerFactory;
  * It serves also as a listener for HTTP session invalidation. If it detects an invalid HTTP session, it tries to clean
  * up all associated client and UI sessions. See {@link #valueUnbound(HttpSessionBindingEvent)}.
  * <p>
+ * The maps of the store are concurrent, read operations do not lock. Modifications concerning a client session are
+ * serialized by a lock per client session (see {@link #clientSessionLock(String)}), so UI sessions of different client
+ * sessions (e.g. browser tabs) can be registered and unregistered in parallel.
+ * <p>
  * Instances can be obtained using the bean {@link HttpSessionHelper#getSessionStore(HttpSession)}.
  *
  * @since 5.2
@@ -55,6 +64,11 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
 
   protected static final String SESSION_TYPE = "http";
 
+  /**
+   * Number of locks the client sessions are distributed to.
+   */
+  protected static final int CLIENT_SESSION_LOCK_STRIPES = 8;
+
   protected final SessionMetricsHelper m_sessionMetrics = BEANS.get(SessionMetricsHelper.class);
 
   private final HttpSession m_httpSession;
@@ -64,26 +78,26 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
   /**
    * key = clientSessionId
    */
-  protected final Map<String, IClientSession> m_clientSessionMap = new HashMap<>();
+  protected final Map<String, IClientSession> m_clientSessionMap = new ConcurrentHashMap<>();
 
   /**
    * key = uiSessionId
    */
-  protected final Map<String, IUiSession> m_uiSessionMap = new HashMap<>();
+  protected final Map<String, IUiSession> m_uiSessionMap = new ConcurrentHashMap<>();
 
   /**
    * key = uiSessionId
    * <p>
    * The preregistered sessions of {@link #preregisterUiSession(IUiSession, String)}
    */
-  protected final Map<String, IUiSession> m_preregisteredUiSessionMap = new HashMap<>();
+  protected final Map<String, IUiSession> m_preregisteredUiSessionMap = new ConcurrentHashMap<>();
 
   /**
    * key = clientSession (<i>not</i> clientSessionId!)<br>
    * value = set of UI sessions (technically there can be multiple UI sessions by client session, although usually there
    * is only one or none).
    */
-  protected final Map<IClientSession, Set<IUiSession>> m_uiSessionsByClientSession = new HashMap<>();
+  protected final Map<IClientSession, Set<IUiSession>> m_uiSessionsByClientSession = new ConcurrentHashMap<>();
 
   /**
    * key = clientSession (<i>not</i> clientSessionId!)<br>
@@ -93,15 +107,31 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
    * The preregistered sessions of {@link #preregisterUiSession(IUiSession, String)} that are planning to re-use a
    * currently active {@link IClientSession}
    */
-  protected final Map<IClientSession, Set<IUiSession>> m_preregisteredUiSessionsByClientSession = new HashMap<>();
+  protected final Map<IClientSession, Set<IUiSession>> m_preregisteredUiSessionsByClientSession = new ConcurrentHashMap<>();
 
   /**
    * Map of scheduled housekeeping jobs (key = clientSessionId). Using this map, scheduled but not yet executed
    * housekeeping jobs can be cancelled again when the client session is still to be used.
    */
-  protected final Map<String, IFuture<?>> m_housekeepingFutures = new HashMap<>();
+  protected final Map<String, IFuture<?>> m_housekeepingFutures = new ConcurrentHashMap<>();
+
+  private final Lock[] m_clientSessionLocks;
 
+  /**
+   * Every modification holds this (shared) lock in addition to the lock of its client session, so subclasses can still
+   * use {@link #m_writeLock} to exclude all modifications of the store.
+   *
+   * @deprecated Modifications are guarded by {@link #clientSessionLock(String)}, reads do not lock anymore. Will be
+   *             removed in a future release.
+   */
+  @Deprecated
   protected final ReadLock m_readLock;
+
+  /**
+   * @deprecated Holding this lock excludes all modifications of the store, but not its read operations. Use
+   *             {@link #clientSessionLock(String)} instead. Will be removed in a future release.
+   */
+  @Deprecated
   protected final WriteLock m_writeLock;
 
   /**
@@ -112,13 +142,30 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
     m_httpSession = httpSession;
     m_httpSessionId = httpSession.getId();
 
-    final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
     m_readLock = lock.readLock();
     m_writeLock = lock.writeLock();
+    m_clientSessionLocks = new Lock[CLIENT_SESSION_LOCK_STRIPES];
+    for (int i = 0; i < m_clientSessionLocks.length; i++) {
+      m_clientSessionLocks[i] = new ReentrantLock();
+    }
     BEANS.get(SessionMonitorMBean.class).weakRegister(httpSession);
     m_sessionMetrics.sessionCreated(SESSION_TYPE);
   }
 
+  /**
+   * @return the lock guarding all modifications concerning the client session with the given ID (may be
+   *         <code>null</code>). The same lock may be shared by multiple client sessions.
+   */
+  protected Lock clientSessionLock(String clientSessionId) {
+    int hash = clientSessionId == null ? 0 : clientSessionId.hashCode();
+    return m_clientSessionLocks[(hash & Integer.MAX_VALUE) % m_clientSessionLocks.length];
+  }
+
+  protected static Set<IUiSession> newUiSessionSet() {
+    return ConcurrentHashMap.newKeySet();
+  }
+
   @Override
   public HttpSession getHttpSession() {
     return m_httpSession;
@@ -144,72 +191,46 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
 
   @Override
   public Map<String, IClientSession> getClientSessionMap() {
-    m_readLock.lock();
-    try {
-      return new HashMap<>(m_clientSessionMap);
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return new HashMap<>(m_clientSessionMap);
+  }
+
+  @Override
+  public Collection<IClientSession> getClientSessions() {
+    return Collections.unmodifiableCollection(m_clientSessionMap.values());
   }
 
   @Override
   public Map<String, IUiSession> getUiSessionMap() {
-    m_readLock.lock();
-    try {
-      return new HashMap<>(m_uiSessionMap);
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return new HashMap<>(m_uiSessionMap);
+  }
+
+  @Override
+  public Collection<IUiSession> getUiSessions() {
+    return Collections.unmodifiableCollection(m_uiSessionMap.values());
   }
 
   @Override
   public Map<IClientSession, Set<IUiSession>> getUiSessionsByClientSession() {
-    m_readLock.lock();
-    try {
-      Map<IClientSession, Set<IUiSession>> copy = new HashMap<>();
-      for (Entry<IClientSession, Set<IUiSession>> entry : m_uiSessionsByClientSession.entrySet()) {
-        copy.put(entry.getKey(), (entry.getValue() == null ? null : new HashSet<>(entry.getValue())));
-      }
-      return copy;
-    }
-    finally {
-      m_readLock.unlock();
+    Map<IClientSession, Set<IUiSession>> copy = new HashMap<>();
+    for (Entry<IClientSession, Set<IUiSession>> entry : m_uiSessionsByClientSession.entrySet()) {
+      copy.put(entry.getKey(), (entry.getValue() == null ? null : new HashSet<>(entry.getValue())));
     }
+    return copy;
   }
 
   @Override
   public int countUiSessions() {
-    m_readLock.lock();
-    try {
-      return m_uiSessionMap.size();
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return m_uiSessionMap.size();
   }
 
   @Override
   public int countClientSessions() {
-    m_readLock.lock();
-    try {
-      return m_clientSessionMap.size();
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return m_clientSessionMap.size();
   }
 
   @Override
   public boolean isEmpty() {
-    m_readLock.lock();
-    try {
-      return m_uiSessionMap.isEmpty() && m_preregisteredUiSessionMap.isEmpty() && m_clientSessionMap.isEmpty() && m_uiSessionsByClientSession.isEmpty();
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return m_uiSessionMap.isEmpty() && m_preregisteredUiSessionMap.isEmpty() && m_clientSessionMap.isEmpty() && m_uiSessionsByClientSession.isEmpty();
   }
 
   @Override
@@ -217,13 +238,7 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
     if (uiSessionId == null) {
       return null;
     }
-    m_readLock.lock();
-    try {
-      return m_uiSessionMap.get(uiSessionId);
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return m_uiSessionMap.get(uiSessionId);
   }
 
   @Override
@@ -232,23 +247,24 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
     String uiSessionId = uiSession.getUiSessionId();
     Assertions.assertNotNull(uiSessionId);
     LOG.debug("Pre-register UI session with ID {}", uiSessionId);
-    m_writeLock.lock();
-    try {
-      Assertions.assertFalse(m_uiSessionMap.containsKey(uiSessionId), "This session store already contains the uiSessionId '{}'", uiSessionId);
-      m_preregisteredUiSessionMap.put(uiSessionId, uiSession);
+    Assertions.assertFalse(m_uiSessionMap.containsKey(uiSessionId), "This session store already contains the uiSessionId '{}'", uiSessionId);
+    m_preregisteredUiSessionMap.put(uiSessionId, uiSession);
 
-      if (clientSessionId == null) {
-        return null;
-      }
+    if (clientSessionId == null) {
+      return null;
+    }
 
+    Lock lock = clientSessionLock(clientSessionId);
+    m_readLock.lock();
+    lock.lock();
+    try {
       // If housekeeping is scheduled for this session, cancel it (session will be used again, so no cleanup necessary)
-      IFuture<?> future = m_housekeepingFutures.get(clientSessionId);
+      IFuture<?> future = m_housekeepingFutures.remove(clientSessionId);
       if (future != null) {
         if (LOG.isDebugEnabled()) {
           LOG.debug("Client session with ID {} reserved for use - session housekeeping cancelled!", clientSessionId);
         }
         future.cancel(false);
-        m_housekeepingFutures.remove(clientSessionId);
       }
 
       IClientSession clientSession = m_clientSessionMap.get(clientSessionId);
@@ -258,12 +274,13 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
       }
       // Link preregistered ui sessions to existing client session
       m_preregisteredUiSessionsByClientSession
-          .computeIfAbsent(clientSession, k -> new HashSet<>())
+          .computeIfAbsent(clientSession, k -> newUiSessionSet())
           .add(uiSession);
       return clientSession;
     }
     finally {
-      m_writeLock.unlock();
+      lock.unlock();
+      m_readLock.unlock();
     }
   }
 
@@ -271,10 +288,11 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
   public void registerUiSession(final IUiSession uiSession) {
     Assertions.assertNotNull(uiSession);
     LOG.debug("Register UI session with ID {} in store (clientSessionId={})", uiSession.getUiSessionId(), uiSession.getClientSessionId());
-    m_writeLock.lock();
+    IClientSession clientSession = uiSession.getClientSession();
+    Lock lock = clientSessionLock(clientSession.getId());
+    m_readLock.lock();
+    lock.lock();
     try {
-      IClientSession clientSession = uiSession.getClientSession();
-
       // Remove preregistered mappings
       m_preregisteredUiSessionMap.remove(uiSession.getUiSessionId());
       Set<IUiSession> map = m_preregisteredUiSessionsByClientSession.get(clientSession);
@@ -293,11 +311,12 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
 
       // Link to client session
       m_uiSessionsByClientSession
-          .computeIfAbsent(clientSession, k -> new HashSet<>())
+          .computeIfAbsent(clientSession, k -> newUiSessionSet())
           .add(uiSession);
     }
     finally {
-      m_writeLock.unlock();
+      lock.unlock();
+      m_readLock.unlock();
     }
   }
 
@@ -307,14 +326,19 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
       return;
     }
     LOG.debug("Unregister UI session with ID {} from store (clientSessionId={})", uiSession.getUiSessionId(), uiSession.getClientSessionId());
-    m_writeLock.lock();
+
+    //Note: clientSession may be null if UiSession.init failed
+    final IClientSession clientSession = uiSession.getClientSession();
+    Lock lock = clientSessionLock(clientSession == null ? null : clientSession.getId());
+    m_readLock.lock();
+    lock.lock();
     try {
       // Remove uiSession
       m_preregisteredUiSessionMap.remove(uiSession.getUiSessionId());
       m_uiSessionMap.remove(uiSession.getUiSessionId());
-
-      //Note: clientSession may be null if UiSession.init failed
-      final IClientSession clientSession = uiSession.getClientSession();
+      if (clientSession == null) {
+        return;
+      }
 
       // Unlink uiSession from clientSession
       Set<IUiSession> preregisteredMap = m_preregisteredUiSessionsByClientSession.get(clientSession);
@@ -336,7 +360,7 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
       LOG.debug("{} UI sessions and {} preregistered UI session remaining for client session {}",
           (map == null ? 0 : map.size()),
           (preregisteredMap == null ? 0 : preregisteredMap.size()),
-          (clientSession == null ? null : clientSession.getId()));
+          clientSession.getId());
       if ((map == null || map.isEmpty()) && (preregisteredMap == null || preregisteredMap.isEmpty())) {
         if (uiSession.isPersistent()) {
           // don't start housekeeping for persistent sessions to give the users more time on app switches in ios home screen mode
@@ -346,7 +370,8 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
       }
     }
     finally {
-      m_writeLock.unlock();
+      lock.unlock();
+      m_readLock.unlock();
     }
   }
 
@@ -355,7 +380,8 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
    * (see {@link SessionStoreHousekeepingDelayProperty}). If not, it will be stopped and removed from the store. If the
    * session is inactive from the beginning, it is just removed from the store.
    * <p>
-   * <b>Important:</b>: This method must be called from within a lock!
+   * <b>Important:</b>: This method must be called from within the lock of the client session (see
+   * {@link #clientSessionLock(String)})!
    */
   protected void startHousekeepingInsideWriteLock(final IClientSession clientSession) {
     // No client session, no housekeeping necessary
@@ -379,7 +405,9 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
    * Checks if the client session is still used by a UI session. If not, it is stopped and removed from the store.
    */
   protected void doHousekeepingOutsideWriteLock(final IClientSession clientSession) {
-    m_writeLock.lock();
+    Lock lock = clientSessionLock(clientSession.getId());
+    m_readLock.lock();
+    lock.lock();
     try {
       if (IFuture.CURRENT.get() != null && IFuture.CURRENT.get().isCancelled()) {
         return;
@@ -410,12 +438,17 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
       }
     }
     finally {
-      m_writeLock.unlock();
+      lock.unlock();
+      m_readLock.unlock();
       checkHttpSessionOutsideWriteLock();
       BEANS.get(ClientSessionStopHelper.class).scheduleStop(clientSession, true, "session housekeeping");
     }
   }
 
+  /**
+   * <b>Important:</b>: This method must be called from within the lock of the client session (see
+   * {@link #clientSessionLock(String)})!
+   */
   protected void removeClientSessionInsideWriteLock(final IClientSession clientSession) {
     if (LOG.isDebugEnabled()) {
       LOG.debug("Remove client session with ID {} from session store", clientSession.getId());
@@ -455,10 +488,8 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
     m_httpSessionValid = false;
     LOG.info("Detected invalidation of HTTP session {}, cleaning up {} client sessions and {} UI sessions", m_httpSessionId, m_clientSessionMap.size(), m_uiSessionMap.size());
 
-    List<IClientSession> clientSessionList = new ArrayList<>();
-    m_writeLock.lock();
+    List<IClientSession> clientSessionList = new ArrayList<>(m_clientSessionMap.values());
     try {
-      clientSessionList.addAll(m_clientSessionMap.values());
       for (IUiSession uiSession : new ArrayList<>(m_uiSessionMap.values())) {
         uiSession.dispose();
         //this will schedule a housekeeping job that may start now or later
@@ -469,7 +500,6 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
       LOG.warn("Unable to dispose ui session for http session id {}", m_httpSessionId, t);
     }
     finally {
-      m_writeLock.unlock();
       for (IClientSession clientSession : clientSessionList) {
         //the housekeeping may run immediately, this call may cancel a pending housekeeping job iff it did not start already
         doHousekeepingOutsideWriteLock(clientSession);
@@ -480,23 +510,17 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
   }
 
   protected void checkHttpSessionOutsideWriteLock() {
-    m_writeLock.lock();
-    try {
-      if (!(m_clientSessionMap.isEmpty() && m_preregisteredUiSessionMap.isEmpty() && m_httpSessionValid)) {
-        return;
-      }
-      // Check if everything was cleaned up correctly ("leak detection").
-      int uiSessionMapSize = m_uiSessionMap.size();
-      int uiSessionsByClientSessionSize = m_uiSessionsByClientSession.size();
-      if (uiSessionMapSize != 0 || uiSessionsByClientSessionSize != 0) {
-        LOG.warn("Leak detection - Session store not empty before HTTP session invalidation: [uiSessionMap: {}, uiSessionsByClientSession: {}]",
-            uiSessionMapSize, uiSessionsByClientSessionSize);
-      }
-      // no more sessions -> exit lock and invalidate HTTP session
+    if (!(m_clientSessionMap.isEmpty() && m_preregisteredUiSessionMap.isEmpty() && m_httpSessionValid)) {
+      return;
     }
-    finally {
-      m_writeLock.unlock();
+    // Check if everything was cleaned up correctly ("leak detection").
+    int uiSessionMapSize = m_uiSessionMap.size();
+    int uiSessionsByClientSessionSize = m_uiSessionsByClientSession.size();
+    if (uiSessionMapSize != 0 || uiSessionsByClientSessionSize != 0) {
+      LOG.warn("Leak detection - Session store not empty before HTTP session invalidation: [uiSessionMap: {}, uiSessionsByClientSession: {}]",
+          uiSessionMapSize, uiSessionsByClientSessionSize);
     }
+    // no more sessions -> invalidate HTTP session
 
     try {
       m_httpSession.getCreationTime(); // dummy call to prevent the following log statement when the session is already invalid
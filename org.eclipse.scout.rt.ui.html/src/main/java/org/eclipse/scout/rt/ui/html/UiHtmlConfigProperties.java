@@ -23,6 +23,7 @@ import jakarta.servlet.MultipartConfigElement;
 
 import org.eclipse.scout.rt.api.data.ApiExposed;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
@@ -130,6 +131,26 @@ public final class UiHtmlConfigProperties {
     }
   }
 
+  public static class AsyncPollingEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public String description() {
+      return String.format("Specifies if waiting polling requests (see property '%s') are suspended using the asynchronous servlet API instead of blocking a container thread.\n"
+          + "Requires the UI servlet and all filters in front of it to support asynchronous processing. Otherwise, the blocking wait is used.\n"
+          + "By default this property is set to false.", BEANS.get(BackgroundPollingIntervalProperty.class).getKey());
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.asyncPolling";
+    }
+  }
+
   public static class UiModelJobsAwaitTimeoutProperty extends AbstractPositiveLongConfigProperty {
 
     @Override
@@ -187,6 +208,28 @@ public final class UiHtmlConfigProperties {
     }
   }
 
+  public static class UploadSpoolThresholdProperty extends AbstractLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return -1L;
+    }
+
+    @Override
+    public String description() {
+      return "Uploaded files larger than this number of bytes are not held in memory but written to a temporary file. The content of such a "
+          + "resource is read from the file on every access and is only available as long as the file exists: it is deleted when the client "
+          + "session stops or as soon as the uploaded resource is not referenced anymore. Consumers must therefore read or copy the content "
+          + "while processing the upload.\n"
+          + "By default this property is set to -1, which keeps all uploaded files in memory.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.uploadSpoolThreshold";
+    }
+  }
+
   /**
    * {@link MultipartConfigElement} for {@link UiServlet}.
    */
@@ -152,6 +152,7 @@ public class UiSession implements IUiSession {
   private volatile IRegistrationHandle m_uiDataAvailableListener;
   private volatile long m_lastAccessedTime;
   private volatile RunMonitor m_pollerMonitor;
+  private volatile IAsyncPoller m_asyncPoller;
   private volatile boolean m_persistent;
 
   public UiSession() {
@@ -1283,11 +1284,17 @@ public class UiSession implements IUiSession {
     // If another poller is currently blocking, interrupt it. This ensures that max. 1 polling
     // request is waiting for background jobs at the same time (relevant when the UI reconnects
     // after being offline).
+    IAsyncPoller asyncPoller;
     synchronized (m_pollerQueueLock) {
       if (m_pollerMonitor != null) {
         m_pollerMonitor.cancel(true);
       }
       m_pollerMonitor = RunMonitor.CURRENT.get();
+      asyncPoller = m_asyncPoller;
+      m_asyncPoller = null;
+    }
+    if (asyncPoller != null) {
+      asyncPoller.cancel();
     }
 
     if (isAlreadyProcessed(jsonRequest)) {
@@ -1334,17 +1341,64 @@ public class UiSession implements IUiSession {
     LOG.trace("Background job terminated. Continue request processing...");
   }
 
+  @Override
+  public boolean registerAsyncPoller(JsonRequest jsonRequest, IAsyncPoller poller) {
+    assertNotNull(poller);
+    // Same as in waitForBackgroundJobs: max. 1 polling request is waiting for background jobs at the same time
+    IAsyncPoller previousPoller;
+    synchronized (m_pollerQueueLock) {
+      if (m_pollerMonitor != null) {
+        m_pollerMonitor.cancel(true);
+        m_pollerMonitor = null;
+      }
+      previousPoller = m_asyncPoller;
+      m_asyncPoller = null;
+    }
+    if (previousPoller != null) {
+      previousPoller.cancel();
+    }
+
+    if (isAlreadyProcessed(jsonRequest)) {
+      return false;
+    }
+
+    synchronized (m_pollerQueueLock) {
+      m_asyncPoller = poller;
+    }
+    // Consume a token which was put into the queue while no poller was registered
+    if (m_pollerQueue.poll() != null || m_disposed) {
+      poller.signal();
+    }
+    return true;
+  }
+
+  @Override
+  public void unregisterAsyncPoller(IAsyncPoller poller) {
+    synchronized (m_pollerQueueLock) {
+      if (m_asyncPoller == poller) {
+        m_asyncPoller = null;
+      }
+    }
+  }
+
   /**
    * Signals the 'poll-request' to return to the UI. This method never blocks.
    * <p>
    * Internally, a notification token is put into the poller-queue. If a thread is waiting, it will wake up. If no
    * thread is waiting, the token remains in the queue, and the next thread that polls the queue will get the token
    * immediately. If the queue is full (i.e. there is already a token in the queue), this method does nothing.
+   * <p>
+   * A registered {@link IAsyncPoller} is signaled directly. The token is put into the queue anyway, so that a signal
+   * is not lost if the poller is just about to complete.
    */
   @SuppressWarnings("findbugs:RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
   protected void signalPoller() {
     //noinspection ResultOfMethodCallIgnored
     m_pollerQueue.offer(m_notificationToken);
+    IAsyncPoller asyncPoller = m_asyncPoller;
+    if (asyncPoller != null) {
+      asyncPoller.signal();
+    }
   }
 
   @Override
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.exception.PlatformError;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.ConnectionErrorDetector;
+import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
+import org.eclipse.scout.rt.ui.html.IAsyncPoller;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.AsyncPollingEnabledProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Suspends poll requests using the asynchronous servlet API instead of blocking a container thread in
+ * {@link IUiSession#waitForBackgroundJobs(JsonRequest, int)}.
+ * <p>
+ * A suspended poll request holds no thread. It is completed by a short-living job as soon as the UI session signals
+ * available UI data (see {@link IAsyncPoller#signal()}) or the poll wait time elapsed. Signals arriving within
+ * {@link #getCoalescingDelayMillis()} are coalesced into a single response.
+ *
+ * @see AsyncPollingEnabledProperty
+ */
+@ApplicationScoped
+public class AsyncPollDispatcher {
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncPollDispatcher.class);
+
+  /**
+   * Same as the additional delay of {@link IUiSession#waitForBackgroundJobs(JsonRequest, int)}.
+   */
+  protected static final long COALESCING_DELAY_MILLIS = 100;
+
+  /**
+   * Remaining poll wait time below which a poll request is completed instead of being suspended again.
+   */
+  protected static final long MIN_REMAINING_WAIT_MILLIS = 100;
+
+  private final boolean m_enabled = CONFIG.getPropertyValue(AsyncPollingEnabledProperty.class);
+  private final AtomicInteger m_suspendedCount = new AtomicInteger();
+
+  public boolean isEnabled() {
+    return m_enabled;
+  }
+
+  /**
+   * @return number of poll requests currently suspended
+   */
+  public int getSuspendedCount() {
+    return m_suspendedCount.get();
+  }
+
+  protected long getCoalescingDelayMillis() {
+    return COALESCING_DELAY_MILLIS;
+  }
+
+  /**
+   * Suspends the given poll request until background jobs of the UI session have terminated or the poll wait time
+   * elapsed. Afterwards, <code>completion</code> is run in a copy of the current {@link RunContext} to write the
+   * response.
+   *
+   * @return <code>false</code> if asynchronous polling is disabled or not supported by the request. The caller must
+   *         then wait for background jobs by itself.
+   */
+  public boolean dispatch(HttpServletRequest req, IUiSession uiSession, JsonRequest jsonRequest, int pollWaitSeconds, IRunnable completion) {
+    if (!isEnabled() || !req.isAsyncSupported()) {
+      return false;
+    }
+    AsyncContext asyncContext = req.startAsync();
+    AsyncPoll poll = createAsyncPoll(asyncContext, uiSession, RunContexts.copyCurrent(true), completion, TimeUnit.SECONDS.toMillis(pollWaitSeconds));
+    poll.start(jsonRequest);
+    return true;
+  }
+
+  protected AsyncPoll createAsyncPoll(AsyncContext asyncContext, IUiSession uiSession, RunContext runContext, IRunnable completion, long pollWaitMillis) {
+    return new AsyncPoll(asyncContext, uiSession, runContext, completion, pollWaitMillis);
+  }
+
+  /**
+   * A single suspended poll request.
+   */
+  protected class AsyncPoll implements IAsyncPoller, AsyncListener {
+    private final AsyncContext m_asyncContext;
+    private final IUiSession m_uiSession;
+    private final RunContext m_runContext;
+    private final IRunnable m_completion;
+    private final long m_pollWaitMillis;
+    private final long m_deadlineNanos;
+    private final AtomicBoolean m_done = new AtomicBoolean();
+    private final AtomicBoolean m_signalPending = new AtomicBoolean();
+    private volatile IFuture<Void> m_timeoutFuture;
+
+    protected AsyncPoll(AsyncContext asyncContext, IUiSession uiSession, RunContext runContext, IRunnable completion, long pollWaitMillis) {
+      m_asyncContext = asyncContext;
+      m_uiSession = uiSession;
+      m_runContext = runContext;
+      m_completion = completion;
+      m_pollWaitMillis = pollWaitMillis;
+      m_deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pollWaitMillis);
+    }
+
+    protected void start(JsonRequest jsonRequest) {
+      m_suspendedCount.incrementAndGet();
+      // The container timeout is only a safety net, the poll request is completed by the timeout job
+      m_asyncContext.setTimeout(m_pollWaitMillis + TimeUnit.SECONDS.toMillis(30));
+      m_asyncContext.addListener(this);
+      m_timeoutFuture = Jobs.schedule(this::complete, Jobs.newInput()
+          .withName("Completing poll request of UI session {}", m_uiSession.getUiSessionId())
+          .withExecutionTrigger(Jobs.newExecutionTrigger()
+              .withStartIn(m_pollWaitMillis, TimeUnit.MILLISECONDS)));
+      if (!m_uiSession.registerAsyncPoller(jsonRequest, this)) {
+        // Request was already processed, the previous response is sent back immediately
+        complete();
+      }
+    }
+
+    @Override
+    public void signal() {
+      if (m_done.get() || !m_signalPending.compareAndSet(false, true)) {
+        return; // a check is already scheduled and will include the data of this signal
+      }
+      Jobs.schedule(this::onSignal, Jobs.newInput()
+          .withName("Checking poll request of UI session {}", m_uiSession.getUiSessionId())
+          .withExecutionTrigger(Jobs.newExecutionTrigger()
+              .withStartIn(getCoalescingDelayMillis(), TimeUnit.MILLISECONDS)));
+    }
+
+    protected void onSignal() {
+      m_signalPending.set(false);
+      if (m_done.get()) {
+        return;
+      }
+      long remainingMillis = TimeUnit.NANOSECONDS.toMillis(m_deadlineNanos - System.nanoTime());
+      if (m_uiSession.isDisposed() || remainingMillis < MIN_REMAINING_WAIT_MILLIS || !m_uiSession.currentJsonResponse().isEmpty()) {
+        complete();
+      }
+      else {
+        LOG.trace("Background job terminated, but there is nothing to respond. Poll request remains suspended for max. {} ms.", remainingMillis);
+      }
+    }
+
+    @Override
+    public void cancel() {
+      if (finish()) {
+        // replaced by another poll request -> no response
+        completeAsyncContext();
+      }
+    }
+
+    /**
+     * Runs the completion to write the response and completes the asynchronous request.
+     */
+    protected void complete() {
+      if (!finish()) {
+        return;
+      }
+      try {
+        m_runContext.run(m_completion);
+      }
+      catch (RuntimeException | PlatformError e) {
+        if (BEANS.get(ConnectionErrorDetector.class).isConnectionError(e)) {
+          LOG.debug("Connection error detected: exception class={}, message={}.", e.getClass().getSimpleName(), e.getMessage(), e);
+        }
+        else {
+          LOG.error("Unexpected error while completing poll request", e);
+          writeUnrecoverableFailureResponse();
+        }
+      }
+      finally {
+        completeAsyncContext();
+      }
+    }
+
+    /**
+     * Writes the same response as a poll request failing synchronously, see {@link JsonMessageRequestHandler}.
+     */
+    protected void writeUnrecoverableFailureResponse() {
+      JsonRequestHelper jsonRequestHelper = BEANS.get(JsonRequestHelper.class);
+      try {
+        jsonRequestHelper.writeResponse(m_asyncContext.getResponse(), jsonRequestHelper.createUnrecoverableFailureResponse());
+      }
+      catch (IOException | RuntimeException e) {
+        LOG.warn("Could not write failure response of poll request", e);
+      }
+    }
+
+    /**
+     * @return <code>true</code> if this call finished the poll request, <code>false</code> if it was already finished
+     */
+    protected boolean finish() {
+      if (!m_done.compareAndSet(false, true)) {
+        return false;
+      }
+      m_suspendedCount.decrementAndGet();
+      m_uiSession.unregisterAsyncPoller(this);
+      IFuture<Void> timeoutFuture = m_timeoutFuture;
+      if (timeoutFuture != null && timeoutFuture != IFuture.CURRENT.get()) {
+        timeoutFuture.cancel(false);
+      }
+      return true;
+    }
+
+    protected void completeAsyncContext() {
+      try {
+        m_asyncContext.complete();
+      }
+      catch (IllegalStateException e) { // NOSONAR
+        // already completed by the container (e.g. connection closed)
+      }
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) throws IOException {
+      finish();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) throws IOException {
+      if (finish()) {
+        completeAsyncContext();
+      }
+    }
+
+    @Override
+    public void onError(AsyncEvent event) throws IOException {
+      finish();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) throws IOException {
+      // nop
+    }
+  }
+}
@@ -58,6 +58,7 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
   private final HttpSessionHelper m_httpSessionHelper = BEANS.get(HttpSessionHelper.class);
   private final HttpCacheControl m_httpCacheControl = BEANS.get(HttpCacheControl.class);
   private final JsonRequestHelper m_jsonRequestHelper = BEANS.get(JsonRequestHelper.class);
+  private final AsyncPollDispatcher m_asyncPollDispatcher = BEANS.get(AsyncPollDispatcher.class);
 
   @Override
   public boolean handlePost(final HttpServletRequest req, final HttpServletResponse resp) throws IOException {
@@ -175,35 +176,58 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
         throw new IllegalStateException("Unexpected request type: " + jsonRequest.getRequestType());
     }
 
-    // GUI requests for the same session must be processed consecutively, therefore acquire "UI session lock"
     if (jsonRequest.getRequestType() == RequestType.POLL_REQUEST) {
+      // Suspend the request without blocking the current thread if possible
+      if (m_asyncPollDispatcher.dispatch(httpServletRequest, uiSession, jsonRequest, computePollWait(uiSession),
+          () -> handlePollResponse(httpServletRequest, httpServletResponse, uiSession, jsonRequest))) {
+        return;
+      }
       // Block for a certain time
       boolean success = handlePollRequest(uiSession, jsonRequest);
       if (!success) {
         return; // Interrupted while waiting -> return immediately without sending a response
       }
-      // Special case: Poll requests should only *try* to acquire the lock. If the lock is currently acquired
-      // by some other thread, there is no reason to wait for it, because the other thread will already send
-      // the entire JSON response to the UI. Waiting for too long here could cause the UI session to time out,
-      // because the poller-induced "heart beat" mechanism would stop.
-      // If UiSession#waitForBackgroundJobs returned early because the request was already processed, we send back
-      // the corresponding response from the history. This would normally be done in UiSession#processJsonRequest,
-      // but without lock we have to do it manually. Otherwise, we send back an empty response.
-      if (!uiSession.uiSessionLock().tryLock()) {
-        JSONObject response = uiSession.getAlreadyProcessedResponse(jsonRequest);
-        if (response != null) {
-          LOG.info("Request #{} was already processed. Sending back response from history.", jsonRequest.getSequenceNo());
-        }
-        else {
-          LOG.debug("Creating empty response [{}, #{}, #ACK {}]", "CER_HJR", jsonRequest.getSequenceNo(), jsonRequest.getAckSequenceNo());
-          response = m_jsonRequestHelper.createEmptyResponse();
-        }
-        writeJsonResponse(httpServletResponse, response);
-        return;
+      handlePollResponse(httpServletRequest, httpServletResponse, uiSession, jsonRequest);
+      return;
+    }
+
+    // GUI requests for the same session must be processed consecutively, therefore acquire "UI session lock"
+    uiSession.uiSessionLock().lock(); // NOSONAR
+    try {
+      if (uiSession.isDisposed()) {
+        handleUiSessionDisposed(httpServletResponse, uiSession, jsonRequest);
+      }
+      else {
+        handleEvents(httpServletRequest, httpServletResponse, uiSession, jsonRequest);
       }
     }
-    else {
-      uiSession.uiSessionLock().lock(); // NOSONAR
+    finally {
+      uiSession.uiSessionLock().unlock();
+    }
+  }
+
+  /**
+   * Sends the response of a poll request after background jobs have terminated or the poll wait time elapsed.
+   */
+  protected void handlePollResponse(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, IUiSession uiSession, JsonRequest jsonRequest) throws IOException {
+    // Special case: Poll requests should only *try* to acquire the lock. If the lock is currently acquired
+    // by some other thread, there is no reason to wait for it, because the other thread will already send
+    // the entire JSON response to the UI. Waiting for too long here could cause the UI session to time out,
+    // because the poller-induced "heart beat" mechanism would stop.
+    // If UiSession#waitForBackgroundJobs returned early because the request was already processed, we send back
+    // the corresponding response from the history. This would normally be done in UiSession#processJsonRequest,
+    // but without lock we have to do it manually. Otherwise, we send back an empty response.
+    if (!uiSession.uiSessionLock().tryLock()) {
+      JSONObject response = uiSession.getAlreadyProcessedResponse(jsonRequest);
+      if (response != null) {
+        LOG.info("Request #{} was already processed. Sending back response from history.", jsonRequest.getSequenceNo());
+      }
+      else {
+        LOG.debug("Creating empty response [{}, #{}, #ACK {}]", "CER_HJR", jsonRequest.getSequenceNo(), jsonRequest.getAckSequenceNo());
+        response = m_jsonRequestHelper.createEmptyResponse();
+      }
+      writeJsonResponse(httpServletResponse, response);
+      return;
     }
     try {
       if (uiSession.isDisposed()) {
@@ -304,11 +328,7 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
    */
   @SuppressWarnings("UnnecessaryLocalVariable")
   protected boolean handlePollRequest(IUiSession uiSession, JsonRequest jsonRequest) {
-    int curIdle = (int) ((System.currentTimeMillis() - uiSession.getLastAccessedTime()) / 1000L);
-    int maxIdle = m_maxUserIdleTime;
-    // Default don't wait longer than the container timeout for security reasons. However, the minimum is _not_ 0,
-    // because that might trigger many very short polling calls until the ui session is really disposed.
-    int pollWait = Math.max(Math.min(maxIdle - curIdle, m_pollingInterval), 3);
+    int pollWait = computePollWait(uiSession);
     LOG.debug("Polling begin for {} seconds", pollWait);
     // Blocks the current thread until:
     // - a model job terminates
@@ -329,6 +349,17 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
     return true;
   }
 
+  /**
+   * @return number of seconds a poll request waits for background jobs
+   */
+  protected int computePollWait(IUiSession uiSession) {
+    int curIdle = (int) ((System.currentTimeMillis() - uiSession.getLastAccessedTime()) / 1000L);
+    int maxIdle = m_maxUserIdleTime;
+    // Default don't wait longer than the container timeout for security reasons. However, the minimum is _not_ 0,
+    // because that might trigger many very short polling calls until the ui session is really disposed.
+    return Math.max(Math.min(maxIdle - curIdle, m_pollingInterval), 3);
+  }
+
   protected void handleSessionTimeout(HttpServletResponse resp, JsonRequest jsonReq) throws IOException {
     LOG.info("Request cannot be processed due to UI session timeout [id={}]", jsonReq.getUiSessionId());
     writeJsonResponse(resp, m_jsonRequestHelper.createSessionTimeoutResponse());
@@ -12,8 +12,10 @@ package org.eclipse.scout.rt.ui.html.json;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -22,6 +24,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -34,6 +37,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.Part;
 
+import org.eclipse.scout.rt.client.IClientSession;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.config.CONFIG;
@@ -42,6 +46,8 @@ import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.resource.FileBinaryContentProvider;
+import org.eclipse.scout.rt.platform.resource.IBinaryContentProvider;
 import org.eclipse.scout.rt.platform.resource.MimeTypes;
 import org.eclipse.scout.rt.platform.security.MalwareScanner;
 import org.eclipse.scout.rt.platform.security.RejectedResourceException;
@@ -51,6 +57,8 @@ import org.eclipse.scout.rt.platform.util.HexUtility;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.shared.session.ISessionListener;
+import org.eclipse.scout.rt.shared.session.SessionEvent;
 import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.IUiSession;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties;
@@ -70,6 +78,7 @@ import org.slf4j.LoggerFactory;
 @Order(4520)
 public class UploadRequestHandler extends AbstractUiServletRequestHandler {
   private static final Logger LOG = LoggerFactory.getLogger(UploadRequestHandler.class);
+  private static final String SPOOLED_UPLOAD_FILES_DATA_KEY = UploadRequestHandler.class.getName() + ".spooledUploadFiles";
 
   /**
    * See Sessions.js. If no filename is set, this filename will be set instead, to ensure no browser sets a default
@@ -77,6 +86,11 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
    */
   private static final String EMPTY_UPLOAD_FILENAME = "*empty*";
 
+  /**
+   * Number of bytes passed to {@link #detectContentType(String, Part, byte[])} for uploads spooled to a file.
+   */
+  private static final int CONTENT_HEADER_LENGTH = 8192;
+
   public static final Pattern PATTERN_UPLOAD_ADAPTER_RESOURCE_PATH = Pattern.compile("^/upload/([^/]*)/([^/]*)$");
 
   public static final Set<String> DEFAULT_VALID_FILE_EXTENSIONS = Stream.of("avi", "bmp", "docx", "dotx", "gif", "html", "jpg", "jpeg", "log", "m2v", "mkv", "mov", "mp3", "mp4", "mpg", "m4p", "oga", "ogv", "pdf", "png", "potx", "ppsx",
@@ -170,36 +184,116 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
       }
       Map<String, String> uploadProperties = new HashMap<>();
       List<BinaryResource> uploadResources = new ArrayList<>();
+      final List<BinaryResource> readResources = uploadResources;
+      boolean handedOver = false;
       try {
-        readUploadData(httpServletRequest, uploadable, uploadProperties, uploadResources);
-      }
-      catch (UnsafeResourceException e) { // NOSONAR
-        // LOG is done in MalwareScanner, verifyFileSafety is the only method throwing this exception
-        writeJsonResponse(httpServletResponse, m_jsonRequestHelper.createUnsafeUploadResponse());
-        return;
-      }
-      catch (RejectedResourceException e) { // NOSONAR
-        // verifyFileName and verifyFileIntegrity and maxFileCount are the only methods throwing this exception
-        //mark resources as FAILED
-        uploadResources = null;
-        uploadProperties = null;
-        //continue
-      }
-      if (uiSession.isDisposed()) {
-        writeJsonResponse(httpServletResponse, m_jsonRequestHelper.createSessionTimeoutResponse());
-        return;
+        try {
+          readUploadData(httpServletRequest, uploadable, uploadProperties, uploadResources);
+        }
+        catch (UnsafeResourceException e) { // NOSONAR
+          // LOG is done in MalwareScanner, verifyFileSafety is the only method throwing this exception
+          writeJsonResponse(httpServletResponse, m_jsonRequestHelper.createUnsafeUploadResponse());
+          return;
+        }
+        catch (RejectedResourceException e) { // NOSONAR
+          // verifyFileName and verifyFileIntegrity and maxFileCount are the only methods throwing this exception
+          //mark resources as FAILED
+          uploadResources = null;
+          uploadProperties = null;
+          //continue
+        }
+        if (uiSession.isDisposed()) {
+          writeJsonResponse(httpServletResponse, m_jsonRequestHelper.createSessionTimeoutResponse());
+          return;
+        }
+        JSONObject jsonResp = uiSession.processFileUpload(httpServletRequest, httpServletResponse, uploadable, uploadResources, uploadProperties);
+        handedOver = uploadResources != null;
+        if (handedOver) {
+          deleteSpooledFilesOnSessionStop(uiSession, uploadResources);
+        }
+        if (jsonResp == null) {
+          jsonResp = m_jsonRequestHelper.createEmptyResponse();
+        }
+        writeJsonResponse(httpServletResponse, jsonResp);
       }
-      JSONObject jsonResp = uiSession.processFileUpload(httpServletRequest, httpServletResponse, uploadable, uploadResources, uploadProperties);
-      if (jsonResp == null) {
-        jsonResp = m_jsonRequestHelper.createEmptyResponse();
+      finally {
+        if (!handedOver) {
+          deleteSpooledFiles(uiSession, readResources);
+        }
       }
-      writeJsonResponse(httpServletResponse, jsonResp);
     }
     finally {
       uiSessionLock.unlock();
     }
   }
 
+  /**
+   * Deletes the temporary files of uploads spooled by {@link #spoolToFile(Part)}. Resources held in memory are
+   * ignored.
+   */
+  protected void deleteSpooledFiles(Collection<BinaryResource> resources) {
+    for (BinaryResource res : resources) {
+      if (res != null && res.getContentProvider() instanceof FileBinaryContentProvider) {
+        ((FileBinaryContentProvider) res.getContentProvider()).deleteTemporaryFile();
+      }
+    }
+  }
+
+  /**
+   * Deletes the temporary files like {@link #deleteSpooledFiles(Collection)} and removes them from the files deleted
+   * when the client session stops.
+   */
+  protected void deleteSpooledFiles(IUiSession uiSession, Collection<BinaryResource> resources) {
+    deleteSpooledFiles(resources);
+    SpooledUploadFiles spooledFiles = getSpooledUploadFiles(uiSession, false);
+    if (spooledFiles != null) {
+      temporaryContentProviders(resources).forEach(spooledFiles::remove);
+    }
+  }
+
+  /**
+   * Spooled files handed over to the model may still be read after the upload request. They are deleted when the
+   * client session stops, or earlier as soon as the resources are not referenced anymore.
+   */
+  protected void deleteSpooledFilesOnSessionStop(IUiSession uiSession, Collection<BinaryResource> resources) {
+    List<FileBinaryContentProvider> providers = temporaryContentProviders(resources);
+    if (providers.isEmpty()) {
+      return;
+    }
+    SpooledUploadFiles spooledFiles = getSpooledUploadFiles(uiSession, true);
+    if (spooledFiles != null) {
+      providers.forEach(spooledFiles::add);
+    }
+  }
+
+  protected List<FileBinaryContentProvider> temporaryContentProviders(Collection<BinaryResource> resources) {
+    return resources.stream()
+        .filter(res -> res != null && res.getContentProvider() instanceof FileBinaryContentProvider)
+        .map(res -> (FileBinaryContentProvider) res.getContentProvider())
+        .filter(FileBinaryContentProvider::isTemporary)
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Must be called while holding the {@link IUiSession#uiSessionLock()}.
+   *
+   * @return the spooled files of the client session, <code>null</code> if there is no client session or if
+   *         <code>create</code> is <code>false</code> and no files were registered yet
+   */
+  protected SpooledUploadFiles getSpooledUploadFiles(IUiSession uiSession, boolean create) {
+    IClientSession clientSession = uiSession.getClientSession();
+    if (clientSession == null) {
+      return null;
+    }
+    SpooledUploadFiles spooledFiles = (SpooledUploadFiles) clientSession.getData(SPOOLED_UPLOAD_FILES_DATA_KEY);
+    if (spooledFiles == null && create) {
+      spooledFiles = new SpooledUploadFiles();
+      clientSession.setData(SPOOLED_UPLOAD_FILES_DATA_KEY, spooledFiles);
+      clientSession.addListener(spooledFiles);
+    }
+    return spooledFiles;
+  }
+
   /**
    * @return the value of the HTTP header <code>X-Scout-#ACK</code> as {@link Long}, or <code>null</code> if value is
    *         not set or not a number.
@@ -224,6 +318,7 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
   protected void readUploadData(HttpServletRequest httpReq, IUploadable uploadable, Map<String, String> uploadProperties, List<BinaryResource> uploadResources) throws IOException, ServletException {
     Set<String> validFileExtensions = getValidFileExtensionsFor(uploadable, uploadProperties);
     long maxFileCount = CONFIG.getPropertyValue(UiHtmlConfigProperties.MaxUploadFileCountProperty.class);
+    long spoolThreshold = CONFIG.getPropertyValue(UiHtmlConfigProperties.UploadSpoolThresholdProperty.class);
     int fileCount = 0;
     for (Part part : httpReq.getParts()) {
       fileCount++;
@@ -248,17 +343,44 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
       }
       verifyMaximumUploadSize(uploadable, part);
 
-      byte[] content;
-      try (InputStream in = part.getInputStream()) {
-        content = IOUtility.readBytes(in);
+      BinaryResource res;
+      byte[] content = null;
+      if (isSpoolToFile(part, spoolThreshold)) {
+        IBinaryContentProvider contentProvider = spoolToFile(part);
+        byte[] contentHeader;
+        try (InputStream in = contentProvider.openStream()) {
+          contentHeader = IOUtility.readBytes(in, (int) Math.min(CONTENT_HEADER_LENGTH, contentProvider.getLength()));
+        }
+        catch (IOException | RuntimeException e) {
+          if (contentProvider instanceof FileBinaryContentProvider) {
+            ((FileBinaryContentProvider) contentProvider).deleteTemporaryFile();
+          }
+          throw e;
+        }
+        res = BinaryResources.create()
+            .withFilename(filename)
+            .withContentType(detectContentType(filename, part, contentHeader))
+            .withContentProvider(contentProvider)
+            .build();
+      }
+      else {
+        try (InputStream in = part.getInputStream()) {
+          content = IOUtility.readBytes(in);
+        }
+        res = BinaryResources.create()
+            .withFilename(filename)
+            .withContentType(detectContentType(filename, part, content))
+            .withContent(content)
+            .build();
+      }
+      try {
+        verifyFileSafety(res);
+        verifyFileIntegrity(res);
+      }
+      catch (RuntimeException e) {
+        deleteSpooledFiles(Collections.singletonList(res));
+        throw e;
       }
-      BinaryResource res = BinaryResources.create()
-          .withFilename(filename)
-          .withContentType(detectContentType(filename, part, content))
-          .withContent(content)
-          .build();
-      verifyFileSafety(res);
-      verifyFileIntegrity(res);
 
       // properties are sent as form fields without file name by UI (see Session.ts)
       if (StringUtility.isNullOrEmpty(part.getSubmittedFileName())) {
@@ -284,7 +406,8 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
    * be derived from the file-extension in the constructor of {@link BinaryResource}. Otherwise, the content type sent
    * with the uploaded file is used.
    * <p>
-   * The content is passed as well to allow for a custom content type detection logic.
+   * The content is passed as well to allow for a custom content type detection logic. For uploads spooled to a file
+   * (see {@link #isSpoolToFile(Part, long)}) only the beginning of the content is passed.
    */
   protected String detectContentType(String filename, Part part, byte[] content) {
     if (filename != null) {
@@ -293,6 +416,32 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
     return part.getContentType();
   }
 
+  /**
+   * @return <code>true</code> if the uploaded file is written to a temporary file instead of being held in memory.
+   *         Form fields (parts without file name) are always held in memory.
+   */
+  protected boolean isSpoolToFile(Part part, long spoolThreshold) {
+    return spoolThreshold >= 0
+        && part.getSize() > spoolThreshold
+        && !StringUtility.isNullOrEmpty(part.getSubmittedFileName());
+  }
+
+  /**
+   * Copies the uploaded file to a temporary file. It is deleted when the upload request fails or the client session
+   * stops, at the latest as soon as the returned provider is not referenced anymore.
+   */
+  protected IBinaryContentProvider spoolToFile(Part part) throws IOException {
+    Path file = Files.createTempFile("upload", ".tmp");
+    try (InputStream in = part.getInputStream()) {
+      Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+    catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(file);
+      throw e;
+    }
+    return FileBinaryContentProvider.temporary(file);
+  }
+
   /**
    * @param uploadable
    *          is the JsonAdapter that triggers the upload
@@ -394,11 +543,47 @@ public class UploadRequestHandler extends AbstractUiServletRequestHandler {
    */
   protected void verifyFileIntegrity(BinaryResource res) {
     if (!MimeTypes.verifyMagic(res)) {
-      byte[] content = res.getContent();
-      String header = (content == null || content.length == 0) ? "" : HexUtility.encode(Arrays.copyOfRange(content, 0, Math.min(8, content.length)));
+      byte[] content = res.getContentHeader(8);
+      String header = (content == null || content.length == 0) ? "" : HexUtility.encode(content);
       String message = "File '{}' has content header '{}' which does not match its extension.";
       LOG.info(message, res.getFilename(), header);
       throw new RejectedResourceException(message, res.getFilename(), header);
     }
   }
+
+  /**
+   * Temporary files of uploads handed over to the model of a client session. There is one instance per client session,
+   * which deletes the remaining files when the session stops.
+   * <p>
+   * The content providers are only weakly referenced: the files of providers which are not referenced anymore are
+   * deleted by {@link FileBinaryContentProvider} itself and their entries disappear.
+   */
+  protected static class SpooledUploadFiles implements ISessionListener {
+    private final Set<FileBinaryContentProvider> m_providers = Collections.newSetFromMap(new WeakHashMap<>());
+
+    public synchronized void add(FileBinaryContentProvider provider) {
+      m_providers.add(provider);
+    }
+
+    public synchronized void remove(FileBinaryContentProvider provider) {
+      m_providers.remove(provider);
+    }
+
+    public synchronized int size() {
+      return m_providers.size();
+    }
+
+    @Override
+    public void sessionChanged(SessionEvent event) {
+      if (event.getType() != SessionEvent.TYPE_STOPPED) {
+        return;
+      }
+      List<FileBinaryContentProvider> providers;
+      synchronized (this) {
+        providers = new ArrayList<>(m_providers);
+        m_providers.clear();
+      }
+      providers.forEach(FileBinaryContentProvider::deleteTemporaryFile);
+    }
+  }
 }
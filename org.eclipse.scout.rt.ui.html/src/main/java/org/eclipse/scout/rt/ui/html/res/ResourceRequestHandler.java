@@ -10,6 +10,13 @@
 package org.eclipse.scout.rt.ui.html.res;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Collections;
 import java.util.List;
 
@@ -21,11 +28,14 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.IBinaryContentProvider;
 import org.eclipse.scout.rt.server.commons.servlet.UrlHints;
 import org.eclipse.scout.rt.server.commons.servlet.cache.GlobalHttpResourceCache;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpRangeControl;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpRangeControl.ByteRange;
 import org.eclipse.scout.rt.server.commons.servlet.cache.IHttpResourceCache;
 import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.UiServlet;
@@ -49,6 +59,7 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
   // Remember bean instances to save lookups on each GET request
   private final List<ResourceLoaders> m_resourceLoaders = Collections.unmodifiableList(BEANS.all(ResourceLoaders.class));
   private final HttpCacheControl m_httpCacheControl = BEANS.get(HttpCacheControl.class);
+  private final HttpRangeControl m_httpRangeControl = BEANS.get(HttpRangeControl.class);
 
   @Override
   public boolean handleGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
@@ -81,11 +92,72 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
     BinaryResource binaryResource = cachedObject.getResource();
     setHttpResponseHeaders(resp, binaryResource);
 
+    // Range request? -> returns 206 with the requested part or 416 if the range is not satisfiable
+    ByteRange range = m_httpRangeControl.resolveRange(req, cachedObject);
+    if (range != null) {
+      m_httpRangeControl.setRangeHeaders(resp, range);
+      if (!range.isSatisfiable()) {
+        return;
+      }
+    }
+
     // Apply response interceptors
     cachedObject.applyHttpResponseInterceptors(req, resp);
 
     if (!"HEAD".equals(req.getMethod())) {
-      resp.getOutputStream().write(binaryResource.getContent());
+      if (range != null) {
+        writeContent(resp, binaryResource, range.getStart(), range.getLength());
+      }
+      else {
+        writeContent(resp, binaryResource, 0, binaryResource.getContentLengthLong());
+      }
+    }
+  }
+
+  /**
+   * Writes the given part of the content to the response. File backed resources are transferred using
+   * {@link FileChannel#transferTo(long, long, WritableByteChannel)} and are never read into memory as a whole.
+   */
+  protected void writeContent(HttpServletResponse resp, BinaryResource resource, long offset, long length) throws IOException {
+    IBinaryContentProvider contentProvider = resource.getContentProvider();
+    if (contentProvider == null) {
+      byte[] content = resource.getContent();
+      if (content != null) {
+        resp.getOutputStream().write(content, (int) offset, (int) length);
+      }
+      return;
+    }
+
+    Path path = contentProvider.getPath();
+    if (path != null) {
+      try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+        WritableByteChannel out = Channels.newChannel(resp.getOutputStream());
+        long position = offset;
+        long end = offset + length;
+        while (position < end) {
+          long count = in.transferTo(position, end - position, out);
+          if (count <= 0) {
+            break;
+          }
+          position += count;
+        }
+      }
+      return;
+    }
+
+    try (InputStream in = contentProvider.openStream()) {
+      in.skipNBytes(offset);
+      OutputStream out = resp.getOutputStream();
+      byte[] buffer = new byte[8192];
+      long remaining = length;
+      while (remaining > 0) {
+        int count = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+        if (count < 0) {
+          break;
+        }
+        out.write(buffer, 0, count);
+        remaining -= count;
+      }
     }
   }
 
@@ -151,11 +223,15 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
   }
 
   /**
-   * Sets HTTP response header fields: content-length, content-type (incl. optional charset).
+   * Sets HTTP response header fields: content-length, content-type (incl. optional charset), accept-ranges.
    */
   protected void setHttpResponseHeaders(HttpServletResponse resp, BinaryResource resource) {
     // content-length
-    resp.setContentLength(resource.getContentLength());
+    long contentLength = resource.getContentLengthLong();
+    resp.setContentLengthLong(contentLength);
+    if (contentLength >= 0) {
+      m_httpRangeControl.setAcceptRangesHeader(resp);
+    }
 
     // charset
     String charset = resource.getCharset();
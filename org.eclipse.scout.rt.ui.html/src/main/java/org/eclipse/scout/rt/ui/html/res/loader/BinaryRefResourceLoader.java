@@ -10,7 +10,6 @@
 package org.eclipse.scout.rt.ui.html.res.loader;
 
 import java.net.URI;
-import java.util.Map.Entry;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
@@ -118,9 +117,8 @@ public class BinaryRefResourceLoader extends AbstractResourceLoader {
     // binaryRefs must be independent of the IClientSession, therefore take any
     IClientSession clientSession = BEANS.get(HttpSessionHelper.class)
         .getSessionStore(httpSession)
-        .getClientSessionMap().entrySet().stream()
+        .getClientSessions().stream()
         .findAny()
-        .map(Entry::getValue)
         .orElse(null);
 
     if (clientSession == null) {
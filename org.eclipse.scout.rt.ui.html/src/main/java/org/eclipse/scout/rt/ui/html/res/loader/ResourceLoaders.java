@@ -45,7 +45,7 @@ public class ResourceLoaders {
     if (resourcePath.endsWith("/locales.json")) {
       return new LocalesLoader();
     }
-    if (resourcePath.endsWith("/texts.json")) {
+    if (resourcePath.endsWith("/texts.json") || TextsLoader.LANGUAGE_PATH_PATTERN.matcher(resourcePath).matches()) {
       return new TextsLoader();
     }
     if (resourcePath.endsWith('/' + LegacyBrowserScriptLoader.LEGACY_BROWSERS_SCRIPT)) {
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.res.loader;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.IPlatform.State;
+import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.PlatformEvent;
+
+/**
+ * Holds the serialized content created by the {@link TextsLoader} per list of locales. The texts of the
+ * {@link org.eclipse.scout.rt.platform.text.AbstractDynamicNlsTextProviderService}s do not change while the platform
+ * is running, so the content is only generated once per locale list, no matter how many browsers request it.
+ */
+@ApplicationScoped
+public class TextsContentCache implements IPlatformListener {
+
+  private final Map<String, byte[]> m_contents = new ConcurrentHashMap<>();
+
+  /**
+   * @return the cached content for the given locales or the result of the supplier which is cached for subsequent
+   *         calls.
+   */
+  public byte[] computeIfAbsent(List<Locale> locales, Supplier<byte[]> contentSupplier) {
+    return m_contents.computeIfAbsent(createKey(locales), k -> contentSupplier.get());
+  }
+
+  public void clear() {
+    m_contents.clear();
+  }
+
+  protected String createKey(List<Locale> locales) {
+    return locales.stream()
+        .map(Locale::toLanguageTag)
+        .collect(Collectors.joining(","));
+  }
+
+  @Override
+  public void stateChanged(PlatformEvent event) {
+    if (event.getState() == State.PlatformStopping) {
+      clear();
+    }
+  }
+}
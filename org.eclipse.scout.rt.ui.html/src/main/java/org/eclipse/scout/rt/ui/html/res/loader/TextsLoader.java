@@ -19,9 +19,12 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.nls.NlsResourceBundle;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
 import org.eclipse.scout.rt.platform.resource.BinaryResources;
@@ -30,6 +33,14 @@ import org.eclipse.scout.rt.platform.util.FileUtility;
 import org.json.JSONObject;
 
 public class TextsLoader extends AbstractResourceLoader {
+
+  public static final String DEFAULT_LANGUAGE_TAG = "default";
+
+  /**
+   * Matches the path of the texts of a single language, e.g. <code>/texts-de-CH.json</code>.
+   */
+  public static final Pattern LANGUAGE_PATH_PATTERN = Pattern.compile("^.*/texts-([a-zA-Z0-9-]+)\\.json$");
+
   private Predicate<Entry<String, String>> m_entryFilter;
 
   public void setEntryFilter(Predicate<Entry<String, String>> entryFilter) {
@@ -42,7 +53,37 @@ public class TextsLoader extends AbstractResourceLoader {
 
   @Override
   public BinaryResource loadResource(String pathInfo) {
-    List<Locale> languageLocales = getLanguageLocales();
+    List<Locale> languageLocales = getLanguageLocales(pathInfo);
+    if (languageLocales == null) {
+      return null;
+    }
+
+    // Create a binary resource
+    byte[] content = isContentCacheEnabled()
+        ? BEANS.get(TextsContentCache.class).computeIfAbsent(languageLocales, () -> createContent(languageLocales))
+        : createContent(languageLocales);
+    return BinaryResources.create()
+        .withFilename(pathInfo)
+        .withCharset(StandardCharsets.UTF_8)
+        .withContentType(FileUtility.getContentTypeForExtension("json"))
+        .withContent(content)
+        .withCachingAllowed(true)
+        .build();
+  }
+
+  /**
+   * The content only depends on the locales as long as no entry filter is set. It is not cached in development mode so
+   * that changed texts are visible after a reload.
+   */
+  protected boolean isContentCacheEnabled() {
+    return m_entryFilter == null && !Platform.get().inDevelopmentMode();
+  }
+
+  /**
+   * @return the texts of the given locales as compact json. The texts are sorted by key so that the content (and
+   *         therefore the ETag of the resource) only changes if the texts change.
+   */
+  protected byte[] createContent(List<Locale> languageLocales) {
     JSONObject jsonTexts = new JSONObject();
 
     // Gather all texts and group them by language tags
@@ -66,23 +107,14 @@ public class TextsLoader extends AbstractResourceLoader {
     // Convert the texts into json
     for (Entry<Locale, Map<String, String>> entry : textsByLanguageTag.entrySet()) {
       Locale locale = entry.getKey();
-      String languageTag = (locale == null || locale == Locale.ROOT) ? "default" : locale.toLanguageTag();
+      String languageTag = (locale == null || locale == Locale.ROOT) ? DEFAULT_LANGUAGE_TAG : locale.toLanguageTag();
 
       JSONObject jsonTextMap = textsToJson(languageTag, entry.getValue());
       if (jsonTextMap.length() > 0) {
         jsonTexts.put(languageTag, jsonTextMap);
       }
     }
-
-    // Create a binary resource
-    byte[] content = jsonTexts.toString(2).getBytes(StandardCharsets.UTF_8);
-    return BinaryResources.create()
-        .withFilename(pathInfo)
-        .withCharset(StandardCharsets.UTF_8)
-        .withContentType(FileUtility.getContentTypeForExtension("json"))
-        .withContent(content)
-        .withCachingAllowed(true)
-        .build();
+    return jsonTexts.toString().getBytes(StandardCharsets.UTF_8);
   }
 
   protected boolean acceptEntry(Entry<String, String> entry) {
@@ -104,6 +136,44 @@ public class TextsLoader extends AbstractResourceLoader {
     return processLanguageTags(LocalesLoader.getLanguageTags());
   }
 
+  /**
+   * @return the locales to load for the given path: all configured locales for <code>texts.json</code>, only the
+   *         default texts and the texts of one language for <code>texts-&lt;languageTag&gt;.json</code> (e.g.
+   *         <code>texts-de-CH.json</code> contains the texts for default, de and de-CH). <code>null</code> if the
+   *         language is not configured.
+   */
+  protected List<Locale> getLanguageLocales(String pathInfo) {
+    List<Locale> locales = getLanguageLocales();
+    String languageTag = getLanguageTag(pathInfo);
+    if (languageTag == null) {
+      return locales;
+    }
+    Locale requestedLocale = DEFAULT_LANGUAGE_TAG.equals(languageTag) ? Locale.ROOT : Locale.forLanguageTag(languageTag);
+    if (!locales.contains(requestedLocale)) {
+      return null;
+    }
+    return locales.stream()
+        .filter(locale -> locale == Locale.ROOT
+            || locale.equals(requestedLocale)
+            || (locale.getCountry().isEmpty() && locale.getLanguage().equals(requestedLocale.getLanguage())))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * @return the language tag of a per language path like <code>texts-de-CH.json</code> or <code>null</code> if the
+   *         path requests the texts of all languages.
+   */
+  protected String getLanguageTag(String pathInfo) {
+    if (pathInfo == null) {
+      return null;
+    }
+    Matcher matcher = LANGUAGE_PATH_PATTERN.matcher(pathInfo);
+    if (!matcher.matches()) {
+      return null;
+    }
+    return matcher.group(1);
+  }
+
   /**
    * Processes the given language tags and does two things:
    * <ul>
@@ -16,13 +16,26 @@ import org.eclipse.scout.rt.api.data.uinotification.UiNotificationDo;
 public class UiNotificationAddedEvent extends EventObject {
   private static final long serialVersionUID = 1L;
   private UiNotificationDo m_notification;
+  private UiNotificationMessageDo m_message;
 
   public UiNotificationAddedEvent(Object source, UiNotificationDo notification) {
     super(source);
     m_notification = notification;
   }
 
+  public UiNotificationAddedEvent(Object source, UiNotificationMessageDo message) {
+    this(source, message.getNotification());
+    m_message = message;
+  }
+
   public UiNotificationDo getNotification() {
     return m_notification;
   }
+
+  /**
+   * @return the message containing the added notification and its recipients, <code>null</code> if not available.
+   */
+  public UiNotificationMessageDo getMessage() {
+    return m_message;
+  }
 }
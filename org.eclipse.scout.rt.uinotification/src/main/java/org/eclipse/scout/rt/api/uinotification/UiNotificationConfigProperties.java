@@ -14,6 +14,7 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.scout.rt.api.data.ApiExposed;
 import org.eclipse.scout.rt.platform.config.AbstractLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 
 public final class UiNotificationConfigProperties {
 
@@ -101,4 +102,44 @@ public final class UiNotificationConfigProperties {
           + "The default is 30 requests per second.";
     }
   }
+
+  public static class StreamHeartbeatIntervalProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.uinotification.stream.heartbeatInterval";
+    }
+
+    @Override
+    public String description() {
+      return "Configures in seconds how often a heartbeat is sent over open UI notification streams."
+          + "The heartbeat keeps idle connections open on proxies and detects disconnected clients."
+          + "Default is 30 seconds.";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 30L;
+    }
+  }
+
+  public static class StreamMaxConnectionTimeProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.uinotification.stream.maxConnectionTime";
+    }
+
+    @Override
+    public String description() {
+      return "Configures in milliseconds how long a UI notification stream is kept open."
+          + "Afterwards the stream is closed and the client reconnects, resuming from the last received notification."
+          + "Default is 30 minutes.";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return TimeUnit.MINUTES.toMillis(30);
+    }
+  }
 }
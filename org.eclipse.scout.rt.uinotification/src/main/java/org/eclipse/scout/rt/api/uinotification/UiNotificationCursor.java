@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.api.uinotification;
+
+import static org.eclipse.scout.rt.api.uinotification.UiNotificationRegistry.SUBSCRIPTION_START_ID;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.scout.rt.api.data.uinotification.TopicDo;
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationDo;
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationRequest;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.Base64Utility;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Position of a client in the notification streams of its topics: the last known notification per topic and cluster
+ * node (see {@link TopicDo#getLastNotifications()}).
+ * <p>
+ * Used by streaming channels which keep one connection per client. The cursor can be encoded into a compact string
+ * (e.g. the id of a server-sent event) and is used to resume the stream after a reconnect.
+ * <p>
+ * This class is not thread safe.
+ */
+public class UiNotificationCursor {
+  private static final Logger LOG = LoggerFactory.getLogger(UiNotificationCursor.class);
+
+  private final Map<String, List<UiNotificationDo>> m_lastNotifications = new LinkedHashMap<>();
+
+  /**
+   * Creates a cursor at the start of the subscription of the given topics.
+   */
+  public UiNotificationCursor(Collection<String> topics) {
+    Assertions.assertFalse(topics.isEmpty(), "Topics must not be empty");
+    for (String topic : topics) {
+      m_lastNotifications.put(topic, new ArrayList<>());
+    }
+  }
+
+  /**
+   * Creates a cursor for the given topics which resumes at the position of an {@link #encode() encoded} cursor.
+   * Topics not contained in the encoded cursor start at the subscription start. An invalid encoded cursor is ignored.
+   */
+  public static UiNotificationCursor decode(Collection<String> topics, String encodedCursor) {
+    UiNotificationCursor cursor = new UiNotificationCursor(topics);
+    if (StringUtility.isNullOrEmpty(encodedCursor)) {
+      return cursor;
+    }
+    try {
+      String json = new String(Base64Utility.decodeUrlSafe(encodedCursor), StandardCharsets.UTF_8);
+      UiNotificationRequest request = BEANS.get(IDataObjectMapper.class).readValue(json, UiNotificationRequest.class);
+      for (TopicDo topic : request.getTopics()) {
+        if (cursor.m_lastNotifications.containsKey(topic.getName())) {
+          cursor.m_lastNotifications.put(topic.getName(), new ArrayList<>(topic.getLastNotifications()));
+        }
+      }
+    }
+    catch (RuntimeException e) {
+      LOG.info("Ignoring invalid ui notification cursor '{}'", encodedCursor, e);
+    }
+    return cursor;
+  }
+
+  /**
+   * @return an URL-safe string representation of this cursor, see {@link #decode(Collection, String)}
+   */
+  public String encode() {
+    String json = BEANS.get(IDataObjectMapper.class).writeValue(new UiNotificationRequest().withTopics(toTopics()));
+    return Base64Utility.encodeUrlSafe(json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * @return the topics including their last known notifications as expected by
+   *         {@link UiNotificationRegistry#get(List, String)}
+   */
+  public List<TopicDo> toTopics() {
+    List<TopicDo> topics = new ArrayList<>();
+    for (Entry<String, List<UiNotificationDo>> entry : m_lastNotifications.entrySet()) {
+      topics.add(new TopicDo()
+          .withName(entry.getKey())
+          .withLastNotifications(entry.getValue()));
+    }
+    return topics;
+  }
+
+  /**
+   * Moves the cursor behind the given notification, which was delivered to the client.
+   */
+  public void update(UiNotificationDo notification) {
+    List<UiNotificationDo> lastNotifications = m_lastNotifications.get(notification.getTopic());
+    if (lastNotifications == null) {
+      return;
+    }
+    UiNotificationDo last = lastNotifications.stream()
+        .filter(n -> ObjectUtility.equals(n.getNodeId(), notification.getNodeId()) && !SUBSCRIPTION_START_ID.equals(n.getId()))
+        .findFirst()
+        .orElse(null);
+    if (last != null && last.getCreationTime().after(notification.getCreationTime())) {
+      // notifications from other cluster nodes may not arrive in order
+      return;
+    }
+    // The subscription start marker is only used as long as no notification is known
+    lastNotifications.removeIf(n -> n == last || SUBSCRIPTION_START_ID.equals(n.getId()));
+    // the message is not required to resume
+    lastNotifications.add(new UiNotificationDo()
+        .withId(notification.getId())
+        .withTopic(notification.getTopic())
+        .withNodeId(notification.getNodeId())
+        .withCreationTime(notification.getCreationTime())
+        .withSubscriptionStart(notification.getSubscriptionStart()));
+  }
+
+  public Collection<String> getTopicNames() {
+    return m_lastNotifications.keySet();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + m_lastNotifications;
+  }
+}
@@ -12,16 +12,19 @@ package org.eclipse.scout.rt.api.uinotification;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Function;
@@ -49,7 +52,6 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.Base64Utility;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
-import org.eclipse.scout.rt.platform.util.date.DateUtility;
 import org.eclipse.scout.rt.platform.util.event.FastListenerList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -61,23 +63,20 @@ public class UiNotificationRegistry {
   public static final String SUBSCRIPTION_START_ID = "-1";
 
   private IdGenerator m_idGenerator = new IdGenerator();
-  private final ReadWriteLock m_lock = new ReentrantReadWriteLock();
   /**
    * Contains all notifications per topic including notifications that are created by other cluster nodes.
    * <p>
-   * The order is not relevant for the implementation, however, notifications created this registry are actually ordered
-   * by {@link UiNotificationDo#creationTime()} because only one notification can be inserted at a time, and it will be
-   * added to the end of the list. Notifications received from other cluster nodes are also added at the end of the
-   * list, but they may not arrive in the same order as inserted in the registry of the other cluster node.
-   * <p>
-   * The list will be cleaned up regularly by {@link #m_cleanupJob}.
+   * Each topic has its own lock, so puts and gets for different topics don't block each other. A topic is added with
+   * its first notification and removed by {@link #m_cleanupJob} once all of its notifications have expired. Both
+   * happen atomically using {@link ConcurrentHashMap#compute(Object, java.util.function.BiFunction)}.
    */
-  private Map<String, List<UiNotificationMessageDo>> m_notifications = new HashMap<>();
-  private final Map<String, FastListenerList<UiNotificationListener>> m_listeners = new HashMap<>();
+  private final Map<String, TopicNotifications> m_topics = new ConcurrentHashMap<>();
+  private final Map<String, FastListenerList<UiNotificationListener>> m_listeners = new ConcurrentHashMap<>();
+  private final Object m_cleanupJobLock = new Object();
   private IFuture<Void> m_cleanupJob;
   private long m_cleanupJobInterval = CONFIG.getPropertyValue(RegistryCleanupJobIntervalProperty.class);
   private IUiNotificationClusterService m_clusterService;
-  private Date m_lastCreationTime;
+  private final AtomicLong m_lastCreationTime = new AtomicLong();
 
   public UiNotificationRegistry() {
     m_clusterService = BEANS.opt(IUiNotificationClusterService.class);
@@ -169,39 +168,27 @@ public class UiNotificationRegistry {
   }
 
   protected List<UiNotificationDo> get(String topic, String user, final List<UiNotificationDo> lastKnownNotifications) {
-    m_lock.readLock().lock();
-    try {
-      Stream<UiNotificationDo> notificationStream = getNotifications().getOrDefault(topic, Collections.emptyList()).stream()
-          .filter(elem -> isNotificationRelevantForUser(elem, user))
-          .map(elem -> elem.getNotification());
+    TopicNotifications notifications = m_topics.get(topic);
 
-      // Return notifications that just act as subscription start markers
-      if (lastKnownNotifications.isEmpty()) {
-        return createSubscriptionStartNotifications(topic, notificationStream);
-      }
+    // Return notifications that just act as subscription start markers
+    if (lastKnownNotifications.isEmpty()) {
+      return createSubscriptionStartNotifications(topic, notifications == null ? Stream.empty() : notifications.getLatestPerNode(user).stream());
+    }
+    if (notifications == null) {
+      return new ArrayList<>();
+    }
 
-      // If the last element is SUBSCRIPTION_START_ID, return all elements
-      if (lastKnownNotifications.size() == 1 && SUBSCRIPTION_START_ID.equals(lastKnownNotifications.get(0).getId())) {
-        return notificationStream.collect(Collectors.toList());
-      }
+    // If the last element is SUBSCRIPTION_START_ID, return all elements
+    if (lastKnownNotifications.size() == 1 && SUBSCRIPTION_START_ID.equals(lastKnownNotifications.get(0).getId())) {
+      return notifications.getSince(user, null);
+    }
 
-      // Group last known notifications by nodeId
-      Map<String, UiNotificationDo> lastKnownNotificationsByNode = lastKnownNotifications.stream()
-          .collect(Collectors.toMap(UiNotificationDo::getNodeId, Function.identity()));
+    // Group last known notifications by nodeId
+    Map<String, UiNotificationDo> lastKnownNotificationsByNode = lastKnownNotifications.stream()
+        .collect(Collectors.toMap(UiNotificationDo::getNodeId, Function.identity()));
 
-      // Return all elements that were created after the last known notifications
-      return notificationStream
-          .filter(notification -> {
-            UiNotificationDo lastKnownNotification = lastKnownNotificationsByNode.get(notification.getNodeId());
-            long creationTime = notification.getCreationTime().getTime();
-            long lastKnownNotificationTime = lastKnownNotification == null ? 0 : lastKnownNotification.getCreationTime().getTime();
-            return creationTime > lastKnownNotificationTime;
-          })
-          .collect(Collectors.toList());
-    }
-    finally {
-      m_lock.readLock().unlock();
-    }
+    // Return all elements that were created after the last known notifications
+    return notifications.getSince(user, lastKnownNotificationsByNode);
   }
 
   protected boolean isNotificationRelevantForUser(UiNotificationMessageDo notification, String requestingUser) {
@@ -385,25 +372,25 @@ public class UiNotificationRegistry {
   protected void putInternal(UiNotificationMessageDo message, UiNotificationPutOptions options) {
     UiNotificationDo notification = message.getNotification();
     String topic = notification.getTopic();
-    m_lock.writeLock().lock();
-    try {
-      updateNotificationCreationTime(notification);
-
-      List<UiNotificationMessageDo> uiNotifications = getNotifications().computeIfAbsent(topic, key -> new ArrayList<>());
-      uiNotifications.add(message);
-      if (LOG.isDebugEnabled()) {
-        LOG.debug("Added new ui notification {} for topic {}. New size: {}", notification, topic, uiNotifications.size());
-      }
-      else {
-        LOG.info("Added new ui notification with id {} for topic {}. New size: {}", notification.getId(), topic, uiNotifications.size());
+    // compute ensures that a concurrent cleanup does not remove the topic while the notification is added
+    TopicNotifications uiNotifications = m_topics.compute(topic, (key, notifications) -> {
+      if (notifications == null) {
+        notifications = new TopicNotifications();
       }
-
-      startCleanupJob(); // inside lock to ensure cleanup job will be started only once
+      // inside compute so that creation time and insertion order of the notifications of a topic match
+      updateNotificationCreationTime(notification);
+      notifications.add(message);
+      return notifications;
+    });
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Added new ui notification {} for topic {}. New size: {}", notification, topic, uiNotifications.size());
     }
-    finally {
-      m_lock.writeLock().unlock();
+    else {
+      LOG.info("Added new ui notification with id {} for topic {}. New size: {}", notification.getId(), topic, uiNotifications.size());
     }
-    triggerEvent(topic, notification); // outside lock because it is (a) an open call and (b) not required to be synchronized
+
+    startCleanupJob();
+    triggerEvent(topic, message); // outside lock because it is (a) an open call and (b) not required to be synchronized
     if (options == null || ObjectUtility.nvl(options.getPublishOverCluster(), true)) {
       publishOverCluster(message);
     }
@@ -415,31 +402,25 @@ public class UiNotificationRegistry {
       return;
     }
     // Ensure creation time is unique per node
-    notification.withCreationTime(new Date());
-    if (m_lastCreationTime != null && notification.getCreationTime().getTime() <= m_lastCreationTime.getTime()) {
-      notification.withCreationTime(DateUtility.addMilliseconds(m_lastCreationTime, 1));
-    }
-    m_lastCreationTime = notification.getCreationTime();
+    long now = System.currentTimeMillis();
+    notification.withCreationTime(new Date(m_lastCreationTime.updateAndGet(last -> Math.max(now, last + 1))));
   }
 
   public void addListener(String topic, UiNotificationListener listener) {
-    synchronized (m_listeners) {
-      FastListenerList<UiNotificationListener> listeners = m_listeners.computeIfAbsent(topic, k -> new FastListenerList<>());
+    m_listeners.compute(topic, (key, listeners) -> {
+      if (listeners == null) {
+        listeners = new FastListenerList<>();
+      }
       listeners.add(listener);
-    }
+      return listeners;
+    });
   }
 
   public void removeListener(String topic, UiNotificationListener listener) {
-    synchronized (m_listeners) {
-      FastListenerList<UiNotificationListener> listeners = getListeners(topic);
-      if (listeners == null) {
-        return;
-      }
+    m_listeners.computeIfPresent(topic, (key, listeners) -> {
       listeners.remove(listener);
-      if (listeners.isEmpty()) {
-        m_listeners.remove(topic);
-      }
-    }
+      return listeners.isEmpty() ? null : listeners;
+    });
   }
 
   /**
@@ -475,57 +456,64 @@ public class UiNotificationRegistry {
     }
   }
 
-  protected void triggerEvent(String topic, UiNotificationDo notification) {
+  protected void triggerEvent(String topic, UiNotificationMessageDo message) {
     FastListenerList<UiNotificationListener> listeners = getListeners(topic);
     if (listeners == null) {
       return;
     }
     for (UiNotificationListener listener : listeners.list()) {
-      listener.notificationAdded(new UiNotificationAddedEvent(this, notification));
+      listener.notificationAdded(new UiNotificationAddedEvent(this, message));
     }
   }
 
   protected final FastListenerList<UiNotificationListener> getListeners(String topic) {
-    synchronized (m_listeners) {
-      return m_listeners.get(topic);
-    }
+    return m_listeners.get(topic);
   }
 
+  /**
+   * @return a snapshot of all notifications per topic in the order they were put into the registry.
+   */
   protected final Map<String, List<UiNotificationMessageDo>> getNotifications() {
-    return m_notifications;
+    Map<String, List<UiNotificationMessageDo>> notifications = new HashMap<>();
+    for (Entry<String, TopicNotifications> entry : m_topics.entrySet()) {
+      List<UiNotificationMessageDo> messages = entry.getValue().getMessages();
+      if (!messages.isEmpty()) {
+        notifications.put(entry.getKey(), messages);
+      }
+    }
+    return notifications;
   }
 
   public void startCleanupJob() {
-    if (m_cleanupJob != null || getCleanupJobInterval() == 0) {
-      // Already started
-      return;
-    }
-    LOG.info("Starting cleanup job");
-    m_cleanupJob = Jobs.schedule(() -> {
-      BEANS.get(UiNotificationRegistry.class).cleanup();
-
-      m_lock.readLock().lock();
-      try {
-        if (getNotifications().isEmpty()) {
-          m_cleanupJob.cancel(false);
-          m_cleanupJob = null;
-          LOG.info("Cleanup job stopped.");
-        }
-      }
-      finally {
-        m_lock.readLock().unlock();
+    synchronized (m_cleanupJobLock) {
+      if (m_cleanupJob != null || getCleanupJobInterval() == 0) {
+        // Already started
+        return;
       }
-    }, Jobs.newInput()
-        .withName("UI Notification registry cleanup")
-        .withExceptionHandling(new ExceptionHandler() {
-          @Override
-          public void handle(Throwable t) {
-            LOG.error("Exception while running ui notification registry cleanup job", t);
+      LOG.info("Starting cleanup job");
+      m_cleanupJob = Jobs.schedule(() -> {
+        BEANS.get(UiNotificationRegistry.class).cleanup();
+
+        synchronized (m_cleanupJobLock) {
+          // a notification put after this check will start a new job
+          if (m_topics.isEmpty() && m_cleanupJob != null) {
+            m_cleanupJob.cancel(false);
+            m_cleanupJob = null;
+            LOG.info("Cleanup job stopped.");
           }
-        }, true)
-        .withExecutionTrigger(Jobs
-            .newExecutionTrigger()
-            .withSchedule(FixedDelayScheduleBuilder.repeatForever(getCleanupJobInterval(), TimeUnit.SECONDS))));
+        }
+      }, Jobs.newInput()
+          .withName("UI Notification registry cleanup")
+          .withExceptionHandling(new ExceptionHandler() {
+            @Override
+            public void handle(Throwable t) {
+              LOG.error("Exception while running ui notification registry cleanup job", t);
+            }
+          }, true)
+          .withExecutionTrigger(Jobs
+              .newExecutionTrigger()
+              .withSchedule(FixedDelayScheduleBuilder.repeatForever(getCleanupJobInterval(), TimeUnit.SECONDS))));
+    }
   }
 
   /**
@@ -534,33 +522,25 @@ public class UiNotificationRegistry {
    * @see UiNotificationMessageDo#getTimeout(), {@link UiNotificationDo#creationTime()}
    */
   public void cleanup() {
-    m_lock.writeLock().lock();
-    try {
-      if (getNotifications().isEmpty()) {
-        return;
-      }
-      LOG.debug("Cleaning up expired ui notifications. Topic count: {}.", getNotifications().size());
+    if (m_topics.isEmpty()) {
+      return;
+    }
+    LOG.debug("Cleaning up expired ui notifications. Topic count: {}.", m_topics.size());
 
-      long now = new Date().getTime();
-      for (Iterator<Entry<String, List<UiNotificationMessageDo>>> it = getNotifications().entrySet().iterator(); it.hasNext();) {
-        Entry<String, List<UiNotificationMessageDo>> entry = it.next();
-        List<UiNotificationMessageDo> notifications = entry.getValue();
+    long now = new Date().getTime();
+    for (String topic : m_topics.keySet()) {
+      m_topics.computeIfPresent(topic, (key, notifications) -> {
         int oldSize = notifications.size();
-        if (notifications.removeIf(elem -> elem.getNotification().getCreationTime().getTime() + elem.getTimeout() < now)) {
+        if (notifications.removeExpired(now)) {
           int newSize = notifications.size();
-          LOG.info("Removed {} expired notifications for topic {}. New size: {}.", oldSize - newSize, entry.getKey(), newSize);
-          if (newSize == 0) {
-            // Remove topic if there are no notifications left
-            it.remove();
-          }
+          LOG.info("Removed {} expired notifications for topic {}. New size: {}.", oldSize - newSize, key, newSize);
         }
-      }
-
-      LOG.debug("Clean up finished. New topic count: {}.", getNotifications().size());
-    }
-    finally {
-      m_lock.writeLock().unlock();
+        // Remove topic if there are no notifications left
+        return notifications.isEmpty() ? null : notifications;
+      });
     }
+
+    LOG.debug("Clean up finished. New topic count: {}.", m_topics.size());
   }
 
   /**
@@ -594,4 +574,247 @@ public class UiNotificationRegistry {
   public String currentNodeId() {
     return Base64Utility.encode(SecurityUtility.hash(NodeId.current().toString().getBytes()));
   }
+
+  /**
+   * The notifications of a topic.
+   * <p>
+   * Every notification gets a sequence number that reflects the order in which it was put into the registry. To answer
+   * the queries of {@link UiNotificationRegistry#get(String, String, List)} without iterating over all notifications,
+   * they are additionally indexed by cluster node and, for notifications addressed to a specific user, by user. Each
+   * index list is sorted by {@link UiNotificationDo#creationTime()}, so the notifications created after a last known
+   * notification are found using a binary search. Because the indexes are built when a notification is added, node id
+   * and creation time of a notification must not change afterwards.
+   */
+  protected class TopicNotifications {
+    private final ReadWriteLock m_lock = new ReentrantReadWriteLock();
+    private final List<P_IndexedNotification> m_notifications = new ArrayList<>();
+    /**
+     * Notifications without a specific user by node id.
+     */
+    private final Map<String, List<P_IndexedNotification>> m_notificationsByNode = new HashMap<>();
+    /**
+     * Notifications addressed to a specific user by user and node id.
+     */
+    private final Map<String, Map<String, List<P_IndexedNotification>>> m_userNotificationsByNode = new HashMap<>();
+    private long m_nextSequence;
+
+    protected void add(UiNotificationMessageDo message) {
+      m_lock.writeLock().lock();
+      try {
+        P_IndexedNotification notification = new P_IndexedNotification(m_nextSequence++, message);
+        m_notifications.add(notification);
+        index(notification);
+      }
+      finally {
+        m_lock.writeLock().unlock();
+      }
+    }
+
+    /**
+     * @return {@code true} if at least one notification was removed
+     */
+    protected boolean removeExpired(long now) {
+      m_lock.writeLock().lock();
+      try {
+        List<P_IndexedNotification> expired = new ArrayList<>();
+        m_notifications.removeIf(notification -> notification.isExpired(now) && expired.add(notification));
+        if (expired.isEmpty()) {
+          return false;
+        }
+        // Only the index lists containing expired notifications are touched, each of them once. Removing keeps them sorted.
+        Set<List<P_IndexedNotification>> cleanedUp = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (P_IndexedNotification notification : expired) {
+          String user = notification.getMessage().getUser();
+          Map<String, List<P_IndexedNotification>> notificationsByNode = user == null ? m_notificationsByNode : m_userNotificationsByNode.get(user);
+          List<P_IndexedNotification> notifications = notificationsByNode == null ? null : notificationsByNode.get(notification.getNodeId());
+          if (notifications == null || !cleanedUp.add(notifications)) {
+            continue;
+          }
+          notifications.removeIf(n -> n.isExpired(now));
+          if (notifications.isEmpty()) {
+            notificationsByNode.remove(notification.getNodeId());
+            if (user != null && notificationsByNode.isEmpty()) {
+              m_userNotificationsByNode.remove(user);
+            }
+          }
+        }
+        return true;
+      }
+      finally {
+        m_lock.writeLock().unlock();
+      }
+    }
+
+    protected void index(P_IndexedNotification notification) {
+      String user = notification.getMessage().getUser();
+      Map<String, List<P_IndexedNotification>> notificationsByNode = user == null ? m_notificationsByNode : m_userNotificationsByNode.computeIfAbsent(user, key -> new HashMap<>());
+      List<P_IndexedNotification> notifications = notificationsByNode.computeIfAbsent(notification.getNodeId(), key -> new ArrayList<>());
+      // Notifications of the current node are always added at the end, the ones of other nodes may arrive out of order
+      notifications.add(indexAfter(notifications, notification.getCreationTime()), notification);
+    }
+
+    /**
+     * @param lastKnownNotificationsByNode
+     *          {@code null} to get all notifications
+     * @return the notifications relevant for the given user created after the last known notification of their node in
+     *         the order they were put into the registry
+     */
+    protected List<UiNotificationDo> getSince(String user, Map<String, UiNotificationDo> lastKnownNotificationsByNode) {
+      List<P_IndexedNotification> notifications = new ArrayList<>();
+      m_lock.readLock().lock();
+      try {
+        collectSince(m_notificationsByNode, user, lastKnownNotificationsByNode, notifications);
+        if (user != null) {
+          collectSince(m_userNotificationsByNode.get(user), user, lastKnownNotificationsByNode, notifications);
+        }
+      }
+      finally {
+        m_lock.readLock().unlock();
+      }
+      return toNotifications(notifications);
+    }
+
+    protected void collectSince(Map<String, List<P_IndexedNotification>> notificationsByNode, String user, Map<String, UiNotificationDo> lastKnownNotificationsByNode, List<P_IndexedNotification> result) {
+      if (notificationsByNode == null) {
+        return;
+      }
+      for (Entry<String, List<P_IndexedNotification>> entry : notificationsByNode.entrySet()) {
+        long since = Long.MIN_VALUE;
+        if (lastKnownNotificationsByNode != null) {
+          UiNotificationDo lastKnownNotification = lastKnownNotificationsByNode.get(entry.getKey());
+          since = lastKnownNotification == null ? 0 : lastKnownNotification.getCreationTime().getTime();
+        }
+        List<P_IndexedNotification> notifications = entry.getValue();
+        for (int i = indexAfter(notifications, since); i < notifications.size(); i++) {
+          P_IndexedNotification notification = notifications.get(i);
+          if (isNotificationRelevantForUser(notification.getMessage(), user)) {
+            result.add(notification);
+          }
+        }
+      }
+    }
+
+    /**
+     * @return the newest notification per node relevant for the given user
+     */
+    protected List<UiNotificationDo> getLatestPerNode(String user) {
+      Map<String, P_IndexedNotification> latestByNode = new HashMap<>();
+      m_lock.readLock().lock();
+      try {
+        collectLatest(m_notificationsByNode, user, latestByNode);
+        if (user != null) {
+          collectLatest(m_userNotificationsByNode.get(user), user, latestByNode);
+        }
+      }
+      finally {
+        m_lock.readLock().unlock();
+      }
+      return toNotifications(new ArrayList<>(latestByNode.values()));
+    }
+
+    protected void collectLatest(Map<String, List<P_IndexedNotification>> notificationsByNode, String user, Map<String, P_IndexedNotification> latestByNode) {
+      if (notificationsByNode == null) {
+        return;
+      }
+      for (Entry<String, List<P_IndexedNotification>> entry : notificationsByNode.entrySet()) {
+        List<P_IndexedNotification> notifications = entry.getValue();
+        for (int i = notifications.size() - 1; i >= 0; i--) {
+          P_IndexedNotification notification = notifications.get(i);
+          if (isNotificationRelevantForUser(notification.getMessage(), user)) {
+            latestByNode.merge(entry.getKey(), notification, (first, second) -> first.getCreationTime() >= second.getCreationTime() ? first : second);
+            break;
+          }
+        }
+      }
+    }
+
+    protected List<UiNotificationDo> toNotifications(List<P_IndexedNotification> notifications) {
+      notifications.sort(Comparator.comparingLong(P_IndexedNotification::getSequence));
+      List<UiNotificationDo> result = new ArrayList<>(notifications.size());
+      for (P_IndexedNotification notification : notifications) {
+        result.add(notification.getMessage().getNotification());
+      }
+      return result;
+    }
+
+    protected List<UiNotificationMessageDo> getMessages() {
+      m_lock.readLock().lock();
+      try {
+        List<UiNotificationMessageDo> messages = new ArrayList<>(m_notifications.size());
+        for (P_IndexedNotification notification : m_notifications) {
+          messages.add(notification.getMessage());
+        }
+        return messages;
+      }
+      finally {
+        m_lock.readLock().unlock();
+      }
+    }
+
+    protected int size() {
+      m_lock.readLock().lock();
+      try {
+        return m_notifications.size();
+      }
+      finally {
+        m_lock.readLock().unlock();
+      }
+    }
+
+    protected boolean isEmpty() {
+      return size() == 0;
+    }
+  }
+
+  /**
+   * @return the index of the first notification created after the given time in a list sorted by creation time
+   */
+  protected static int indexAfter(List<P_IndexedNotification> notifications, long creationTime) {
+    int low = 0;
+    int high = notifications.size();
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (notifications.get(mid).getCreationTime() <= creationTime) {
+        low = mid + 1;
+      }
+      else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  protected static final class P_IndexedNotification {
+    private final long m_sequence;
+    private final UiNotificationMessageDo m_message;
+    private final String m_nodeId;
+    private final long m_creationTime;
+
+    private P_IndexedNotification(long sequence, UiNotificationMessageDo message) {
+      m_sequence = sequence;
+      m_message = message;
+      m_nodeId = message.getNotification().getNodeId();
+      m_creationTime = message.getNotification().getCreationTime().getTime();
+    }
+
+    public long getSequence() {
+      return m_sequence;
+    }
+
+    public UiNotificationMessageDo getMessage() {
+      return m_message;
+    }
+
+    public String getNodeId() {
+      return m_nodeId;
+    }
+
+    public long getCreationTime() {
+      return m_creationTime;
+    }
+
+    public boolean isExpired(long now) {
+      return m_creationTime + m_message.getTimeout() < now;
+    }
+  }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.api.uinotification;
+
+import static org.eclipse.scout.rt.api.uinotification.UiNotificationPutOptions.noTransaction;
+import static org.eclipse.scout.rt.api.uinotification.UiNotificationRegistry.SUBSCRIPTION_START_ID;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.eclipse.scout.rt.api.data.uinotification.TopicDo;
+import org.eclipse.scout.rt.api.data.uinotification.UiNotificationDo;
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class UiNotificationCursorTest {
+  private UiNotificationRegistry m_registry;
+
+  @Before
+  public void before() {
+    m_registry = new UiNotificationRegistry();
+    m_registry.setCleanupJobInterval(0);
+  }
+
+  @Test
+  public void testFollowRegistry() {
+    UiNotificationCursor cursor = new UiNotificationCursor(Collections.singletonList("topic"));
+
+    // subscription start
+    List<UiNotificationDo> notifications = deliver(cursor);
+    assertEquals(1, notifications.size());
+    assertEquals(SUBSCRIPTION_START_ID, notifications.get(0).getId());
+    assertTrue(deliver(cursor).isEmpty());
+
+    m_registry.put("topic", createMessage("a"), noTransaction());
+    m_registry.put("topic", createMessage("b"), noTransaction());
+    notifications = deliver(cursor);
+    assertEquals(2, notifications.size());
+    assertTrue(deliver(cursor).isEmpty());
+
+    m_registry.put("topic", createMessage("c"), noTransaction());
+    m_registry.put("other", createMessage("d"), noTransaction());
+    notifications = deliver(cursor);
+    assertEquals(1, notifications.size());
+    assertEquals("c", notifications.get(0).getMessage().getString("value"));
+  }
+
+  @Test
+  public void testEncodeAndDecode() {
+    UiNotificationCursor cursor = new UiNotificationCursor(Arrays.asList("topic", "topic2"));
+    deliver(cursor);
+    m_registry.put("topic", createMessage("a"), noTransaction());
+    deliver(cursor);
+
+    // resume after reconnect
+    UiNotificationCursor resumed = UiNotificationCursor.decode(Arrays.asList("topic", "topic2", "topic3"), cursor.encode());
+    assertTrue(deliver(resumed).stream().allMatch(n -> "topic3".equals(n.getTopic()) && n.isSubscriptionStart()));
+    m_registry.put("topic", createMessage("b"), noTransaction());
+    List<UiNotificationDo> notifications = deliver(resumed);
+    assertEquals(1, notifications.size());
+    assertEquals("b", notifications.get(0).getMessage().getString("value"));
+  }
+
+  @Test
+  public void testDecodeInvalid() {
+    UiNotificationCursor cursor = UiNotificationCursor.decode(Collections.singletonList("topic"), "invalid");
+    assertEquals(1, cursor.toTopics().size());
+    assertTrue(cursor.toTopics().get(0).getLastNotifications().isEmpty());
+  }
+
+  @Test
+  public void testUpdateKeepsLatestPerNode() {
+    UiNotificationCursor cursor = new UiNotificationCursor(Collections.singletonList("topic"));
+    cursor.update(createNotification("1", "node1", 10));
+    cursor.update(createNotification("2", "node2", 5));
+    cursor.update(createNotification("3", "node1", 20));
+    cursor.update(createNotification("4", "node1", 15)); // out of order
+
+    TopicDo topic = cursor.toTopics().get(0);
+    assertEquals(2, topic.getLastNotifications().size());
+    assertTrue(topic.getLastNotifications().stream().anyMatch(n -> "3".equals(n.getId())));
+    assertTrue(topic.getLastNotifications().stream().anyMatch(n -> "2".equals(n.getId())));
+  }
+
+  protected List<UiNotificationDo> deliver(UiNotificationCursor cursor) {
+    List<UiNotificationDo> notifications = m_registry.get(cursor.toTopics(), null);
+    notifications.forEach(cursor::update);
+    return notifications;
+  }
+
+  protected DoEntity createMessage(String value) {
+    DoEntity message = new DoEntity();
+    message.put("value", value);
+    return message;
+  }
+
+  protected UiNotificationDo createNotification(String id, String nodeId, long creationTime) {
+    return new UiNotificationDo()
+        .withId(id)
+        .withTopic("topic")
+        .withNodeId(nodeId)
+        .withCreationTime(new Date(creationTime));
+  }
+}
@@ -72,6 +72,20 @@ public class UiNotificationRegistryTest {
     assertEquals(1, m_registry.getListenerCount("topic"));
   }
 
+  @Test
+  public void testListenerEventContainsRecipients() {
+    List<UiNotificationAddedEvent> events = new ArrayList<>();
+    m_registry.addListener("topic", events::add);
+    m_registry.put("topic", "otherUser", createMessage(), noTransaction());
+    m_registry.put("topic", createMessage(), noTransaction());
+
+    assertEquals(2, events.size());
+    assertSame(events.get(0).getMessage().getNotification(), events.get(0).getNotification());
+    assertFalse(m_registry.isNotificationRelevantForUser(events.get(0).getMessage(), "user"));
+    assertTrue(m_registry.isNotificationRelevantForUser(events.get(0).getMessage(), "otherUser"));
+    assertTrue(m_registry.isNotificationRelevantForUser(events.get(1).getMessage(), "user"));
+  }
+
   @Test
   public void testComputeNotificationHandlerMaxDelay() {
     // test lower bounds
@@ -217,13 +231,9 @@ public class UiNotificationRegistryTest {
 
   @Test
   public void testGetWithLastNotificationSameTime() {
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotification1 = m_registry.getNotifications().get("topic").get(0).getNotification();
-    lastNotification1.withCreationTime(DateUtility.parse("20220922 140000.123", "yyyyMMdd HHmmss.SSS"));
+    UiNotificationDo lastNotification1 = putFromNode("topic", "node1", DateUtility.parse("20220922 140000.123", "yyyyMMdd HHmmss.SSS"));
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotification2 = m_registry.getNotifications().get("topic").get(1).getNotification();
-    lastNotification2.withCreationTime(DateUtility.parse("20220922 140000.123", "yyyyMMdd HHmmss.SSS"));
+    UiNotificationDo lastNotification2 = putFromNode("topic", "node1", DateUtility.parse("20220922 140000.123", "yyyyMMdd HHmmss.SSS"));
 
     // Notification must not be returned, having two notifications with the same time is not allowed and should not be possible, see UiNotificationRegistry.updateNotificationCreationTime
     assertEquals(new ArrayList<>(), m_registry.get(Arrays.asList(createTopic("topic", lastNotification1)), null));
@@ -236,37 +246,22 @@ public class UiNotificationRegistryTest {
     List<UiNotificationDo> subscriptions = m_registry.get(Arrays.asList(createTopic("topic")), null);
     assertEquals(Arrays.asList(createInitialNotification("topic")), subscriptions);
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode1 = m_registry.getNotifications().get("topic").get(0).getNotification();
-    lastNotificationNode1.withNodeId("node1");
-    lastNotificationNode1.withCreationTime(DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotificationNode1 = putFromNode("topic", "node1", DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode2 = m_registry.getNotifications().get("topic").get(1).getNotification();
-    lastNotificationNode2.withNodeId("node2");
-    lastNotificationNode2.withCreationTime(DateUtility.parse("20220922 135959", "yyyyMMdd HHmmss")); // The time of Node 2 is slightly behind Node 1
+    UiNotificationDo lastNotificationNode2 = putFromNode("topic", "node2", DateUtility.parse("20220922 135959", "yyyyMMdd HHmmss")); // The time of Node 2 is slightly behind Node 1
 
     // Return notifications from both nodes
     assertEquals(Arrays.asList(lastNotificationNode1, lastNotificationNode2), m_registry.get(Arrays.asList(createTopic("topic", subscriptions.get(0))), null));
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotification2Node1 = m_registry.getNotifications().get("topic").get(2).getNotification();
-    lastNotification2Node1.withNodeId("node1");
-    lastNotification2Node1.withCreationTime(DateUtility.parse("20220922 140001", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotification2Node1 = putFromNode("topic", "node1", DateUtility.parse("20220922 140001", "yyyyMMdd HHmmss"));
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotification2Node2 = m_registry.getNotifications().get("topic").get(3).getNotification();
-    lastNotification2Node2.withNodeId("node2");
-    lastNotification2Node2.withCreationTime(DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotification2Node2 = putFromNode("topic", "node2", DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
 
     // Return notifications from both nodes
     assertEquals(Arrays.asList(lastNotification2Node1, lastNotification2Node2), m_registry.get(Arrays.asList(createTopic("topic", lastNotificationNode1, lastNotificationNode2)), null));
 
     // Add new notification for a node that is unknown to client
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode3 = m_registry.getNotifications().get("topic").get(4).getNotification();
-    lastNotificationNode3.withNodeId("node3");
-    lastNotificationNode3.withCreationTime(DateUtility.parse("20220922 140010", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotificationNode3 = putFromNode("topic", "node3", DateUtility.parse("20220922 140010", "yyyyMMdd HHmmss"));
 
     assertEquals(Arrays.asList(lastNotificationNode3), m_registry.get(Arrays.asList(createTopic("topic", lastNotification2Node1, lastNotification2Node2)), null));
 
@@ -277,15 +272,9 @@ public class UiNotificationRegistryTest {
   @Test
   public void testGetWithLastNotificationMultipleNodesExistingTopics() {
     // There are notifications for the topic created by node 1 and node 2, but not node 3
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode1 = m_registry.getNotifications().get("topic").get(0).getNotification();
-    lastNotificationNode1.withNodeId("node1");
-    lastNotificationNode1.withCreationTime(DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotificationNode1 = putFromNode("topic", "node1", DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
 
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode2 = m_registry.getNotifications().get("topic").get(1).getNotification();
-    lastNotificationNode2.withNodeId("node2");
-    lastNotificationNode2.withCreationTime(DateUtility.parse("20220922 135959", "yyyyMMdd HHmmss")); // The time of Node 2 is slightly behind Node 1
+    UiNotificationDo lastNotificationNode2 = putFromNode("topic", "node2", DateUtility.parse("20220922 135959", "yyyyMMdd HHmmss")); // The time of Node 2 is slightly behind Node 1
 
     UiNotificationDo node1Subscription = asSubscriptionStartNotification(lastNotificationNode1);
     UiNotificationDo node2Subscription = asSubscriptionStartNotification(lastNotificationNode2);
@@ -298,22 +287,13 @@ public class UiNotificationRegistryTest {
     assertEquals(new ArrayList<>(), m_registry.get(Arrays.asList(createTopic("topic", subscriptions.get(0), subscriptions.get(1))), null));
 
     // Old, obsolete notification by node1 -> It must not be returned
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotification2Node1Old = m_registry.getNotifications().get("topic").get(2).getNotification();
-    lastNotification2Node1Old.withNodeId("node1");
-    lastNotification2Node1Old.withCreationTime(DateUtility.parse("20220922 120000", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotification2Node1Old = putFromNode("topic", "node1", DateUtility.parse("20220922 120000", "yyyyMMdd HHmmss"));
 
     // Valid notification by node1
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotification3Node1 = m_registry.getNotifications().get("topic").get(3).getNotification();
-    lastNotification3Node1.withNodeId("node1");
-    lastNotification3Node1.withCreationTime(DateUtility.parse("20220922 140010", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotification3Node1 = putFromNode("topic", "node1", DateUtility.parse("20220922 140010", "yyyyMMdd HHmmss"));
 
     // Server 3 has a bad time, but since there weren't any notifications created by that node at the subscription time, it will be returned
-    m_registry.put("topic", createMessage(), noTransaction());
-    UiNotificationDo lastNotificationNode3 = m_registry.getNotifications().get("topic").get(4).getNotification();
-    lastNotificationNode3.withNodeId("node3");
-    lastNotificationNode3.withCreationTime(DateUtility.parse("20220922 130055", "yyyyMMdd HHmmss"));
+    UiNotificationDo lastNotificationNode3 = putFromNode("topic", "node3", DateUtility.parse("20220922 130055", "yyyyMMdd HHmmss"));
 
     // Return valid one from node 1 and new one from node3
     assertEquals(Arrays.asList(lastNotification3Node1, lastNotificationNode3), m_registry.get(Arrays.asList(createTopic("topic", node1Subscription, node2Subscription)), null));
@@ -322,6 +302,76 @@ public class UiNotificationRegistryTest {
     assertEquals(new ArrayList<>(), m_registry.get(Arrays.asList(createTopic("topic", lastNotification3Node1, node2Subscription, lastNotificationNode3)), null));
   }
 
+  @Test
+  public void testGetWithUserAndExcludedUsers() {
+    m_registry.put("topic", "otto", createMessage("otto"), noTransaction());
+    m_registry.put("topic", "max", createMessage("max"), noTransaction());
+    m_registry.putExcept("topic", Arrays.asList("max"), createMessage("except max"), noTransaction());
+    m_registry.put("topic", null, createMessage("all"), noTransaction());
+    List<UiNotificationMessageDo> messages = m_registry.getNotifications().get("topic");
+
+    assertEquals(Arrays.asList(messages.get(0).getNotification(), messages.get(2).getNotification(), messages.get(3).getNotification()),
+        m_registry.get(Arrays.asList(createGetAllTopic("topic")), "otto"));
+    assertEquals(Arrays.asList(messages.get(1).getNotification(), messages.get(3).getNotification()),
+        m_registry.get(Arrays.asList(createGetAllTopic("topic")), "max"));
+    assertEquals(Arrays.asList(messages.get(2).getNotification(), messages.get(3).getNotification()),
+        m_registry.get(Arrays.asList(createGetAllTopic("topic")), null));
+
+    // Subscription start is the newest notification relevant for the user
+    assertEquals(Arrays.asList(asSubscriptionStartNotification(messages.get(3).getNotification())), m_registry.get(Arrays.asList(createTopic("topic")), "max"));
+    assertEquals(Arrays.asList(asSubscriptionStartNotification(messages.get(3).getNotification())), m_registry.get(Arrays.asList(createTopic("topic")), "otto"));
+
+    m_registry.put("topic", "max", createMessage("max 2"), noTransaction());
+    assertEquals(Arrays.asList(createSubscriptionStartNotification("topic")), m_registry.get(Arrays.asList(createTopic("topic")), "max"));
+    assertEquals(Arrays.asList(asSubscriptionStartNotification(messages.get(3).getNotification())), m_registry.get(Arrays.asList(createTopic("topic")), "otto"));
+    assertEquals(Arrays.asList(getNewestNotification("topic")), m_registry.get(Arrays.asList(createTopic("topic", messages.get(3).getNotification())), "max"));
+    assertEquals(new ArrayList<>(), m_registry.get(Arrays.asList(createTopic("topic", messages.get(3).getNotification())), "otto"));
+  }
+
+  @Test
+  public void testGetWithLastNotificationOutOfOrder() {
+    UiNotificationDo notification1 = putFromNode("topic", "node1", DateUtility.parse("20220922 140000", "yyyyMMdd HHmmss"));
+    UiNotificationDo notification3 = putFromNode("topic", "node1", DateUtility.parse("20220922 140002", "yyyyMMdd HHmmss"));
+    UiNotificationDo notification2 = putFromNode("topic", "node1", DateUtility.parse("20220922 140001", "yyyyMMdd HHmmss")); // arrives late
+
+    // Returned in the order they were put into the registry
+    assertEquals(Arrays.asList(notification3, notification2), m_registry.get(Arrays.asList(createTopic("topic", notification1)), null));
+    assertEquals(Arrays.asList(notification3), m_registry.get(Arrays.asList(createTopic("topic", notification2)), null));
+    assertEquals(Arrays.asList(asSubscriptionStartNotification(notification3)), m_registry.get(Arrays.asList(createTopic("topic")), null));
+  }
+
+  @Test
+  public void testConcurrentPutAndGet() throws Exception {
+    final int threads = 4;
+    final int notificationsPerThread = 200;
+    CountDownLatch start = new CountDownLatch(1);
+    List<IFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < threads; i++) {
+      String topic = "topic" + (i % 2);
+      futures.add(Jobs.schedule(() -> {
+        start.await();
+        for (int j = 0; j < notificationsPerThread; j++) {
+          m_registry.put(topic, createMessage(), noTransaction());
+          m_registry.get(Arrays.asList(createGetAllTopic(topic)), null);
+          m_registry.cleanup();
+        }
+        return null;
+      }, Jobs.newInput()));
+    }
+    start.countDown();
+    for (IFuture<Void> future : futures) {
+      future.awaitDoneAndGet(30, TimeUnit.SECONDS);
+    }
+
+    for (int i = 0; i < 2; i++) {
+      List<UiNotificationDo> notifications = m_registry.get(Arrays.asList(createGetAllTopic("topic" + i)), null);
+      assertEquals(notificationsPerThread * threads / 2, notifications.size());
+      for (int j = 1; j < notifications.size(); j++) {
+        assertTrue(notifications.get(j).getCreationTime().after(notifications.get(j - 1).getCreationTime()));
+      }
+    }
+  }
+
   @Test
   public void testGetOrWait() {
     IDoEntity message = createMessage();
@@ -541,6 +591,23 @@ public class UiNotificationRegistryTest {
     assertTrue(m_registry.getNotifications().isEmpty());
   }
 
+  @Test
+  public void testCleanupKeepsIndexes() throws InterruptedException {
+    m_registry.put("topic", null, createMessage("a"), new UiNotificationPutOptions().withTimeout(50L).withTransactional(false));
+    m_registry.put("topic", "otto", createMessage("b"), new UiNotificationPutOptions().withTimeout(50L).withTransactional(false));
+    m_registry.put("topic", null, createMessage("c"), new UiNotificationPutOptions().withTimeout(TimeUnit.MINUTES.toMillis(1)).withTransactional(false));
+    m_registry.put("topic", "otto", createMessage("d"), new UiNotificationPutOptions().withTimeout(TimeUnit.MINUTES.toMillis(1)).withTransactional(false));
+    m_registry.put("topic", "max", createMessage("e"), new UiNotificationPutOptions().withTimeout(50L).withTransactional(false));
+    List<UiNotificationMessageDo> messages = m_registry.getNotifications().get("topic");
+
+    Thread.sleep(60);
+    m_registry.cleanup();
+    assertEquals(Arrays.asList(messages.get(2), messages.get(3)), m_registry.getNotifications().get("topic"));
+    assertEquals(Arrays.asList(messages.get(2).getNotification(), messages.get(3).getNotification()), m_registry.get(Arrays.asList(createGetAllTopic("topic")), "otto"));
+    assertEquals(Arrays.asList(messages.get(2).getNotification()), m_registry.get(Arrays.asList(createGetAllTopic("topic")), "max"));
+    assertEquals(Arrays.asList(messages.get(3).getNotification()), m_registry.get(Arrays.asList(createTopic("topic", messages.get(2).getNotification())), "otto"));
+  }
+
   @Test
   public void testTransactional() {
     m_registry.put("topic", createMessage());
@@ -626,6 +693,23 @@ public class UiNotificationRegistryTest {
     return createMessage("value");
   }
 
+  /**
+   * Puts a notification as if it was received from another cluster node. Node id and creation time have to be set
+   * before the notification is put because the registry indexes them.
+   */
+  protected UiNotificationDo putFromNode(String topic, String nodeId, Date creationTime) {
+    UiNotificationDo notification = BEANS.get(UiNotificationDo.class)
+        .withId(m_registry.getIdGenerator().generate())
+        .withTopic(topic)
+        .withNodeId(nodeId)
+        .withCreationTime(creationTime)
+        .withMessage(createMessage());
+    m_registry.handleClusterNotification(BEANS.get(UiNotificationMessageDo.class)
+        .withNotification(notification)
+        .withTimeout(TimeUnit.DAYS.toMillis(1)));
+    return notification;
+  }
+
   protected UiNotificationDo createInitialNotification(String topic) {
     return new UiNotificationDo()
         .withId(SUBSCRIPTION_START_ID)